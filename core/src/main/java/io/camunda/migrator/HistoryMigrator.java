@@ -30,6 +30,7 @@ import static io.camunda.migrator.impl.logging.HistoryMigratorLogs.SKIP_REASON_M
 import static io.camunda.migrator.impl.logging.HistoryMigratorLogs.SKIP_REASON_MISSING_DECISION_REQUIREMENTS;
 import static io.camunda.migrator.impl.logging.HistoryMigratorLogs.SKIP_REASON_MISSING_DECISION_DEFINITION;
 import static io.camunda.migrator.impl.logging.HistoryMigratorLogs.SKIP_REASON_MISSING_PARENT_DECISION_INSTANCE;
+import static io.camunda.migrator.impl.logging.HistoryMigratorLogs.SKIP_REASON_VALUE_TRUNCATED;
 import static io.camunda.migrator.impl.persistence.IdKeyMapper.getHistoryTypes;
 
 import io.camunda.db.rdbms.read.domain.DecisionDefinitionDbQuery;
@@ -47,6 +48,8 @@ import io.camunda.db.rdbms.write.domain.ProcessInstanceDbModel;
 import io.camunda.db.rdbms.write.domain.UserTaskDbModel;
 import io.camunda.db.rdbms.write.domain.VariableDbModel;
 import io.camunda.migrator.config.C8DataSourceConfigured;
+import io.camunda.migrator.config.property.HistoryProperties.Unit;
+import io.camunda.migrator.config.property.MigratorProperties;
 import io.camunda.migrator.converter.DecisionDefinitionConverter;
 import io.camunda.migrator.converter.DecisionInstanceConverter;
 import io.camunda.migrator.converter.DecisionRequirementsDefinitionConverter;
@@ -56,9 +59,22 @@ import io.camunda.migrator.converter.ProcessDefinitionConverter;
 import io.camunda.migrator.converter.ProcessInstanceConverter;
 import io.camunda.migrator.converter.UserTaskConverter;
 import io.camunda.migrator.converter.VariableConverter;
+import io.camunda.migrator.exception.MigratorException;
+import io.camunda.migrator.exception.VariableSizeExceededException;
+import io.camunda.migrator.impl.HistoryMigrationUnit;
+import io.camunda.migrator.impl.KeyGenerator;
+import io.camunda.migrator.impl.RetryPolicy;
+import io.camunda.migrator.impl.TenantLane;
 import io.camunda.migrator.impl.clients.C7Client;
 import io.camunda.migrator.impl.clients.DbClient;
+import io.camunda.migrator.impl.concurrent.DependencyScheduler;
+import io.camunda.migrator.impl.concurrent.PartitionedExecutor;
+import io.camunda.migrator.impl.concurrent.TenantLaneRunner;
+import io.camunda.migrator.impl.concurrent.WorkerThreads;
+import io.camunda.migrator.impl.concurrent.WorkLeaseCoordinator;
 import io.camunda.migrator.impl.logging.HistoryMigratorLogs;
+import io.camunda.migrator.impl.persistence.DeferredIndexBuilder;
+import io.camunda.migrator.impl.persistence.WatermarkDbModel;
 import io.camunda.migrator.impl.util.ExceptionUtils;
 import io.camunda.migrator.impl.util.PrintUtils;
 import io.camunda.search.entities.DecisionDefinitionEntity;
@@ -66,9 +82,15 @@ import io.camunda.search.entities.DecisionInstanceEntity;
 import io.camunda.search.entities.ProcessDefinitionEntity;
 import io.camunda.search.entities.ProcessInstanceEntity;
 import io.camunda.search.filter.FlowNodeInstanceFilter;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import org.camunda.bpm.engine.history.HistoricActivityInstance;
 import org.camunda.bpm.engine.history.HistoricDecisionInstance;
 import org.camunda.bpm.engine.history.HistoricIncident;
@@ -86,6 +108,11 @@ import org.springframework.stereotype.Component;
 @Conditional(C8DataSourceConfigured.class)
 public class HistoryMigrator {
 
+  public static final String KEY_STRATEGY_SETTING = "HISTORY_KEY_STRATEGY";
+  public static final String DEFERRED_INDEXES_WORK_UNIT = "HISTORY_DEFERRED_INDEXES";
+  // work units of the history migration are named after the history types
+  protected static final String HISTORY_WORK_UNIT_PATTERN = "HISTORY_%";
+
   // Clients
 
   @Autowired
@@ -94,6 +121,27 @@ public class HistoryMigrator {
   @Autowired
   protected C7Client c7Client;
 
+  @Autowired
+  protected KeyGenerator keyGenerator;
+
+  @Autowired
+  protected DeferredIndexBuilder deferredIndexBuilder;
+
+  @Autowired
+  protected WorkLeaseCoordinator workLeaseCoordinator;
+
+  @Autowired
+  protected TenantLaneRunner tenantLaneRunner;
+
+  @Autowired
+  protected MigratorProperties migratorProperties;
+
+  @Autowired
+  protected RetryPolicy retryPolicy;
+
+  @Autowired
+  protected WorkerThreads workerThreads;
+
   // Converters
 
   @Autowired
@@ -123,19 +171,25 @@ public class HistoryMigrator {
   @Autowired
   private DecisionRequirementsDefinitionConverter decisionRequirementsConverter;
 
-  protected MigratorMode mode = MIGRATE;
+  protected volatile MigratorMode mode = MIGRATE;
 
   private List<TYPE> requestedEntityTypes;
 
+  protected final ThreadLocal<HistoryMigrationUnit> currentUnit = new ThreadLocal<>();
+
+  protected volatile int workers = 1;
+
   public void start() {
     try {
       ExceptionUtils.setContext(ExceptionUtils.ExceptionContext.HISTORY);
+      retryPolicy.register();
       if (LIST_SKIPPED.equals(mode)) {
         printSkippedHistoryEntities();
       } else {
         migrate();
       }
     } finally {
+      retryPolicy.unregister();
       ExceptionUtils.clearContext();
     }
   }
@@ -154,15 +208,96 @@ public class HistoryMigrator {
   }
 
   public void migrate() {
-    migrateProcessDefinitions();
-    migrateProcessInstances();
-    migrateFlowNodes();
-    migrateUserTasks();
-    migrateVariables();
-    migrateIncidents();
-    migrateDecisionRequirementsDefinitions();
-    migrateDecisionDefinitions();
-    migrateDecisionInstances();
+    boolean coordinatedIndexes = deferredIndexBuilder.isEnabled() && MIGRATE.equals(mode)
+        && workLeaseCoordinator.isEnabled();
+    try {
+      checkKeyStrategy();
+      workers = getWorkerLimit();
+      if (workers > 1 && !dbClient.isMappingInC8Transaction() && !keyGenerator.isDeterministic()) {
+        // a crash between the C8 commit and the mapping records would migrate the entities again under new keys
+        throw new MigratorException(HistoryMigratorLogs.WORKERS_REQUIRE_DETERMINISTIC_KEYS);
+      }
+      if (coordinatedIndexes) {
+        // one node drops the indexes before all nodes migrate and rebuilds them once the other nodes are done
+        workLeaseCoordinator.runEnclosed(DEFERRED_INDEXES_WORK_UNIT, HISTORY_WORK_UNIT_PATTERN,
+            deferredIndexBuilder::dropIndexes, this::migrateTenantLanes, deferredIndexBuilder::rebuildIndexes);
+      } else {
+        if (deferredIndexBuilder.isEnabled()) {
+          deferredIndexBuilder.dropIndexes();
+        }
+        migrateTenantLanes();
+      }
+    } finally {
+      dbClient.closeBulkLoad();
+      if (!coordinatedIndexes) {
+        deferredIndexBuilder.rebuildIndexes();
+      }
+    }
+  }
+
+  protected void migrateTenantLanes() {
+    if (MIGRATE.equals(mode) && tenantLaneRunner.isEnabled()) {
+      tenantLaneRunner.run("history-lane", this::migrateEntityTypes);
+    } else {
+      migrateEntityTypes();
+    }
+  }
+
+  /**
+   * Records the key strategy on the first run and fails if a later run uses another one, since the keys of already
+   * migrated entities could neither be recomputed nor told apart from the keys of the entities migrated later.
+   */
+  protected void checkKeyStrategy() {
+    String strategy = migratorProperties.getHistory().getKeyStrategy().name();
+    String recorded = dbClient.findSetting(KEY_STRATEGY_SETTING);
+    if (recorded == null && dbClient.insertSetting(KEY_STRATEGY_SETTING, strategy)) {
+      return;
+    }
+    if (recorded == null) {
+      // another node recorded the strategy first
+      recorded = dbClient.findSetting(KEY_STRATEGY_SETTING);
+    }
+    if (!strategy.equals(recorded)) {
+      if (dbClient.hasMigratedHistory()) {
+        throw new MigratorException(String.format(HistoryMigratorLogs.KEY_STRATEGY_CHANGED, recorded, strategy));
+      }
+      dbClient.updateSetting(KEY_STRATEGY_SETTING, strategy);
+    }
+  }
+
+  protected void migrateEntityTypes() {
+    DependencyScheduler<TYPE> scheduler = new DependencyScheduler<>("history-migrator");
+    if (MIGRATE.equals(mode) && workLeaseCoordinator.isEnabled()) {
+      // definitions are migrated by the node claiming their type, the others wait for it
+      scheduler.add(HISTORY_PROCESS_DEFINITION,
+              () -> runOnce(HISTORY_PROCESS_DEFINITION, this::migrateProcessDefinitions))
+          .add(HISTORY_DECISION_REQUIREMENT,
+              () -> runOnce(HISTORY_DECISION_REQUIREMENT, this::migrateDecisionRequirementsDefinitions))
+          .add(HISTORY_DECISION_DEFINITION,
+              () -> runOnce(HISTORY_DECISION_DEFINITION, this::migrateDecisionDefinitions),
+              HISTORY_DECISION_REQUIREMENT)
+          .add(HISTORY_PROCESS_INSTANCE, this::migrateProcessInstanceSlices, HISTORY_PROCESS_DEFINITION,
+              HISTORY_DECISION_DEFINITION);
+    } else if (MIGRATE.equals(mode) && Unit.PROCESS_INSTANCE.equals(migratorProperties.getHistory().getUnit())) {
+      scheduler.add(HISTORY_PROCESS_DEFINITION, this::migrateProcessDefinitions)
+          .add(HISTORY_DECISION_REQUIREMENT, this::migrateDecisionRequirementsDefinitions)
+          .add(HISTORY_DECISION_DEFINITION, this::migrateDecisionDefinitions, HISTORY_DECISION_REQUIREMENT)
+          .add(HISTORY_PROCESS_INSTANCE, this::migrateProcessInstanceUnits, HISTORY_PROCESS_DEFINITION,
+              HISTORY_DECISION_DEFINITION);
+    } else {
+      scheduler.add(HISTORY_PROCESS_DEFINITION, this::migrateProcessDefinitions)
+          .add(HISTORY_PROCESS_INSTANCE, this::migrateProcessInstances, HISTORY_PROCESS_DEFINITION)
+          .add(HISTORY_FLOW_NODE, this::migrateFlowNodes, HISTORY_PROCESS_INSTANCE)
+          .add(HISTORY_USER_TASK, this::migrateUserTasks, HISTORY_FLOW_NODE)
+          .add(HISTORY_VARIABLE, this::migrateVariables, HISTORY_FLOW_NODE, HISTORY_USER_TASK)
+          .add(HISTORY_INCIDENT, this::migrateIncidents, HISTORY_FLOW_NODE)
+          .add(HISTORY_DECISION_REQUIREMENT, this::migrateDecisionRequirementsDefinitions)
+          .add(HISTORY_DECISION_DEFINITION, this::migrateDecisionDefinitions, HISTORY_DECISION_REQUIREMENT)
+          .add(HISTORY_DECISION_INSTANCE, this::migrateDecisionInstances, HISTORY_DECISION_DEFINITION,
+              HISTORY_FLOW_NODE);
+    }
+    // Types without dependencies between each other are migrated concurrently
+    scheduler.run(migratorProperties.getHistory().getParallelism());
   }
 
   public void migrateProcessDefinitions() {
@@ -197,7 +332,10 @@ public class HistoryMigrator {
         migrateProcessInstance(historicProcessInstance);
       });
     } else {
-      c7Client.fetchAndHandleHistoricProcessInstances(this::migrateProcessInstance, dbClient.findLatestCreateTimeByType((HISTORY_PROCESS_INSTANCE)));
+      // child instances are handled by the worker of their root instance, so their parent is migrated before
+      fetchAndHandle(HISTORY_PROCESS_INSTANCE, callback -> c7Client.fetchAndHandleHistoricProcessInstances(callback,
+              findLatestCreateTime(HISTORY_PROCESS_INSTANCE)), this::migrateProcessInstance,
+          HistoricProcessInstance::getRootProcessInstanceId, HistoricProcessInstance::getStartTime);
     }
   }
 
@@ -210,13 +348,7 @@ public class HistoryMigrator {
 
       if (isMigrated(processDefinitionId, HISTORY_PROCESS_DEFINITION)) {
         String c7SuperProcessInstanceId = c7ProcessInstance.getSuperProcessInstanceId();
-        Long parentProcessInstanceKey = null;
-        if (c7SuperProcessInstanceId != null) {
-          ProcessInstanceEntity parentInstance = findProcessInstanceByC7Id(c7SuperProcessInstanceId);
-          if (parentInstance != null) {
-            parentProcessInstanceKey = parentInstance.processInstanceKey();
-          }
-        }
+        Long parentProcessInstanceKey = findProcessInstanceKey(c7SuperProcessInstanceId);
         if (parentProcessInstanceKey != null || c7SuperProcessInstanceId == null) {
           ProcessInstanceDbModel dbModel = processInstanceConverter.apply(c7ProcessInstance, processDefinitionKey, parentProcessInstanceKey);
           dbClient.insertProcessInstance(dbModel);
@@ -233,6 +365,224 @@ public class HistoryMigrator {
     }
   }
 
+  /**
+   * Migrates each process instance together with its flow nodes, user tasks, variables, incidents and decision
+   * instances. Definitions have to be migrated before.
+   */
+  public void migrateProcessInstanceUnits() {
+    HistoryMigratorLogs.migratingProcessInstanceUnits();
+    fetchAndHandle(HISTORY_PROCESS_INSTANCE, callback -> c7Client.fetchAndHandleHistoricProcessInstances(callback,
+            findLatestCreateTime(HISTORY_PROCESS_INSTANCE)), this::migrateProcessInstanceUnit,
+        HistoricProcessInstance::getRootProcessInstanceId, HistoricProcessInstance::getStartTime,
+        units -> units.forEach(this::migrateProcessInstanceUnit));
+  }
+
+  /**
+   * Migrates process instance units in slices of the start time of their root process instance. Slices are claimed
+   * through leases, so several migrator nodes can share them. Called process instances are migrated with the slice of
+   * their root process instance, after their parent.
+   * <p>
+   * Process instances may still be started within the slice containing the current time, so this slice is run as an
+   * open work unit that later runs migrate again, while the slices before it are completed once.
+   */
+  public void migrateProcessInstanceSlices() {
+    HistoryMigratorLogs.migratingProcessInstanceUnits();
+    Date firstStartTime = c7Client.getFirstHistoricProcessInstanceStartTime();
+    if (firstStartTime == null) {
+      return;
+    }
+
+    // slices are aligned to the epoch, so all nodes derive the same slices
+    long sliceMillis = migratorProperties.getHistory().getCoordination().getSliceDuration().toMillis();
+    long openSliceStart = Math.floorDiv(System.currentTimeMillis(), sliceMillis) * sliceMillis;
+    Map<String, Runnable> slices = new LinkedHashMap<>();
+    for (long start = Math.floorDiv(firstStartTime.getTime(), sliceMillis) * sliceMillis; start < openSliceStart;
+        start += sliceMillis) {
+      Date startedAfter = new Date(start);
+      Date startedBefore = new Date(start + sliceMillis - 1);
+      slices.put(getSliceName(startedAfter), () -> migrateProcessInstanceSlice(startedAfter, startedBefore));
+    }
+    workLeaseCoordinator.run(slices);
+
+    // the open slice has no upper bound, so process instances started after the run began are included as well
+    Date openSliceStartedAfter = new Date(openSliceStart);
+    workLeaseCoordinator.runOpen(getSliceName(openSliceStartedAfter),
+        () -> migrateProcessInstanceSlice(openSliceStartedAfter, null));
+  }
+
+  protected String getSliceName(Date startedAfter) {
+    return getWorkUnitName(HISTORY_PROCESS_INSTANCE.name() + "/" + startedAfter.toInstant());
+  }
+
+  protected void migrateProcessInstanceSlice(Date startedAfter, Date startedBefore) {
+    // an uncompleted slice is migrated again as a whole, so it doesn't need a watermark
+    fetchAndHandle(null,
+        callback -> c7Client.fetchAndHandleHistoricRootProcessInstances(callback, startedAfter, startedBefore),
+        this::migrateProcessInstanceTree, HistoricProcessInstance::getId, null,
+        rootProcessInstances -> rootProcessInstances.forEach(this::migrateProcessInstanceTree));
+  }
+
+  protected void migrateProcessInstanceTree(HistoricProcessInstance c7RootProcessInstance) {
+    List<HistoricProcessInstance> tree = new ArrayList<>(List.of(c7RootProcessInstance));
+    for (int i = 0; i < tree.size(); i++) {
+      migrateProcessInstanceUnit(tree.get(i));
+      tree.addAll(c7Client.getHistoricSubProcessInstances(tree.get(i).getId()));
+    }
+  }
+
+  protected void runOnce(TYPE type, Runnable migration) {
+    workLeaseCoordinator.run(Map.of(getWorkUnitName(type.name()), migration));
+  }
+
+  /**
+   * Within a {@link TenantLane}, work units only cover the lane's tenant and are named accordingly.
+   */
+  protected String getWorkUnitName(String name) {
+    TenantLane lane = TenantLane.current();
+    return lane == null ? name : name + "@" + lane;
+  }
+
+  protected void migrateProcessInstanceUnit(HistoricProcessInstance c7ProcessInstance) {
+    String c7ProcessInstanceId = c7ProcessInstance.getId();
+    HistoryMigrationUnit unit = new HistoryMigrationUnit(c7ProcessInstance);
+    migrateInBatch(unit, () -> {
+      migrateProcessInstance(c7ProcessInstance);
+      c7Client.getHistoricFlowNodes(c7ProcessInstanceId).forEach(this::migrateFlowNode);
+      c7Client.getHistoricUserTasks(c7ProcessInstanceId).forEach(this::migrateUserTask);
+      c7Client.getHistoricVariables(c7ProcessInstanceId).forEach(this::migrateVariable);
+      c7Client.getHistoricIncidents(c7ProcessInstanceId).forEach(this::migrateIncident);
+      // required decisions refer to their root decision instance, which must be migrated first
+      c7Client.getHistoricDecisionInstances(c7ProcessInstanceId)
+          .stream()
+          .sorted(Comparator.comparing((HistoricDecisionInstance instance) -> !isRootDecisionInstance(instance)))
+          .forEach(this::migrateDecisionInstance);
+    });
+    HistoryMigratorLogs.migratingProcessInstanceUnitCompleted(c7ProcessInstanceId, unit.getRecords().size());
+  }
+
+  /**
+   * Hands the fetched entities to the configured number of workers. Entities are assigned to a worker by the given
+   * partition key, so entities of the same process instance are migrated in order while different process instances
+   * are migrated in parallel. Each worker migrates the entities it takes from its queue in one batch.
+   * <p>
+   * Workers complete their entities out of order. While they migrate the entities of the given type, a watermark keeps
+   * the create time up to which all entities have been migrated, so an interrupted migration continues from there
+   * instead of from the latest migrated entity.
+   */
+  protected <T> void fetchAndHandle(TYPE type, Consumer<Consumer<T>> fetcher, Consumer<T> handler,
+                                    Function<T, String> partitionKey, Function<T, Date> createTime) {
+    fetchAndHandle(type, fetcher, handler, partitionKey, createTime, entities -> migrateInBatch(entities, handler));
+  }
+
+  protected <T> void fetchAndHandle(TYPE type, Consumer<Consumer<T>> fetcher, Consumer<T> handler,
+                                    Function<T, String> partitionKey, Function<T, Date> createTime,
+                                    Consumer<List<T>> chunkHandler) {
+    String watermark = type == null ? null : getWorkUnitName(type.name());
+    if (workers <= 1 && dbClient.isBulkLoadEnabled()) {
+      // bulk load files are synced once per chunk instead of once per entity
+      List<T> chunk = new ArrayList<>();
+      fetcher.accept(entity -> {
+        chunk.add(entity);
+        if (chunk.size() >= migratorProperties.getPageSize()) {
+          chunkHandler.accept(List.copyOf(chunk));
+          chunk.clear();
+        }
+      });
+      if (!chunk.isEmpty()) {
+        chunkHandler.accept(chunk);
+      }
+    } else if (workers <= 1) {
+      fetcher.accept(handler);
+    } else {
+      if (watermark != null && dbClient.findWatermark(watermark) == null) {
+        dbClient.insertWatermark(watermark, dbClient.findLatestCreateTimeByType(type));
+      }
+      Consumer<T> progress = watermark == null ? null
+          : entity -> dbClient.updateWatermark(watermark, createTime.apply(entity));
+
+      try (PartitionedExecutor<T> executor = new PartitionedExecutor<>(workerThreads.newThreadFactory("history-worker"),
+          workers, migratorProperties.getPageSize(), chunk -> workerThreads.run(() -> chunkHandler.accept(chunk)),
+          progress)) {
+        fetcher.accept(entity -> executor.submit(partitionKey.apply(entity), entity));
+      }
+    }
+
+    if (watermark != null) {
+      // all fetched entities are migrated, later runs continue from the latest migrated entity again
+      dbClient.deleteWatermark(watermark);
+    }
+  }
+
+  /**
+   * Returns the create time to continue the migration of the type from. If the workers of an earlier run were
+   * interrupted, this is its watermark, since entities after it may not have been migrated yet.
+   */
+  protected Date findLatestCreateTime(TYPE type) {
+    WatermarkDbModel watermark = dbClient.findWatermark(getWorkUnitName(type.name()));
+    return watermark != null ? watermark.getCreateTime() : dbClient.findLatestCreateTimeByType(type);
+  }
+
+  /**
+   * Each worker holds a C8 connection while writing its batch and reads from C7 in between. Workers beyond the
+   * connection pools would only wait for a connection, so the workers of all concurrently migrated types are limited to
+   * the connections the pools leave for workers, see {@link WorkerThreads#getPoolLimit()}. Concurrent tenant lanes
+   * share the pools as well.
+   */
+  protected int getWorkerLimit() {
+    int requested = migratorProperties.getHistory().getWorkers();
+    int poolLimit = workerThreads.getPoolLimit();
+    int concurrentTypes = Math.max(1, migratorProperties.getHistory().getParallelism());
+    if (MIGRATE.equals(mode) && tenantLaneRunner.isEnabled()) {
+      concurrentTypes *= tenantLaneRunner.getConcurrency();
+    }
+    int limit = Math.max(1, poolLimit / concurrentTypes);
+    if (requested > limit) {
+      HistoryMigratorLogs.limitingWorkers(requested, limit);
+      return limit;
+    }
+    return requested;
+  }
+
+  /**
+   * Migrates the entities within one batch. Like for a process instance unit, the mapping records are only written once
+   * the C8 rows have been committed.
+   */
+  protected <T> void migrateInBatch(List<T> entities, Consumer<T> handler) {
+    migrateInBatch(new HistoryMigrationUnit(null), () -> entities.forEach(handler));
+  }
+
+  /**
+   * Migrates the entities of the unit in one C8 transaction and marks them as migrated. If the mapping table is written
+   * through the C8 data source, the mapping records are committed together with the C8 rows. Otherwise, they are
+   * written once the C8 rows are committed.
+   */
+  protected void migrateInBatch(HistoryMigrationUnit unit, Runnable work) {
+    boolean mappingInTransaction = dbClient.isMappingInC8Transaction();
+    currentUnit.set(unit);
+    try {
+      // a node that lost the lease of its work unit must not commit, the node that took it over migrates the unit
+      dbClient.executeInBatch(() -> {
+        work.run();
+        if (mappingInTransaction) {
+          saveRecords(unit);
+        }
+      }, workLeaseCoordinator::checkLease);
+    } finally {
+      currentUnit.remove();
+    }
+
+    if (!mappingInTransaction) {
+      saveRecords(unit);
+    }
+  }
+
+  protected void saveRecords(HistoryMigrationUnit unit) {
+    // the C8 rows are written, so the entities can be marked as migrated
+    dbClient.syncBulkLoad();
+    unit.getRecords().forEach(record -> dbClient.insert(record.getC7Id(), record.getC8Key(), record.getCreateTime(),
+        record.getType(), record.getSkipReason()));
+  }
+
   public void migrateDecisionRequirementsDefinitions() {
     HistoryMigratorLogs.migratingDecisionRequirements();
 
@@ -307,8 +657,10 @@ public class HistoryMigrator {
         migrateDecisionInstance(historicDecisionInstance);
       });
     } else {
-      c7Client.fetchAndHandleHistoricDecisionInstances(this::migrateDecisionInstance,
-          dbClient.findLatestCreateTimeByType((HISTORY_DECISION_INSTANCE)));
+      // decision instances evaluated together share their process instance
+      fetchAndHandle(HISTORY_DECISION_INSTANCE, callback -> c7Client.fetchAndHandleHistoricDecisionInstances(callback,
+              findLatestCreateTime(HISTORY_DECISION_INSTANCE)), this::migrateDecisionInstance,
+          HistoricDecisionInstance::getProcessInstanceId, HistoricDecisionInstance::getEvaluationTime);
     }
   }
 
@@ -349,7 +701,7 @@ public class HistoryMigrator {
           HistoryMigratorLogs.skippingDecisionInstanceDueToMissingParent(c7DecisionInstanceId);
           return;
         }
-        parentDecisionDefinitionKey = findDecisionInstance(c7RootDecisionInstanceId).decisionDefinitionKey();
+        parentDecisionDefinitionKey = findDecisionDefinitionKeyOfDecisionInstance(c7RootDecisionInstanceId);
       }
 
       if (!isMigrated(c7DecisionInstance.getActivityInstanceId(), HISTORY_FLOW_NODE)) {
@@ -358,17 +710,36 @@ public class HistoryMigrator {
         return;
       }
 
-      DecisionDefinitionEntity decisionDefinition = findDecisionDefinition(
-          c7DecisionInstance.getDecisionDefinitionId());
+      Long decisionDefinitionKey;
+      Long decisionRequirementsKey;
+      Long flowNodeInstanceKey;
+      String flowNodeId;
+      if (keyGenerator.isDeterministic()) {
+        decisionDefinitionKey = keyGenerator.keyOf(HISTORY_DECISION_DEFINITION, c7DecisionInstance.getDecisionDefinitionId());
+        decisionRequirementsKey = keyGenerator.keyOf(HISTORY_DECISION_REQUIREMENT,
+            c7DecisionInstance.getDecisionRequirementsDefinitionId());
+        flowNodeInstanceKey = keyGenerator.keyOf(HISTORY_FLOW_NODE, c7DecisionInstance.getActivityInstanceId());
+        flowNodeId = c7DecisionInstance.getActivityId();
+      } else {
+        DecisionDefinitionEntity decisionDefinition = findDecisionDefinition(c7DecisionInstance.getDecisionDefinitionId());
+        decisionDefinitionKey = decisionDefinition.decisionDefinitionKey();
+        decisionRequirementsKey = decisionDefinition.decisionRequirementsKey();
+        if (currentUnit.get() != null) {
+          // the flow node may be part of the same unit and not committed yet
+          flowNodeInstanceKey = findFlowNodeInstanceKey(c7DecisionInstance.getActivityInstanceId());
+          flowNodeId = c7DecisionInstance.getActivityId();
+        } else {
+          FlowNodeInstanceDbModel flowNode = findFlowNodeInstance(c7DecisionInstance.getActivityInstanceId());
+          flowNodeInstanceKey = flowNode.flowNodeInstanceKey();
+          flowNodeId = flowNode.flowNodeId();
+        }
+      }
       Long processDefinitionKey = findProcessDefinitionKey(c7DecisionInstance.getProcessDefinitionId());
-      Long processInstanceKey = findProcessInstanceByC7Id(
-          c7DecisionInstance.getProcessInstanceId()).processInstanceKey();
-      FlowNodeInstanceDbModel flowNode = findFlowNodeInstance(c7DecisionInstance.getActivityInstanceId());
-
-      DecisionInstanceDbModel dbModel = decisionInstanceConverter.apply(c7DecisionInstance,
-          decisionDefinition.decisionDefinitionKey(), processDefinitionKey,
-          decisionDefinition.decisionRequirementsKey(), processInstanceKey, parentDecisionDefinitionKey,
-          flowNode.flowNodeInstanceKey(), flowNode.flowNodeId());
+      Long processInstanceKey = findProcessInstanceKey(c7DecisionInstance.getProcessInstanceId());
+
+      DecisionInstanceDbModel dbModel = decisionInstanceConverter.apply(c7DecisionInstance, decisionDefinitionKey,
+          processDefinitionKey, decisionRequirementsKey, processInstanceKey, parentDecisionDefinitionKey,
+          flowNodeInstanceKey, flowNodeId);
       dbClient.insertDecisionInstance(dbModel);
       markMigrated(c7DecisionInstanceId, dbModel.decisionInstanceKey(), c7DecisionInstance.getEvaluationTime(), HISTORY_DECISION_INSTANCE);
       HistoryMigratorLogs.migratingDecisionInstanceCompleted(c7DecisionInstanceId);
@@ -383,7 +754,9 @@ public class HistoryMigrator {
         migrateIncident(historicIncident);
       });
     } else {
-      c7Client.fetchAndHandleHistoricIncidents(this::migrateIncident, dbClient.findLatestCreateTimeByType((HISTORY_INCIDENT)));
+      fetchAndHandle(HISTORY_INCIDENT, callback -> c7Client.fetchAndHandleHistoricIncidents(callback,
+              findLatestCreateTime(HISTORY_INCIDENT)), this::migrateIncident,
+          HistoricIncident::getProcessInstanceId, HistoricIncident::getCreateTime);
     }
   }
 
@@ -391,11 +764,10 @@ public class HistoryMigrator {
     String c7IncidentId = c7Incident.getId();
     if (shouldMigrate(c7IncidentId, HISTORY_INCIDENT)) {
       HistoryMigratorLogs.migratingHistoricIncident(c7IncidentId);
-      ProcessInstanceEntity c7ProcessInstance = findProcessInstanceByC7Id(c7Incident.getProcessInstanceId());
-      if (c7ProcessInstance != null) {
-        Long processInstanceKey = c7ProcessInstance.processInstanceKey();
+      if (isMigrated(c7Incident.getProcessInstanceId(), HISTORY_PROCESS_INSTANCE)) {
+        Long processInstanceKey = findProcessInstanceKey(c7Incident.getProcessInstanceId());
         if (processInstanceKey != null) {
-          Long flowNodeInstanceKey = findFlowNodeInstanceKey(c7Incident.getActivityId(), c7Incident.getProcessInstanceId());
+          Long flowNodeInstanceKey = findFlowNodeInstanceKey(c7Incident);
           Long processDefinitionKey = findProcessDefinitionKey(c7Incident.getProcessDefinitionId());
           Long jobDefinitionKey = null; // TODO Job table doesn't exist yet.
           IncidentDbModel dbModel = incidentConverter.apply(c7Incident, processDefinitionKey, processInstanceKey, jobDefinitionKey, flowNodeInstanceKey);
@@ -422,7 +794,9 @@ public class HistoryMigrator {
         migrateVariable(historicVariableInstance);
       });
     } else {
-      c7Client.fetchAndHandleHistoricVariables(this::migrateVariable, dbClient.findLatestCreateTimeByType(HISTORY_VARIABLE));
+      fetchAndHandle(HISTORY_VARIABLE, callback -> c7Client.fetchAndHandleHistoricVariables(callback,
+              findLatestCreateTime(HISTORY_VARIABLE)), this::migrateVariable,
+          HistoricVariableInstance::getProcessInstanceId, HistoricVariableInstance::getCreateTime);
     }
   }
 
@@ -443,13 +817,21 @@ public class HistoryMigrator {
       if (isMigrated(c7ProcessInstanceId, HISTORY_PROCESS_INSTANCE)) {
         if (isMigrated(c7Variable.getActivityInstanceId(), HISTORY_FLOW_NODE) ||
             isMigrated(c7Variable.getActivityInstanceId(), HISTORY_PROCESS_INSTANCE)) {
-          ProcessInstanceEntity processInstance = findProcessInstanceByC7Id(c7ProcessInstanceId);
-          Long processInstanceKey = processInstance.processInstanceKey();
+          Long processInstanceKey = findProcessInstanceKey(c7ProcessInstanceId);
           Long scopeKey = findScopeKey(c7Variable.getActivityInstanceId());
           if (scopeKey != null) {
-            VariableDbModel dbModel = variableConverter.apply(c7Variable, processInstanceKey, scopeKey);
+            VariableDbModel dbModel;
+            try {
+              dbModel = variableConverter.apply(c7Variable, processInstanceKey, scopeKey);
+            } catch (VariableSizeExceededException e) {
+              markSkipped(c7VariableId, TYPE.HISTORY_VARIABLE, c7Variable.getCreateTime(), e.getMessage());
+              HistoryMigratorLogs.skippingHistoricVariableDueToConversionError(c7VariableId, e.getMessage());
+              return;
+            }
             dbClient.insertVariable(dbModel);
-            markMigrated(c7VariableId, dbModel.variableKey(), c7Variable.getCreateTime(), HISTORY_VARIABLE);
+            // a truncated variable is migrated, the reason is kept to find it later
+            String truncationReason = variableConverter.isTruncated(c7Variable, dbModel) ? SKIP_REASON_VALUE_TRUNCATED : null;
+            saveRecord(c7VariableId, dbModel.variableKey(), HISTORY_VARIABLE, c7Variable.getCreateTime(), truncationReason);
             HistoryMigratorLogs.migratingHistoricVariableCompleted(c7VariableId);
           } else {
             markSkipped(c7VariableId, TYPE.HISTORY_VARIABLE, c7Variable.getCreateTime(), SKIP_REASON_MISSING_SCOPE_KEY);
@@ -475,7 +857,9 @@ public class HistoryMigrator {
         migrateUserTask(historicTaskInstance);
       });
     } else {
-      c7Client.fetchAndHandleHistoricUserTasks(this::migrateUserTask, dbClient.findLatestCreateTimeByType((HISTORY_USER_TASK)));
+      fetchAndHandle(HISTORY_USER_TASK, callback -> c7Client.fetchAndHandleHistoricUserTasks(callback,
+              findLatestCreateTime(HISTORY_USER_TASK)), this::migrateUserTask,
+          HistoricTaskInstance::getProcessInstanceId, HistoricTaskInstance::getStartTime);
     }
   }
 
@@ -484,11 +868,25 @@ public class HistoryMigrator {
     if (shouldMigrate(c7UserTaskId, HISTORY_USER_TASK)) {
       HistoryMigratorLogs.migratingHistoricUserTask(c7UserTaskId);
       if (isMigrated(c7UserTask.getProcessInstanceId(), HISTORY_PROCESS_INSTANCE)) {
-        ProcessInstanceEntity processInstance = findProcessInstanceByC7Id(c7UserTask.getProcessInstanceId());
         if (isMigrated(c7UserTask.getActivityInstanceId(), HISTORY_FLOW_NODE)) {
           Long elementInstanceKey = findFlowNodeInstanceKey(c7UserTask.getActivityInstanceId());
           Long processDefinitionKey = findProcessDefinitionKey(c7UserTask.getProcessDefinitionId());
-          UserTaskDbModel dbModel = userTaskConverter.apply(c7UserTask, processDefinitionKey, processInstance, elementInstanceKey);
+          Long processInstanceKey;
+          Integer processDefinitionVersion;
+          HistoryMigrationUnit unit = currentUnit.get();
+          if (unit != null && unit.getProcessInstance() != null) {
+            processInstanceKey = findProcessInstanceKey(c7UserTask.getProcessInstanceId());
+            processDefinitionVersion = unit.getProcessInstance().getProcessDefinitionVersion();
+          } else if (keyGenerator.isDeterministic()) {
+            processInstanceKey = findProcessInstanceKey(c7UserTask.getProcessInstanceId());
+            processDefinitionVersion = c7Client.getProcessDefinition(c7UserTask.getProcessDefinitionId()).getVersion();
+          } else {
+            ProcessInstanceEntity processInstance = findProcessInstanceByC7Id(c7UserTask.getProcessInstanceId());
+            processInstanceKey = processInstance.processInstanceKey();
+            processDefinitionVersion = processInstance.processDefinitionVersion();
+          }
+          UserTaskDbModel dbModel = userTaskConverter.apply(c7UserTask, processDefinitionKey, processInstanceKey,
+              processDefinitionVersion, elementInstanceKey);
           dbClient.insertUserTask(dbModel);
           markMigrated(c7UserTaskId, dbModel.userTaskKey(), c7UserTask.getStartTime(), HISTORY_USER_TASK);
           HistoryMigratorLogs.migratingHistoricUserTaskCompleted(c7UserTaskId);
@@ -512,7 +910,9 @@ public class HistoryMigrator {
         migrateFlowNode(historicActivityInstance);
       });
     } else {
-      c7Client.fetchAndHandleHistoricFlowNodes(this::migrateFlowNode, dbClient.findLatestCreateTimeByType((HISTORY_FLOW_NODE)));
+      fetchAndHandle(HISTORY_FLOW_NODE, callback -> c7Client.fetchAndHandleHistoricFlowNodes(callback,
+              findLatestCreateTime(HISTORY_FLOW_NODE)), this::migrateFlowNode,
+          HistoricActivityInstance::getProcessInstanceId, HistoricActivityInstance::getStartTime);
     }
   }
 
@@ -520,9 +920,8 @@ public class HistoryMigrator {
     String c7FlowNodeId = c7FlowNode.getId();
     if (shouldMigrate(c7FlowNodeId, HISTORY_FLOW_NODE)) {
       HistoryMigratorLogs.migratingHistoricFlowNode(c7FlowNodeId);
-      ProcessInstanceEntity processInstance = findProcessInstanceByC7Id(c7FlowNode.getProcessInstanceId());
-      if (processInstance != null) {
-        Long processInstanceKey = processInstance.processInstanceKey();
+      Long processInstanceKey = findProcessInstanceKey(c7FlowNode.getProcessInstanceId());
+      if (processInstanceKey != null) {
         Long processDefinitionKey = findProcessDefinitionKey(c7FlowNode.getProcessDefinitionId());
         FlowNodeInstanceDbModel dbModel = flowNodeConverter.apply(c7FlowNode, processDefinitionKey, processInstanceKey);
         dbClient.insertFlowNodeInstance(dbModel);
@@ -547,6 +946,24 @@ public class HistoryMigrator {
     return dbClient.findProcessInstance(c8Key);
   }
 
+  protected Long findProcessInstanceKey(String processInstanceId) {
+    if (processInstanceId == null)
+      return null;
+
+    Long unitKey = findKeyInUnit(processInstanceId, HISTORY_PROCESS_INSTANCE);
+    if (unitKey != null) {
+      return unitKey;
+    }
+
+    if (keyGenerator.isDeterministic()) {
+      return computeKeyIfMigrated(processInstanceId, HISTORY_PROCESS_INSTANCE);
+    }
+
+    return Optional.ofNullable(findProcessInstanceByC7Id(processInstanceId))
+        .map(ProcessInstanceEntity::processInstanceKey)
+        .orElse(null);
+  }
+
   protected DecisionInstanceEntity findDecisionInstance(String decisionInstanceId) {
     if (decisionInstanceId == null)
       return null;
@@ -563,6 +980,21 @@ public class HistoryMigrator {
         .orElse(null);
   }
 
+  protected Long findDecisionDefinitionKeyOfDecisionInstance(String decisionInstanceId) {
+    if (keyGenerator.isDeterministic()) {
+      HistoricDecisionInstance decisionInstance = c7Client.getHistoricDecisionInstance(decisionInstanceId);
+      return keyGenerator.keyOf(HISTORY_DECISION_DEFINITION, decisionInstance.getDecisionDefinitionId());
+    }
+
+    if (currentUnit.get() != null) {
+      // the decision instance may be part of the same unit and not committed yet
+      HistoricDecisionInstance decisionInstance = c7Client.getHistoricDecisionInstance(decisionInstanceId);
+      return dbClient.findC8KeyByC7IdAndType(decisionInstance.getDecisionDefinitionId(), HISTORY_DECISION_DEFINITION);
+    }
+
+    return findDecisionInstance(decisionInstanceId).decisionDefinitionKey();
+  }
+
   protected DecisionDefinitionEntity findDecisionDefinition(String decisionDefinitionId) {
     Long key = dbClient.findC8KeyByC7IdAndType(decisionDefinitionId, HISTORY_DECISION_DEFINITION);
     if (key == null) {
@@ -577,6 +1009,10 @@ public class HistoryMigrator {
   }
 
   private Long findProcessDefinitionKey(String processDefinitionId) {
+    if (keyGenerator.isDeterministic()) {
+      return computeKeyIfMigrated(processDefinitionId, HISTORY_PROCESS_DEFINITION);
+    }
+
     Long key = dbClient.findC8KeyByC7IdAndType(processDefinitionId, HISTORY_PROCESS_DEFINITION);
     if (key == null) {
       return null;
@@ -592,6 +1028,26 @@ public class HistoryMigrator {
     }
   }
 
+  protected boolean isRootDecisionInstance(HistoricDecisionInstance c7DecisionInstance) {
+    String c7RootDecisionInstanceId = c7DecisionInstance.getRootDecisionInstanceId();
+    return c7RootDecisionInstanceId == null || c7RootDecisionInstanceId.equals(c7DecisionInstance.getId());
+  }
+
+  /**
+   * Incidents only refer to the activity, not to the activity instance. With deterministic keys or within a process
+   * instance unit, the flow node may not be searchable in C8 yet, e.g. when it is written into bulk load files or not
+   * committed, so its activity instance is resolved in C7.
+   */
+  private Long findFlowNodeInstanceKey(HistoricIncident c7Incident) {
+    if (keyGenerator.isDeterministic() || currentUnit.get() != null) {
+      HistoricActivityInstance activityInstance = c7Client.getHistoricActivityInstance(
+          c7Incident.getProcessInstanceId(), c7Incident.getActivityId(), c7Incident.getCreateTime());
+      return activityInstance == null ? null : findFlowNodeInstanceKey(activityInstance.getId());
+    }
+
+    return findFlowNodeInstanceKey(c7Incident.getActivityId(), c7Incident.getProcessInstanceId());
+  }
+
   private Long findFlowNodeInstanceKey(String activityId, String processInstanceId) {
     Long key = dbClient.findC8KeyByC7IdAndType(processInstanceId, HISTORY_PROCESS_INSTANCE);
     if (key == null) {
@@ -609,6 +1065,15 @@ public class HistoryMigrator {
   }
 
   protected Long findFlowNodeInstanceKey(String activityInstanceId) {
+    Long unitKey = findKeyInUnit(activityInstanceId, HISTORY_FLOW_NODE);
+    if (unitKey != null) {
+      return unitKey;
+    }
+
+    if (keyGenerator.isDeterministic()) {
+      return computeKeyIfMigrated(activityInstanceId, HISTORY_FLOW_NODE);
+    }
+
     return Optional.ofNullable(findFlowNodeInstance(activityInstanceId))
         .map(FlowNodeInstanceDbModel::flowNodeInstanceKey)
         .orElse(null);
@@ -632,6 +1097,15 @@ public class HistoryMigrator {
       return key;
     }
 
+    Long unitKey = findKeyInUnit(instanceId, HISTORY_PROCESS_INSTANCE);
+    if (unitKey != null) {
+      return unitKey;
+    }
+
+    if (keyGenerator.isDeterministic()) {
+      return computeKeyIfMigrated(instanceId, HISTORY_PROCESS_INSTANCE);
+    }
+
     Long processInstanceKey = dbClient.findC8KeyByC7IdAndType(instanceId, HISTORY_PROCESS_INSTANCE);
     if (processInstanceKey == null) {
       return null;
@@ -642,11 +1116,38 @@ public class HistoryMigrator {
     return processInstances.isEmpty() ? null : processInstanceKey;
   }
 
+  /**
+   * With the deterministic key strategy, the C8 key of an entity can be computed from its C7 id. The mapping table is
+   * only consulted to make sure the entity was not skipped.
+   */
+  private Long computeKeyIfMigrated(String c7Id, TYPE type) {
+    if (c7Id == null || !isMigrated(c7Id, type)) {
+      return null;
+    }
+
+    return keyGenerator.keyOf(type, c7Id);
+  }
+
+  /**
+   * Returns the key of an entity that was migrated within the current process instance unit, if any.
+   */
+  private Long findKeyInUnit(String c7Id, TYPE type) {
+    HistoryMigrationUnit unit = currentUnit.get();
+    return unit != null ? unit.getKey(c7Id, type) : null;
+  }
+
   private boolean isMigrated(String id, TYPE type) {
+    if (findKeyInUnit(id, type) != null) {
+      return true;
+    }
     return dbClient.checkHasC8KeyByC7IdAndType(id, type);
   }
 
   private boolean shouldMigrate(String id, TYPE type) {
+    HistoryMigrationUnit unit = currentUnit.get();
+    if (unit != null && unit.contains(id, type)) {
+      return false;
+    }
     if (mode == RETRY_SKIPPED) {
       return !dbClient.checkHasC8KeyByC7IdAndType(id, type);
     }
@@ -662,11 +1163,19 @@ public class HistoryMigrator {
   }
 
   protected void saveRecord(String c7Id, Long c8Key, TYPE type, Date createTime, String skipReason) {
+    HistoryMigrationUnit unit = currentUnit.get();
+    if (unit != null) {
+      unit.addRecord(c7Id, c8Key, type, createTime, skipReason);
+      return;
+    }
+
+    if (c8Key != null) {
+      dbClient.syncBulkLoad();
+    }
     if (RETRY_SKIPPED.equals(mode)) {
       dbClient.updateC8KeyByC7IdAndType(c7Id, c8Key, type);
     } else if (MIGRATE.equals(mode)) {
       dbClient.insert(c7Id, c8Key, createTime, type, skipReason);
-
     }
   }
 
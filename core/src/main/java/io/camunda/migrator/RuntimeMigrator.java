@@ -10,36 +10,73 @@ package io.camunda.migrator;
 import static io.camunda.migrator.MigratorMode.LIST_SKIPPED;
 import static io.camunda.migrator.MigratorMode.MIGRATE;
 import static io.camunda.migrator.MigratorMode.RETRY_SKIPPED;
+import static io.camunda.migrator.impl.logging.C8ClientLogs.FAILED_TO_CREATE_PROCESS_INSTANCE;
+import static io.camunda.migrator.impl.logging.RuntimeMigratorLogs.CREATION_OUTCOME_UNKNOWN;
 import static io.camunda.migrator.impl.persistence.IdKeyMapper.TYPE;
 import static io.camunda.migrator.impl.persistence.IdKeyMapper.TYPE.RUNTIME_PROCESS_INSTANCE;
 
 import io.camunda.client.api.response.ActivatedJob;
+import io.camunda.client.api.response.ProcessInstanceEvent;
+import io.camunda.migrator.config.property.JobStreamingProperties;
 import io.camunda.migrator.config.property.MigratorProperties;
+import io.camunda.migrator.config.property.RuntimePipelineProperties;
+import io.camunda.migrator.config.property.RuntimeShardingProperties;
+import io.camunda.migrator.exception.RuntimeMigratorException;
 import io.camunda.migrator.exception.VariableInterceptorException;
+import io.camunda.migrator.impl.ActiveActivityCache;
+import io.camunda.migrator.impl.ActiveActivityCache.ActiveActivities;
+import io.camunda.migrator.impl.RetryPolicy;
 import io.camunda.migrator.impl.RuntimeValidator;
+import io.camunda.migrator.impl.TenantLane;
 import io.camunda.migrator.impl.VariableService;
 import io.camunda.migrator.impl.clients.C7Client;
 import io.camunda.migrator.impl.clients.C8Client;
 import io.camunda.migrator.impl.clients.DbClient;
+import io.camunda.migrator.impl.concurrent.JobStream;
+import io.camunda.migrator.impl.concurrent.RuntimeShardCoordinator;
+import io.camunda.migrator.impl.concurrent.TenantLaneRunner;
+import io.camunda.migrator.impl.concurrent.ThreadContext;
+import io.camunda.migrator.impl.concurrent.WorkerThreads;
 import io.camunda.migrator.impl.logging.RuntimeMigratorLogs;
+import io.camunda.migrator.impl.model.ActivityVariables;
 import io.camunda.migrator.impl.model.FlowNode;
 import io.camunda.migrator.impl.model.FlowNodeActivation;
+import io.camunda.migrator.impl.model.RuntimeShard;
 import io.camunda.migrator.impl.persistence.IdKeyDbModel;
 import io.camunda.migrator.impl.util.C7Utils;
 import io.camunda.migrator.impl.util.ExceptionUtils;
 import io.camunda.migrator.impl.util.PrintUtils;
+import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.Date;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 @Component
 public class RuntimeMigrator {
 
+  /**
+   * Until a released job of another shard can be activated again, shorter than the long polling of job activation, so
+   * the jobs are available again by the time an activation returns without jobs.
+   */
+  protected static final Duration RELEASED_JOB_BACKOFF = Duration.ofSeconds(1);
+
   @Autowired
   protected C7Client c7Client;
 
@@ -55,32 +92,141 @@ public class RuntimeMigrator {
   @Autowired
   protected RuntimeValidator runtimeValidator;
 
+  @Autowired
+  protected ActiveActivityCache activeActivityCache;
+
   @Autowired
   protected MigratorProperties migratorProperties;
 
+  @Autowired
+  protected RetryPolicy retryPolicy;
+
+  @Autowired
+  protected TenantLaneRunner tenantLaneRunner;
+
+  @Autowired
+  protected RuntimeShardCoordinator runtimeShardCoordinator;
+
+  @Autowired
+  protected WorkerThreads workerThreads;
+
+  protected final ThreadLocal<RuntimeShard> currentShard = new ThreadLocal<>();
+
   protected MigratorMode mode = MIGRATE;
 
   public void start() {
     try {
       ExceptionUtils.setContext(ExceptionUtils.ExceptionContext.RUNTIME);
+      retryPolicy.register();
       if (LIST_SKIPPED.equals(mode)) {
         PrintUtils.printSkippedInstancesHeader(dbClient.countSkippedByType(TYPE.RUNTIME_PROCESS_INSTANCE),
           TYPE.RUNTIME_PROCESS_INSTANCE);
         dbClient.listSkippedEntitiesByType(TYPE.RUNTIME_PROCESS_INSTANCE);
       } else {
+        runtimeValidator.startRun();
+        if (isSharded() && StringUtils.isBlank(migratorProperties.getRuntimeSharding().getRunId())) {
+          throw new IllegalStateException(RuntimeMigratorLogs.MISSING_SHARDING_RUN_ID);
+        }
+        if (MIGRATE.equals(mode)) {
+          // once for all tenant lanes and shards of the run
+          runtimeValidator.validateProcessDefinitions();
+        }
         migrate();
       }
     } finally {
+      retryPolicy.unregister();
       ExceptionUtils.clearContext();
     }
   }
 
   protected void migrate() {
+    if (MIGRATE.equals(mode) && tenantLaneRunner.isEnabled()) {
+      tenantLaneRunner.run("runtime-lane", this::migrateProcessInstances);
+    } else {
+      migrateProcessInstances();
+    }
+  }
+
+  protected void migrateProcessInstances() {
+    JobStreamingProperties jobStreaming = migratorProperties.getJobStreaming();
+    if (jobStreaming.isEnabled() && jobStreaming.isInterleaved() && !isSharded()) {
+      // activate the created instances while further ones are created
+      try (JobStream jobStream = openMigratorJobStream()) {
+        createProcessInstances();
+        jobStream.awaitIdle(jobStreaming.getIdleTimeout());
+        RuntimeMigratorLogs.streamedMigratorJobs(jobStream.getHandledJobs());
+      }
+      pollMigratorJobs();
+    } else {
+      createProcessInstances();
+      activateMigratorJobs();
+    }
+  }
+
+  protected boolean isSharded() {
+    return MIGRATE.equals(mode) && migratorProperties.getRuntimeSharding().isEnabled();
+  }
+
+  protected void createProcessInstances() {
+    if (isSharded()) {
+      migrateProcessInstanceShards();
+    } else {
+      createFetchedProcessInstances();
+    }
+  }
+
+  /**
+   * Migrates the process instances shard by shard. Shards are claimed through leases, so several migrator nodes can
+   * share them, and the shards of a node that stopped are taken over by the others. The leases are named after the
+   * run ID, so a later run with another run ID migrates the shards again. Returns once every shard has been completed,
+   * either by this node or by others.
+   */
+  protected void migrateProcessInstanceShards() {
+    RuntimeShardingProperties sharding = migratorProperties.getRuntimeSharding();
+    int shardCount = Math.min(RuntimeShard.MAX_COUNT, Math.max(1, sharding.getShardCount()));
+    Map<String, Runnable> shards = new LinkedHashMap<>();
+    for (int index = 0; index < shardCount; index++) {
+      RuntimeShard shard = new RuntimeShard(index, shardCount);
+      String workUnit = RUNTIME_PROCESS_INSTANCE.name() + "/" + sharding.getRunId() + "/" + shard;
+      shards.put(getWorkUnitName(workUnit), () -> migrateShard(shard));
+    }
+    runtimeShardCoordinator.run(shards);
+  }
+
+  /**
+   * Creates the process instances of the shard and activates them while holding its lease, so the node that validated
+   * them also activates them with the active activities it collected.
+   */
+  protected void migrateShard(RuntimeShard shard) {
+    RuntimeMigratorLogs.migratingShard(shard);
+    currentShard.set(shard);
+    try {
+      createFetchedProcessInstances();
+      activateMigratorJobs(shard);
+    } finally {
+      currentShard.remove();
+    }
+  }
+
+  /**
+   * Within a {@link TenantLane}, work units only cover the lane's tenant and are named accordingly.
+   */
+  protected String getWorkUnitName(String name) {
+    TenantLane lane = TenantLane.current();
+    return lane == null ? name : name + "@" + lane;
+  }
+
+  protected void createFetchedProcessInstances() {
+    if (MIGRATE.equals(mode) && migratorProperties.getRuntimePipeline().isEnabled()) {
+      migrateProcessInstancesPipelined();
+      return;
+    }
+
     fetchProcessInstancesToMigrate(c7ProcessInstance -> {
       String c7ProcessInstanceId = c7ProcessInstance.getC7Id();
       Date createTime = c7ProcessInstance.getCreateTime();
 
-      String skipReason = getSkipReason(c7ProcessInstanceId);
+      String skipReason = getSkipReason(c7ProcessInstance);
       if (skipReason == null && shouldStartProcessInstance(c7ProcessInstanceId)) {
         startProcessInstance(c7ProcessInstanceId, createTime);
       } else if (isUnknown(c7ProcessInstanceId)) {
@@ -89,12 +235,230 @@ public class RuntimeMigrator {
         dbClient.updateSkipReason(c7ProcessInstanceId, TYPE.RUNTIME_PROCESS_INSTANCE, skipReason);
       }
     });
+  }
+
+  /**
+   * Migrates the process instances in three stages: the validation including fetching the variables runs on the
+   * {@link WorkerThreads}, the creation of the C8 instances is sent without waiting for the response, and the mappings
+   * are saved by the calling thread in the order the instances were fetched, so the latest create time stays a valid
+   * watermark. Each stage has a bounded number of instances in flight.
+   * <p>
+   * When the migration fails, the instances already in flight are finished first: the mappings of created instances
+   * are saved, and instances that failed are saved as skipped since the watermark may have passed them. A creation is
+   * only sent again if the gateway rejected it with backpressure. Any other failure of a creation leaves open whether
+   * the C8 instance exists, so the migration stops and the instance is skipped with a reason saying so. If saving
+   * mappings fails, for example because the migrator database is unavailable, no further mappings are written; the
+   * instances in flight are logged as errors with the key of their C8 instance, if one was created, so they can be
+   * reconciled before the migration is started again.
+   */
+  protected void migrateProcessInstancesPipelined() {
+    RuntimePipelineProperties properties = migratorProperties.getRuntimePipeline();
+    int validationWindow = Math.max(1, properties.getValidationWindow());
+    int creationWindow = Math.max(1, properties.getCreationWindow());
+    RuntimeMigratorLogs.migratingPipelined(validationWindow, creationWindow);
+
+    Semaphore validations = new Semaphore(validationWindow);
+    Semaphore creations = new Semaphore(creationWindow);
+    Deque<PipelinedInstance> pending = new ArrayDeque<>();
+    ThreadContext context = ThreadContext.capture();
+
+    try (ExecutorService executor = Executors.newThreadPerTaskExecutor(workerThreads.newThreadFactory("runtime-pipeline"))) {
+      Executor validationExecutor = task -> executor.execute(() -> context.run(() -> workerThreads.run(task)));
+      try {
+        fetchProcessInstancesToMigrate(c7ProcessInstance -> {
+          String c7ProcessInstanceId = c7ProcessInstance.getC7Id();
+          acquire(validations);
+          CompletableFuture<PreparedInstance> preparation = CompletableFuture
+              .supplyAsync(() -> prepareProcessInstance(c7ProcessInstance), validationExecutor)
+              .whenComplete((prepared, e) -> validations.release());
+          CompletableFuture<Long> creation = preparation.thenCompose(prepared -> createProcessInstance(prepared, creations));
+          pending.add(new PipelinedInstance(c7ProcessInstanceId, c7ProcessInstance.getCreateTime(), preparation, creation));
+
+          while (!pending.isEmpty() && (pending.peek().isDone() || pending.size() > validationWindow + creationWindow)) {
+            saveRecord(pending.peek());
+            pending.poll();
+          }
+        });
+
+        while (!pending.isEmpty()) {
+          saveRecord(pending.peek());
+          pending.poll();
+        }
+      } catch (RuntimeException e) {
+        saveRecordsAfterFailure(pending, e);
+        throw e;
+      }
+    }
+  }
+
+  /**
+   * Validates the process instance and fetches what is needed to create it in C8.
+   */
+  protected PreparedInstance prepareProcessInstance(IdKeyDbModel c7ProcessInstance) {
+    String c7ProcessInstanceId = c7ProcessInstance.getC7Id();
+    String skipReason = getSkipReason(c7ProcessInstance);
+    boolean unknown = isUnknown(c7ProcessInstanceId);
+    if (skipReason != null || !unknown) {
+      return new PreparedInstance(unknown ? PipelineAction.INSERT_SKIPPED : PipelineAction.UPDATE_SKIP_REASON,
+          skipReason, null, null, null);
+    }
+
+    RuntimeMigratorLogs.startingNewC8ProcessInstance(c7ProcessInstanceId);
+    var processInstance = c7Client.getProcessInstance(c7ProcessInstanceId);
+    if (processInstance == null) {
+      RuntimeMigratorLogs.processInstanceNotExists(c7ProcessInstanceId);
+      return new PreparedInstance(PipelineAction.NONE, null, null, null, null);
+    }
+
+    try {
+      Map<String, Object> globalVariables = variableService.getGlobalVariables(c7ProcessInstanceId);
+      return new PreparedInstance(PipelineAction.CREATE, null, processInstance.getProcessDefinitionKey(),
+          processInstance.getTenantId(), globalVariables);
+    } catch (VariableInterceptorException e) {
+      RuntimeMigratorLogs.skippingProcessInstanceVariableError(c7ProcessInstanceId, e.getMessage());
+      RuntimeMigratorLogs.stacktrace(e);
+      return new PreparedInstance(PipelineAction.INSERT_SKIPPED, e.getMessage(), null, null, null);
+    }
+  }
+
+  protected CompletableFuture<Long> createProcessInstance(PreparedInstance prepared, Semaphore creations) {
+    if (prepared.action() != PipelineAction.CREATE) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    acquire(creations);
+    try {
+      return c8Client.createProcessInstanceAsync(prepared.bpmnProcessId(), prepared.tenantId(), prepared.variables())
+          .thenApply(ProcessInstanceEvent::getProcessInstanceKey)
+          .whenComplete((processInstanceKey, e) -> creations.release());
+    } catch (RuntimeException e) {
+      creations.release();
+      throw e;
+    }
+  }
+
+  protected void saveRecord(PipelinedInstance instance) {
+    PreparedInstance prepared;
+    try {
+      prepared = await(instance.preparation());
+      if (prepared.action() == PipelineAction.CREATE) {
+        instance.processInstanceKey = awaitCreation(instance, prepared);
+        RuntimeMigratorLogs.startedC8ProcessInstance(instance.processInstanceKey);
+      }
+    } catch (RuntimeException e) {
+      instance.failure = e;
+      throw e;
+    }
+
+    try {
+      switch (prepared.action()) {
+        case CREATE -> saveRecord(instance.c7ProcessInstanceId(), instance.createTime(), instance.processInstanceKey);
+        case INSERT_SKIPPED -> dbClient.insert(instance.c7ProcessInstanceId(), null, instance.createTime(),
+            TYPE.RUNTIME_PROCESS_INSTANCE, prepared.skipReason());
+        case UPDATE_SKIP_REASON -> dbClient.updateSkipReason(instance.c7ProcessInstanceId(),
+            TYPE.RUNTIME_PROCESS_INSTANCE, prepared.skipReason());
+        case NONE -> {
+        }
+      }
+    } catch (RuntimeException e) {
+      instance.failure = e;
+      instance.mappingFailed = true;
+      throw e;
+    }
+  }
+
+  /**
+   * Waits for the creation of the C8 instance. Only a creation rejected with backpressure is sent again, as the
+   * gateway didn't process it. After any other failure the C8 instance may or may not exist, so it is not sent again
+   * and the instance is skipped with a reason saying so once the migration stopped.
+   */
+  protected Long awaitCreation(PipelinedInstance instance, PreparedInstance prepared) {
+    try {
+      return instance.creation().join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause && ExceptionUtils.isTransient(cause)) {
+        RuntimeMigratorLogs.retryingProcessInstanceCreation(instance.c7ProcessInstanceId(), cause.getMessage());
+        return c8Client.createProcessInstance(prepared.bpmnProcessId(), prepared.tenantId(), prepared.variables())
+            .getProcessInstanceKey();
+      }
+      Exception cause = e.getCause() instanceof Exception exception ? exception : e;
+      instance.skipReason = String.format(CREATION_OUTCOME_UNKNOWN, cause.getMessage());
+      throw ExceptionUtils.wrapException(FAILED_TO_CREATE_PROCESS_INSTANCE + prepared.bpmnProcessId(), cause);
+    }
+  }
+
+  /**
+   * Saves the mappings of the instances in flight after the migration failed. Once a mapping can't be saved, the
+   * remaining instances are only logged, since further writes to the migrator database would fail as well.
+   */
+  protected void saveRecordsAfterFailure(Deque<PipelinedInstance> pending, RuntimeException failure) {
+    boolean mappingsAvailable = pending.stream().noneMatch(instance -> instance.mappingFailed);
+    for (PipelinedInstance instance : pending) {
+      if (mappingsAvailable) {
+        try {
+          saveRecordAfterFailure(instance, failure);
+          continue;
+        } catch (RuntimeException e) {
+          if (e != failure) {
+            failure.addSuppressed(e);
+          }
+          mappingsAvailable = false;
+        }
+      }
+      RuntimeMigratorLogs.unsavedProcessInstance(instance.c7ProcessInstanceId(), instance.processInstanceKey);
+    }
+  }
+
+  protected void saveRecordAfterFailure(PipelinedInstance instance, RuntimeException failure) {
+    if (instance.failure == null) {
+      try {
+        saveRecord(instance);
+        return;
+      } catch (RuntimeException e) {
+        if (instance.mappingFailed) {
+          throw e;
+        }
+        failure.addSuppressed(e);
+      }
+    }
 
-    activateMigratorJobs();
+    String skipReason = instance.skipReason != null ? instance.skipReason : instance.failure.getMessage();
+    RuntimeMigratorLogs.skippingProcessInstancePipelineFailure(instance.c7ProcessInstanceId(), skipReason);
+    dbClient.insert(instance.c7ProcessInstanceId(), null, instance.createTime(), TYPE.RUNTIME_PROCESS_INSTANCE,
+        skipReason);
   }
 
-  protected String getSkipReason(String c7ProcessInstanceId) {
+  protected <T> T await(CompletableFuture<T> future) {
     try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  protected void acquire(Semaphore semaphore) {
+    try {
+      semaphore.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeMigratorException(RuntimeMigratorLogs.INTERRUPTED_WHILE_WAITING, e);
+    }
+  }
+
+  /**
+   * Validates the process instance. Instances fetched from C7 are checked against the remembered verdict of their
+   * definition first, so instances of definitions that can't be migrated are skipped without further queries.
+   */
+  protected String getSkipReason(IdKeyDbModel c7ProcessInstance) {
+    String c7ProcessInstanceId = c7ProcessInstance.getC7Id();
+    try {
+      if (c7ProcessInstance.getProcessDefinitionKey() != null) {
+        runtimeValidator.validateProcessDefinition(c7ProcessInstance.getProcessDefinitionKey(),
+            c7ProcessInstance.getTenantId(), c7ProcessInstanceId);
+      }
       runtimeValidator.validateProcessInstanceState(c7ProcessInstanceId);
       return null;
     } catch (IllegalStateException e) {
@@ -151,11 +515,18 @@ public class RuntimeMigrator {
     if (RETRY_SKIPPED.equals(mode)) {
       dbClient.fetchAndHandleSkippedForType(TYPE.RUNTIME_PROCESS_INSTANCE, storeMappingConsumer);
     } else {
+      RuntimeShard shard = currentShard.get();
       RuntimeMigratorLogs.fetchingLatestCreateTime();
-      Date latestCreateTime = dbClient.findLatestCreateTimeByType(TYPE.RUNTIME_PROCESS_INSTANCE);
+      Date latestCreateTime = shard == null
+          ? dbClient.findLatestCreateTimeByType(TYPE.RUNTIME_PROCESS_INSTANCE)
+          : dbClient.findLatestCreateTimeByTypeAndShard(TYPE.RUNTIME_PROCESS_INSTANCE, shard);
       RuntimeMigratorLogs.latestCreateTime(latestCreateTime);
 
-      c7Client.fetchAndHandleHistoricRootProcessInstances(storeMappingConsumer, latestCreateTime);
+      if (shard == null) {
+        c7Client.fetchAndHandleHistoricRootProcessInstances(storeMappingConsumer, latestCreateTime);
+      } else {
+        c7Client.fetchAndHandleHistoricRootProcessInstances(storeMappingConsumer, latestCreateTime, shard);
+      }
     }
   }
 
@@ -176,6 +547,13 @@ public class RuntimeMigrator {
   }
 
   protected void activateMigratorJobs() {
+    if (migratorProperties.getJobStreaming().isEnabled()) {
+      streamMigratorJobs();
+    }
+    pollMigratorJobs();
+  }
+
+  protected void pollMigratorJobs() {
     RuntimeMigratorLogs.activatingMigratorJobs();
     List<ActivatedJob> migratorJobs;
     do {
@@ -183,41 +561,162 @@ public class RuntimeMigrator {
 
       RuntimeMigratorLogs.migratorJobsFound(migratorJobs.size());
 
-      migratorJobs.forEach(job -> {
-        boolean externallyStarted = variableService.isExternallyStartedJob(job);
-        if (!externallyStarted) {
-          String c7Id = variableService.getC7IdFromJob(job);
-          var activityInstanceTree = c7Client.getActivityInstance(c7Id);
-
-          RuntimeMigratorLogs.collectingActiveDescendantActivities(activityInstanceTree.getActivityId());
-          Map<String, FlowNode> activityInstanceMap = C7Utils.getActiveActivityIdsById(activityInstanceTree, new HashMap<>());
-          RuntimeMigratorLogs.foundActiveActivitiesToActivate(activityInstanceMap.size());
-
-          List<FlowNodeActivation> flowNodeActivations = activityInstanceMap.entrySet().stream()
-              .map(entry -> {
-                String activityInstanceId = entry.getKey();
-                FlowNode flowNode = entry.getValue();
-
-                Map<String, Object> localVariables = variableService.getLocalVariables(activityInstanceId, flowNode.subProcessInstanceId());
-                String activityId = flowNode.activityId();
-                return new FlowNodeActivation(activityId, localVariables);
-              })
-              .collect(Collectors.toList());
-
-          long processInstanceKey = job.getProcessInstanceKey();
-          long elementInstanceKey = job.getElementInstanceKey();
-          c8Client.modifyProcessInstance(processInstanceKey, elementInstanceKey, flowNodeActivations);
-          // no need to complete the job since the modification canceled the migrator job in the start event
+      migratorJobs.forEach(this::activateMigratorJob);
+
+    } while (!migratorJobs.isEmpty());
+  }
+
+  /**
+   * Handles the migrator jobs streamed by the gateway until no job was handled for the idle timeout.
+   */
+  protected void streamMigratorJobs() {
+    try (JobStream jobStream = openMigratorJobStream()) {
+      jobStream.awaitIdle(migratorProperties.getJobStreaming().getIdleTimeout());
+      RuntimeMigratorLogs.streamedMigratorJobs(jobStream.getHandledJobs());
+    }
+  }
+
+  protected JobStream openMigratorJobStream() {
+    int concurrency = migratorProperties.getJobStreaming().getConcurrency();
+    RuntimeMigratorLogs.streamingMigratorJobs(concurrency);
+    return new JobStream(c8Client, workerThreads, migratorProperties.getJobActivationType(), concurrency,
+        this::activateMigratorJob);
+  }
+
+  protected void activateMigratorJob(ActivatedJob job) {
+    // a job without legacyId belongs to a process instance that was started externally
+    String c7Id = variableService.getC7IdFromJob(job);
+    if (c7Id != null) {
+      activateMigratorJob(job, c7Id);
+    } else {
+      RuntimeMigratorLogs.externallyStartedProcessInstance(job.getProcessInstanceKey());
+    }
+  }
+
+  /**
+   * Activates the migrator jobs of the process instances of the shard. Jobs of other shards and of process instances
+   * started externally are released with a short backoff, so this node doesn't activate them again right away. Stops
+   * at the first page without jobs that weren't activated before; jobs left behind are activated once all shards are
+   * completed.
+   */
+  protected void activateMigratorJobs(RuntimeShard shard) {
+    RuntimeMigratorLogs.activatingMigratorJobs();
+    Set<Long> activatedJobKeys = new HashSet<>();
+    boolean foundNewJobs;
+    do {
+      foundNewJobs = false;
+      for (ActivatedJob job : c8Client.activateJobs(migratorProperties.getJobActivationType())) {
+        foundNewJobs |= activatedJobKeys.add(job.getKey());
+        String c7Id = variableService.getC7IdFromJob(job);
+        if (c7Id != null && shard.contains(c7Id)) {
+          activateMigratorJob(job, c7Id);
         } else {
-          RuntimeMigratorLogs.externallyStartedProcessInstance(job.getProcessInstanceKey());
+          c8Client.releaseJob(job, String.format(RuntimeMigratorLogs.RELEASED_JOB_OF_OTHER_SHARD, shard),
+              RELEASED_JOB_BACKOFF);
         }
-      });
+      }
+    } while (foundNewJobs);
+  }
 
-    } while (!migratorJobs.isEmpty());
+  protected void activateMigratorJob(ActivatedJob job, String c7Id) {
+    ActiveActivities collected = activeActivityCache.take(c7Id, () -> c7Client.getExecutionRevision(c7Id));
+    Map<String, FlowNode> activityInstanceMap = getActiveActivities(c7Id, collected);
+    RuntimeMigratorLogs.foundActiveActivitiesToActivate(activityInstanceMap.size());
+
+    // all variables of the instance are fetched at once, since they may have changed since its creation
+    ActivityVariables activityVariables = variableService.getActivityVariables(c7Id);
+
+    List<FlowNodeActivation> flowNodeActivations = activityInstanceMap.entrySet().stream()
+        .map(entry -> {
+          String activityInstanceId = entry.getKey();
+          FlowNode flowNode = entry.getValue();
+
+          Map<String, Object> localVariables = variableService.getLocalVariables(activityVariables, activityInstanceId,
+              flowNode.subProcessInstanceId());
+          String activityId = flowNode.activityId();
+          return new FlowNodeActivation(activityId, localVariables);
+        })
+        .collect(Collectors.toList());
+
+    long processInstanceKey = job.getProcessInstanceKey();
+    long elementInstanceKey = job.getElementInstanceKey();
+    c8Client.modifyProcessInstance(processInstanceKey, elementInstanceKey, flowNodeActivations);
+    // no need to complete the job since the modification canceled the migrator job in the start event
+  }
+
+  /**
+   * Returns the active activities collected while validating the process instance, or collects them again if they are
+   * no longer known.
+   */
+  protected Map<String, FlowNode> getActiveActivities(String c7ProcessInstanceId, ActiveActivities collected) {
+    if (collected != null) {
+      RuntimeMigratorLogs.collectingActiveDescendantActivities(collected.activityId());
+      return collected.flowNodes();
+    }
+
+    var activityInstanceTree = c7Client.getActivityInstance(c7ProcessInstanceId);
+    RuntimeMigratorLogs.collectingActiveDescendantActivities(activityInstanceTree.getActivityId());
+    return C7Utils.getActiveActivityIdsById(activityInstanceTree, new HashMap<>());
   }
 
   public void setMode(MigratorMode mode) {
     this.mode = mode;
   }
 
+  protected enum PipelineAction {
+    CREATE, INSERT_SKIPPED, UPDATE_SKIP_REASON, NONE
+  }
+
+  /**
+   * Result of the validation stage of the pipeline, with the data to create the C8 instance from.
+   */
+  protected record PreparedInstance(PipelineAction action, String skipReason, String bpmnProcessId, String tenantId,
+                                    Map<String, Object> variables) {
+  }
+
+  /**
+   * A process instance in flight in the pipeline.
+   */
+  protected static class PipelinedInstance {
+
+    protected final String c7ProcessInstanceId;
+    protected final Date createTime;
+    protected final CompletableFuture<PreparedInstance> preparation;
+    protected final CompletableFuture<Long> creation;
+    protected RuntimeException failure;
+    protected boolean mappingFailed;
+    protected Long processInstanceKey;
+    protected String skipReason;
+
+    protected PipelinedInstance(String c7ProcessInstanceId,
+                                Date createTime,
+                                CompletableFuture<PreparedInstance> preparation,
+                                CompletableFuture<Long> creation) {
+      this.c7ProcessInstanceId = c7ProcessInstanceId;
+      this.createTime = createTime;
+      this.preparation = preparation;
+      this.creation = creation;
+    }
+
+    public String c7ProcessInstanceId() {
+      return c7ProcessInstanceId;
+    }
+
+    public Date createTime() {
+      return createTime;
+    }
+
+    public CompletableFuture<PreparedInstance> preparation() {
+      return preparation;
+    }
+
+    public CompletableFuture<Long> creation() {
+      return creation;
+    }
+
+    public boolean isDone() {
+      return preparation.isDone() && creation.isDone();
+    }
+  }
+
 }
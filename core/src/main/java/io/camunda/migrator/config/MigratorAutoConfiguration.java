@@ -12,21 +12,36 @@ import static io.camunda.migrator.config.property.MigratorProperties.DataSource.
 import static org.camunda.bpm.engine.ProcessEngineConfiguration.DB_SCHEMA_UPDATE_TRUE;
 import static org.camunda.bpm.engine.ProcessEngineConfiguration.HISTORY_AUTO;
 
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
 import io.camunda.migrator.config.mybatis.SchemaShutdownCleaner;
+import io.camunda.migrator.impl.ActiveActivityCache;
 import io.camunda.migrator.impl.AutoDeployer;
-import com.zaxxer.hikari.HikariDataSource;
+import io.camunda.migrator.impl.KeyGenerator;
+import io.camunda.migrator.impl.RetryPolicy;
 import io.camunda.migrator.HistoryMigrator;
 import io.camunda.migrator.RuntimeMigrator;
 import io.camunda.migrator.config.mybatis.C8Configuration;
 import io.camunda.migrator.config.mybatis.MigratorConfiguration;
 import io.camunda.migrator.config.property.DataSourceProperties;
+import io.camunda.migrator.config.property.HistoryProperties;
+import io.camunda.migrator.config.property.MappingPoolProperties;
 import io.camunda.migrator.config.property.MigratorProperties;
+import io.camunda.migrator.config.property.TenantLaneProperties;
 import io.camunda.migrator.converter.ConverterConfiguration;
 import io.camunda.migrator.impl.clients.C7Client;
 import io.camunda.migrator.impl.clients.C8Client;
 import io.camunda.migrator.impl.clients.DbClient;
+import io.camunda.migrator.impl.persistence.BulkLoadWriter;
+import io.camunda.migrator.impl.concurrent.C7ReadLimiter;
+import io.camunda.migrator.impl.concurrent.TenantLaneRunner;
+import io.camunda.migrator.impl.concurrent.RuntimeShardCoordinator;
+import io.camunda.migrator.impl.concurrent.WorkLeaseCoordinator;
+import io.camunda.migrator.impl.persistence.DeferredIndexBuilder;
 import io.camunda.migrator.impl.VariableService;
 import io.camunda.migrator.impl.RuntimeValidator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.Optional;
 import javax.sql.DataSource;
 import liquibase.integration.spring.SpringLiquibase;
@@ -56,10 +71,19 @@ import org.springframework.transaction.PlatformTransactionManager;
     ConverterConfiguration.class,
     InterceptorConfiguration.class,
     AutoDeployer.class,
+    KeyGenerator.class,
+    RetryPolicy.class,
+    C7ReadLimiter.class,
     C7Client.class,
     C8Client.class,
     DbClient.class,
+    BulkLoadWriter.class,
+    DeferredIndexBuilder.class,
+    WorkLeaseCoordinator.class,
+    RuntimeShardCoordinator.class,
+    TenantLaneRunner.class,
     VariableService.class,
+    ActiveActivityCache.class,
     RuntimeValidator.class,
     HistoryMigrator.class,
     RuntimeMigrator.class,
@@ -69,6 +93,11 @@ import org.springframework.transaction.PlatformTransactionManager;
 @EnableConfigurationProperties(MigratorProperties.class)
 public class MigratorAutoConfiguration {
 
+  /**
+   * Connections of each pool left for the main thread and background work like lease heartbeats.
+   */
+  public static final int POOL_HEADROOM = 2;
+
   private final MigratorProperties migratorProperties;
 
   public MigratorAutoConfiguration(MigratorProperties migratorProperties) {
@@ -82,23 +111,38 @@ public class MigratorAutoConfiguration {
     return liquibase;
   }
 
+  @Bean
+  @ConditionalOnMissingBean(MeterRegistry.class)
+  public MeterRegistry meterRegistry() {
+    return new SimpleMeterRegistry();
+  }
+
+  /**
+   * Creates one connection pool for reading from C7 and one for writing to C8. With the mapping pool enabled, the
+   * migrator tables get a third pool on the same database, so quick mapping lookups don't wait behind long-running page
+   * queries or batches at the cost of the additional connections. Pools without a configured maximum size
+   * get one connection per history worker. Their metrics, like the time waited for a connection, are recorded in the
+   * meter registry tagged with the pool name.
+   */
   @Configuration
   static class DataSourcesConfiguration {
 
+    protected static final int DEFAULT_POOL_SIZE = 10;
+
     protected final MigratorProperties migratorProperties;
 
-    DataSourcesConfiguration(MigratorProperties migratorProperties) {
+    protected final MeterRegistry meterRegistry;
+
+    DataSourcesConfiguration(MigratorProperties migratorProperties, MeterRegistry meterRegistry) {
       this.migratorProperties = migratorProperties;
+      this.meterRegistry = meterRegistry;
     }
 
     @Bean
     @Primary
     public DataSource c7DataSource() {
       DataSourceProperties props = migratorProperties.getC7().getDataSource();
-      if (props.getJdbcUrl() == null) {
-        return createDefaultDataSource(props);
-      }
-      return new HikariDataSource(props);
+      return createDataSource(props, "c7", props.getMaximumPoolSize());
     }
 
     @Bean
@@ -110,30 +154,62 @@ public class MigratorAutoConfiguration {
     @Conditional(C8DataSourceConfigured.class)
     public DataSource c8DataSource() {
       DataSourceProperties props = migratorProperties.getC8().getDataSource();
-      if (props.getJdbcUrl() == null) {
-        return createDefaultDataSource(props);
-      }
-      return new HikariDataSource(props);
+      return createDataSource(props, "c8", props.getMaximumPoolSize());
     }
 
     @Bean
     public DataSource migratorDataSource(@Qualifier("c7DataSource") DataSource c7DataSource,
                                          @Qualifier("c8DataSource") Optional<DataSource> c8DataSource) {
+      MappingPoolProperties mappingPool = migratorProperties.getMappingPool();
       if (C7.equals(migratorProperties.getDataSource())) {
-        return c7DataSource;
+        return mappingPool.isEnabled()
+            ? createMappingDataSource(migratorProperties.getC7().getDataSource(), mappingPool)
+            : c7DataSource;
 
       } else if (C8.equals(migratorProperties.getDataSource())) {
         if (c8DataSource.isPresent()) {
-          return c8DataSource.get();
+          return mappingPool.isEnabled()
+              ? createMappingDataSource(migratorProperties.getC8().getDataSource(), mappingPool)
+              : c8DataSource.get();
         }
       }
 
       return null;
     }
 
-    protected HikariDataSource createDefaultDataSource(DataSourceProperties props) {
-      props.setJdbcUrl("jdbc:h2:mem:migrator");
-      return new HikariDataSource(props);
+    protected HikariDataSource createMappingDataSource(DataSourceProperties props, MappingPoolProperties mappingPool) {
+      HikariDataSource dataSource = createDataSource(props, "migrator", mappingPool.getMaximumPoolSize());
+      dataSource.setConnectionTimeout(mappingPool.getConnectionTimeout().toMillis());
+      return dataSource;
+    }
+
+    protected HikariDataSource createDataSource(DataSourceProperties props, String poolName, int maximumPoolSize) {
+      if (props.getJdbcUrl() == null) {
+        props.setJdbcUrl("jdbc:h2:mem:migrator");
+      }
+
+      HikariConfig config = new HikariConfig();
+      props.copyStateTo(config);
+      if (config.getPoolName() == null) {
+        config.setPoolName(poolName);
+      } else {
+        config.setPoolName(config.getPoolName() + "-" + poolName);
+      }
+      config.setMaximumPoolSize(maximumPoolSize > 0 ? maximumPoolSize : getDerivedPoolSize());
+      config.setMetricRegistry(meterRegistry);
+      return new HikariDataSource(config);
+    }
+
+    /**
+     * Every history worker holds a connection of each pool while it migrates, the headroom is left for the main thread
+     * and background work like lease heartbeats.
+     */
+    protected int getDerivedPoolSize() {
+      HistoryProperties history = migratorProperties.getHistory();
+      TenantLaneProperties tenantLanes = migratorProperties.getTenantLanes();
+      int lanes = tenantLanes.isEnabled() ? Math.max(1, tenantLanes.getConcurrency()) : 1;
+      int workers = Math.max(1, history.getParallelism()) * Math.max(1, history.getWorkers()) * lanes;
+      return Math.max(DEFAULT_POOL_SIZE, workers + POOL_HEADROOM);
     }
   }
 
@@ -71,7 +71,6 @@ import io.camunda.migrator.config.property.MigratorProperties;
 import io.camunda.migrator.exception.MigratorException;
 import io.camunda.migrator.impl.logging.ConfigurationLogs;
 import io.micrometer.core.instrument.MeterRegistry;
-import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.Properties;
 import javax.sql.DataSource;
 import liquibase.integration.spring.MultiTenantSpringLiquibase;
@@ -262,11 +261,6 @@ public class C8Configuration extends AbstractConfiguration {
     return createMapperFactoryBean(c8SqlSessionFactory, CorrelatedMessageSubscriptionMapper.class);
   }
 
-  @Bean
-  public MeterRegistry meterRegistry() {
-    return new SimpleMeterRegistry();
-  }
-
   @Bean
   public RdbmsWriterMetrics rdbmsWriterMetrics(MeterRegistry meterRegistry) {
     return new RdbmsWriterMetrics(meterRegistry);
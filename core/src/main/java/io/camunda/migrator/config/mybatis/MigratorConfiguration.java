@@ -15,6 +15,9 @@ import java.util.Properties;
 import javax.sql.DataSource;
 
 import io.camunda.migrator.impl.persistence.IdKeyMapper;
+import io.camunda.migrator.impl.persistence.LeaseMapper;
+import io.camunda.migrator.impl.persistence.SettingMapper;
+import io.camunda.migrator.impl.persistence.WatermarkMapper;
 import liquibase.integration.spring.MultiTenantSpringLiquibase;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.mybatis.spring.mapper.MapperFactoryBean;
@@ -52,6 +55,21 @@ public class MigratorConfiguration extends AbstractConfiguration {
     return createMapperFactoryBean(migratorSqlSessionFactory, IdKeyMapper.class);
   }
 
+  @Bean
+  public MapperFactoryBean<LeaseMapper> leaseMapper(@Qualifier("migratorSqlSessionFactory") SqlSessionFactory migratorSqlSessionFactory) {
+    return createMapperFactoryBean(migratorSqlSessionFactory, LeaseMapper.class);
+  }
+
+  @Bean
+  public MapperFactoryBean<WatermarkMapper> watermarkMapper(@Qualifier("migratorSqlSessionFactory") SqlSessionFactory migratorSqlSessionFactory) {
+    return createMapperFactoryBean(migratorSqlSessionFactory, WatermarkMapper.class);
+  }
+
+  @Bean
+  public MapperFactoryBean<SettingMapper> settingMapper(@Qualifier("migratorSqlSessionFactory") SqlSessionFactory migratorSqlSessionFactory) {
+    return createMapperFactoryBean(migratorSqlSessionFactory, SettingMapper.class);
+  }
+
   public String getC7OrC8DbVendor() {
     if (C7.equals(configProperties.getDataSource())) {
       if (configProperties.getC7() != null && configProperties.getC7().getDataSource() != null) {
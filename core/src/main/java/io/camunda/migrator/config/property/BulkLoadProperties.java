@@ -0,0 +1,44 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.config.property;
+
+import org.springframework.util.unit.DataSize;
+
+public class BulkLoadProperties {
+
+  public static final String DEFAULT_DIRECTORY = "bulk-load";
+  public static final DataSize DEFAULT_MAX_FILE_SIZE = DataSize.ofMegabytes(512);
+
+  protected boolean enabled = false;
+  protected String directory = DEFAULT_DIRECTORY;
+  protected DataSize maxFileSize = DEFAULT_MAX_FILE_SIZE;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public String getDirectory() {
+    return directory;
+  }
+
+  public void setDirectory(String directory) {
+    this.directory = directory;
+  }
+
+  public DataSize getMaxFileSize() {
+    return maxFileSize;
+  }
+
+  public void setMaxFileSize(DataSize maxFileSize) {
+    this.maxFileSize = maxFileSize;
+  }
+}
@@ -10,6 +10,7 @@ package io.camunda.migrator.config.property;
 public class C7Properties {
 
   protected DataSourceProperties dataSource;
+  protected ReadLimitProperties readLimit = new ReadLimitProperties();
 
   public DataSourceProperties getDataSource() {
     return dataSource;
@@ -18,4 +19,12 @@ public class C7Properties {
   public void setDataSource(DataSourceProperties dataSource) {
     this.dataSource = dataSource;
   }
+
+  public ReadLimitProperties getReadLimit() {
+    return readLimit;
+  }
+
+  public void setReadLimit(ReadLimitProperties readLimit) {
+    this.readLimit = readLimit;
+  }
 }
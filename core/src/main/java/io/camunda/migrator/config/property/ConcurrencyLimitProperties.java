@@ -0,0 +1,88 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.config.property;
+
+import java.time.Duration;
+
+public class ConcurrencyLimitProperties {
+
+  public static final Duration DEFAULT_BACKPRESSURE_DELAY = Duration.ofMillis(100);
+
+  protected boolean enabled = false;
+  protected int initialLimit = 16;
+  protected int minLimit = 1;
+  protected int maxLimit = 256;
+  protected double backoffRatio = 0.5;
+  protected double latencyTolerance = 2.0;
+  protected int backpressureRetries = 10;
+  protected Duration backpressureDelay = DEFAULT_BACKPRESSURE_DELAY;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public int getInitialLimit() {
+    return initialLimit;
+  }
+
+  public void setInitialLimit(int initialLimit) {
+    this.initialLimit = initialLimit;
+  }
+
+  public int getMinLimit() {
+    return minLimit;
+  }
+
+  public void setMinLimit(int minLimit) {
+    this.minLimit = minLimit;
+  }
+
+  public int getMaxLimit() {
+    return maxLimit;
+  }
+
+  public void setMaxLimit(int maxLimit) {
+    this.maxLimit = maxLimit;
+  }
+
+  public double getBackoffRatio() {
+    return backoffRatio;
+  }
+
+  public void setBackoffRatio(double backoffRatio) {
+    this.backoffRatio = backoffRatio;
+  }
+
+  public double getLatencyTolerance() {
+    return latencyTolerance;
+  }
+
+  public void setLatencyTolerance(double latencyTolerance) {
+    this.latencyTolerance = latencyTolerance;
+  }
+
+  public int getBackpressureRetries() {
+    return backpressureRetries;
+  }
+
+  public void setBackpressureRetries(int backpressureRetries) {
+    this.backpressureRetries = backpressureRetries;
+  }
+
+  public Duration getBackpressureDelay() {
+    return backpressureDelay;
+  }
+
+  public void setBackpressureDelay(Duration backpressureDelay) {
+    this.backpressureDelay = backpressureDelay;
+  }
+}
@@ -0,0 +1,25 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.config.property;
+
+import java.time.Duration;
+
+public class CoordinationProperties extends LeaseProperties {
+
+  public static final Duration DEFAULT_SLICE_DURATION = Duration.ofDays(1);
+
+  protected Duration sliceDuration = DEFAULT_SLICE_DURATION;
+
+  public Duration getSliceDuration() {
+    return sliceDuration;
+  }
+
+  public void setSliceDuration(Duration sliceDuration) {
+    this.sliceDuration = sliceDuration;
+  }
+}
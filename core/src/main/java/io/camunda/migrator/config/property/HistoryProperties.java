@@ -0,0 +1,128 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.config.property;
+
+public class HistoryProperties {
+
+  public static final String DEFAULT_DEFERRED_INDEXES_FILE = "deferred-indexes.sql";
+
+  public enum Unit {
+    /**
+     * All entities of one type are migrated before the next type.
+     */
+    TYPE,
+    /**
+     * Each process instance is migrated together with its flow nodes, user tasks, variables, incidents and decision
+     * instances, and its C8 rows are written in one batch.
+     */
+    PROCESS_INSTANCE
+  }
+
+  public enum KeyStrategy {
+    /**
+     * C8 keys are generated randomly. Dependent entities look up the key of their parent in the mapping table.
+     */
+    RANDOM,
+    /**
+     * C8 keys are derived from a stable hash of the entity type and the C7 id, so dependent entities can compute the
+     * key of their parent without a lookup.
+     */
+    DETERMINISTIC
+  }
+
+  protected KeyStrategy keyStrategy = KeyStrategy.RANDOM;
+  protected Unit unit = Unit.TYPE;
+  protected int parallelism = 1;
+  protected int workers = 1;
+  protected BulkLoadProperties bulkLoad = new BulkLoadProperties();
+  protected boolean deferIndexes = false;
+  protected String deferredIndexesFile = DEFAULT_DEFERRED_INDEXES_FILE;
+  protected boolean validateJson = false;
+  protected LargeVariableProperties largeVariables = new LargeVariableProperties();
+  protected CoordinationProperties coordination = new CoordinationProperties();
+
+  public KeyStrategy getKeyStrategy() {
+    return keyStrategy;
+  }
+
+  public void setKeyStrategy(KeyStrategy keyStrategy) {
+    this.keyStrategy = keyStrategy;
+  }
+
+  public Unit getUnit() {
+    return unit;
+  }
+
+  public void setUnit(Unit unit) {
+    this.unit = unit;
+  }
+
+  public int getParallelism() {
+    return parallelism;
+  }
+
+  public void setParallelism(int parallelism) {
+    this.parallelism = parallelism;
+  }
+
+  public int getWorkers() {
+    return workers;
+  }
+
+  public void setWorkers(int workers) {
+    this.workers = workers;
+  }
+
+  public BulkLoadProperties getBulkLoad() {
+    return bulkLoad;
+  }
+
+  public void setBulkLoad(BulkLoadProperties bulkLoad) {
+    this.bulkLoad = bulkLoad;
+  }
+
+  public boolean isDeferIndexes() {
+    return deferIndexes;
+  }
+
+  public void setDeferIndexes(boolean deferIndexes) {
+    this.deferIndexes = deferIndexes;
+  }
+
+  public String getDeferredIndexesFile() {
+    return deferredIndexesFile;
+  }
+
+  public void setDeferredIndexesFile(String deferredIndexesFile) {
+    this.deferredIndexesFile = deferredIndexesFile;
+  }
+
+  public boolean isValidateJson() {
+    return validateJson;
+  }
+
+  public void setValidateJson(boolean validateJson) {
+    this.validateJson = validateJson;
+  }
+
+  public LargeVariableProperties getLargeVariables() {
+    return largeVariables;
+  }
+
+  public void setLargeVariables(LargeVariableProperties largeVariables) {
+    this.largeVariables = largeVariables;
+  }
+
+  public CoordinationProperties getCoordination() {
+    return coordination;
+  }
+
+  public void setCoordination(CoordinationProperties coordination) {
+    this.coordination = coordination;
+  }
+}
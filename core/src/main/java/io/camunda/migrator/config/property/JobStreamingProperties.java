@@ -0,0 +1,53 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.config.property;
+
+import java.time.Duration;
+
+public class JobStreamingProperties {
+
+  public static final int DEFAULT_CONCURRENCY = 32;
+  public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofSeconds(5);
+
+  protected boolean enabled = false;
+  protected boolean interleaved = false;
+  protected int concurrency = DEFAULT_CONCURRENCY;
+  protected Duration idleTimeout = DEFAULT_IDLE_TIMEOUT;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public boolean isInterleaved() {
+    return interleaved;
+  }
+
+  public void setInterleaved(boolean interleaved) {
+    this.interleaved = interleaved;
+  }
+
+  public int getConcurrency() {
+    return concurrency;
+  }
+
+  public void setConcurrency(int concurrency) {
+    this.concurrency = concurrency;
+  }
+
+  public Duration getIdleTimeout() {
+    return idleTimeout;
+  }
+
+  public void setIdleTimeout(Duration idleTimeout) {
+    this.idleTimeout = idleTimeout;
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.config.property;
+
+import org.springframework.util.unit.DataSize;
+
+public class LargeVariableProperties {
+
+  public static final String DEFAULT_DIRECTORY = "large-variables";
+
+  public enum Policy {
+    /**
+     * The variable is not migrated and marked as skipped.
+     */
+    SKIP,
+    /**
+     * Only the first {@code max-size} bytes of byte array and file variables are migrated, followed by
+     * {@link #TRUNCATION_MARKER}. Serialized objects can't be converted partially and are skipped.
+     */
+    TRUNCATE,
+    /**
+     * The value is written into a file and the variable is migrated with the location of that file as value.
+     */
+    EXTERNALIZE
+  }
+
+  /**
+   * Appended to truncated values. Not part of the Base64 alphabet, so truncated binary values can be recognized.
+   */
+  public static final String TRUNCATION_MARKER = "[truncated]";
+
+  // values are not capped unless a maximum size is configured
+  protected DataSize maxSize;
+  protected Policy policy = Policy.SKIP;
+  protected String directory = DEFAULT_DIRECTORY;
+  protected String baseUri;
+
+  public DataSize getMaxSize() {
+    return maxSize;
+  }
+
+  public void setMaxSize(DataSize maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  public Policy getPolicy() {
+    return policy;
+  }
+
+  public void setPolicy(Policy policy) {
+    this.policy = policy;
+  }
+
+  public String getDirectory() {
+    return directory;
+  }
+
+  public void setDirectory(String directory) {
+    this.directory = directory;
+  }
+
+  public String getBaseUri() {
+    return baseUri;
+  }
+
+  public void setBaseUri(String baseUri) {
+    this.baseUri = baseUri;
+  }
+}
@@ -30,13 +30,23 @@ public class MigratorProperties {
   protected String jobType = DEFAULT_JOB_TYPE;
   protected String validationJobType;
   protected Set<String> tenantIds;
+  protected TenantLaneProperties tenantLanes = new TenantLaneProperties();
   protected boolean saveSkipReason = false;
+  protected ConcurrencyLimitProperties concurrencyLimit = new ConcurrencyLimitProperties();
+  protected RetryProperties retry = new RetryProperties();
+  protected MappingPoolProperties mappingPool = new MappingPoolProperties();
+  protected RuntimePipelineProperties runtimePipeline = new RuntimePipelineProperties();
+  protected RuntimeShardingProperties runtimeSharding = new RuntimeShardingProperties();
+  protected ValidationCacheProperties validationCache = new ValidationCacheProperties();
+  protected JobStreamingProperties jobStreaming = new JobStreamingProperties();
+  protected VirtualThreadProperties virtualThreads = new VirtualThreadProperties();
 
   protected Boolean autoDdl;
   protected String tablePrefix;
 
   protected C7Properties c7;
   protected C8Properties c8;
+  protected HistoryProperties history = new HistoryProperties();
 
   protected List<InterceptorProperty> interceptors;
 
@@ -64,6 +74,14 @@ public class MigratorProperties {
     this.c8 = c8;
   }
 
+  public HistoryProperties getHistory() {
+    return history;
+  }
+
+  public void setHistory(HistoryProperties history) {
+    this.history = history;
+  }
+
   public Boolean getAutoDdl() {
     return autoDdl;
   }
@@ -112,6 +130,78 @@ public class MigratorProperties {
     this.tenantIds = tenantIds;
   }
 
+  public TenantLaneProperties getTenantLanes() {
+    return tenantLanes;
+  }
+
+  public void setTenantLanes(TenantLaneProperties tenantLanes) {
+    this.tenantLanes = tenantLanes;
+  }
+
+  public ConcurrencyLimitProperties getConcurrencyLimit() {
+    return concurrencyLimit;
+  }
+
+  public void setConcurrencyLimit(ConcurrencyLimitProperties concurrencyLimit) {
+    this.concurrencyLimit = concurrencyLimit;
+  }
+
+  public RetryProperties getRetry() {
+    return retry;
+  }
+
+  public void setRetry(RetryProperties retry) {
+    this.retry = retry;
+  }
+
+  public MappingPoolProperties getMappingPool() {
+    return mappingPool;
+  }
+
+  public void setMappingPool(MappingPoolProperties mappingPool) {
+    this.mappingPool = mappingPool;
+  }
+
+  public RuntimePipelineProperties getRuntimePipeline() {
+    return runtimePipeline;
+  }
+
+  public void setRuntimePipeline(RuntimePipelineProperties runtimePipeline) {
+    this.runtimePipeline = runtimePipeline;
+  }
+
+  public RuntimeShardingProperties getRuntimeSharding() {
+    return runtimeSharding;
+  }
+
+  public void setRuntimeSharding(RuntimeShardingProperties runtimeSharding) {
+    this.runtimeSharding = runtimeSharding;
+  }
+
+  public ValidationCacheProperties getValidationCache() {
+    return validationCache;
+  }
+
+  public void setValidationCache(ValidationCacheProperties validationCache) {
+    this.validationCache = validationCache;
+  }
+
+  public JobStreamingProperties getJobStreaming() {
+    return jobStreaming;
+  }
+
+  public void setJobStreaming(JobStreamingProperties jobStreaming) {
+    this.jobStreaming = jobStreaming;
+  }
+
+  public VirtualThreadProperties getVirtualThreads() {
+    return virtualThreads;
+  }
+
+  public void setVirtualThreads(VirtualThreadProperties virtualThreads) {
+    this.virtualThreads = virtualThreads;
+  }
+
   public boolean getSaveSkipReason() {
     return saveSkipReason;
   }
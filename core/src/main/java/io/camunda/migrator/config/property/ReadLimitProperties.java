@@ -0,0 +1,39 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.config.property;
+
+public class ReadLimitProperties {
+
+  protected double queriesPerSecond = 0;
+  protected double rowsPerSecond = 0;
+  protected int maxConcurrentQueries = 0;
+
+  public double getQueriesPerSecond() {
+    return queriesPerSecond;
+  }
+
+  public void setQueriesPerSecond(double queriesPerSecond) {
+    this.queriesPerSecond = queriesPerSecond;
+  }
+
+  public double getRowsPerSecond() {
+    return rowsPerSecond;
+  }
+
+  public void setRowsPerSecond(double rowsPerSecond) {
+    this.rowsPerSecond = rowsPerSecond;
+  }
+
+  public int getMaxConcurrentQueries() {
+    return maxConcurrentQueries;
+  }
+
+  public void setMaxConcurrentQueries(int maxConcurrentQueries) {
+    this.maxConcurrentQueries = maxConcurrentQueries;
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.config.property;
+
+import java.time.Duration;
+import java.util.List;
+
+public class RetryProperties {
+
+  public static final Duration DEFAULT_INITIAL_DELAY = Duration.ofMillis(500);
+  public static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(30);
+  public static final Duration DEFAULT_BUDGET = Duration.ofMinutes(2);
+
+  protected boolean enabled = false;
+  protected int maxAttempts = 5;
+  protected Duration initialDelay = DEFAULT_INITIAL_DELAY;
+  protected Duration maxDelay = DEFAULT_MAX_DELAY;
+  protected double multiplier = 2.0;
+  protected double jitter = 0.5;
+  protected Duration budget = DEFAULT_BUDGET;
+  protected List<String> transientSqlStates = List.of("08", "40", "53", "57");
+  protected List<String> transientGrpcStatuses = List.of("UNAVAILABLE", "RESOURCE_EXHAUSTED");
+  protected List<Integer> transientHttpStatuses = List.of(429, 502, 503, 504);
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public int getMaxAttempts() {
+    return maxAttempts;
+  }
+
+  public void setMaxAttempts(int maxAttempts) {
+    this.maxAttempts = maxAttempts;
+  }
+
+  public Duration getInitialDelay() {
+    return initialDelay;
+  }
+
+  public void setInitialDelay(Duration initialDelay) {
+    this.initialDelay = initialDelay;
+  }
+
+  public Duration getMaxDelay() {
+    return maxDelay;
+  }
+
+  public void setMaxDelay(Duration maxDelay) {
+    this.maxDelay = maxDelay;
+  }
+
+  public double getMultiplier() {
+    return multiplier;
+  }
+
+  public void setMultiplier(double multiplier) {
+    this.multiplier = multiplier;
+  }
+
+  public double getJitter() {
+    return jitter;
+  }
+
+  public void setJitter(double jitter) {
+    this.jitter = jitter;
+  }
+
+  public Duration getBudget() {
+    return budget;
+  }
+
+  public void setBudget(Duration budget) {
+    this.budget = budget;
+  }
+
+  public List<String> getTransientSqlStates() {
+    return transientSqlStates;
+  }
+
+  public void setTransientSqlStates(List<String> transientSqlStates) {
+    this.transientSqlStates = transientSqlStates;
+  }
+
+  public List<String> getTransientGrpcStatuses() {
+    return transientGrpcStatuses;
+  }
+
+  public void setTransientGrpcStatuses(List<String> transientGrpcStatuses) {
+    this.transientGrpcStatuses = transientGrpcStatuses;
+  }
+
+  public List<Integer> getTransientHttpStatuses() {
+    return transientHttpStatuses;
+  }
+
+  public void setTransientHttpStatuses(List<Integer> transientHttpStatuses) {
+    this.transientHttpStatuses = transientHttpStatuses;
+  }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.config.property;
+
+public class RuntimePipelineProperties {
+
+  public static final int DEFAULT_VALIDATION_WINDOW = 16;
+  public static final int DEFAULT_CREATION_WINDOW = 64;
+
+  protected boolean enabled = false;
+  protected int validationWindow = DEFAULT_VALIDATION_WINDOW;
+  protected int creationWindow = DEFAULT_CREATION_WINDOW;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public int getValidationWindow() {
+    return validationWindow;
+  }
+
+  public void setValidationWindow(int validationWindow) {
+    this.validationWindow = validationWindow;
+  }
+
+  public int getCreationWindow() {
+    return creationWindow;
+  }
+
+  public void setCreationWindow(int creationWindow) {
+    this.creationWindow = creationWindow;
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.config.property;
+
+import java.time.Duration;
+import org.springframework.util.unit.DataSize;
+
+public class ValidationCacheProperties {
+
+  public static final Duration DEFAULT_DEFINITION_TTL = Duration.ofMinutes(1);
+  public static final int DEFAULT_ACTIVITY_TREE_MAX_SIZE = 10_000;
+  public static final DataSize DEFAULT_ACTIVITY_TREE_MAX_MEMORY = DataSize.ofMegabytes(32);
+  public static final Duration DEFAULT_ACTIVITY_TREE_MAX_AGE = Duration.ofMinutes(10);
+
+  protected boolean enabled = true;
+  protected Duration definitionTtl = DEFAULT_DEFINITION_TTL;
+  protected int activityTreeMaxSize = DEFAULT_ACTIVITY_TREE_MAX_SIZE;
+  protected DataSize activityTreeMaxMemory = DEFAULT_ACTIVITY_TREE_MAX_MEMORY;
+  protected Duration activityTreeMaxAge = DEFAULT_ACTIVITY_TREE_MAX_AGE;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public Duration getDefinitionTtl() {
+    return definitionTtl;
+  }
+
+  public void setDefinitionTtl(Duration definitionTtl) {
+    this.definitionTtl = definitionTtl;
+  }
+
+  public int getActivityTreeMaxSize() {
+    return activityTreeMaxSize;
+  }
+
+  public void setActivityTreeMaxSize(int activityTreeMaxSize) {
+    this.activityTreeMaxSize = activityTreeMaxSize;
+  }
+
+  public DataSize getActivityTreeMaxMemory() {
+    return activityTreeMaxMemory;
+  }
+
+  public void setActivityTreeMaxMemory(DataSize activityTreeMaxMemory) {
+    this.activityTreeMaxMemory = activityTreeMaxMemory;
+  }
+
+  public Duration getActivityTreeMaxAge() {
+    return activityTreeMaxAge;
+  }
+
+  public void setActivityTreeMaxAge(Duration activityTreeMaxAge) {
+    this.activityTreeMaxAge = activityTreeMaxAge;
+  }
+}
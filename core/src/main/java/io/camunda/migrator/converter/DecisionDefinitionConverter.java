@@ -7,17 +7,22 @@
  */
 package io.camunda.migrator.converter;
 
-import static io.camunda.migrator.impl.util.ConverterUtil.getNextKey;
+import static io.camunda.migrator.impl.persistence.IdKeyMapper.TYPE.HISTORY_DECISION_DEFINITION;
 import static io.camunda.migrator.impl.util.ConverterUtil.getTenantId;
 
 import io.camunda.db.rdbms.write.domain.DecisionDefinitionDbModel;
+import io.camunda.migrator.impl.KeyGenerator;
 import org.camunda.bpm.engine.repository.DecisionDefinition;
+import org.springframework.beans.factory.annotation.Autowired;
 
 public class DecisionDefinitionConverter {
 
+  @Autowired
+  protected KeyGenerator keyGenerator;
+
   public DecisionDefinitionDbModel apply(DecisionDefinition c7DecisionDefinition, Long decisionRequirementsKey) {
 
-    return new DecisionDefinitionDbModel.DecisionDefinitionDbModelBuilder().decisionDefinitionKey(getNextKey())
+    return new DecisionDefinitionDbModel.DecisionDefinitionDbModelBuilder().decisionDefinitionKey(keyGenerator.nextKey(HISTORY_DECISION_DEFINITION, c7DecisionDefinition.getId()))
         .name(c7DecisionDefinition.getName())
         .decisionDefinitionId(c7DecisionDefinition.getKey())
         .tenantId(getTenantId(c7DecisionDefinition.getTenantId()))
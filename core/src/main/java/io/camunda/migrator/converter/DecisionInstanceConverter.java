@@ -9,19 +9,24 @@
 package io.camunda.migrator.converter;
 
 import static io.camunda.migrator.constants.MigratorConstants.C7_HISTORY_PARTITION_ID;
+import static io.camunda.migrator.impl.persistence.IdKeyMapper.TYPE.HISTORY_DECISION_INSTANCE;
 import static io.camunda.migrator.impl.util.ConverterUtil.convertDate;
-import static io.camunda.migrator.impl.util.ConverterUtil.getNextKey;
 import static io.camunda.migrator.impl.util.ConverterUtil.getTenantId;
 
 import io.camunda.db.rdbms.write.domain.DecisionInstanceDbModel;
+import io.camunda.migrator.impl.KeyGenerator;
 import io.camunda.search.entities.DecisionInstanceEntity;
 import java.util.List;
 import org.camunda.bpm.engine.history.HistoricDecisionInputInstance;
 import org.camunda.bpm.engine.history.HistoricDecisionInstance;
 import org.camunda.bpm.engine.history.HistoricDecisionOutputInstance;
+import org.springframework.beans.factory.annotation.Autowired;
 
 public class DecisionInstanceConverter {
 
+  @Autowired
+  protected KeyGenerator keyGenerator;
+
   public DecisionInstanceDbModel apply(HistoricDecisionInstance decisionInstance,
                                        Long decisionDefinitionKey,
                                        Long processDefinitionKey,
@@ -30,7 +35,7 @@ public class DecisionInstanceConverter {
                                        Long rootDecisionDefinitionKey,
                                        Long flowNodeInstanceKey,
                                        String flowNodeId) {
-    Long decisionInstanceKey = getNextKey();
+    Long decisionInstanceKey = keyGenerator.nextKey(HISTORY_DECISION_INSTANCE, decisionInstance.getId());
     return new DecisionInstanceDbModel.Builder()
         .partitionId(C7_HISTORY_PARTITION_ID)
         .decisionInstanceId(String.format("%d-%s", decisionInstanceKey, decisionInstance.getId()))
@@ -7,17 +7,22 @@
  */
 package io.camunda.migrator.converter;
 
-import static io.camunda.migrator.impl.util.ConverterUtil.getNextKey;
+import static io.camunda.migrator.impl.persistence.IdKeyMapper.TYPE.HISTORY_DECISION_REQUIREMENT;
 import static io.camunda.migrator.impl.util.ConverterUtil.getTenantId;
 
 import io.camunda.db.rdbms.write.domain.DecisionRequirementsDbModel;
+import io.camunda.migrator.impl.KeyGenerator;
 import org.camunda.bpm.engine.repository.DecisionRequirementsDefinition;
+import org.springframework.beans.factory.annotation.Autowired;
 
 public class DecisionRequirementsDefinitionConverter {
 
+  @Autowired
+  protected KeyGenerator keyGenerator;
+
   public DecisionRequirementsDbModel apply(DecisionRequirementsDefinition c7DecisionRequirements) {
     return new DecisionRequirementsDbModel.Builder()
-        .decisionRequirementsKey(getNextKey())
+        .decisionRequirementsKey(keyGenerator.nextKey(HISTORY_DECISION_REQUIREMENT, c7DecisionRequirements.getId()))
         .decisionRequirementsId(c7DecisionRequirements.getKey())
         .name(c7DecisionRequirements.getName())
         .resourceName(c7DecisionRequirements.getResourceName())
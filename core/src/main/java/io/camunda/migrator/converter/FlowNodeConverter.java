@@ -8,20 +8,25 @@
 package io.camunda.migrator.converter;
 
 import static io.camunda.db.rdbms.write.domain.FlowNodeInstanceDbModel.FlowNodeInstanceDbModelBuilder;
+import static io.camunda.migrator.impl.persistence.IdKeyMapper.TYPE.HISTORY_FLOW_NODE;
 import static io.camunda.migrator.impl.util.ConverterUtil.convertDate;
-import static io.camunda.migrator.impl.util.ConverterUtil.getNextKey;
 import static io.camunda.search.entities.FlowNodeInstanceEntity.FlowNodeType;
 
 import io.camunda.db.rdbms.write.domain.FlowNodeInstanceDbModel;
+import io.camunda.migrator.impl.KeyGenerator;
 import org.camunda.bpm.engine.ActivityTypes;
 import org.camunda.bpm.engine.history.HistoricActivityInstance;
+import org.springframework.beans.factory.annotation.Autowired;
 
 public class FlowNodeConverter {
 
+  @Autowired
+  protected KeyGenerator keyGenerator;
+
   public FlowNodeInstanceDbModel apply(HistoricActivityInstance flowNode,
                                        Long processDefinitionKey,
                                        Long processInstanceKey) {
-    return new FlowNodeInstanceDbModelBuilder().flowNodeInstanceKey(getNextKey())
+    return new FlowNodeInstanceDbModelBuilder().flowNodeInstanceKey(keyGenerator.nextKey(HISTORY_FLOW_NODE, flowNode.getId()))
         .flowNodeId(flowNode.getActivityId())
         .processInstanceKey(processInstanceKey)
         .processDefinitionKey(processDefinitionKey)
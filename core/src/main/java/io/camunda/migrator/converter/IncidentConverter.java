@@ -8,21 +8,26 @@
 package io.camunda.migrator.converter;
 
 import io.camunda.db.rdbms.write.domain.IncidentDbModel;
+import io.camunda.migrator.impl.KeyGenerator;
 import io.camunda.search.entities.IncidentEntity;
 import org.camunda.bpm.engine.history.HistoricIncident;
+import org.springframework.beans.factory.annotation.Autowired;
 
+import static io.camunda.migrator.impl.persistence.IdKeyMapper.TYPE.HISTORY_INCIDENT;
 import static io.camunda.migrator.impl.util.ConverterUtil.convertDate;
-import static io.camunda.migrator.impl.util.ConverterUtil.getNextKey;
 
 public class IncidentConverter {
 
+  @Autowired
+  protected KeyGenerator keyGenerator;
+
   public IncidentDbModel apply(HistoricIncident historicIncident,
                                Long processDefinitionKey,
                                Long processInstanceKey,
                                Long jobDefinitionKey,
                                Long flowNodeInstanceKey) {
     return new IncidentDbModel.Builder()
-        .incidentKey(getNextKey())
+        .incidentKey(keyGenerator.nextKey(HISTORY_INCIDENT, historicIncident.getId()))
         .processDefinitionKey(processDefinitionKey)
         .processDefinitionId(historicIncident.getProcessDefinitionKey())
         .processInstanceKey(processInstanceKey)
@@ -8,6 +8,7 @@
 package io.camunda.migrator.converter;
 
 import io.camunda.db.rdbms.write.domain.ProcessDefinitionDbModel;
+import io.camunda.migrator.impl.KeyGenerator;
 import io.camunda.migrator.impl.clients.C7Client;
 import io.camunda.migrator.impl.logging.ProcessDefinitionConverterLogs;
 import org.camunda.bpm.engine.repository.ProcessDefinition;
@@ -18,17 +19,20 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 
-import static io.camunda.migrator.impl.util.ConverterUtil.getNextKey;
+import static io.camunda.migrator.impl.persistence.IdKeyMapper.TYPE.HISTORY_PROCESS_DEFINITION;
 
 public class ProcessDefinitionConverter {
 
   @Autowired
   private C7Client c7Client;
 
+  @Autowired
+  protected KeyGenerator keyGenerator;
+
   public ProcessDefinitionDbModel apply(ProcessDefinition c7ProcessDefinition) {
     String bpmnXml = getBpmnXmlAsString(c7ProcessDefinition);
 
-    return new ProcessDefinitionDbModel.ProcessDefinitionDbModelBuilder().processDefinitionKey(getNextKey())
+    return new ProcessDefinitionDbModel.ProcessDefinitionDbModelBuilder().processDefinitionKey(keyGenerator.nextKey(HISTORY_PROCESS_DEFINITION, c7ProcessDefinition.getId()))
         .processDefinitionId(c7ProcessDefinition.getKey())
         .resourceName(c7ProcessDefinition.getResourceName())
         .name(c7ProcessDefinition.getName())
@@ -9,12 +9,13 @@ package io.camunda.migrator.converter;
 
 import static io.camunda.db.rdbms.write.domain.ProcessInstanceDbModel.ProcessInstanceDbModelBuilder;
 import static io.camunda.migrator.constants.MigratorConstants.C7_HISTORY_PARTITION_ID;
+import static io.camunda.migrator.impl.persistence.IdKeyMapper.TYPE.HISTORY_PROCESS_INSTANCE;
 import static io.camunda.migrator.impl.util.ConverterUtil.convertDate;
-import static io.camunda.migrator.impl.util.ConverterUtil.getNextKey;
 import static io.camunda.search.entities.ProcessInstanceEntity.ProcessInstanceState;
 
 import io.camunda.db.rdbms.write.domain.ProcessInstanceDbModel;
 import io.camunda.migrator.constants.MigratorConstants;
+import io.camunda.migrator.impl.KeyGenerator;
 import io.camunda.migrator.impl.clients.C7Client;
 import io.camunda.migrator.impl.util.ConverterUtil;
 import org.camunda.bpm.engine.history.HistoricProcessInstance;
@@ -22,6 +23,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 
 public class ProcessInstanceConverter {
 
+  @Autowired
+  protected KeyGenerator keyGenerator;
+
   @Autowired
   protected C7Client c7Client;
 
@@ -29,7 +33,7 @@ public class ProcessInstanceConverter {
                                       Long processDefinitionKey,
                                       Long parentProcessInstanceKey) {
     return new ProcessInstanceDbModelBuilder()
-        .processInstanceKey(getNextKey())
+        .processInstanceKey(keyGenerator.nextKey(HISTORY_PROCESS_INSTANCE, processInstance.getId()))
         // Get key from runtime instance/model migration
         .processDefinitionKey(processDefinitionKey)
         .processDefinitionId(processInstance.getProcessDefinitionKey())
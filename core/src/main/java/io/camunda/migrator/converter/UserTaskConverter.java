@@ -9,24 +9,29 @@ package io.camunda.migrator.converter;
 
 import io.camunda.db.rdbms.write.domain.UserTaskDbModel;
 import io.camunda.migrator.constants.MigratorConstants;
+import io.camunda.migrator.impl.KeyGenerator;
 import io.camunda.migrator.impl.util.ConverterUtil;
-import io.camunda.search.entities.ProcessInstanceEntity;
 import org.camunda.bpm.engine.history.HistoricTaskInstance;
+import org.springframework.beans.factory.annotation.Autowired;
 
 import static io.camunda.migrator.constants.MigratorConstants.C7_HISTORY_PARTITION_ID;
+import static io.camunda.migrator.impl.persistence.IdKeyMapper.TYPE.HISTORY_USER_TASK;
 import static io.camunda.migrator.impl.util.ConverterUtil.convertDate;
-import static io.camunda.migrator.impl.util.ConverterUtil.getNextKey;
 import static io.camunda.migrator.impl.util.ConverterUtil.getTenantId;
 
 public class UserTaskConverter {
 
+  @Autowired
+  protected KeyGenerator keyGenerator;
+
   public UserTaskDbModel apply(HistoricTaskInstance historicTask,
                                Long processDefinitionKey,
-                               ProcessInstanceEntity processInstance,
+                               Long processInstanceKey,
+                               Integer processDefinitionVersion,
                                Long elementInstanceKey) {
 
     return new UserTaskDbModel.Builder()
-        .userTaskKey(getNextKey())
+        .userTaskKey(keyGenerator.nextKey(HISTORY_USER_TASK, historicTask.getId()))
         .elementId(historicTask.getTaskDefinitionKey())
         .processDefinitionId(historicTask.getProcessDefinitionKey())
         .creationDate(convertDate(historicTask.getStartTime()))
@@ -34,13 +39,13 @@ public class UserTaskConverter {
         .assignee(historicTask.getAssignee())
         .state(convertState(historicTask.getTaskState()))
         .processDefinitionKey(processDefinitionKey)
-        .processInstanceKey(processInstance.processInstanceKey())
+        .processInstanceKey(processInstanceKey)
         .tenantId(getTenantId(historicTask.getTenantId()))
         .elementInstanceKey(elementInstanceKey)
         .dueDate(convertDate(historicTask.getDueDate()))
         .followUpDate(convertDate(historicTask.getFollowUpDate()))
         .priority(historicTask.getPriority())
-        .processDefinitionVersion(processInstance.processDefinitionVersion())
+        .processDefinitionVersion(processDefinitionVersion)
         .formKey(null) // TODO  https://github.com/camunda/camunda-bpm-platform/issues/5347
         .candidateGroups(null) //TODO ?
         .candidateUsers(null) //TODO ?
@@ -7,30 +7,66 @@
  */
 package io.camunda.migrator.converter;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.camunda.db.rdbms.write.domain.VariableDbModel;
+import io.camunda.migrator.config.property.LargeVariableProperties;
+import io.camunda.migrator.config.property.LargeVariableProperties.Policy;
+import io.camunda.migrator.config.property.MigratorProperties;
 import io.camunda.migrator.constants.MigratorConstants;
+import io.camunda.migrator.exception.VariableSizeExceededException;
+import io.camunda.migrator.impl.KeyGenerator;
+import io.camunda.migrator.impl.clients.C7Client;
 import io.camunda.migrator.impl.logging.VariableConverterLogs;
 import io.camunda.migrator.impl.util.ConverterUtil;
+import io.camunda.migrator.impl.util.ExceptionUtils;
+import io.camunda.migrator.impl.util.StringOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Base64;
+import org.apache.commons.lang3.StringUtils;
 import org.camunda.bpm.engine.history.HistoricVariableInstance;
+import org.camunda.bpm.engine.impl.persistence.entity.HistoricVariableInstanceEntity;
+import org.camunda.bpm.engine.impl.variable.serializer.AbstractSerializableValueSerializer;
+import org.camunda.bpm.engine.impl.variable.serializer.TypedValueSerializer;
 import org.camunda.bpm.engine.variable.impl.value.NullValueImpl;
 import org.camunda.bpm.engine.variable.impl.value.ObjectValueImpl;
 import org.camunda.bpm.engine.variable.impl.value.PrimitiveTypeValueImpl;
+import org.camunda.bpm.engine.variable.value.ObjectValue;
+import org.camunda.bpm.engine.variable.value.SerializableValue;
+import org.camunda.bpm.engine.variable.type.ValueType;
+import org.camunda.bpm.engine.variable.value.TypedValue;
+import org.camunda.spin.plugin.variable.type.SpinValueType;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import static io.camunda.migrator.config.property.LargeVariableProperties.TRUNCATION_MARKER;
+import static io.camunda.migrator.impl.logging.HistoryMigratorLogs.SKIP_REASON_EXCEEDS_MAX_SIZE;
+import static io.camunda.migrator.impl.persistence.IdKeyMapper.TYPE.HISTORY_VARIABLE;
 import static io.camunda.migrator.impl.util.ConverterUtil.convertDate;
-import static io.camunda.migrator.impl.util.ConverterUtil.getNextKey;
+import static org.camunda.bpm.engine.variable.Variables.SerializationDataFormats.JSON;
 
 public class VariableConverter {
 
+  @Autowired
+  protected KeyGenerator keyGenerator;
+
   @Autowired
   private ObjectMapper objectMapper;
 
+  @Autowired
+  protected MigratorProperties migratorProperties;
+
+  @Autowired
+  protected C7Client c7Client;
+
   public VariableDbModel apply(HistoricVariableInstance historicVariable, Long processInstanceKey, Long scopeKey) {
     // TODO currently the VariableDbModelBuilder maps all variables to String type
     return new VariableDbModel.VariableDbModelBuilder()
-        .variableKey(getNextKey())
+        .variableKey(keyGenerator.nextKey(HISTORY_VARIABLE, historicVariable.getId()))
         .name(historicVariable.getName())
         .value(convertValue(historicVariable)) // TODO https://github.com/camunda/camunda-bpm-platform/issues/5329
         .scopeKey(scopeKey)
@@ -45,40 +81,172 @@ public class VariableConverter {
   private String convertValue(HistoricVariableInstance variable) {
     var variableId = variable.getId();
 
-    if (isNullValueType(variable)) {
+    if (variable instanceof HistoricVariableInstanceEntity entity && entity.getByteArrayId() != null) {
+      return convertByteArrayValue(entity);
+    }
+
+    // Custom objects are only deserialized if their serialized value can't be reused as is
+    TypedValue typedValue = getTypedValue(variable, false);
+
+    if (typedValue instanceof NullValueImpl) {
       VariableConverterLogs.convertingOfType(variableId, "NullValue");
       return null;
     }
 
-    if (isPrimitiveType(variable)) {
+    if (typedValue instanceof PrimitiveTypeValueImpl) {
       VariableConverterLogs.convertingOfType(variableId, "Primitive");
-      var typedValue = variable.getTypedValue().getValue();
+      var value = typedValue.getValue();
+
+      return value != null ? value.toString() : null;
+    }
+
+    if (isSerializedJson(typedValue)) {
+      SerializableValue serializableValue = (SerializableValue) typedValue;
+      VariableConverterLogs.convertingOfType(variableId, getSerializedTypeName(serializableValue));
 
-      return typedValue != null ? typedValue.toString() : null;
+      return getSerializedJsonValue(variableId, serializableValue.getValueSerialized());
     }
 
-    if (isObjectType(variable)) {
-      ObjectValueImpl typedValue = (ObjectValueImpl) (variable.getTypedValue());
-      Class<?> objectType = typedValue.getObjectType();
+    if (typedValue instanceof ObjectValueImpl) {
+      ObjectValueImpl objectValue = (ObjectValueImpl) getTypedValue(variable, true);
+      Class<?> objectType = objectValue.getObjectType();
       VariableConverterLogs.convertingOfType(variableId, objectType.getSimpleName());
 
-      return getJsonValue(typedValue);
+      return getJsonValue(objectValue);
     }
 
     VariableConverterLogs.warnNoHandlingAvailable(variableId, "unknown"/*variable.getTypeName()*/);
     return null;
   }
 
-  private boolean isNullValueType(HistoricVariableInstance variable) {
-    return variable.getTypedValue() instanceof NullValueImpl;
+  /**
+   * Byte arrays, files and serialized objects are read in chunks and can be capped at a maximum size, so a single large
+   * value can't exhaust the heap. Byte array and file values are migrated Base64 encoded.
+   */
+  private String convertByteArrayValue(HistoricVariableInstanceEntity variable) {
+    String variableId = variable.getId();
+    String typeName = variable.getTypeName();
+    boolean binary = isBinary(variable);
+    boolean json = !binary && isJsonSerializer(variable.getSerializer());
+    LargeVariableProperties properties = migratorProperties.getHistory().getLargeVariables();
+    long maxBytes = properties.getMaxSize() == null ? Long.MAX_VALUE : properties.getMaxSize().toBytes();
+
+    // binary values are encoded and JSON values decoded while they are read, other objects only need their size
+    StringOutputStream value = new StringOutputStream();
+    boolean complete;
+    try (OutputStream target = binary ? Base64.getEncoder().wrap(value) : json ? value : OutputStream.nullOutputStream()) {
+      complete = c7Client.copyByteArray(variable.getByteArrayId(), target, maxBytes);
+    } catch (IOException e) {
+      throw ExceptionUtils.wrapException(VariableConverterLogs.FAILED_TO_READ_VALUE + variableId, e);
+    }
+
+    if (!complete) {
+      VariableConverterLogs.exceedsMaxSize(variableId, typeName, properties.getMaxSize(), properties.getPolicy());
+      if (Policy.EXTERNALIZE.equals(properties.getPolicy())) {
+        return externalize(variable, properties);
+      } else if (Policy.TRUNCATE.equals(properties.getPolicy()) && binary) {
+        return value + TRUNCATION_MARKER;
+      } else {
+        throw new VariableSizeExceededException(SKIP_REASON_EXCEEDS_MAX_SIZE);
+      }
+    }
+
+    if (binary) {
+      VariableConverterLogs.convertingOfType(variableId, typeName);
+      return value.toString();
+    }
+
+    if (json) {
+      VariableConverterLogs.convertingOfType(variableId, typeName);
+      return getSerializedJsonValue(variableId, value.toString());
+    }
+
+    // Other serialization formats need the engine to deserialize the value, which is safe now that its size is known
+    TypedValue typedValue = c7Client.getHistoricVariableValue(variableId);
+    if (typedValue instanceof ObjectValueImpl objectValue) {
+      VariableConverterLogs.convertingOfType(variableId, objectValue.getObjectType().getSimpleName());
+      return getJsonValue(objectValue);
+    }
+
+    VariableConverterLogs.warnNoHandlingAvailable(variableId, typeName);
+    return null;
   }
 
-  private boolean isObjectType(HistoricVariableInstance variable) {
-    return variable.getTypedValue() instanceof ObjectValueImpl;
+  /**
+   * Returns {@code true} if only the beginning of the variable's value was migrated due to its size.
+   */
+  public boolean isTruncated(HistoricVariableInstance variable, VariableDbModel dbModel) {
+    return variable instanceof HistoricVariableInstanceEntity entity && entity.getByteArrayId() != null
+        && isBinary(entity) && dbModel.value() != null && dbModel.value().endsWith(TRUNCATION_MARKER);
   }
 
-  private boolean isPrimitiveType(HistoricVariableInstance variable) {
-    return variable.getTypedValue() instanceof PrimitiveTypeValueImpl;
+  /**
+   * Writes the value into the configured directory. The variable is migrated with the location of the file below the
+   * base URI, so it doesn't refer to the file system of the migrator host.
+   */
+  private String externalize(HistoricVariableInstanceEntity variable, LargeVariableProperties properties) {
+    Path file = Paths.get(properties.getDirectory(), variable.getId());
+    try {
+      Files.createDirectories(file.toAbsolutePath().getParent());
+      try (OutputStream output = Files.newOutputStream(file)) {
+        c7Client.copyByteArray(variable.getByteArrayId(), output, Long.MAX_VALUE);
+      }
+    } catch (IOException e) {
+      throw ExceptionUtils.wrapException(VariableConverterLogs.FAILED_TO_EXTERNALIZE + variable.getId(), e);
+    }
+
+    VariableConverterLogs.externalizedValue(variable.getId(), file);
+    String baseUri = StringUtils.defaultIfBlank(properties.getBaseUri(), properties.getDirectory());
+    return StringUtils.removeEnd(baseUri, "/") + "/" + variable.getId();
+  }
+
+  private boolean isBinary(HistoricVariableInstanceEntity variable) {
+    String typeName = variable.getTypeName();
+    return ValueType.BYTES.getName().equals(typeName) || ValueType.FILE.getName().equals(typeName);
+  }
+
+  private boolean isJsonSerializer(TypedValueSerializer<?> serializer) {
+    return serializer instanceof AbstractSerializableValueSerializer<?> serializableValueSerializer
+        && JSON.getName().equals(serializableValueSerializer.getSerializationDataformat());
+  }
+
+  private TypedValue getTypedValue(HistoricVariableInstance variable, boolean deserializeValue) {
+    if (variable instanceof HistoricVariableInstanceEntity entity) {
+      return entity.getTypedValue(deserializeValue);
+    }
+    return variable.getTypedValue();
+  }
+
+  private boolean isSerializedJson(TypedValue typedValue) {
+    if (!(typedValue instanceof SerializableValue serializableValue) || serializableValue.isDeserialized()) {
+      return false;
+    }
+
+    return SpinValueType.JSON.equals(typedValue.getType())
+        || (typedValue instanceof ObjectValue objectValue && JSON.getName().equals(objectValue.getSerializationDataFormat()));
+  }
+
+  private String getSerializedTypeName(SerializableValue serializableValue) {
+    if (serializableValue instanceof ObjectValue objectValue && objectValue.getObjectTypeName() != null) {
+      return objectValue.getObjectTypeName();
+    }
+    return serializableValue.getType().getName();
+  }
+
+  private String getSerializedJsonValue(String variableId, String json) {
+    if (json == null || !migratorProperties.getHistory().isValidateJson()) {
+      return json;
+    }
+
+    try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+      while (parser.nextToken() != null) {
+        // only checks that the value is well-formed, without building a tree
+      }
+      return json;
+    } catch (IOException e) {
+      VariableConverterLogs.failedValidatingJson(variableId, e.getMessage());
+      return null;
+    }
   }
 
   private String getJsonValue(ObjectValueImpl typedValue) {
@@ -0,0 +1,19 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.exception;
+
+/**
+ * Thrown when a migrator node no longer holds the lease of the work unit it is migrating, since another node may have
+ * taken it over.
+ */
+public class LeaseLostException extends MigratorException {
+
+  public LeaseLostException(String message) {
+    super(message, null);
+  }
+}
@@ -9,6 +9,10 @@ package io.camunda.migrator.exception;
 
 public class MigratorException extends RuntimeException {
 
+  public MigratorException(String message) {
+    super(message);
+  }
+
   public MigratorException(String message, Throwable cause) {
     super(message, cause);
   }
@@ -0,0 +1,159 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.impl;
+
+import io.camunda.migrator.config.property.JobStreamingProperties;
+import io.camunda.migrator.config.property.MigratorProperties;
+import io.camunda.migrator.config.property.ValidationCacheProperties;
+import io.camunda.migrator.impl.logging.ActiveActivityCacheLogs;
+import io.camunda.migrator.impl.model.FlowNode;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the active activities of C7 process instances collected during validation, so the activation of the migrated
+ * instances doesn't fetch their activity instance trees again. Variables are not kept, since updating them doesn't
+ * change the revision of the executions; they are always fetched at activation. Only used when the migrator jobs are activated while instances are still being created, i.e. with interleaved job
+ * streaming or runtime sharding; otherwise the entries would be evicted or expired before their activation. The number
+ * of entries and their estimated memory are bounded; the least recently added entries are evicted first. Entries older
+ * than the configured maximum age are not used. Before an entry is used, the revision of the executions it was
+ * collected at is compared with the current one, since the instance may have moved on in the meantime.
+ */
+@Component
+public class ActiveActivityCache {
+
+  @Autowired
+  protected MigratorProperties migratorProperties;
+
+  protected final ReentrantLock lock = new ReentrantLock();
+  protected final Map<String, ActiveActivities> entries = new LinkedHashMap<>();
+  /** The estimated memory of all entries in bytes. */
+  protected long weight;
+
+  /**
+   * Remembers the active activities of the process instance.
+   *
+   * @param activityId the activity ID of the root of the activity instance tree
+   * @param revision the revision of the executions of the process instance before the tree was fetched
+   */
+  public void put(String processInstanceId, String activityId, Map<String, FlowNode> activeActivities, long revision) {
+    if (!isEnabled()) {
+      return;
+    }
+
+    Map<String, FlowNode> flowNodes = Map.copyOf(activeActivities);
+    store(processInstanceId, new ActiveActivities(activityId, flowNodes, revision, System.nanoTime()));
+  }
+
+  /**
+   * Removes and returns the active activities of the process instance, or {@code null} if they are not known or
+   * outdated.
+   *
+   * @param currentRevision returns the current revision of the executions of the process instance, only called if an
+   *                        entry was found
+   */
+  public ActiveActivities take(String processInstanceId, LongSupplier currentRevision) {
+    ActiveActivities entry;
+    lock.lock();
+    try {
+      entry = entries.remove(processInstanceId);
+      if (entry != null) {
+        weight -= entry.getWeight();
+      }
+    } finally {
+      lock.unlock();
+    }
+
+    if (entry == null || System.nanoTime() - entry.collectedAt() > getProperties().getActivityTreeMaxAge().toNanos()) {
+      return null;
+    }
+    if (entry.revision() != currentRevision.getAsLong()) {
+      ActiveActivityCacheLogs.changedSinceValidation(processInstanceId);
+      return null;
+    }
+    return entry;
+  }
+
+  protected void store(String processInstanceId, ActiveActivities entry) {
+    ValidationCacheProperties properties = getProperties();
+    lock.lock();
+    try {
+      ActiveActivities existing = entries.remove(processInstanceId);
+      if (existing != null) {
+        weight -= existing.getWeight();
+      }
+      entries.put(processInstanceId, entry);
+      weight += entry.getWeight();
+
+      Iterator<ActiveActivities> eldest = entries.values().iterator();
+      long maxWeight = properties.getActivityTreeMaxMemory().toBytes();
+      while (eldest.hasNext() && (entries.size() > properties.getActivityTreeMaxSize() || weight > maxWeight)) {
+        weight -= eldest.next().getWeight();
+        eldest.remove();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * @return whether active activities are kept, and therefore whether the revision of the executions needs to be read
+   *         when collecting them
+   */
+  public boolean isEnabled() {
+    ValidationCacheProperties properties = getProperties();
+    if (!properties.isEnabled() || properties.getActivityTreeMaxSize() <= 0) {
+      return false;
+    }
+
+    JobStreamingProperties jobStreaming = migratorProperties.getJobStreaming();
+    return (jobStreaming.isEnabled() && jobStreaming.isInterleaved())
+        || migratorProperties.getRuntimeSharding().isEnabled();
+  }
+
+  protected ValidationCacheProperties getProperties() {
+    return migratorProperties.getValidationCache();
+  }
+
+  /**
+   * @param activityId the activity ID of the root of the activity instance tree
+   * @param flowNodes the active flow nodes by activity instance ID
+   * @param revision the revision of the executions when the flow nodes were collected
+   */
+  public record ActiveActivities(String activityId,
+                                 Map<String, FlowNode> flowNodes,
+                                 long revision,
+                                 long collectedAt) {
+
+    protected static final int ENTRY_SIZE = 256;
+    protected static final int MAP_ENTRY_SIZE = 64;
+    protected static final int OBJECT_SIZE = 32;
+
+    /**
+     * @return the estimated memory of the entry in bytes
+     */
+    public long getWeight() {
+      long weight = ENTRY_SIZE + estimateSize(activityId);
+      for (Map.Entry<String, FlowNode> flowNode : flowNodes.entrySet()) {
+        FlowNode node = flowNode.getValue();
+        weight += MAP_ENTRY_SIZE + OBJECT_SIZE + estimateSize(flowNode.getKey()) + estimateSize(node.activityId())
+            + estimateSize(node.subProcessInstanceId());
+      }
+      return weight;
+    }
+
+    protected static long estimateSize(String value) {
+      return value == null ? 0 : OBJECT_SIZE + 2L * value.length();
+    }
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.impl;
+
+import static io.camunda.migrator.impl.logging.DbClientLogs.C8_KEY_COLLISION;
+
+import io.camunda.migrator.exception.MigratorException;
+import io.camunda.migrator.impl.persistence.IdKeyDbModel;
+import io.camunda.migrator.impl.persistence.IdKeyMapper.TYPE;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.camunda.bpm.engine.history.HistoricProcessInstance;
+
+/**
+ * The history of a single process instance that is migrated as a whole: the process instance with its flow nodes,
+ * user tasks, variables, incidents and decision instances. Without a process instance, the unit holds a chunk of
+ * entities that a worker migrates in one batch.
+ * <p>
+ * The outcome of every entity of the unit is kept locally, so dependent entities resolve their keys without a lookup.
+ * The mapping records are only written once the C8 rows of the unit have been committed.
+ */
+public class HistoryMigrationUnit {
+
+  protected final HistoricProcessInstance processInstance;
+  protected final Map<TYPE, Map<String, Long>> keys = new EnumMap<>(TYPE.class);
+  protected final List<IdKeyDbModel> records = new ArrayList<>();
+  protected final Map<Long, IdKeyDbModel> recordsByKey = new HashMap<>();
+
+  public HistoryMigrationUnit(HistoricProcessInstance processInstance) {
+    this.processInstance = processInstance;
+  }
+
+  public HistoricProcessInstance getProcessInstance() {
+    return processInstance;
+  }
+
+  /**
+   * Records that an entity was migrated with the given key, or skipped if the key is {@code null}. Fails if another
+   * entity of the unit was migrated with the same key, since the mapping records of the unit aren't visible to the
+   * lookup that names the colliding entities once the unique index on C8 keys is violated.
+   */
+  public void addRecord(String c7Id, Long c8Key, TYPE type, Date createTime, String skipReason) {
+    IdKeyDbModel record = new IdKeyDbModel(c7Id, createTime);
+    record.setC8Key(c8Key);
+    record.setType(type);
+    record.setSkipReason(skipReason);
+    if (c8Key != null) {
+      IdKeyDbModel holder = recordsByKey.putIfAbsent(c8Key, record);
+      if (holder != null) {
+        throw new MigratorException(String.format(C8_KEY_COLLISION, c8Key, type.getDisplayName(), c7Id,
+            holder.getType().getDisplayName(), holder.getC7Id()));
+      }
+    }
+    records.add(record);
+    keys.computeIfAbsent(type, t -> new HashMap<>()).put(c7Id, c8Key);
+  }
+
+  /**
+   * Whether the entity was already handled within this unit, no matter if it was migrated or skipped.
+   */
+  public boolean contains(String c7Id, TYPE type) {
+    return keys.containsKey(type) && keys.get(type).containsKey(c7Id);
+  }
+
+  /**
+   * Returns the key of an entity migrated within this unit or {@code null} otherwise.
+   */
+  public Long getKey(String c7Id, TYPE type) {
+    return keys.containsKey(type) ? keys.get(type).get(c7Id) : null;
+  }
+
+  public List<IdKeyDbModel> getRecords() {
+    return records;
+  }
+}
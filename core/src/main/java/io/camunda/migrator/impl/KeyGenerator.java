@@ -0,0 +1,54 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.impl;
+
+import static io.camunda.migrator.config.property.HistoryProperties.KeyStrategy.DETERMINISTIC;
+
+import io.camunda.migrator.config.property.MigratorProperties;
+import io.camunda.migrator.impl.persistence.IdKeyMapper.TYPE;
+import io.camunda.migrator.impl.util.ConverterUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Generates the C8 keys of migrated history entities according to the configured key strategy.
+ */
+@Component
+public class KeyGenerator {
+
+  @Autowired
+  protected MigratorProperties migratorProperties;
+
+  /**
+   * Returns the C8 key for the C7 entity of the given type.
+   */
+  public Long nextKey(TYPE type, String c7Id) {
+    if (isDeterministic()) {
+      return keyOf(type, c7Id);
+    }
+
+    return ConverterUtil.getNextKey();
+  }
+
+  /**
+   * Computes the C8 key that the C7 entity of the given type received or will receive during migration.
+   * Only available for the deterministic key strategy.
+   */
+  public Long keyOf(TYPE type, String c7Id) {
+    if (!isDeterministic()) {
+      throw new IllegalStateException("Keys can only be computed with the deterministic key strategy.");
+    }
+
+    return c7Id == null ? null : ConverterUtil.getDeterministicKey(type, c7Id);
+  }
+
+  public boolean isDeterministic() {
+    return DETERMINISTIC.equals(migratorProperties.getHistory().getKeyStrategy());
+  }
+
+}
@@ -10,6 +10,7 @@ package io.camunda.migrator.impl;
 import static io.camunda.migrator.impl.logging.PaginationLogs.ERROR_QUERY_AND_PAGE_NULL;
 import static io.camunda.migrator.impl.util.ExceptionUtils.callApi;
 
+import io.camunda.migrator.impl.concurrent.C7ReadLimiter;
 import io.camunda.migrator.impl.logging.PaginationLogs;
 import java.util.ArrayList;
 import java.util.List;
@@ -24,7 +25,7 @@ public class Pagination<T> {
   protected Supplier<Long> maxCount;
   protected Function<Integer, List<T>> page;
   protected Query<?, T> query;
-
+  protected C7ReadLimiter readLimiter;
 
   public Pagination<T> pageSize(int pageSize) {
     this.pageSize = pageSize;
@@ -46,16 +47,24 @@ public class Pagination<T> {
     return this;
   }
 
+  /**
+   * Runs the count and page queries within the limits of the given limiter.
+   */
+  public Pagination<T> readLimiter(C7ReadLimiter readLimiter) {
+    this.readLimiter = readLimiter;
+    return this;
+  }
+
   public void callback(Consumer<T> callback) {
     Long maxCount = null;
     Function<Integer, List<T>> result;
 
     if (query != null) {
-      maxCount = query.count();
+      maxCount = read(query::count);
       result = offset -> query.listPage(offset, pageSize);
 
     } else if (page != null) {
-      maxCount = callApi(this.maxCount);
+      maxCount = callApi(() -> read(this.maxCount));
       result = (offset) -> page.apply(offset).stream().toList();
 
     } else {
@@ -69,10 +78,14 @@ public class Pagination<T> {
       String methodName = stackTrace[2].getMethodName();
       PaginationLogs.paginationDebugInfo(methodName, maxCount, offset, pageSize);
 
-      callApi(() -> result.apply(offset)).forEach(callback);
+      callApi(() -> read(() -> result.apply(offset))).forEach(callback);
     }
   }
 
+  protected <R> R read(Supplier<R> read) {
+    return readLimiter == null ? read.get() : readLimiter.query(read);
+  }
+
   public List<T> toList() {
     List<T> list = new ArrayList<>();
     callback(list::add);
@@ -0,0 +1,168 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.impl;
+
+import io.camunda.client.api.command.ClientStatusException;
+import io.camunda.client.api.command.ProblemException;
+import io.camunda.migrator.config.property.MigratorProperties;
+import io.camunda.migrator.config.property.RetryProperties;
+import io.camunda.migrator.impl.logging.RetryPolicyLogs;
+import io.camunda.migrator.impl.util.ExceptionUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.SQLException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Decides whether a call wrapped by {@link ExceptionUtils#callApi} is retried after a failure. Failures are transient
+ * when their cause is a {@link SQLException} with one of the configured SQLState classes, a gRPC status or an HTTP
+ * status of the configured ones. Retries wait with exponential backoff and jitter, limited by the maximum number of
+ * attempts and the time budget of the call.
+ * <p>
+ * Commands that must not be applied twice are only retried after backpressure (gRPC status RESOURCE_EXHAUSTED or HTTP
+ * status 429), since the gateway rejected them before processing. Backpressure is not retried at all while the
+ * concurrency limit is enabled, as the limiter already sends rejected calls again. Database failures within a
+ * transaction are not retried, since the transaction has to be rolled back as a whole.
+ */
+@Component
+public class RetryPolicy {
+
+  public static final String RETRIES_METRIC = "camunda.migrator.retries";
+  public static final String EXHAUSTED_METRIC = "camunda.migrator.retries.exhausted";
+
+  protected static final String BACKPRESSURE_GRPC_STATUS = "RESOURCE_EXHAUSTED";
+  protected static final int BACKPRESSURE_HTTP_STATUS = 429;
+
+  @Autowired
+  protected MigratorProperties migratorProperties;
+
+  @Autowired(required = false)
+  protected MeterRegistry meterRegistry;
+
+  /**
+   * Applies this policy to the calls of the current thread and the threads working on its behalf, until
+   * {@link #unregister()} is called. The migrators register it for the duration of a migration.
+   */
+  public void register() {
+    ExceptionUtils.setRetryPolicy(this);
+  }
+
+  public void unregister() {
+    ExceptionUtils.setRetryPolicy(null);
+  }
+
+  /**
+   * Waits before the next attempt if the failed call should be retried.
+   *
+   * @param idempotent {@code false} if the call is a command that must not be applied twice
+   * @param attempt the attempt that failed, starting with 1
+   * @param startNanos the {@link System#nanoTime()} of the first attempt
+   * @return {@code true} if the call should be retried
+   */
+  public boolean awaitRetry(RuntimeException exception, boolean idempotent, int attempt, long startNanos) {
+    RetryProperties properties = migratorProperties.getRetry();
+    if (!properties.isEnabled()) {
+      return false;
+    }
+
+    String reason = getTransientReason(exception, idempotent);
+    if (reason == null) {
+      return false;
+    }
+
+    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    long delayMillis = getDelayMillis(properties, attempt);
+    if (attempt >= properties.getMaxAttempts() || elapsedMillis + delayMillis > properties.getBudget().toMillis()) {
+      RetryPolicyLogs.givingUp(reason, attempt, elapsedMillis);
+      count(EXHAUSTED_METRIC, reason);
+      return false;
+    }
+
+    RetryPolicyLogs.retrying(reason, exception.getMessage(), delayMillis, attempt + 1, properties.getMaxAttempts());
+    count(RETRIES_METRIC, reason);
+    try {
+      TimeUnit.MILLISECONDS.sleep(delayMillis);
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  /**
+   * Returns {@code true} if the failure is transient and retries are enabled.
+   *
+   * @param idempotent {@code false} if the failed call is a command that must not be applied twice
+   */
+  public boolean isTransient(RuntimeException exception, boolean idempotent) {
+    return migratorProperties.getRetry().isEnabled() && getTransientReason(exception, idempotent) != null;
+  }
+
+  protected long getDelayMillis(RetryProperties properties, int attempt) {
+    double delay = Math.min(properties.getMaxDelay().toMillis(),
+        properties.getInitialDelay().toMillis() * Math.pow(properties.getMultiplier(), attempt - 1));
+    double jitter = Math.clamp(properties.getJitter(), 0.0, 1.0);
+    return (long) (delay * (1 - jitter * ThreadLocalRandom.current().nextDouble()));
+  }
+
+  /**
+   * Returns a short description why the failure is transient, or {@code null} if it is not.
+   */
+  protected String getTransientReason(RuntimeException exception, boolean idempotent) {
+    if ((exception instanceof PersistenceException || exception instanceof DataAccessException)
+        && TransactionSynchronizationManager.isActualTransactionActive()) {
+      return null;
+    }
+
+    RetryProperties properties = migratorProperties.getRetry();
+    for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+      if (cause instanceof SQLException sqlException && sqlException.getSQLState() != null) {
+        String sqlState = sqlException.getSQLState();
+        if (properties.getTransientSqlStates().stream().anyMatch(sqlState::startsWith)) {
+          return "SQLState " + sqlState;
+        }
+      } else if (cause instanceof ClientStatusException statusException) {
+        String status = statusException.getStatusCode().name();
+        boolean backpressure = BACKPRESSURE_GRPC_STATUS.equals(status);
+        if (properties.getTransientGrpcStatuses().contains(status) && isRetryable(backpressure, idempotent)) {
+          return "gRPC status " + status;
+        }
+      } else if (cause instanceof ProblemException problemException) {
+        boolean backpressure = problemException.code() == BACKPRESSURE_HTTP_STATUS;
+        if (properties.getTransientHttpStatuses().contains(problemException.code())
+            && isRetryable(backpressure, idempotent)) {
+          return "HTTP status " + problemException.code();
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns {@code true} if a transient failure of the gateway is retried: backpressure unless the concurrency limiter
+   * retries it already, other failures only for idempotent calls.
+   */
+  protected boolean isRetryable(boolean backpressure, boolean idempotent) {
+    if (backpressure) {
+      return !migratorProperties.getConcurrencyLimit().isEnabled();
+    }
+    return idempotent;
+  }
+
+  protected void count(String metric, String reason) {
+    if (meterRegistry != null) {
+      Counter.builder(metric).tag("reason", reason).register(meterRegistry).increment();
+    }
+  }
+}
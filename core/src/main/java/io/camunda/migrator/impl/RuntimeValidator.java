@@ -28,8 +28,12 @@ import static io.camunda.zeebe.model.bpmn.Bpmn.readModelFromStream;
 
 import io.camunda.client.api.search.response.ProcessDefinition;
 import io.camunda.migrator.config.property.MigratorProperties;
+import io.camunda.migrator.config.property.ValidationCacheProperties;
 import io.camunda.migrator.impl.clients.C7Client;
 import io.camunda.migrator.impl.clients.C8Client;
+import io.camunda.migrator.impl.model.C7DefinitionKey;
+import io.camunda.migrator.impl.model.C7ProcessModel;
+import io.camunda.migrator.impl.model.C8ProcessModel;
 import io.camunda.migrator.impl.model.FlowNode;
 import io.camunda.zeebe.model.bpmn.impl.instance.ProcessImpl;
 import io.camunda.zeebe.model.bpmn.impl.instance.zeebe.ZeebeExecutionListenersImpl;
@@ -37,8 +41,12 @@ import io.camunda.zeebe.model.bpmn.instance.StartEvent;
 import java.io.ByteArrayInputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import org.apache.commons.lang3.StringUtils;
 import org.camunda.bpm.model.bpmn.BpmnModelInstance;
 import org.camunda.bpm.model.bpmn.instance.Activity;
@@ -63,10 +71,39 @@ public class RuntimeValidator {
   @Autowired
   protected C8Client c8Client;
 
+  @Autowired
+  protected ActiveActivityCache activeActivityCache;
+
+  protected final Map<C8DefinitionId, CachedC8Definitions> c8Definitions = new ConcurrentHashMap<>();
+  protected final Map<Long, C8ProcessModel> c8ProcessModels = new ConcurrentHashMap<>();
+  protected final Map<String, C7ProcessModel> c7ProcessModels = new ConcurrentHashMap<>();
+  protected final Map<C8DefinitionId, DefinitionVerdict> definitionVerdicts = new ConcurrentHashMap<>();
+
+  /**
+   * Forgets the latest C8 definitions and the definition verdicts of a previous migration run, so each run starts from
+   * the deployments at its start. Parsed models are kept, since deployed definitions don't change.
+   */
+  public void startRun() {
+    c8Definitions.clear();
+    definitionVerdicts.clear();
+  }
+
   /**
    * Validates C7 flow nodes for multi-instance loop characteristics.
    */
   public void validateC7FlowNodes(String processDefinitionId, String processInstanceId, String activityId) {
+    if (properties.getValidationCache().isEnabled()) {
+      C7ProcessModel c7ProcessModel = c7ProcessModels.computeIfAbsent(processDefinitionId, this::loadC7ProcessModel);
+      if (activityId.endsWith(MULTI_INSTANCE_BODY_SUFFIX) || c7ProcessModel.isMultiInstanceActivity(activityId)) {
+        String activityIdWithoutSuffix = activityId.replace(MULTI_INSTANCE_BODY_SUFFIX, "");
+        throw new IllegalStateException(String.format(MULTI_INSTANCE_LOOP_CHARACTERISTICS_ERROR, activityIdWithoutSuffix));
+      }
+      if (c7ProcessModel.isParallelGateway(activityId)) {
+        throw new IllegalStateException(String.format(ACTIVE_JOINING_PARALLEL_GATEWAY_ERROR, activityId, processInstanceId));
+      }
+      return;
+    }
+
     BpmnModelInstance c7BpmnModelInstance = c7Client.getBpmnModelInstance(processDefinitionId);
     FlowElement element = c7BpmnModelInstance.getModelElementById(activityId);
 
@@ -80,12 +117,35 @@ public class RuntimeValidator {
     }
   }
 
+  /**
+   * Collects the multi-instance activities and parallel gateways of the C7 process definition once, so validating an
+   * active flow node is a lookup instead of a walk through the model.
+   */
+  protected C7ProcessModel loadC7ProcessModel(String processDefinitionId) {
+    BpmnModelInstance c7BpmnModelInstance = c7Client.getBpmnModelInstance(processDefinitionId);
+    Set<String> multiInstanceActivityIds = new HashSet<>();
+    Set<String> parallelGatewayIds = new HashSet<>();
+    for (FlowElement element : c7BpmnModelInstance.getModelElementsByType(FlowElement.class)) {
+      String elementId = element.getId();
+      if (isMultiInstanceActivity(elementId, element)) {
+        multiInstanceActivityIds.add(elementId);
+      }
+      if (PARALLEL_GATEWAY_ACTIVITY_TYPE.equals(element.getElementType().getTypeName())) {
+        parallelGatewayIds.add(elementId);
+      }
+    }
+    return new C7ProcessModel(Set.copyOf(multiInstanceActivityIds), Set.copyOf(parallelGatewayIds));
+  }
+
   /**
    * Validates C8 process structure and execution listeners.
    */
   public void validateC8Process(String xmlString, ProcessDefinition procDef) {
-    var bpmnModelInstance = parseBpmnModel(xmlString);
+    validateC8Process(parseBpmnModel(xmlString), procDef);
+  }
 
+  protected void validateC8Process(io.camunda.zeebe.model.bpmn.BpmnModelInstance bpmnModelInstance,
+                                   ProcessDefinition procDef) {
     var processInstanceStartEvents = bpmnModelInstance.getDefinitions()
         .getModelInstance()
         .getModelElementsByType(StartEvent.class)
@@ -124,7 +184,11 @@ public class RuntimeValidator {
    * Validates C8 flow nodes exist in the BPMN model.
    */
   public void validateC8FlowNodes(String xmlString, String activityId) {
-    var bpmnModelInstance = parseBpmnModel(xmlString);
+    validateC8FlowNodes(parseBpmnModel(xmlString), activityId);
+  }
+
+  protected void validateC8FlowNodes(io.camunda.zeebe.model.bpmn.BpmnModelInstance bpmnModelInstance,
+                                     String activityId) {
     var element = bpmnModelInstance.getModelElementById(activityId);
     if (element == null) {
       throw new IllegalStateException(String.format(FLOW_NODE_NOT_EXISTS_ERROR, activityId));
@@ -176,6 +240,129 @@ public class RuntimeValidator {
     }
   }
 
+  /**
+   * Validates the key and tenant of each C7 process definition with active process instances once before the process
+   * instances are migrated, so instances of definitions that can't be migrated are skipped by
+   * {@link #validateProcessDefinition} without being looked at. Definitions without active instances are left out.
+   */
+  public void validateProcessDefinitions() {
+    if (!properties.getValidationCache().isEnabled()) {
+      return;
+    }
+
+    RuntimeValidatorLogs.validatingProcessDefinitions();
+    Set<C7DefinitionKey> definitionKeys = c7Client.getActiveDefinitionKeys();
+    int invalidCount = 0;
+    for (C7DefinitionKey definitionKey : definitionKeys) {
+      if (!getDefinitionVerdict(definitionKey.key(), definitionKey.tenantId()).isValid()) {
+        RuntimeValidatorLogs.invalidProcessDefinition(definitionKey.key(), definitionKey.tenantId());
+        invalidCount++;
+      }
+    }
+    RuntimeValidatorLogs.validatedProcessDefinitions(definitionKeys.size(), invalidCount);
+  }
+
+  /**
+   * Validates the parts of a process instance that only depend on its definition: the tenant, the C8 deployment and
+   * its start events. The verdicts are remembered per definition key and tenant.
+   */
+  public void validateProcessDefinition(String c8DefinitionId, String tenantId, String c7ProcessInstanceId) {
+    getDefinitionVerdict(c8DefinitionId, tenantId).check().accept(c7ProcessInstanceId);
+  }
+
+  /**
+   * Returns the remembered verdict for the definition. Positive verdicts are kept for the whole migration run. Negative
+   * verdicts expire like the latest C8 definitions they are based on, so definitions deployed to C8 during the
+   * migration are picked up.
+   */
+  protected DefinitionVerdict getDefinitionVerdict(String c8DefinitionId, String tenantId) {
+    ValidationCacheProperties cache = properties.getValidationCache();
+    long now = System.nanoTime();
+    if (!cache.isEnabled()) {
+      return loadDefinitionVerdict(c8DefinitionId, tenantId, now);
+    }
+
+    var key = new C8DefinitionId(c8DefinitionId, tenantId);
+    DefinitionVerdict verdict = definitionVerdicts.get(key);
+    if (verdict == null || (!verdict.isValid() && now - verdict.loadedAt() >= cache.getDefinitionTtl().toNanos())) {
+      verdict = loadDefinitionVerdict(c8DefinitionId, tenantId, now);
+      definitionVerdicts.put(key, verdict);
+    }
+    return verdict;
+  }
+
+  protected DefinitionVerdict loadDefinitionVerdict(String c8DefinitionId, String tenantId, long now) {
+    try {
+      validateMultiTenancy(tenantId);
+    } catch (IllegalStateException e) {
+      return new DefinitionVerdict(null, processInstanceId -> validateMultiTenancy(tenantId), now);
+    }
+
+    var c8Definitions = getLatestC8Definitions(c8DefinitionId, tenantId);
+    if (c8Definitions.isEmpty()) {
+      return new DefinitionVerdict(null,
+          processInstanceId -> validateC8DefinitionExists(c8Definitions, c8DefinitionId, tenantId, processInstanceId),
+          now);
+    }
+
+    C8ProcessModel c8ProcessModel = getC8ProcessModel(c8Definitions.getFirst());
+    String startEventError = c8ProcessModel.getStartEventError();
+    if (startEventError != null) {
+      return new DefinitionVerdict(null, processInstanceId -> {
+        throw new IllegalStateException(startEventError);
+      }, now);
+    }
+
+    return new DefinitionVerdict(c8ProcessModel, processInstanceId -> {
+    }, now);
+  }
+
+  /**
+   * Returns the latest C8 process definition for the process definition ID and tenant, or an empty list if there is
+   * none. Results are cached for the configured time, so definitions deployed during the migration are picked up.
+   */
+  protected List<ProcessDefinition> getLatestC8Definitions(String c8DefinitionId, String tenantId) {
+    ValidationCacheProperties cache = properties.getValidationCache();
+    if (!cache.isEnabled()) {
+      return c8Client.searchProcessDefinitions(c8DefinitionId, tenantId).items();
+    }
+
+    var key = new C8DefinitionId(c8DefinitionId, tenantId);
+    long now = System.nanoTime();
+    CachedC8Definitions cached = c8Definitions.get(key);
+    if (cached != null && now - cached.loadedAt() < cache.getDefinitionTtl().toNanos()) {
+      return cached.definitions();
+    }
+
+    var definitions = c8Client.searchProcessDefinitions(c8DefinitionId, tenantId).items();
+    List<ProcessDefinition> latest = definitions.isEmpty() ? List.of() : List.of(definitions.getFirst());
+    c8Definitions.put(key, new CachedC8Definitions(latest, now));
+    return latest;
+  }
+
+  /**
+   * Returns the parsed model of the C8 process definition. Deployed definitions don't change, so each one is fetched
+   * and parsed only once.
+   */
+  protected C8ProcessModel getC8ProcessModel(ProcessDefinition procDef) {
+    if (!properties.getValidationCache().isEnabled()) {
+      return loadC8ProcessModel(procDef);
+    }
+    return c8ProcessModels.computeIfAbsent(procDef.getProcessDefinitionKey(), key -> loadC8ProcessModel(procDef));
+  }
+
+  protected C8ProcessModel loadC8ProcessModel(ProcessDefinition procDef) {
+    RuntimeValidatorLogs.loadingC8ProcessModel(procDef.getProcessDefinitionKey());
+    String xmlString = c8Client.getProcessDefinitionXml(procDef.getProcessDefinitionKey());
+    var bpmnModelInstance = parseBpmnModel(xmlString);
+    try {
+      validateC8Process(bpmnModelInstance, procDef);
+      return new C8ProcessModel(bpmnModelInstance, null);
+    } catch (IllegalStateException e) {
+      return new C8ProcessModel(bpmnModelInstance, e.getMessage());
+    }
+  }
+
   /**
    * Parses BPMN model instance from XML string.
    */
@@ -211,25 +398,22 @@ public class RuntimeValidator {
       String c8DefinitionId = processInstance.getProcessDefinitionKey();
       String tenantId = processInstance.getTenantId();
 
-      validateMultiTenancy(tenantId);
-
-      var c8Definitions = c8Client.searchProcessDefinitions(c8DefinitionId, tenantId);
-      validateC8DefinitionExists(c8Definitions.items(), c8DefinitionId, tenantId, processInstanceId);
+      DefinitionVerdict definitionVerdict = getDefinitionVerdict(c8DefinitionId, tenantId);
+      definitionVerdict.check().accept(processInstanceId);
+      C8ProcessModel c8ProcessModel = definitionVerdict.c8ProcessModel();
 
+      // read before the tree, so a change in between makes the activation fetch the tree again
+      long revision = activeActivityCache.isEnabled() ? c7Client.getExecutionRevision(processInstanceId) : 0;
       var activityInstanceTree = c7Client.getActivityInstance(processInstanceId);
 
-      ProcessDefinition c8ProcessDefinition = c8Definitions.items().getFirst();
-      String c8XmlString = c8Client.getProcessDefinitionXml(c8ProcessDefinition.getProcessDefinitionKey());
-
-      validateC8Process(c8XmlString, c8ProcessDefinition);
-
       RuntimeValidatorLogs.collectingActiveDescendantActivitiesValidation(processInstanceId);
       Map<String, FlowNode> activityInstanceMap = getActiveActivityIdsById(activityInstanceTree, new HashMap<>());
       RuntimeValidatorLogs.foundActiveActivitiesToValidate(activityInstanceMap.size());
+      activeActivityCache.put(processInstanceId, activityInstanceTree.getActivityId(), activityInstanceMap, revision);
 
       for (FlowNode flowNode : activityInstanceMap.values()) {
         validateC7FlowNodes(c7DefinitionId, c7ProcessInstanceId, flowNode.activityId());
-        validateC8FlowNodes(c8XmlString, flowNode.activityId());
+        c8ProcessModel.validateFlowNode(flowNode.activityId(), this::validateC8FlowNodes);
       }
     }, c7ProcessInstanceId);
   }
@@ -248,4 +432,21 @@ public class RuntimeValidator {
   private boolean hasTenant(String tenantId) {
     return !StringUtils.isEmpty(tenantId);
   }
+
+  protected record C8DefinitionId(String processDefinitionId, String tenantId) {
+  }
+
+  protected record CachedC8Definitions(List<ProcessDefinition> definitions, long loadedAt) {
+  }
+
+  /**
+   * Whether instances of a definition can be migrated. The check throws an {@link IllegalStateException} with the
+   * reason for the given instance ID if they can't.
+   */
+  protected record DefinitionVerdict(C8ProcessModel c8ProcessModel, Consumer<String> check, long loadedAt) {
+
+    public boolean isValid() {
+      return c8ProcessModel != null;
+    }
+  }
 }
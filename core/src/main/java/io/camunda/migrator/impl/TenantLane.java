@@ -0,0 +1,57 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.impl;
+
+import static io.camunda.migrator.constants.MigratorConstants.C8_DEFAULT_TENANT;
+
+/**
+ * The tenant whose data the current thread migrates when tenant lanes are enabled. The lane without a tenant ID
+ * migrates the data that doesn't belong to any tenant.
+ */
+public record TenantLane(String tenantId) {
+
+  private static final ThreadLocal<TenantLane> CURRENT = new ThreadLocal<>();
+
+  public static final TenantLane WITHOUT_TENANT = new TenantLane(null);
+
+  /**
+   * Returns the lane of the current thread or {@code null} if tenant lanes are not used.
+   */
+  public static TenantLane current() {
+    return CURRENT.get();
+  }
+
+  public static void set(TenantLane lane) {
+    if (lane == null) {
+      CURRENT.remove();
+    } else {
+      CURRENT.set(lane);
+    }
+  }
+
+  public static void clear() {
+    CURRENT.remove();
+  }
+
+  public boolean isWithoutTenant() {
+    return tenantId == null;
+  }
+
+  /**
+   * Returns the tenant ID stored with the mapping records of the lane. The lane without tenant stores the C8 default
+   * tenant, so its records can be told apart from records written without tenant lanes, which have no tenant ID.
+   */
+  public String mappingTenantId() {
+    return isWithoutTenant() ? C8_DEFAULT_TENANT : tenantId;
+  }
+
+  @Override
+  public String toString() {
+    return isWithoutTenant() ? "<without tenant>" : tenantId;
+  }
+}
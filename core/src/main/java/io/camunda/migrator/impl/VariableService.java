@@ -51,7 +51,7 @@ public class VariableService {
    * @return processed global variables ready for C8 process instance creation
    */
   public Map<String, Object> getGlobalVariables(String c7ProcessInstanceId) {
-    ActivityVariables activityVariables = processVariablesToActivityGroups(c7Client.getAllVariables(c7ProcessInstanceId));
+    ActivityVariables activityVariables = getActivityVariables(c7ProcessInstanceId);
     Map<String, Object> globalVariables = activityVariables.getGlobalVariables(c7ProcessInstanceId);
 
     // Add legacyId for tracking purposes
@@ -61,15 +61,27 @@ public class VariableService {
   }
 
   /**
-   * Retrieves and processes local variables for an activity instance.
+   * Retrieves all variables of a process instance with a single query and processes them.
    *
+   * @param c7ProcessInstanceId the C7 process instance ID
+   * @return processed variables grouped by activity instance
+   */
+  public ActivityVariables getActivityVariables(String c7ProcessInstanceId) {
+    return processVariablesToActivityGroups(c7Client.getAllVariables(c7ProcessInstanceId));
+  }
+
+  /**
+   * Gets the already processed local variables of an activity instance.
+   *
+   * @param activityVariables the processed variables of the process instance
    * @param activityInstanceId the activity instance ID
    * @param subProcessInstanceId optional subprocess instance ID to include as C7 ID
    * @return processed local variables
    */
-  public Map<String, Object> getLocalVariables(String activityInstanceId,
+  public Map<String, Object> getLocalVariables(ActivityVariables activityVariables,
+                                               String activityInstanceId,
                                                String subProcessInstanceId) {
-    Map<String, Object> localVariables = processVariablesToMapSingleActivity(c7Client.getLocalVariables(activityInstanceId));
+    Map<String, Object> localVariables = new HashMap<>(activityVariables.getVariablesForActivity(activityInstanceId));
 
     // Add legacyId for subprocess tracking if present
     if (subProcessInstanceId != null) {
@@ -87,14 +99,14 @@ public class VariableService {
    * @return true if the job was started externally, false if it's a migrated job
    */
   public boolean isExternallyStartedJob(ActivatedJob job) {
-    return !job.getVariables().contains(LEGACY_ID_VAR_NAME);
+    return getC7IdFromJob(job) == null;
   }
 
   /**
    * Retrieves the legacyId from a job's variables.
    *
    * @param job the activated job
-   * @return the legacyId from the job variables
+   * @return the legacyId from the job variables, or {@code null} if the job was started externally
    */
   public String getC7IdFromJob(ActivatedJob job) {
     return (String) c8Client.getJobVariable(job, LEGACY_ID_VAR_NAME);
@@ -7,31 +7,62 @@
  */
 package io.camunda.migrator.impl.clients;
 
+import static io.camunda.migrator.impl.logging.C7ClientLogs.FAILED_TO_FETCH_ACTIVE_DEFINITIONS;
 import static io.camunda.migrator.impl.logging.C7ClientLogs.FAILED_TO_FETCH_ACTIVITY_INSTANCE;
 import static io.camunda.migrator.impl.logging.C7ClientLogs.FAILED_TO_FETCH_BPMN_XML;
+import static io.camunda.migrator.impl.logging.C7ClientLogs.FAILED_TO_FETCH_BYTE_ARRAY;
 import static io.camunda.migrator.impl.logging.C7ClientLogs.FAILED_TO_FETCH_DEPLOYMENT_TIME;
+import static io.camunda.migrator.impl.logging.C7ClientLogs.FAILED_TO_FETCH_EXECUTION_REVISIONS;
+import static io.camunda.migrator.impl.logging.C7ClientLogs.FAILED_TO_FETCH_FIRST_START_TIME;
 import static io.camunda.migrator.impl.logging.C7ClientLogs.FAILED_TO_FETCH_HISTORIC_ELEMENT;
 import static io.camunda.migrator.impl.logging.C7ClientLogs.FAILED_TO_FETCH_PROCESS_INSTANCE;
+import static io.camunda.migrator.impl.logging.C7ClientLogs.FAILED_TO_FETCH_TENANT_IDS;
 import static io.camunda.migrator.impl.util.ExceptionUtils.callApi;
+import static io.camunda.migrator.impl.util.ExceptionUtils.wrapException;
 import static java.lang.String.format;
 
 import io.camunda.migrator.config.property.MigratorProperties;
 import io.camunda.migrator.impl.Pagination;
+import io.camunda.migrator.impl.TenantLane;
+import io.camunda.migrator.impl.concurrent.C7ReadLimiter;
+import io.camunda.migrator.impl.model.C7DefinitionKey;
+import io.camunda.migrator.impl.model.RuntimeShard;
 import io.camunda.migrator.impl.persistence.IdKeyDbModel;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import javax.sql.DataSource;
+import org.apache.commons.lang3.StringUtils;
 import org.camunda.bpm.engine.HistoryService;
 import org.camunda.bpm.engine.RepositoryService;
 import org.camunda.bpm.engine.RuntimeService;
 import org.camunda.bpm.engine.history.HistoricActivityInstance;
+import org.camunda.bpm.engine.history.HistoricActivityInstanceQuery;
 import org.camunda.bpm.engine.history.HistoricDecisionInstance;
+import org.camunda.bpm.engine.history.HistoricDecisionInstanceQuery;
 import org.camunda.bpm.engine.history.HistoricIncident;
+import org.camunda.bpm.engine.history.HistoricIncidentQuery;
 import org.camunda.bpm.engine.history.HistoricProcessInstance;
+import org.camunda.bpm.engine.history.HistoricProcessInstanceQuery;
 import org.camunda.bpm.engine.history.HistoricTaskInstance;
+import org.camunda.bpm.engine.history.HistoricTaskInstanceQuery;
 import org.camunda.bpm.engine.history.HistoricVariableInstance;
+import org.camunda.bpm.engine.history.HistoricVariableInstanceQuery;
 import org.camunda.bpm.engine.impl.HistoricActivityInstanceQueryImpl;
 import org.camunda.bpm.engine.impl.HistoricDecisionInstanceQueryImpl;
 import org.camunda.bpm.engine.impl.HistoricIncidentQueryImpl;
@@ -44,19 +75,24 @@ import org.camunda.bpm.engine.repository.DecisionDefinitionQuery;
 import org.camunda.bpm.engine.repository.DecisionRequirementsDefinition;
 import org.camunda.bpm.engine.repository.DecisionRequirementsDefinitionQuery;
 import org.camunda.bpm.engine.repository.ProcessDefinition;
+import org.camunda.bpm.engine.repository.ProcessDefinitionQuery;
 import org.camunda.bpm.engine.runtime.ActivityInstance;
 import org.camunda.bpm.engine.runtime.ProcessInstance;
 import org.camunda.bpm.engine.runtime.ProcessInstanceQuery;
 import org.camunda.bpm.engine.runtime.VariableInstance;
 import org.camunda.bpm.engine.runtime.VariableInstanceQuery;
+import org.camunda.bpm.engine.variable.value.TypedValue;
 import org.camunda.bpm.model.bpmn.BpmnModelInstance;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.ApplicationContext;
 import org.springframework.stereotype.Component;
 
 @Component
 public class C7Client {
 
+  protected static final int BYTE_ARRAY_BUFFER_SIZE = 8192;
+
   @Autowired
   protected RuntimeService runtimeService;
 
@@ -72,12 +108,19 @@ public class C7Client {
   @Autowired
   protected ApplicationContext context;
 
+  @Autowired
+  protected C7ReadLimiter readLimiter;
+
+  @Autowired
+  @Qualifier("c7DataSource")
+  protected DataSource dataSource;
+
   /**
    * Gets a single process instance by ID.
    */
   public ProcessInstance getProcessInstance(String processInstanceId) {
     var query = runtimeService.createProcessInstanceQuery().processInstanceId(processInstanceId);
-    return callApi(query::singleResult, FAILED_TO_FETCH_PROCESS_INSTANCE + processInstanceId);
+    return callApi(limited(query::singleResult), FAILED_TO_FETCH_PROCESS_INSTANCE + processInstanceId);
   }
 
   /**
@@ -85,7 +128,7 @@ public class C7Client {
    */
   public ProcessDefinition getProcessDefinition(String c7Id) {
     var query = repositoryService.createProcessDefinitionQuery().processDefinitionId(c7Id);
-    return callApi(query::singleResult, format(FAILED_TO_FETCH_HISTORIC_ELEMENT, "ProcessDefinition", c7Id));
+    return callApi(limited(query::singleResult), format(FAILED_TO_FETCH_HISTORIC_ELEMENT, "ProcessDefinition", c7Id));
   }
 
   /**
@@ -94,7 +137,7 @@ public class C7Client {
   public DecisionRequirementsDefinition getDecisionRequirementsDefinition(String c7Id) {
     var query = repositoryService.createDecisionRequirementsDefinitionQuery()
         .decisionRequirementsDefinitionId(c7Id);
-    return callApi(query::singleResult,
+    return callApi(limited(query::singleResult),
         format(FAILED_TO_FETCH_HISTORIC_ELEMENT, "DecisionRequirementsDefinition", c7Id));
   }
 
@@ -103,7 +146,7 @@ public class C7Client {
    */
   public DecisionDefinition getDecisionDefinition(String c7Id) {
     var query = repositoryService.createDecisionDefinitionQuery().decisionDefinitionId(c7Id);
-    return callApi(query::singleResult, format(FAILED_TO_FETCH_HISTORIC_ELEMENT, "DecisionDefinition", c7Id));
+    return callApi(limited(query::singleResult), format(FAILED_TO_FETCH_HISTORIC_ELEMENT, "DecisionDefinition", c7Id));
   }
 
   /**
@@ -111,7 +154,7 @@ public class C7Client {
    */
   public HistoricDecisionInstance getHistoricDecisionInstance(String c7Id) {
     var query = historyService.createHistoricDecisionInstanceQuery().decisionInstanceId(c7Id);
-    return callApi(query::singleResult, format(FAILED_TO_FETCH_HISTORIC_ELEMENT, "HistoricDecisionInstance", c7Id));
+    return callApi(limited(query::singleResult), format(FAILED_TO_FETCH_HISTORIC_ELEMENT, "HistoricDecisionInstance", c7Id));
   }
 
   /**
@@ -119,7 +162,7 @@ public class C7Client {
    */
   public HistoricDecisionInstance getHistoricDecisionInstanceByDefinitionKey(String definitionKey) {
     var query = historyService.createHistoricDecisionInstanceQuery().decisionDefinitionKey(definitionKey);
-    return callApi(query::singleResult, format(FAILED_TO_FETCH_HISTORIC_ELEMENT, "HistoricDecisionInstance", definitionKey));
+    return callApi(limited(query::singleResult), format(FAILED_TO_FETCH_HISTORIC_ELEMENT, "HistoricDecisionInstance", definitionKey));
   }
 
   /**
@@ -127,7 +170,7 @@ public class C7Client {
    */
   public HistoricProcessInstance getHistoricProcessInstance(String c7Id) {
     var query = historyService.createHistoricProcessInstanceQuery().processInstanceId(c7Id);
-    return callApi(query::singleResult, format(FAILED_TO_FETCH_HISTORIC_ELEMENT, "HistoricProcessInstance", c7Id));
+    return callApi(limited(query::singleResult), format(FAILED_TO_FETCH_HISTORIC_ELEMENT, "HistoricProcessInstance", c7Id));
   }
 
   /**
@@ -135,7 +178,26 @@ public class C7Client {
    */
   public HistoricActivityInstance getHistoricActivityInstance(String c7Id) {
     var query = historyService.createHistoricActivityInstanceQuery().activityInstanceId(c7Id);
-    return callApi(query::singleResult, format(FAILED_TO_FETCH_HISTORIC_ELEMENT, "HistoricActivityInstance", c7Id));
+    return callApi(limited(query::singleResult), format(FAILED_TO_FETCH_HISTORIC_ELEMENT, "HistoricActivityInstance", c7Id));
+  }
+
+  /**
+   * Gets the latest historic activity instance of the activity within the process instance that started before the
+   * given time, e.g. the one an incident was raised for.
+   */
+  public HistoricActivityInstance getHistoricActivityInstance(String processInstanceId, String activityId,
+                                                              Date startedBefore) {
+    var query = historyService.createHistoricActivityInstanceQuery()
+        .processInstanceId(processInstanceId)
+        .activityId(activityId)
+        .startedBefore(startedBefore)
+        .orderByHistoricActivityInstanceStartTime()
+        .desc()
+        .orderByHistoricActivityInstanceId()
+        .desc();
+    List<HistoricActivityInstance> activityInstances = callApi(limited(() -> query.listPage(0, 1)),
+        format(FAILED_TO_FETCH_HISTORIC_ELEMENT, "HistoricActivityInstance", activityId));
+    return activityInstances.isEmpty() ? null : activityInstances.getFirst();
   }
 
   /**
@@ -143,15 +205,153 @@ public class C7Client {
    */
   public HistoricTaskInstance getHistoricTaskInstance(String c7Id) {
     var query = historyService.createHistoricTaskInstanceQuery().taskId(c7Id);
-    return callApi(query::singleResult, format(FAILED_TO_FETCH_HISTORIC_ELEMENT, "HistoricTaskInstance", c7Id));
+    return callApi(limited(query::singleResult), format(FAILED_TO_FETCH_HISTORIC_ELEMENT, "HistoricTaskInstance", c7Id));
   }
 
   /**
    * Gets a single historic variable instance by ID.
    */
   public HistoricVariableInstance getHistoricVariableInstance(String c7Id) {
+    var query = historyService.createHistoricVariableInstanceQuery()
+        .disableBinaryFetching()
+        .disableCustomObjectDeserialization()
+        .variableId(c7Id);
+    return callApi(limited(query::singleResult), format(FAILED_TO_FETCH_HISTORIC_ELEMENT, "HistoricVariableInstance", c7Id));
+  }
+
+  /**
+   * Gets the deserialized value of a single historic variable instance by ID.
+   */
+  public TypedValue getHistoricVariableValue(String c7Id) {
     var query = historyService.createHistoricVariableInstanceQuery().variableId(c7Id);
-    return callApi(query::singleResult, format(FAILED_TO_FETCH_HISTORIC_ELEMENT, "HistoricVariableInstance", c7Id));
+    HistoricVariableInstance variable = callApi(limited(query::singleResult),
+        format(FAILED_TO_FETCH_HISTORIC_ELEMENT, "HistoricVariableInstance", c7Id));
+    return variable != null ? variable.getTypedValue() : null;
+  }
+
+  /**
+   * Copies at most {@code maxBytes} of the byte array with the given ID into the target stream, reading it in chunks
+   * instead of loading it as a whole.
+   *
+   * @return {@code false} if the byte array is larger than {@code maxBytes} and was only copied partially
+   */
+  public boolean copyByteArray(String byteArrayId, OutputStream target, long maxBytes) {
+    return readLimiter.query(() -> readByteArray(byteArrayId, target, maxBytes));
+  }
+
+  protected boolean readByteArray(String byteArrayId, OutputStream target, long maxBytes) {
+    String sql = "SELECT BYTES_ FROM " + StringUtils.trimToEmpty(properties.getC7().getDataSource().getTablePrefix())
+        + "ACT_GE_BYTEARRAY WHERE ID_ = ?";
+    try (Connection connection = dataSource.getConnection();
+        PreparedStatement statement = connection.prepareStatement(sql)) {
+      statement.setString(1, byteArrayId);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        if (!resultSet.next()) {
+          return true;
+        }
+        try (InputStream input = resultSet.getBinaryStream(1)) {
+          if (input == null) {
+            return true;
+          }
+          byte[] buffer = new byte[BYTE_ARRAY_BUFFER_SIZE];
+          long remaining = maxBytes;
+          int read;
+          // reads one byte more than allowed to detect values exceeding the limit
+          while ((read = input.read(buffer, 0, remaining < buffer.length ? (int) remaining + 1 : buffer.length)) != -1) {
+            if (read > remaining) {
+              target.write(buffer, 0, (int) remaining);
+              return false;
+            }
+            target.write(buffer, 0, read);
+            remaining -= read;
+          }
+          return true;
+        }
+      }
+    } catch (SQLException | IOException e) {
+      throw wrapException(FAILED_TO_FETCH_BYTE_ARRAY + byteArrayId, e);
+    }
+  }
+
+  /**
+   * Gets the IDs of all tenants owning C7 deployments, process instances or decision instances. Process instances of
+   * shared definitions may belong to tenants without own deployments, so their tenants are read as well.
+   */
+  public Set<String> getTenantIds() {
+    return readLimiter.query(this::readTenantIds);
+  }
+
+  protected Set<String> readTenantIds() {
+    String prefix = StringUtils.trimToEmpty(properties.getC7().getDataSource().getTablePrefix());
+    String sql = "SELECT TENANT_ID_ FROM " + prefix + "ACT_RE_DEPLOYMENT WHERE TENANT_ID_ IS NOT NULL"
+        + " UNION SELECT TENANT_ID_ FROM " + prefix + "ACT_RU_EXECUTION WHERE TENANT_ID_ IS NOT NULL"
+        + " UNION SELECT TENANT_ID_ FROM " + prefix + "ACT_HI_PROCINST WHERE TENANT_ID_ IS NOT NULL"
+        + " UNION SELECT TENANT_ID_ FROM " + prefix + "ACT_HI_DECINST WHERE TENANT_ID_ IS NOT NULL";
+    Set<String> tenantIds = new TreeSet<>();
+    try (Connection connection = dataSource.getConnection();
+        PreparedStatement statement = connection.prepareStatement(sql);
+        ResultSet resultSet = statement.executeQuery()) {
+      while (resultSet.next()) {
+        tenantIds.add(resultSet.getString(1));
+      }
+      return tenantIds;
+    } catch (SQLException e) {
+      throw wrapException(FAILED_TO_FETCH_TENANT_IDS, e);
+    }
+  }
+
+  /**
+   * Gets the keys of the process definitions with at least one active process instance, together with the tenants of
+   * these instances. Instances of shared definitions may belong to other tenants than their definition.
+   */
+  public Set<C7DefinitionKey> getActiveDefinitionKeys() {
+    return readLimiter.query(this::readActiveDefinitionKeys);
+  }
+
+  protected Set<C7DefinitionKey> readActiveDefinitionKeys() {
+    String prefix = StringUtils.trimToEmpty(properties.getC7().getDataSource().getTablePrefix());
+    String sql = "SELECT DISTINCT D.KEY_, E.TENANT_ID_ FROM " + prefix + "ACT_RU_EXECUTION E"
+        + " JOIN " + prefix + "ACT_RE_PROCDEF D ON E.PROC_DEF_ID_ = D.ID_"
+        + " WHERE E.ID_ = E.PROC_INST_ID_";
+    Set<C7DefinitionKey> definitionKeys = new HashSet<>();
+    try (Connection connection = dataSource.getConnection();
+        PreparedStatement statement = connection.prepareStatement(sql);
+        ResultSet resultSet = statement.executeQuery()) {
+      while (resultSet.next()) {
+        definitionKeys.add(new C7DefinitionKey(resultSet.getString(1), resultSet.getString(2)));
+      }
+      return definitionKeys;
+    } catch (SQLException e) {
+      throw wrapException(FAILED_TO_FETCH_ACTIVE_DEFINITIONS, e);
+    }
+  }
+
+  /**
+   * Gets a hash of the IDs and revisions of the executions of the process instance. Every change of the activity
+   * instance tree inserts, deletes or updates an execution, so the hash tells whether the tree collected before is
+   * still current without fetching it again.
+   */
+  public long getExecutionRevision(String processInstanceId) {
+    return readLimiter.query(() -> readExecutionRevision(processInstanceId));
+  }
+
+  protected long readExecutionRevision(String processInstanceId) {
+    String prefix = StringUtils.trimToEmpty(properties.getC7().getDataSource().getTablePrefix());
+    String sql = "SELECT ID_, REV_ FROM " + prefix + "ACT_RU_EXECUTION WHERE PROC_INST_ID_ = ? ORDER BY ID_";
+    try (Connection connection = dataSource.getConnection();
+        PreparedStatement statement = connection.prepareStatement(sql)) {
+      statement.setString(1, processInstanceId);
+      long revision = 1;
+      try (ResultSet resultSet = statement.executeQuery()) {
+        while (resultSet.next()) {
+          revision = 31 * revision + resultSet.getString(1).hashCode();
+          revision = 31 * revision + resultSet.getInt(2);
+        }
+      }
+      return revision;
+    } catch (SQLException e) {
+      throw wrapException(FAILED_TO_FETCH_EXECUTION_REVISIONS + processInstanceId, e);
+    }
   }
 
   /**
@@ -159,14 +359,14 @@ public class C7Client {
    */
   public HistoricIncident getHistoricIncident(String c7Id) {
     var query = historyService.createHistoricIncidentQuery().incidentId(c7Id);
-    return callApi(query::singleResult, format(FAILED_TO_FETCH_HISTORIC_ELEMENT, "HistoricIncident", c7Id));
+    return callApi(limited(query::singleResult), format(FAILED_TO_FETCH_HISTORIC_ELEMENT, "HistoricIncident", c7Id));
   }
 
   /**
    * Gets the activity instance tree for a process instance.
    */
   public ActivityInstance getActivityInstance(String processInstanceId) {
-    return callApi(() -> runtimeService.getActivityInstance(processInstanceId),
+    return callApi(limited(() -> runtimeService.getActivityInstance(processInstanceId)),
         FAILED_TO_FETCH_ACTIVITY_INSTANCE + processInstanceId);
   }
 
@@ -178,21 +378,7 @@ public class C7Client {
         .disableCustomObjectDeserialization()
         .processInstanceIdIn(c7ProcessInstanceId);
 
-    return new Pagination<VariableInstance>()
-        .pageSize(properties.getPageSize())
-        .query(variableQuery)
-        .toList();
-  }
-
-  /**
-   * Gets local variables for an activity instance with pagination and variable transformation.
-   */
-  public List<VariableInstance> getLocalVariables(String activityInstanceId) {
-    VariableInstanceQuery variableQuery = runtimeService.createVariableInstanceQuery()
-        .disableCustomObjectDeserialization()
-        .activityInstanceIdIn(activityInstanceId);
-
-    return new Pagination<VariableInstance>()
+    return new Pagination<VariableInstance>().readLimiter(readLimiter)
         .pageSize(properties.getPageSize())
         .query(variableQuery)
         .toList();
@@ -202,14 +388,14 @@ public class C7Client {
    * Gets a resource as steam by ID and name.
    */
   public InputStream getResourceAsStream(String resourceId, String resourceName) {
-    return callApi(() -> repositoryService.getResourceAsStream(resourceId, resourceName));
+    return callApi(limited(() -> repositoryService.getResourceAsStream(resourceId, resourceName)));
   }
 
   /**
    * Gets the BPMN model instance by process definition ID.
    */
   public BpmnModelInstance getBpmnModelInstance(String processDefinitionId) {
-    return callApi(() -> repositoryService.getBpmnModelInstance(processDefinitionId),
+    return callApi(limited(() -> repositoryService.getBpmnModelInstance(processDefinitionId)),
         FAILED_TO_FETCH_BPMN_XML + processDefinitionId);
   }
 
@@ -218,7 +404,7 @@ public class C7Client {
    */
   public Date getDefinitionDeploymentTime(String definitionDeploymentId) {
     var query = repositoryService.createDeploymentQuery().deploymentId(definitionDeploymentId);
-    return callApi(query::singleResult,
+    return callApi(limited(query::singleResult),
         FAILED_TO_FETCH_DEPLOYMENT_TIME + definitionDeploymentId).getDeploymentTime();
   }
 
@@ -229,7 +415,7 @@ public class C7Client {
     ProcessInstanceQuery query = runtimeService.createProcessInstanceQuery()
         .rootProcessInstanceId(rootProcessInstanceId);
 
-    new Pagination<ProcessInstance>()
+    new Pagination<ProcessInstance>().readLimiter(readLimiter)
         .pageSize(properties.getPageSize())
         .maxCount(query::count)
         .query(query)
@@ -251,16 +437,87 @@ public class C7Client {
         .orderByProcessInstanceId()
         .asc();
 
-    new Pagination<IdKeyDbModel>()
+    filterByTenantLane(query, HistoricProcessInstanceQuery::tenantIdIn, HistoricProcessInstanceQuery::withoutTenantId);
+
+    new Pagination<IdKeyDbModel>().readLimiter(readLimiter)
         .pageSize(properties.getPageSize())
         .maxCount(query::count)
         .page(offset -> query.listPage(offset, properties.getPageSize())
             .stream()
-            .map(hpi -> new IdKeyDbModel(hpi.getId(), hpi.getStartTime()))
+            .map(hpi -> {
+              var processInstance = new IdKeyDbModel(hpi.getId(), hpi.getStartTime());
+              processInstance.setProcessDefinitionKey(hpi.getProcessDefinitionKey());
+              processInstance.setTenantId(hpi.getTenantId());
+              return processInstance;
+            })
             .collect(Collectors.toList()))
         .callback(callback);
   }
 
+  /**
+   * Processes the unfinished historic root process instances of the shard with pagination using the provided callback
+   * consumer. The shard is selected by the query, so a shard only reads its own process instances.
+   */
+  public void fetchAndHandleHistoricRootProcessInstances(Consumer<IdKeyDbModel> callback,
+                                                         Date startedAfter,
+                                                         RuntimeShard shard) {
+    String prefix = StringUtils.trimToEmpty(properties.getC7().getDataSource().getTablePrefix());
+    StringBuilder where = new StringBuilder(" FROM " + prefix + "ACT_HI_PROCINST"
+        + " WHERE SUPER_PROCESS_INSTANCE_ID_ IS NULL AND END_TIME_ IS NULL AND " + getShardCondition(shard));
+    Map<String, Object> parameters = new HashMap<>();
+    if (startedAfter != null) {
+      where.append(" AND START_TIME_ >= #{startedAfter}");
+      parameters.put("startedAfter", startedAfter);
+    }
+    TenantLane lane = TenantLane.current();
+    if (lane != null && lane.isWithoutTenant()) {
+      where.append(" AND TENANT_ID_ IS NULL");
+    } else if (lane != null) {
+      where.append(" AND TENANT_ID_ = #{tenantId}");
+      parameters.put("tenantId", lane.tenantId());
+    }
+
+    var query = historyService.createNativeHistoricProcessInstanceQuery()
+        .sql("SELECT *" + where + " ORDER BY START_TIME_ ASC, ID_ ASC");
+    var countQuery = historyService.createNativeHistoricProcessInstanceQuery()
+        .sql("SELECT COUNT(*)" + where);
+    parameters.forEach((name, value) -> {
+      query.parameter(name, value);
+      countQuery.parameter(name, value);
+    });
+
+    new Pagination<IdKeyDbModel>().readLimiter(readLimiter)
+        .pageSize(properties.getPageSize())
+        .maxCount(countQuery::count)
+        .page(offset -> query.listPage(offset, properties.getPageSize())
+            .stream()
+            .map(hpi -> {
+              var processInstance = new IdKeyDbModel(hpi.getId(), hpi.getStartTime());
+              processInstance.setProcessDefinitionKey(hpi.getProcessDefinitionKey());
+              processInstance.setTenantId(hpi.getTenantId());
+              return processInstance;
+            })
+            .collect(Collectors.toList()))
+        .callback(callback);
+  }
+
+  /**
+   * Returns the condition that selects the process instances of the shard by the last character of their ID.
+   */
+  protected String getShardCondition(RuntimeShard shard) {
+    String condition = getIdSuffixCondition(shard.getIdSuffixes());
+    if (shard.hasOtherIdSuffixes()) {
+      condition += " OR NOT (" + getIdSuffixCondition(List.of(RuntimeShard.ID_SUFFIXES.split(""))) + ")";
+    }
+    return "(" + condition + ")";
+  }
+
+  protected String getIdSuffixCondition(List<String> idSuffixes) {
+    return idSuffixes.stream()
+        .map(idSuffix -> "ID_ LIKE '%" + idSuffix + "'")
+        .collect(Collectors.joining(" OR "));
+  }
+
   /**
    * Processes historic process instances with pagination using the provided callback consumer.
    */
@@ -275,13 +532,70 @@ public class C7Client {
       query.startedAfter(startedAfter);
     }
 
-    new Pagination<HistoricProcessInstance>()
+    filterByTenantLane(query, HistoricProcessInstanceQuery::tenantIdIn, HistoricProcessInstanceQuery::withoutTenantId);
+
+    new Pagination<HistoricProcessInstance>().readLimiter(readLimiter)
         .pageSize(properties.getPageSize())
         .query(query)
         .maxCount(query::count)
         .callback(callback);
   }
 
+  /**
+   * Processes historic root process instances started within the given time range, both bounds inclusive. Without an
+   * upper bound, all root process instances started after the lower bound are processed.
+   */
+  public void fetchAndHandleHistoricRootProcessInstances(Consumer<HistoricProcessInstance> callback,
+                                                         Date startedAfter,
+                                                         Date startedBefore) {
+    var query = historyService.createHistoricProcessInstanceQuery()
+        .rootProcessInstances()
+        .startedAfter(startedAfter);
+    if (startedBefore != null) {
+      query.startedBefore(startedBefore);
+    }
+    query.orderByProcessInstanceStartTime()
+        .asc()
+        .orderByProcessInstanceId()
+        .asc();
+
+    filterByTenantLane(query, HistoricProcessInstanceQuery::tenantIdIn, HistoricProcessInstanceQuery::withoutTenantId);
+
+    new Pagination<HistoricProcessInstance>().readLimiter(readLimiter)
+        .pageSize(properties.getPageSize())
+        .query(query)
+        .maxCount(query::count)
+        .callback(callback);
+  }
+
+  /**
+   * Gets the historic process instances called by the given process instance in the order they were started.
+   */
+  public List<HistoricProcessInstance> getHistoricSubProcessInstances(String superProcessInstanceId) {
+    var query = historyService.createHistoricProcessInstanceQuery()
+        .superProcessInstanceId(superProcessInstanceId)
+        .orderByProcessInstanceStartTime()
+        .asc()
+        .orderByProcessInstanceId()
+        .asc();
+    return new Pagination<HistoricProcessInstance>().readLimiter(readLimiter).pageSize(properties.getPageSize()).query(query).toList();
+  }
+
+  /**
+   * Gets the start time of the first historic process instance or {@code null} if there is none.
+   */
+  public Date getFirstHistoricProcessInstanceStartTime() {
+    var query = historyService.createHistoricProcessInstanceQuery()
+        .orderByProcessInstanceStartTime()
+        .asc();
+    filterByTenantLane(query, HistoricProcessInstanceQuery::tenantIdIn, HistoricProcessInstanceQuery::withoutTenantId);
+    return callApi(limited(() -> query.listPage(0, 1)), FAILED_TO_FETCH_FIRST_START_TIME)
+        .stream()
+        .findFirst()
+        .map(HistoricProcessInstance::getStartTime)
+        .orElse(null);
+  }
+
   /**
    * Processes historic decision instances with pagination using the provided callback consumer.
    */
@@ -298,7 +612,9 @@ public class C7Client {
       query.evaluatedAfter(evaluatedAfter);
     }
 
-    new Pagination<HistoricDecisionInstance>()
+    filterByTenantLane(query, HistoricDecisionInstanceQuery::tenantIdIn, HistoricDecisionInstanceQuery::withoutTenantId);
+
+    new Pagination<HistoricDecisionInstance>().readLimiter(readLimiter)
         .pageSize(properties.getPageSize())
         .query(query)
         .maxCount(query::count)
@@ -319,6 +635,8 @@ public class C7Client {
       query.deployedAfter(deployedAfter);
     }
 
+    filterByTenantLane(query, ProcessDefinitionQuery::tenantIdIn, ProcessDefinitionQuery::withoutTenantId);
+
     fetchAndHandleProcessDefinitions(query, callback);
   }
 
@@ -337,7 +655,7 @@ public class C7Client {
    * Processes process definitions with pagination using the provided callback consumer.
    */
   public void fetchAndHandleProcessDefinitions(ProcessDefinitionQueryImpl query, Consumer<ProcessDefinition> callback) {
-    new Pagination<ProcessDefinition>()
+    new Pagination<ProcessDefinition>().readLimiter(readLimiter)
         .pageSize(properties.getPageSize())
         .query(query)
         .maxCount(query::count)
@@ -358,7 +676,9 @@ public class C7Client {
       query.deployedAfter(deployedAfter);
     }
 
-    new Pagination<DecisionDefinition>()
+    filterByTenantLane(query, DecisionDefinitionQuery::tenantIdIn, DecisionDefinitionQuery::withoutTenantId);
+
+    new Pagination<DecisionDefinition>().readLimiter(readLimiter)
         .pageSize(properties.getPageSize())
         .query(query)
         .maxCount(query::count)
@@ -373,7 +693,9 @@ public class C7Client {
         .orderByDecisionRequirementsDefinitionId()
         .asc();
 
-    new Pagination<DecisionRequirementsDefinition>().pageSize(properties.getPageSize())
+    filterByTenantLane(query, DecisionRequirementsDefinitionQuery::tenantIdIn, DecisionRequirementsDefinitionQuery::withoutTenantId);
+
+    new Pagination<DecisionRequirementsDefinition>().readLimiter(readLimiter).pageSize(properties.getPageSize())
         .query(query)
         .maxCount(query::count)
         .callback(callback);
@@ -393,7 +715,9 @@ public class C7Client {
       query.createTimeAfter(createdAfter);
     }
 
-    new Pagination<HistoricIncident>()
+    filterByTenantLane(query, HistoricIncidentQuery::tenantIdIn, HistoricIncidentQuery::withoutTenantId);
+
+    new Pagination<HistoricIncident>().readLimiter(readLimiter)
         .pageSize(properties.getPageSize())
         .query(query)
         .maxCount(query::count)
@@ -405,6 +729,8 @@ public class C7Client {
    */
   public void fetchAndHandleHistoricVariables(Consumer<HistoricVariableInstance> callback, Date createdAfter) {
     HistoricVariableInstanceQueryImpl query = (HistoricVariableInstanceQueryImpl) historyService.createHistoricVariableInstanceQuery()
+        .disableBinaryFetching()
+        .disableCustomObjectDeserialization()
         .orderByCreationTime()
         .asc()
         .orderByVariableId()
@@ -414,7 +740,9 @@ public class C7Client {
       query.createdAfter(createdAfter);
     }
 
-    new Pagination<HistoricVariableInstance>()
+    filterByTenantLane(query, HistoricVariableInstanceQuery::tenantIdIn, HistoricVariableInstanceQuery::withoutTenantId);
+
+    new Pagination<HistoricVariableInstance>().readLimiter(readLimiter)
         .pageSize(properties.getPageSize())
         .query(query)
         .maxCount(query::count)
@@ -435,7 +763,9 @@ public class C7Client {
       query.startedAfter(startedAfter);
     }
 
-    new Pagination<HistoricTaskInstance>()
+    filterByTenantLane(query, HistoricTaskInstanceQuery::tenantIdIn, HistoricTaskInstanceQuery::withoutTenantId);
+
+    new Pagination<HistoricTaskInstance>().readLimiter(readLimiter)
         .pageSize(properties.getPageSize())
         .query(query)
         .maxCount(query::count)
@@ -456,11 +786,104 @@ public class C7Client {
       query.startedAfter(startedAfter);
     }
 
-    new Pagination<HistoricActivityInstance>()
+    filterByTenantLane(query, HistoricActivityInstanceQuery::tenantIdIn, HistoricActivityInstanceQuery::withoutTenantId);
+
+    new Pagination<HistoricActivityInstance>().readLimiter(readLimiter)
         .pageSize(properties.getPageSize())
         .query(query)
         .maxCount(query::count)
         .callback(callback);
   }
 
+  /**
+   * Gets the historic flow node instances of a process instance in the order they were started.
+   */
+  public List<HistoricActivityInstance> getHistoricFlowNodes(String processInstanceId) {
+    var query = historyService.createHistoricActivityInstanceQuery()
+        .processInstanceId(processInstanceId)
+        .orderByHistoricActivityInstanceStartTime()
+        .asc()
+        .orderByHistoricActivityInstanceId()
+        .asc();
+    return new Pagination<HistoricActivityInstance>().readLimiter(readLimiter).pageSize(properties.getPageSize()).query(query).toList();
+  }
+
+  /**
+   * Gets the historic user task instances of a process instance in the order they were started.
+   */
+  public List<HistoricTaskInstance> getHistoricUserTasks(String processInstanceId) {
+    var query = historyService.createHistoricTaskInstanceQuery()
+        .processInstanceId(processInstanceId)
+        .orderByHistoricActivityInstanceStartTime()
+        .asc()
+        .orderByTaskId()
+        .asc();
+    return new Pagination<HistoricTaskInstance>().readLimiter(readLimiter).pageSize(properties.getPageSize()).query(query).toList();
+  }
+
+  /**
+   * Gets the historic variable instances of a process instance in the order they were created.
+   */
+  public List<HistoricVariableInstance> getHistoricVariables(String processInstanceId) {
+    var query = historyService.createHistoricVariableInstanceQuery()
+        .disableBinaryFetching()
+        .disableCustomObjectDeserialization()
+        .processInstanceId(processInstanceId)
+        .orderByCreationTime()
+        .asc()
+        .orderByVariableId()
+        .asc();
+    return new Pagination<HistoricVariableInstance>().readLimiter(readLimiter).pageSize(properties.getPageSize()).query(query).toList();
+  }
+
+  /**
+   * Gets the historic incidents of a process instance in the order they were created.
+   */
+  public List<HistoricIncident> getHistoricIncidents(String processInstanceId) {
+    var query = historyService.createHistoricIncidentQuery()
+        .processInstanceId(processInstanceId)
+        .orderByCreateTime()
+        .asc()
+        .orderByIncidentId()
+        .asc();
+    return new Pagination<HistoricIncident>().readLimiter(readLimiter).pageSize(properties.getPageSize()).query(query).toList();
+  }
+
+  /**
+   * Gets the historic decision instances of a process instance in the order they were evaluated.
+   */
+  public List<HistoricDecisionInstance> getHistoricDecisionInstances(String processInstanceId) {
+    var query = historyService.createHistoricDecisionInstanceQuery()
+        .processInstanceId(processInstanceId)
+        .includeInputs()
+        .includeOutputs()
+        .orderByEvaluationTime()
+        .asc()
+        .orderByDecisionInstanceId()
+        .asc();
+    return new Pagination<HistoricDecisionInstance>().readLimiter(readLimiter).pageSize(properties.getPageSize()).query(query).toList();
+  }
+
+  /**
+   * Restricts the query to the tenant of the current {@link TenantLane}, if any.
+   */
+  protected <Q> void filterByTenantLane(Q query, BiConsumer<Q, String[]> tenantIdIn, Consumer<Q> withoutTenantId) {
+    TenantLane lane = TenantLane.current();
+    if (lane == null) {
+      return;
+    }
+
+    if (lane.isWithoutTenant()) {
+      withoutTenantId.accept(query);
+    } else {
+      tenantIdIn.accept(query, new String[] { lane.tenantId() });
+    }
+  }
+
+  /**
+   * Runs the query within the C7 read limits.
+   */
+  protected <T> Supplier<T> limited(Supplier<T> query) {
+    return () -> readLimiter.query(query);
+  }
 }
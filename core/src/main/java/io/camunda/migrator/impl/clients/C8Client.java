@@ -8,29 +8,42 @@
 package io.camunda.migrator.impl.clients;
 
 import static io.camunda.migrator.constants.MigratorConstants.C8_DEFAULT_TENANT;
+import static io.camunda.migrator.constants.MigratorConstants.LEGACY_ID_VAR_NAME;
 import static io.camunda.migrator.impl.logging.C8ClientLogs.FAILED_TO_DEPLOY_C8_RESOURCES;
 import static io.camunda.migrator.impl.util.ConverterUtil.getTenantId;
 import static io.camunda.migrator.impl.util.ExceptionUtils.callApi;
+import static io.camunda.migrator.impl.util.ExceptionUtils.callCommand;
 import static io.camunda.migrator.impl.logging.C8ClientLogs.FAILED_TO_CREATE_PROCESS_INSTANCE;
 import static io.camunda.migrator.impl.logging.C8ClientLogs.FAILED_TO_ACTIVATE_JOBS;
 import static io.camunda.migrator.impl.logging.C8ClientLogs.FAILED_TO_FETCH_PROCESS_DEFINITION_XML;
 import static io.camunda.migrator.impl.logging.C8ClientLogs.FAILED_TO_FETCH_VARIABLE;
 import static io.camunda.migrator.impl.logging.C8ClientLogs.FAILED_TO_MODIFY_PROCESS_INSTANCE;
+import static io.camunda.migrator.impl.logging.C8ClientLogs.FAILED_TO_OPEN_JOB_WORKER;
+import static io.camunda.migrator.impl.logging.C8ClientLogs.FAILED_TO_RELEASE_JOB;
 import static io.camunda.migrator.impl.logging.C8ClientLogs.FAILED_TO_SEARCH_PROCESS_DEFINITIONS;
 
 import io.camunda.client.CamundaClient;
 import io.camunda.client.api.command.DeployResourceCommandStep1;
 import io.camunda.client.api.command.ModifyProcessInstanceCommandStep1.ModifyProcessInstanceCommandStep3;
 import io.camunda.client.api.response.ActivatedJob;
+import io.camunda.client.api.worker.JobHandler;
+import io.camunda.client.api.worker.JobWorker;
 import io.camunda.client.api.response.ProcessInstanceEvent;
 import io.camunda.client.api.search.response.ProcessDefinition;
 import io.camunda.client.api.search.response.SearchResponse;
 import io.camunda.migrator.config.property.MigratorProperties;
+import io.camunda.migrator.impl.TenantLane;
+import io.camunda.migrator.impl.concurrent.ConcurrencyLimiters;
 import io.camunda.migrator.impl.model.FlowNodeActivation;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -42,12 +55,30 @@ import org.springframework.stereotype.Component;
 @Component
 public class C8Client {
 
+  // Operations with a concurrency limit each
+  protected static final String CREATE_PROCESS_INSTANCE = "createProcessInstance";
+  protected static final String SEARCH_PROCESS_DEFINITIONS = "searchProcessDefinitions";
+  protected static final String GET_PROCESS_DEFINITION_XML = "getProcessDefinitionXml";
+  protected static final String MODIFY_PROCESS_INSTANCE = "modifyProcessInstance";
+  protected static final String RELEASE_JOB = "releaseJob";
+  protected static final String DEPLOY_RESOURCES = "deployResources";
+
   @Autowired
   protected MigratorProperties properties;
 
   @Autowired
   protected CamundaClient camundaClient;
 
+  @Autowired(required = false)
+  protected MeterRegistry meterRegistry;
+
+  protected ConcurrencyLimiters concurrencyLimiters;
+
+  @PostConstruct
+  public void init() {
+    concurrencyLimiters = new ConcurrencyLimiters("gateway", properties.getConcurrencyLimit(), meterRegistry);
+  }
+
   /**
    * Creates a new process instance with the given BPMN process ID and variables.
    */
@@ -60,7 +91,23 @@ public class C8Client {
         .tenantId(getTenantId(tenantId));
 
 
-    return callApi(createProcessInstance::execute, FAILED_TO_CREATE_PROCESS_INSTANCE + bpmnProcessId);
+    return callCommand(limited(CREATE_PROCESS_INSTANCE, createProcessInstance::execute),
+        FAILED_TO_CREATE_PROCESS_INSTANCE + bpmnProcessId);
+  }
+
+  /**
+   * Sends the command to create a new process instance without waiting for the response. The returned future fails
+   * with the unwrapped client exception, the caller is responsible for handling it like {@code callApi} would.
+   */
+  public CompletableFuture<ProcessInstanceEvent> createProcessInstanceAsync(String bpmnProcessId, String tenantId,
+                                                                            Map<String, Object> variables) {
+    var createProcessInstance = camundaClient.newCreateInstanceCommand()
+        .bpmnProcessId(bpmnProcessId)
+        .latestVersion()
+        .variables(variables)
+        .tenantId(getTenantId(tenantId));
+
+    return concurrencyLimiters.get(CREATE_PROCESS_INSTANCE).callAsync(createProcessInstance::send);
   }
 
   /**
@@ -73,7 +120,8 @@ public class C8Client {
         filterBuilder.tenantId(tenantId);
       }
     }).sort(s -> s.version().desc());
-    return callApi(searchRequest::execute, FAILED_TO_SEARCH_PROCESS_DEFINITIONS + processDefinitionId);
+    return callApi(limited(SEARCH_PROCESS_DEFINITIONS, searchRequest::execute),
+        FAILED_TO_SEARCH_PROCESS_DEFINITIONS + processDefinitionId);
   }
 
   /**
@@ -81,31 +129,71 @@ public class C8Client {
    */
   public String getProcessDefinitionXml(long processDefinitionKey) {
     var getXmlRequest = camundaClient.newProcessDefinitionGetXmlRequest(processDefinitionKey);
-    return callApi(getXmlRequest::execute, FAILED_TO_FETCH_PROCESS_DEFINITION_XML + processDefinitionKey);
+    return callApi(limited(GET_PROCESS_DEFINITION_XML, getXmlRequest::execute),
+        FAILED_TO_FETCH_PROCESS_DEFINITION_XML + processDefinitionKey);
   }
 
   /**
-   * Activates jobs for the specified job type.
+   * Activates jobs for the specified job type, with the legacyId as their only variable. Within a {@link TenantLane},
+   * only jobs of the lane's tenant are activated. The activation waits for jobs to become available, so its latency
+   * doesn't reflect the load of the gateway and it's not subject to the concurrency limit.
    */
   public List<ActivatedJob> activateJobs(String jobType) {
-    Set<String> tenantIds = properties.getTenantIds();
+    List<String> tenantIds = getJobTenantIds();
 
     var activateJobs = camundaClient.newActivateJobsCommand()
         .jobType(jobType)
-        .maxJobsToActivate(properties.getPageSize());
-    if (tenantIds != null && !tenantIds.isEmpty()) {
+        .maxJobsToActivate(properties.getPageSize())
+        .fetchVariables(LEGACY_ID_VAR_NAME);
+    if (tenantIds != null) {
+      activateJobs = activateJobs.tenantIds(tenantIds);
+    }
+    return callApi(activateJobs::execute, FAILED_TO_ACTIVATE_JOBS + jobType).getJobs();
+  }
+
+  /**
+   * Opens a worker for the job type that handles the jobs streamed by the gateway as soon as they are created, as well
+   * as the jobs it polls. Like activated jobs, they only carry the legacyId variable. Within a {@link TenantLane}, only
+   * jobs of the lane's tenant are handled.
+   */
+  public JobWorker openJobWorker(String jobType, int maxJobsActive, JobHandler handler) {
+    List<String> tenantIds = getJobTenantIds();
+
+    var jobWorker = camundaClient.newWorker()
+        .jobType(jobType)
+        .handler(handler)
+        .maxJobsActive(maxJobsActive)
+        .fetchVariables(LEGACY_ID_VAR_NAME)
+        .streamEnabled(true);
+    if (tenantIds != null) {
+      jobWorker = jobWorker.tenantIds(tenantIds);
+    }
+    var openJobWorker = jobWorker;
+    return callApi(openJobWorker::open, FAILED_TO_OPEN_JOB_WORKER + jobType);
+  }
+
+  /**
+   * Returns the tenants to activate jobs of, or {@code null} for the default tenant only.
+   */
+  protected List<String> getJobTenantIds() {
+    Set<String> tenantIds = properties.getTenantIds();
+    TenantLane lane = TenantLane.current();
+    if (lane != null) {
+      return List.of(getTenantId(lane.tenantId()));
+    } else if (tenantIds != null && !tenantIds.isEmpty()) {
       Set<String> tenantIdsWithDefault = new java.util.HashSet<>(tenantIds);
       tenantIdsWithDefault.add(C8_DEFAULT_TENANT);
-      activateJobs = activateJobs.tenantIds(List.copyOf(tenantIdsWithDefault));
+      return List.copyOf(tenantIdsWithDefault);
     }
-    return callApi(activateJobs::execute, FAILED_TO_ACTIVATE_JOBS + jobType).getJobs();
+    return null;
   }
 
   /**
-   * Gets a variable value from an activated job.
+   * Gets a variable value from an activated job, or {@code null} if the job doesn't have the variable.
    */
   public Object getJobVariable(ActivatedJob job, String variableName) {
-    return callApi(() -> job.getVariable(variableName), String.format(FAILED_TO_FETCH_VARIABLE, variableName, job.getKey()));
+    return callApi(() -> job.getVariablesAsMap().get(variableName),
+        String.format(FAILED_TO_FETCH_VARIABLE, variableName, job.getKey()));
   }
 
   /**
@@ -129,7 +217,21 @@ public class C8Client {
       }
     });
 
-    callApi(() -> ((ModifyProcessInstanceCommandStep3) modifyProcessInstance).execute(), FAILED_TO_MODIFY_PROCESS_INSTANCE + processInstanceKey);
+    var modification = (ModifyProcessInstanceCommandStep3) modifyProcessInstance;
+    callCommand(limited(MODIFY_PROCESS_INSTANCE, modification::execute),
+        FAILED_TO_MODIFY_PROCESS_INSTANCE + processInstanceKey);
+  }
+
+  /**
+   * Makes an activated job that this node doesn't handle available to other workers again. The job is failed without
+   * using up a retry and can be activated again after the backoff.
+   */
+  public void releaseJob(ActivatedJob job, String reason, Duration retryBackoff) {
+    var failJob = camundaClient.newFailCommand(job)
+        .retries(job.getRetries())
+        .retryBackoff(retryBackoff)
+        .errorMessage(reason);
+    callCommand(limited(RELEASE_JOB, failJob::execute), FAILED_TO_RELEASE_JOB + job.getKey());
   }
 
   /**
@@ -143,8 +245,14 @@ public class C8Client {
     }
 
     if (deployResourceCmd != null) {
-      callApi(deployResourceCmd::execute, FAILED_TO_DEPLOY_C8_RESOURCES + models);
+      callCommand(limited(DEPLOY_RESOURCES, deployResourceCmd::execute), FAILED_TO_DEPLOY_C8_RESOURCES + models);
     }
   }
 
+  /**
+   * Sends the command within the concurrency limit of the operation on the gateway, which adapts to its backpressure.
+   */
+  protected <T> Supplier<T> limited(String operation, Supplier<T> command) {
+    return () -> concurrencyLimiters.get(operation).call(command);
+  }
 }
@@ -8,18 +8,34 @@
 package io.camunda.migrator.impl.clients;
 
 import static io.camunda.migrator.impl.logging.DbClientLogs.FAILED_TO_CHECK_EXISTENCE;
+import static io.camunda.migrator.impl.logging.DbClientLogs.C8_KEY_COLLISION;
 import static io.camunda.migrator.impl.logging.DbClientLogs.FAILED_TO_CHECK_KEY;
+import static io.camunda.migrator.impl.logging.DbClientLogs.FAILED_TO_CLAIM_LEASE;
+import static io.camunda.migrator.impl.logging.DbClientLogs.FAILED_TO_COMPLETE_LEASE;
 import static io.camunda.migrator.impl.logging.DbClientLogs.FAILED_TO_DELETE;
+import static io.camunda.migrator.impl.logging.DbClientLogs.FAILED_TO_DELETE_LEASES;
+import static io.camunda.migrator.impl.logging.DbClientLogs.FAILED_TO_DELETE_WATERMARK;
+import static io.camunda.migrator.impl.logging.DbClientLogs.FAILED_TO_EXTEND_LEASES;
 import static io.camunda.migrator.impl.logging.DbClientLogs.FAILED_TO_FIND_ALL;
 import static io.camunda.migrator.impl.logging.DbClientLogs.FAILED_TO_FIND_ALL_SKIPPED;
 import static io.camunda.migrator.impl.logging.DbClientLogs.FAILED_TO_FIND_KEY_BY_ID;
 import static io.camunda.migrator.impl.logging.DbClientLogs.FAILED_TO_FIND_LATEST_CREATE_TIME;
+import static io.camunda.migrator.impl.logging.DbClientLogs.FAILED_TO_FIND_LEASE;
+import static io.camunda.migrator.impl.logging.DbClientLogs.FAILED_TO_FIND_MIGRATED;
+import static io.camunda.migrator.impl.logging.DbClientLogs.FAILED_TO_FIND_SETTING;
 import static io.camunda.migrator.impl.logging.DbClientLogs.FAILED_TO_FIND_SKIPPED_COUNT;
+import static io.camunda.migrator.impl.logging.DbClientLogs.FAILED_TO_FIND_WATERMARK;
+import static io.camunda.migrator.impl.logging.DbClientLogs.FAILED_TO_FLUSH_BATCH;
 import static io.camunda.migrator.impl.logging.DbClientLogs.FAILED_TO_INSERT_RECORD;
+import static io.camunda.migrator.impl.logging.DbClientLogs.FAILED_TO_READ_DATABASE_TIME;
+import static io.camunda.migrator.impl.logging.DbClientLogs.FAILED_TO_RELEASE_LEASE;
+import static io.camunda.migrator.impl.logging.DbClientLogs.FAILED_TO_SAVE_SETTING;
+import static io.camunda.migrator.impl.logging.DbClientLogs.FAILED_TO_SAVE_WATERMARK;
 import static io.camunda.migrator.impl.logging.DbClientLogs.FAILED_TO_UPDATE_KEY;
 import static io.camunda.migrator.impl.logging.DbClientLogs.FAILED_TO_UPDATE_SKIP_REASON;
 import static io.camunda.migrator.impl.persistence.IdKeyMapper.TYPE;
 import static io.camunda.migrator.impl.util.ExceptionUtils.callApi;
+import static io.camunda.migrator.impl.util.ExceptionUtils.callCommand;
 
 import io.camunda.db.rdbms.read.domain.DecisionDefinitionDbQuery;
 import io.camunda.db.rdbms.read.domain.DecisionInstanceDbQuery;
@@ -45,35 +61,68 @@ import io.camunda.db.rdbms.write.domain.ProcessInstanceDbModel;
 import io.camunda.db.rdbms.write.domain.UserTaskDbModel;
 import io.camunda.db.rdbms.write.domain.VariableDbModel;
 import io.camunda.migrator.config.property.MigratorProperties;
+import io.camunda.migrator.exception.MigratorException;
 import io.camunda.migrator.impl.Pagination;
+import io.camunda.migrator.impl.TenantLane;
+import io.camunda.migrator.impl.concurrent.ConcurrencyLimiters;
 import io.camunda.migrator.impl.logging.DbClientLogs;
+import io.camunda.migrator.impl.model.RuntimeShard;
+import io.camunda.migrator.impl.persistence.BulkLoadWriter;
 import io.camunda.migrator.impl.persistence.IdKeyDbModel;
 import io.camunda.migrator.impl.persistence.IdKeyMapper;
+import io.camunda.migrator.impl.persistence.LeaseDbModel;
+import io.camunda.migrator.impl.persistence.LeaseMapper;
+import io.camunda.migrator.impl.persistence.SettingMapper;
+import io.camunda.migrator.impl.persistence.WatermarkDbModel;
+import io.camunda.migrator.impl.persistence.WatermarkMapper;
 import io.camunda.migrator.impl.util.PrintUtils;
 import io.camunda.search.entities.DecisionDefinitionEntity;
 import io.camunda.search.entities.DecisionInstanceEntity;
 import io.camunda.search.entities.ProcessDefinitionEntity;
 import io.camunda.search.entities.ProcessInstanceEntity;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import java.util.Date;
 import java.util.List;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import javax.sql.DataSource;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * Wrapper class for IdKeyMapper database operations with exception handling.
- * Maintains the same exception wrapping behavior as ExceptionUtils.callApi.
+ * Maintains the same exception wrapping behavior as ExceptionUtils.callApi. Inserts and updates go through
+ * ExceptionUtils.callCommand, so a write that may have been applied before a connection failure is not sent again.
  */
 @Component
 public class DbClient {
 
+  protected static final String FLUSH_BATCH = "flushBatch";
+
   @Autowired
   protected MigratorProperties properties;
 
   @Autowired
   protected IdKeyMapper idKeyMapper;
 
+  @Autowired
+  protected LeaseMapper leaseMapper;
+
+  @Autowired
+  protected WatermarkMapper watermarkMapper;
+
+  @Autowired
+  protected SettingMapper settingMapper;
+
   // MyBatis mappers for history migration
   // These are optional because they're only available when C8 data source is configured
   @Autowired(required = false)
@@ -103,6 +152,46 @@ public class DbClient {
   @Autowired(required = false)
   protected DecisionRequirementsMapper decisionRequirementsMapper;
 
+  @Autowired(required = false)
+  protected BulkLoadWriter bulkLoadWriter;
+
+  @Autowired(required = false)
+  @Qualifier("c8SqlSessionFactory")
+  protected SqlSessionFactory c8SqlSessionFactory;
+
+  @Autowired(required = false)
+  @Qualifier("c8DataSource")
+  protected DataSource c8DataSource;
+
+  @Autowired(required = false)
+  @Qualifier("migratorDataSource")
+  protected DataSource migratorDataSource;
+
+  @Autowired(required = false)
+  protected MeterRegistry meterRegistry;
+
+  protected TransactionTemplate c8TransactionTemplate;
+
+  protected TransactionTemplate mappingLookupTemplate;
+
+  protected ConcurrencyLimiters concurrencyLimiters;
+
+  protected final ThreadLocal<SqlSession> batchSession = new ThreadLocal<>();
+
+  @PostConstruct
+  public void init() {
+    if (c8DataSource != null) {
+      c8TransactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(c8DataSource));
+      concurrencyLimiters = new ConcurrencyLimiters("rdbms", properties.getConcurrencyLimit(), meterRegistry);
+    }
+    if (migratorDataSource != null) {
+      // looks up mapping records outside of a C8 transaction that a failed insert may have aborted
+      mappingLookupTemplate = new TransactionTemplate(new DataSourceTransactionManager(migratorDataSource));
+      mappingLookupTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+      mappingLookupTemplate.setReadOnly(true);
+    }
+  }
+
   /**
    * Checks if an entity exists in the mapping table by type and id.
    */
@@ -118,15 +207,39 @@ public class DbClient {
   }
 
   /**
-   * Finds the latest create time by type.
+   * Finds the latest create time by type. Within a {@link TenantLane}, only entities migrated within the lane are
+   * considered. Mapping records written without tenant lanes have no tenant ID and are ignored, so a lane may revisit
+   * entities that were already migrated before lanes were enabled.
    */
   public Date findLatestCreateTimeByType(TYPE type) {
-    Date latestCreateTime = callApi(() -> idKeyMapper.findLatestCreateTimeByType(type),
+    TenantLane lane = TenantLane.current();
+    Date latestCreateTime = callApi(() -> lane == null
+            ? idKeyMapper.findLatestCreateTimeByType(type)
+            : idKeyMapper.findLatestCreateTimeByTypeAndTenant(type, lane.mappingTenantId()),
+        FAILED_TO_FIND_LATEST_CREATE_TIME + type);
+    DbClientLogs.foundLatestCreateTime(latestCreateTime, type);
+    return latestCreateTime;
+  }
+
+  /**
+   * Finds the latest create time by type among the entities of the runtime shard, selected by the last character of
+   * their C7 ID. Within a {@link TenantLane}, only entities migrated within the lane are considered.
+   */
+  public Date findLatestCreateTimeByTypeAndShard(TYPE type, RuntimeShard shard) {
+    TenantLane lane = TenantLane.current();
+    List<String> otherIdSuffixes = shard.hasOtherIdSuffixes() ? List.of(RuntimeShard.ID_SUFFIXES.split("")) : null;
+    Date latestCreateTime = callApi(() -> idKeyMapper.findLatestCreateTimeByTypeAndShard(type,
+            lane == null ? null : lane.mappingTenantId(), getIdSuffixPatterns(shard.getIdSuffixes()),
+            otherIdSuffixes == null ? null : getIdSuffixPatterns(otherIdSuffixes)),
         FAILED_TO_FIND_LATEST_CREATE_TIME + type);
     DbClientLogs.foundLatestCreateTime(latestCreateTime, type);
     return latestCreateTime;
   }
 
+  protected List<String> getIdSuffixPatterns(List<String> idSuffixes) {
+    return idSuffixes.stream().map(idSuffix -> "%" + idSuffix).toList();
+  }
+
   /**
    * Finds the key by C7 ID and type.
    */
@@ -147,7 +260,11 @@ public class DbClient {
   public void updateC8KeyByC7IdAndType(String c7Id, Long c8Key, TYPE type) {
     DbClientLogs.updatingC8KeyForC7Id(c7Id, c8Key);
     var model = createIdKeyDbModel(c7Id, null, c8Key, type);
-    callApi(() -> idKeyMapper.updateC8KeyByC7IdAndType(model), FAILED_TO_UPDATE_KEY + c8Key);
+    try {
+      callCommand(() -> idKeyMapper.updateC8KeyByC7IdAndType(model), FAILED_TO_UPDATE_KEY + c8Key);
+    } catch (DataIntegrityViolationException e) {
+      throw toKeyCollision(c7Id, c8Key, type, e);
+    }
   }
 
   public void updateSkipReason(String c7Id, TYPE type, String skipReason) {
@@ -157,7 +274,7 @@ public class DbClient {
 
     DbClientLogs.updatingSkipReason(c7Id, skipReason);
     var model = createIdKeyDbModel(c7Id, null, null, type, skipReason);
-    callApi(() -> idKeyMapper.updateSkipReason(model), FAILED_TO_UPDATE_SKIP_REASON + c7Id);
+    callCommand(() -> idKeyMapper.updateSkipReason(model), FAILED_TO_UPDATE_SKIP_REASON + c7Id);
   }
 
   /**
@@ -181,7 +298,40 @@ public class DbClient {
     String finalSkipReason = properties.getSaveSkipReason() ? skipReason : null;
     DbClientLogs.insertingRecord(c7Id, createTime, null, finalSkipReason);
     var model = createIdKeyDbModel(c7Id, createTime, c8Key, type, finalSkipReason);
-    callApi(() -> idKeyMapper.insert(model), FAILED_TO_INSERT_RECORD + c7Id);
+    try {
+      callCommand(() -> idKeyMapper.insert(model), FAILED_TO_INSERT_RECORD + c7Id);
+    } catch (DataIntegrityViolationException e) {
+      throw toKeyCollision(c7Id, c8Key, type, e);
+    }
+  }
+
+  /**
+   * Names both C7 entities if the C8 key violates the unique index on C8 keys because another entity holds it, which
+   * happens if the deterministic key strategy computes the same key for two C7 IDs. Other violations are returned as
+   * they are.
+   */
+  protected RuntimeException toKeyCollision(String c7Id, Long c8Key, TYPE type, DataIntegrityViolationException e) {
+    if (c8Key == null) {
+      return e;
+    }
+
+    IdKeyDbModel holder = mappingLookupTemplate == null
+        ? idKeyMapper.findByC8Key(c8Key)
+        : mappingLookupTemplate.execute(status -> idKeyMapper.findByC8Key(c8Key));
+    if (holder == null || (holder.getC7Id().equals(c7Id) && holder.getType() == type)) {
+      return e;
+    }
+
+    return new MigratorException(String.format(C8_KEY_COLLISION, c8Key, type.getDisplayName(), c7Id,
+        holder.getType().getDisplayName(), holder.getC7Id()), e);
+  }
+
+  /**
+   * Returns {@code true} if any history entity was migrated into C8, skipped entities aside.
+   */
+  public boolean hasMigratedHistory() {
+    return IdKeyMapper.getHistoryTypes().stream()
+        .anyMatch(type -> !callApi(() -> idKeyMapper.findMigratedByType(type, 0, 1), FAILED_TO_FIND_MIGRATED + type).isEmpty());
   }
 
   /**
@@ -254,6 +404,13 @@ public class DbClient {
     keyIdDbModel.setC8Key(c8Key);
     keyIdDbModel.setType(type);
     keyIdDbModel.setSkipReason(skipReason);
+    if (c8Key != null && isBulkLoadEnabled()) {
+      keyIdDbModel.setBulkLoadRun(bulkLoadWriter.getRunName());
+    }
+    TenantLane lane = TenantLane.current();
+    if (lane != null) {
+      keyIdDbModel.setTenantId(lane.mappingTenantId());
+    }
     return keyIdDbModel;
   }
 
@@ -264,20 +421,140 @@ public class DbClient {
     return createIdKeyDbModel(c7Id, createTime, c8Key, type, null);
   }
 
+  /**
+   * Finds the lease of a work unit or returns {@code null} if it was never claimed.
+   */
+  public LeaseDbModel findLease(String workUnit) {
+    return callApi(() -> leaseMapper.findByWorkUnit(workUnit), FAILED_TO_FIND_LEASE + workUnit);
+  }
+
+  /**
+   * Like {@link #findLease(String)}, but locks the lease until the current transaction of the migrator data source
+   * ends, so no other node can take it over in the meantime.
+   */
+  public LeaseDbModel lockLease(String workUnit) {
+    return callApi(() -> leaseMapper.lockByWorkUnit(workUnit), FAILED_TO_FIND_LEASE + workUnit);
+  }
+
+  /**
+   * Returns the current time of the migrator database, which all nodes use for their leases.
+   */
+  public Date getDatabaseTime() {
+    return callApi(() -> leaseMapper.selectCurrentTimestamp(), FAILED_TO_READ_DATABASE_TIME);
+  }
+
+  /**
+   * Counts the work units matching the pattern that other owners hold and that are neither completed nor expired.
+   */
+  public long countActiveLeasesOfOthers(String workUnitPattern, String owner) {
+    return callApi(() -> leaseMapper.countActiveOfOthers(workUnitPattern, owner),
+        FAILED_TO_FIND_LEASE + workUnitPattern);
+  }
+
+  /**
+   * Claims a work unit that was never claimed before. Returns {@code false} if another node claimed it first.
+   */
+  public boolean insertLease(String workUnit, String owner, Date expiresAt) {
+    try {
+      callCommand(() -> leaseMapper.insert(new LeaseDbModel(workUnit, owner, expiresAt)), FAILED_TO_CLAIM_LEASE + workUnit);
+      return true;
+    } catch (DataIntegrityViolationException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Takes over an uncompleted work unit whose lease expired or is already held by the owner.
+   */
+  public boolean takeOverLease(String workUnit, String owner, Date expiresAt) {
+    return callCommand(() -> leaseMapper.takeOver(workUnit, owner, expiresAt),
+        FAILED_TO_CLAIM_LEASE + workUnit) == 1;
+  }
+
+  /**
+   * Extends all uncompleted leases of the owner.
+   */
+  public void extendLeases(String owner, Date expiresAt) {
+    callCommand(() -> leaseMapper.extendByOwner(owner, expiresAt), FAILED_TO_EXTEND_LEASES + owner);
+  }
+
+  /**
+   * Marks the work unit as completed. Returns {@code false} if the owner lost the lease in the meantime.
+   */
+  public boolean completeLease(String workUnit, String owner) {
+    return callCommand(() -> leaseMapper.complete(workUnit, owner), FAILED_TO_COMPLETE_LEASE + workUnit) == 1;
+  }
+
+  /**
+   * Gives up the uncompleted lease of the owner, so the work unit can be claimed again.
+   */
+  public void releaseLease(String workUnit, String owner) {
+    callApi(() -> leaseMapper.release(workUnit, owner), FAILED_TO_RELEASE_LEASE + workUnit);
+  }
+
+  /**
+   * Deletes all leases from the database.
+   */
+  public void deleteAllLeases() {
+    callApi(() -> leaseMapper.deleteAll(), FAILED_TO_DELETE_LEASES);
+  }
+
+  /**
+   * Finds the watermark of a work unit or returns {@code null} if its entities are not migrated out of order.
+   */
+  public WatermarkDbModel findWatermark(String workUnit) {
+    return callApi(() -> watermarkMapper.findByWorkUnit(workUnit), FAILED_TO_FIND_WATERMARK + workUnit);
+  }
+
+  public void insertWatermark(String workUnit, Date createTime) {
+    callCommand(() -> watermarkMapper.insert(new WatermarkDbModel(workUnit, createTime)), FAILED_TO_SAVE_WATERMARK + workUnit);
+  }
+
+  public void updateWatermark(String workUnit, Date createTime) {
+    callCommand(() -> watermarkMapper.update(workUnit, createTime), FAILED_TO_SAVE_WATERMARK + workUnit);
+  }
+
+  public void deleteWatermark(String workUnit) {
+    callApi(() -> watermarkMapper.delete(workUnit), FAILED_TO_DELETE_WATERMARK + workUnit);
+  }
+
+  /**
+   * Finds the value of a setting recorded by an earlier migration run or returns {@code null} if it was never recorded.
+   */
+  public String findSetting(String name) {
+    return callApi(() -> settingMapper.findValue(name), FAILED_TO_FIND_SETTING + name);
+  }
+
+  /**
+   * Records a setting. Returns {@code false} if another node recorded it first.
+   */
+  public boolean insertSetting(String name, String value) {
+    try {
+      callCommand(() -> settingMapper.insert(name, value), FAILED_TO_SAVE_SETTING + name);
+      return true;
+    } catch (DataIntegrityViolationException e) {
+      return false;
+    }
+  }
+
+  public void updateSetting(String name, String value) {
+    callCommand(() -> settingMapper.update(name, value), FAILED_TO_SAVE_SETTING + name);
+  }
+
   // ========== MyBatis Mapper Wrapper Methods for History Migration ==========
 
   /**
    * Inserts a ProcessDefinition into the database.
    */
   public void insertProcessDefinition(ProcessDefinitionDbModel dbModel) {
-    callApi(() -> processDefinitionMapper.insert(dbModel), "Failed to insert process definition");
+    callCommand(() -> insertOrWrite(ProcessDefinitionMapper.class, dbModel, processDefinitionMapper::insert), "Failed to insert process definition");
   }
 
   /**
    * Inserts a ProcessInstance into the database.
    */
   public void insertProcessInstance(ProcessInstanceDbModel dbModel) {
-    callApi(() -> processInstanceMapper.insert(dbModel), "Failed to insert process instance");
+    callCommand(() -> insertOrWrite(ProcessInstanceMapper.class, dbModel, processInstanceMapper::insert), "Failed to insert process instance");
   }
 
   /**
@@ -298,14 +575,14 @@ public class DbClient {
    * Inserts a DecisionRequirementsDefinition into the database.
    */
   public void insertDecisionRequirements(DecisionRequirementsDbModel dbModel) {
-    callApi(() -> decisionRequirementsMapper.insert(dbModel), "Failed to insert decision requirements");
+    callCommand(() -> insertOrWrite(DecisionRequirementsMapper.class, dbModel, decisionRequirementsMapper::insert), "Failed to insert decision requirements");
   }
 
   /**
    * Inserts a DecisionDefinition into the database.
    */
   public void insertDecisionDefinition(DecisionDefinitionDbModel dbModel) {
-    callApi(() -> decisionDefinitionMapper.insert(dbModel), "Failed to insert decision definition");
+    callCommand(() -> insertOrWrite(DecisionDefinitionMapper.class, dbModel, decisionDefinitionMapper::insert), "Failed to insert decision definition");
   }
 
   /**
@@ -319,7 +596,7 @@ public class DbClient {
    * Inserts a DecisionInstance into the database.
    */
   public void insertDecisionInstance(DecisionInstanceDbModel dbModel) {
-    callApi(() -> decisionInstanceMapper.insert(dbModel), "Failed to insert decision instance");
+    callCommand(() -> insertOrWrite(DecisionInstanceMapper.class, dbModel, decisionInstanceMapper::insert), "Failed to insert decision instance");
   }
 
   /**
@@ -333,28 +610,28 @@ public class DbClient {
    * Inserts an Incident into the database.
    */
   public void insertIncident(IncidentDbModel dbModel) {
-    callApi(() -> incidentMapper.insert(dbModel), "Failed to insert incident");
+    callCommand(() -> insertOrWrite(IncidentMapper.class, dbModel, incidentMapper::insert), "Failed to insert incident");
   }
 
   /**
    * Inserts a Variable into the database.
    */
   public void insertVariable(VariableDbModel dbModel) {
-    callApi(() -> variableMapper.insert(dbModel), "Failed to insert variable");
+    callCommand(() -> insertOrWrite(VariableMapper.class, dbModel, variableMapper::insert), "Failed to insert variable");
   }
 
   /**
    * Inserts a UserTask into the database.
    */
   public void insertUserTask(UserTaskDbModel dbModel) {
-    callApi(() -> userTaskMapper.insert(dbModel), "Failed to insert user task");
+    callCommand(() -> insertOrWrite(UserTaskMapper.class, dbModel, userTaskMapper::insert), "Failed to insert user task");
   }
 
   /**
    * Inserts a FlowNodeInstance into the database.
    */
   public void insertFlowNodeInstance(FlowNodeInstanceDbModel dbModel) {
-    callApi(() -> flowNodeInstanceMapper.insert(dbModel), "Failed to insert flow node instance");
+    callCommand(() -> insertOrWrite(FlowNodeInstanceMapper.class, dbModel, flowNodeInstanceMapper::insert), "Failed to insert flow node instance");
   }
 
   /**
@@ -370,4 +647,82 @@ public class DbClient {
   public List<ProcessDefinitionEntity> searchProcessDefinitions(ProcessDefinitionDbQuery query) {
     return callApi(() -> processDefinitionMapper.search(query), "Failed to search process definitions");
   }
+
+  /**
+   * Inserts the db model with the given mapper or writes it into the bulk load files when bulk load is enabled. Single
+   * inserts of each mapper and batch flushes are written within a concurrency limit each, which adapts to the latency of
+   * the C8 database.
+   */
+  protected <T> void insertOrWrite(Class<?> mapperType, T dbModel, Consumer<T> insert) {
+    if (isBulkLoadEnabled()) {
+      bulkLoadWriter.write(dbModel);
+    } else if (batchSession.get() != null) {
+      batchSession.get().insert(mapperType.getName() + ".insert", dbModel);
+    } else {
+      concurrencyLimiters.get(mapperType.getSimpleName() + ".insert").run(() -> insert.accept(dbModel));
+    }
+  }
+
+  /**
+   * Runs the given work in one C8 transaction and sends all C8 inserts of the current thread as a JDBC batch at its
+   * end. Runs the work as is when bulk load is enabled.
+   */
+  public void executeInBatch(Runnable work) {
+    executeInBatch(work, () -> {});
+  }
+
+  /**
+   * Like {@link #executeInBatch(Runnable)}, but runs the given check once the batch is flushed and before it is
+   * committed. If the check throws, the batch is rolled back.
+   */
+  public void executeInBatch(Runnable work, Runnable beforeCommit) {
+    if (c8SqlSessionFactory == null || isBulkLoadEnabled()) {
+      work.run();
+      beforeCommit.run();
+      return;
+    }
+
+    c8TransactionTemplate.executeWithoutResult(status -> {
+      try (SqlSession session = c8SqlSessionFactory.openSession(ExecutorType.BATCH)) {
+        batchSession.set(session);
+        work.run();
+        callCommand(() -> concurrencyLimiters.get(FLUSH_BATCH).call(session::flushStatements), FAILED_TO_FLUSH_BATCH);
+        beforeCommit.run();
+      } finally {
+        batchSession.remove();
+      }
+    });
+  }
+
+  /**
+   * Returns {@code true} if the mapping table is written through the C8 data source, so mapping records inserted
+   * within {@link #executeInBatch(Runnable)} are committed in the same transaction as the C8 rows.
+   */
+  public boolean isMappingInC8Transaction() {
+    return c8DataSource != null && c8DataSource == migratorDataSource && c8SqlSessionFactory != null
+        && !isBulkLoadEnabled();
+  }
+
+  public boolean isBulkLoadEnabled() {
+    return bulkLoadWriter != null && bulkLoadWriter.isEnabled();
+  }
+
+  /**
+   * Forces the rows written into the bulk load files to the storage device if bulk load is enabled. Has to be called
+   * before the written entities are marked as migrated.
+   */
+  public void syncBulkLoad() {
+    if (isBulkLoadEnabled()) {
+      bulkLoadWriter.sync();
+    }
+  }
+
+  /**
+   * Flushes and closes the bulk load files if bulk load is enabled.
+   */
+  public void closeBulkLoad() {
+    if (isBulkLoadEnabled()) {
+      bulkLoadWriter.close();
+    }
+  }
 }
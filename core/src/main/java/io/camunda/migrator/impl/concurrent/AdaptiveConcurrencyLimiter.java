@@ -0,0 +1,279 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.impl.concurrent;
+
+import static io.camunda.migrator.impl.logging.AdaptiveConcurrencyLimiterLogs.INTERRUPTED_WHILE_WAITING;
+
+import io.camunda.client.api.command.ClientStatusException;
+import io.camunda.client.api.command.ProblemException;
+import io.camunda.migrator.config.property.ConcurrencyLimitProperties;
+import io.camunda.migrator.exception.MigratorException;
+import io.camunda.migrator.impl.logging.AdaptiveConcurrencyLimiterLogs;
+import io.grpc.Status;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Limits the number of concurrent calls to a C8 target and adapts the limit to how the target copes with the load
+ * (additive increase, multiplicative decrease):
+ * <ul>
+ *   <li>On backpressure, or when the smoothed latency exceeds the baseline latency by the configured tolerance, the
+ *   limit is multiplied by the backoff ratio, at most once per round trip. Calls rejected with backpressure are retried
+ *   once a slot is free again.</li>
+ *   <li>Otherwise, the limit grows by one per round trip, as long as the callers use it up.</li>
+ * </ul>
+ * The latency of a call depends on what it does, so each operation on a target gets its own limiter, see
+ * {@link ConcurrencyLimiters}. The current limit is exposed as the gauge {@value #LIMIT_METRIC}, tagged with the target
+ * and the operation.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+  public static final String LIMIT_METRIC = "camunda.migrator.concurrency.limit";
+  public static final String IN_FLIGHT_METRIC = "camunda.migrator.concurrency.in.flight";
+
+  protected static final double LATENCY_SMOOTHING = 0.1;
+  protected static final double BASELINE_SMOOTHING = 0.01;
+
+  protected final String name;
+  protected final ConcurrencyLimitProperties properties;
+  protected final ReentrantLock lock = new ReentrantLock();
+  protected final Condition released = lock.newCondition();
+
+  protected double limit;
+  protected int inFlight;
+  protected double smoothedLatency;
+  protected double baselineLatency;
+  protected long lastDecrease;
+
+  /**
+   * @param meterRegistry to register the metrics in, or {@code null}
+   */
+  public AdaptiveConcurrencyLimiter(String target, String operation, ConcurrencyLimitProperties properties,
+                                    MeterRegistry meterRegistry) {
+    this.name = target + "/" + operation;
+    this.properties = properties;
+    this.limit = Math.clamp(properties.getInitialLimit(), getMinLimit(), getMaxLimit());
+
+    if (meterRegistry != null) {
+      Gauge.builder(LIMIT_METRIC, this, AdaptiveConcurrencyLimiter::getLimit)
+          .description("Current number of concurrent calls allowed")
+          .tag("target", target)
+          .tag("operation", operation)
+          .register(meterRegistry);
+      Gauge.builder(IN_FLIGHT_METRIC, this, AdaptiveConcurrencyLimiter::getInFlight)
+          .description("Current number of concurrent calls")
+          .tag("target", target)
+          .tag("operation", operation)
+          .register(meterRegistry);
+    }
+  }
+
+  public <T> T call(Supplier<T> call) {
+    if (!properties.isEnabled()) {
+      return call.get();
+    }
+
+    for (int attempt = 1; ; attempt++) {
+      acquire();
+      try {
+        long start = System.nanoTime();
+        T result = call.get();
+        onSuccess(System.nanoTime() - start);
+        return result;
+      } catch (RuntimeException e) {
+        if (!isBackpressure(e) || attempt > properties.getBackpressureRetries()) {
+          throw e;
+        }
+        onBackpressure(attempt);
+      } finally {
+        release();
+      }
+      pause();
+    }
+  }
+
+  /**
+   * Sends the asynchronous call within the limit. The calling thread waits for a free slot, the slot is released when
+   * the call completes. Calls rejected with backpressure are sent again after a pause.
+   */
+  public <T> CompletableFuture<T> callAsync(Supplier<? extends CompletionStage<T>> call) {
+    if (!properties.isEnabled()) {
+      return call.get().toCompletableFuture();
+    }
+    return callAsync(call, 1);
+  }
+
+  protected <T> CompletableFuture<T> callAsync(Supplier<? extends CompletionStage<T>> call, int attempt) {
+    acquire();
+    long start = System.nanoTime();
+    CompletionStage<T> stage;
+    try {
+      stage = call.get();
+    } catch (RuntimeException e) {
+      release();
+      throw e;
+    }
+
+    return stage.toCompletableFuture().handle((result, failure) -> {
+      // like in call(), the limit is adapted while the call still counts as in flight, so a call at the limit increases it
+      try {
+        if (failure == null) {
+          onSuccess(System.nanoTime() - start);
+          return CompletableFuture.completedFuture(result);
+        }
+        if (!isBackpressure(failure) || attempt > properties.getBackpressureRetries()) {
+          return CompletableFuture.<T>failedFuture(failure);
+        }
+        onBackpressure(attempt);
+      } finally {
+        release();
+      }
+      Executor delayed = CompletableFuture.delayedExecutor(properties.getBackpressureDelay().toMillis(),
+          TimeUnit.MILLISECONDS, task -> Thread.ofVirtual().start(task));
+      return CompletableFuture.supplyAsync(() -> callAsync(call, attempt + 1), delayed).thenCompose(Function.identity());
+    }).thenCompose(Function.identity());
+  }
+
+  public void run(Runnable runnable) {
+    call(() -> {
+      runnable.run();
+      return null;
+    });
+  }
+
+  public int getLimit() {
+    lock.lock();
+    try {
+      return (int) limit;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public int getInFlight() {
+    lock.lock();
+    try {
+      return inFlight;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  protected void acquire() {
+    lock.lock();
+    try {
+      while (inFlight >= (int) limit) {
+        released.await();
+      }
+      inFlight++;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new MigratorException(INTERRUPTED_WHILE_WAITING, e);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  protected void release() {
+    lock.lock();
+    try {
+      inFlight--;
+      released.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  protected void onSuccess(long latency) {
+    lock.lock();
+    try {
+      smoothedLatency = smoothedLatency == 0 ? latency : smoothedLatency + LATENCY_SMOOTHING * (latency - smoothedLatency);
+      // the baseline follows faster calls at once and slower ones only slowly
+      baselineLatency = baselineLatency == 0
+          ? latency
+          : Math.min(latency, baselineLatency + BASELINE_SMOOTHING * (latency - baselineLatency));
+
+      if (smoothedLatency > baselineLatency * properties.getLatencyTolerance()) {
+        decrease();
+      } else if (inFlight >= (int) limit && limit < getMaxLimit()) {
+        int previousLimit = (int) limit;
+        limit = Math.min(getMaxLimit(), limit + 1 / limit);
+        if ((int) limit > previousLimit) {
+          AdaptiveConcurrencyLimiterLogs.increasedLimit(name, (int) limit);
+        }
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  protected void onBackpressure(int attempt) {
+    lock.lock();
+    try {
+      decrease();
+      AdaptiveConcurrencyLimiterLogs.backpressure(name, (int) limit, attempt, properties.getBackpressureRetries());
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Decreases the limit at most once per round trip, so the calls that were already in flight when the target got
+   * overloaded don't decrease it again.
+   */
+  protected void decrease() {
+    long now = System.nanoTime();
+    if (lastDecrease != 0 && now - lastDecrease < smoothedLatency) {
+      return;
+    }
+
+    int previousLimit = (int) limit;
+    limit = Math.max(getMinLimit(), limit * properties.getBackoffRatio());
+    lastDecrease = now;
+    AdaptiveConcurrencyLimiterLogs.decreasedLimit(name, previousLimit, (int) limit, smoothedLatency / 1_000_000);
+  }
+
+  protected void pause() {
+    try {
+      TimeUnit.MILLISECONDS.sleep(properties.getBackpressureDelay().toMillis());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new MigratorException(INTERRUPTED_WHILE_WAITING, e);
+    }
+  }
+
+  protected boolean isBackpressure(Throwable exception) {
+    for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+      if (cause instanceof ClientStatusException statusException
+          && statusException.getStatusCode() == Status.Code.RESOURCE_EXHAUSTED) {
+        return true;
+      }
+      if (cause instanceof ProblemException problemException
+          && (problemException.code() == 429 || problemException.code() == 503)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  protected int getMinLimit() {
+    return Math.max(1, properties.getMinLimit());
+  }
+
+  protected int getMaxLimit() {
+    return Math.max(getMinLimit(), properties.getMaxLimit());
+  }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.impl.concurrent;
+
+import static io.camunda.migrator.impl.logging.C7ReadLimiterLogs.INTERRUPTED_WHILE_WAITING;
+
+import io.camunda.migrator.config.property.MigratorProperties;
+import io.camunda.migrator.config.property.ReadLimitProperties;
+import io.camunda.migrator.exception.MigratorException;
+import io.camunda.migrator.impl.logging.C7ReadLimiterLogs;
+import jakarta.annotation.PostConstruct;
+import java.util.Collection;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.stereotype.Component;
+
+/**
+ * Limits the load of the migration on the C7 database by the number of queries per second, the number of rows read
+ * per second and the number of concurrent queries. The limits are read from {@link ReadLimitProperties} on startup
+ * and can be changed at runtime through JMX when {@code spring.jmx.enabled} is set. Zero disables a limit.
+ */
+@Component
+@ManagedResource(objectName = "io.camunda.migrator:type=C7ReadLimiter", description = "Limits reads from the C7 database")
+public class C7ReadLimiter {
+
+  @Autowired
+  protected MigratorProperties migratorProperties;
+
+  protected final TokenBucket queries = new TokenBucket(0);
+  protected final TokenBucket rows = new TokenBucket(0);
+
+  protected final ReentrantLock lock = new ReentrantLock();
+  protected final Condition released = lock.newCondition();
+  protected int maxConcurrentQueries;
+  protected int runningQueries;
+
+  @PostConstruct
+  public void init() {
+    ReadLimitProperties properties = migratorProperties.getC7().getReadLimit();
+    queries.setRate(properties.getQueriesPerSecond());
+    rows.setRate(properties.getRowsPerSecond());
+    maxConcurrentQueries = properties.getMaxConcurrentQueries();
+  }
+
+  /**
+   * Runs the query within the limits. The rows of a collection result are counted as read rows, any other result as
+   * one row.
+   */
+  public <R> R query(Supplier<R> query) {
+    try {
+      queries.acquire(1);
+      rows.acquire(0);
+      acquireSlot();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new MigratorException(INTERRUPTED_WHILE_WAITING, e);
+    }
+
+    try {
+      R result = query.get();
+      rows.take(result instanceof Collection<?> collection ? collection.size() : 1);
+      return result;
+    } finally {
+      releaseSlot();
+    }
+  }
+
+  @ManagedAttribute(description = "Maximum number of C7 queries per second, 0 for no limit")
+  public double getQueriesPerSecond() {
+    return queries.getRate();
+  }
+
+  @ManagedAttribute
+  public void setQueriesPerSecond(double queriesPerSecond) {
+    queries.setRate(queriesPerSecond);
+    C7ReadLimiterLogs.changedLimit("queries per second", queriesPerSecond);
+  }
+
+  @ManagedAttribute(description = "Maximum number of C7 rows read per second, 0 for no limit")
+  public double getRowsPerSecond() {
+    return rows.getRate();
+  }
+
+  @ManagedAttribute
+  public void setRowsPerSecond(double rowsPerSecond) {
+    rows.setRate(rowsPerSecond);
+    C7ReadLimiterLogs.changedLimit("rows per second", rowsPerSecond);
+  }
+
+  @ManagedAttribute(description = "Maximum number of concurrent C7 queries, 0 for no limit")
+  public int getMaxConcurrentQueries() {
+    lock.lock();
+    try {
+      return maxConcurrentQueries;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @ManagedAttribute
+  public void setMaxConcurrentQueries(int maxConcurrentQueries) {
+    lock.lock();
+    try {
+      this.maxConcurrentQueries = maxConcurrentQueries;
+      released.signalAll();
+    } finally {
+      lock.unlock();
+    }
+    C7ReadLimiterLogs.changedLimit("concurrent queries", maxConcurrentQueries);
+  }
+
+  protected void acquireSlot() throws InterruptedException {
+    lock.lock();
+    try {
+      while (maxConcurrentQueries > 0 && runningQueries >= maxConcurrentQueries) {
+        released.await();
+      }
+      runningQueries++;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  protected void releaseSlot() {
+    lock.lock();
+    try {
+      runningQueries--;
+      released.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.impl.concurrent;
+
+import io.camunda.migrator.config.property.ConcurrencyLimitProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@link AdaptiveConcurrencyLimiter}s of one target, one for each operation. Operations like creating a process
+ * instance and deploying resources take very different times, so they don't share a baseline latency.
+ */
+public class ConcurrencyLimiters {
+
+  protected final String target;
+  protected final ConcurrencyLimitProperties properties;
+  protected final MeterRegistry meterRegistry;
+  protected final Map<String, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+  /**
+   * @param meterRegistry to register the metrics of the limiters in, or {@code null}
+   */
+  public ConcurrencyLimiters(String target, ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+    this.target = target;
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * Returns the limiter of the operation, which is created on first use.
+   */
+  public AdaptiveConcurrencyLimiter get(String operation) {
+    return limiters.computeIfAbsent(operation,
+        key -> new AdaptiveConcurrencyLimiter(target, key, properties, meterRegistry));
+  }
+}
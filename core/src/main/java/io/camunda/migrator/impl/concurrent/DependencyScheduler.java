@@ -0,0 +1,92 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.impl.concurrent;
+
+import io.camunda.migrator.impl.logging.DependencySchedulerLogs;
+import io.camunda.migrator.impl.util.ExceptionUtils;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs tasks that depend on each other. A task starts as soon as all tasks it depends on have completed, so
+ * independent tasks run concurrently and the overall duration is bound by the longest chain of dependencies.
+ * <p>
+ * Tasks have to be added after the tasks they depend on. With a parallelism of one, they run on the calling thread in
+ * the order they were added. If a task fails, the tasks depending on it are not started and the failure is rethrown
+ * once all other tasks have finished.
+ * <p>
+ * The exception context of {@link ExceptionUtils} and the logging MDC of the calling thread are propagated to the
+ * threads running the tasks.
+ */
+public class DependencyScheduler<K> {
+
+  protected final String name;
+  protected final Map<K, Task<K>> tasks = new LinkedHashMap<>();
+
+  public DependencyScheduler(String name) {
+    this.name = name;
+  }
+
+  @SafeVarargs
+  public final DependencyScheduler<K> add(K key, Runnable runnable, K... dependencies) {
+    for (K dependency : dependencies) {
+      if (!tasks.containsKey(dependency)) {
+        throw new IllegalArgumentException("Task " + key + " depends on unknown task " + dependency);
+      }
+    }
+    tasks.put(key, new Task<>(key, runnable, List.of(dependencies)));
+    return this;
+  }
+
+  public void run(int parallelism) {
+    if (parallelism <= 1) {
+      tasks.values().forEach(task -> task.runnable().run());
+      return;
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(parallelism, ThreadFactories.platform(name));
+    try {
+      ThreadContext context = ThreadContext.capture();
+
+      Map<K, CompletableFuture<Void>> futures = new LinkedHashMap<>();
+      for (Task<K> task : tasks.values()) {
+        CompletableFuture<?>[] dependencies = task.dependencies().stream()
+            .map(futures::get)
+            .toArray(CompletableFuture[]::new);
+        futures.put(task.key(), CompletableFuture.allOf(dependencies)
+            .thenRunAsync(() -> context.run(() -> runTask(task)), executor));
+      }
+
+      CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new)).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      } else if (e.getCause() instanceof Error cause) {
+        throw cause;
+      }
+      throw e;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  protected void runTask(Task<K> task) {
+    DependencySchedulerLogs.startingTask(task.key(), task.dependencies());
+    long start = System.currentTimeMillis();
+    task.runnable().run();
+    DependencySchedulerLogs.completedTask(task.key(), System.currentTimeMillis() - start);
+  }
+
+  protected record Task<K>(K key, Runnable runnable, List<K> dependencies) {
+  }
+}
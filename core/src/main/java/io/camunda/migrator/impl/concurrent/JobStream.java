@@ -0,0 +1,121 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.impl.concurrent;
+
+import static io.camunda.migrator.impl.logging.RuntimeMigratorLogs.INTERRUPTED_WHILE_WAITING;
+
+import io.camunda.client.api.response.ActivatedJob;
+import io.camunda.client.api.worker.JobWorker;
+import io.camunda.migrator.exception.RuntimeMigratorException;
+import io.camunda.migrator.impl.clients.C8Client;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Handles the jobs of a job type with a job worker, which receives the jobs streamed by the gateway as soon as they
+ * are created. Each job is handled on its own thread of the {@link WorkerThreads} with the thread context of the opening
+ * thread, a bounded number at the same time. The first failing job stops the handling of further jobs, its exception is rethrown by
+ * {@link #awaitIdle}. Jobs received after that stay activated until their timeout.
+ */
+public class JobStream implements AutoCloseable {
+
+  protected static final long CHECK_INTERVAL_MILLIS = 100;
+
+  protected final int concurrency;
+  protected final Consumer<ActivatedJob> handler;
+  protected final Semaphore handlers;
+  protected final AtomicLong lastActivity = new AtomicLong(System.nanoTime());
+  protected final AtomicLong handledJobs = new AtomicLong();
+  protected final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+  protected final ThreadContext context = ThreadContext.capture();
+  protected final WorkerThreads workerThreads;
+  protected final ExecutorService executor;
+  protected final JobWorker jobWorker;
+
+  public JobStream(C8Client c8Client, WorkerThreads workerThreads, String jobType, int concurrency,
+                   Consumer<ActivatedJob> handler) {
+    this.concurrency = Math.max(1, concurrency);
+    this.handler = handler;
+    this.handlers = new Semaphore(this.concurrency);
+    this.workerThreads = workerThreads;
+    this.executor = Executors.newThreadPerTaskExecutor(workerThreads.newThreadFactory(jobType + "-job"));
+    try {
+      this.jobWorker = c8Client.openJobWorker(jobType, this.concurrency, (client, job) -> dispatch(job));
+    } catch (RuntimeException e) {
+      executor.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Waits until no job is being handled and none was received for the idle timeout.
+   */
+  public void awaitIdle(Duration idleTimeout) {
+    try {
+      while (failure.get() == null
+          && (handlers.availablePermits() < concurrency || System.nanoTime() - lastActivity.get() < idleTimeout.toNanos())) {
+        TimeUnit.MILLISECONDS.sleep(CHECK_INTERVAL_MILLIS);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeMigratorException(INTERRUPTED_WHILE_WAITING, e);
+    }
+
+    if (failure.get() != null) {
+      throw failure.get();
+    }
+  }
+
+  public long getHandledJobs() {
+    return handledJobs.get();
+  }
+
+  /**
+   * Stops receiving jobs and waits for the jobs being handled.
+   */
+  @Override
+  public void close() {
+    try {
+      jobWorker.close();
+    } finally {
+      executor.close();
+    }
+  }
+
+  protected void dispatch(ActivatedJob job) throws InterruptedException {
+    handlers.acquire();
+    lastActivity.set(System.nanoTime());
+    try {
+      executor.execute(() -> context.run(() -> handle(job)));
+    } catch (RejectedExecutionException e) {
+      // the stream is already closed, the job is activated again after its timeout
+      handlers.release();
+    }
+  }
+
+  protected void handle(ActivatedJob job) {
+    try {
+      if (failure.get() == null) {
+        workerThreads.run(() -> handler.accept(job));
+        handledJobs.incrementAndGet();
+      }
+    } catch (RuntimeException e) {
+      failure.compareAndSet(null, e);
+    } finally {
+      lastActivity.set(System.nanoTime());
+      handlers.release();
+    }
+  }
+}
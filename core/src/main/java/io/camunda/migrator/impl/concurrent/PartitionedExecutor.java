@@ -0,0 +1,185 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.impl.concurrent;
+
+import static io.camunda.migrator.impl.logging.PartitionedExecutorLogs.INTERRUPTED_WHILE_SUBMITTING;
+
+import io.camunda.migrator.exception.MigratorException;
+import io.camunda.migrator.impl.logging.PartitionedExecutorLogs;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Distributes items to a fixed number of worker threads by the hash of a partition key. Items with the same key are
+ * always handled by the same worker in the order they were submitted, while items with different keys are handled in
+ * parallel.
+ * <p>
+ * Each worker takes the items queued for it in chunks of up to {@code chunkSize} items and passes them to the chunk
+ * handler, so a worker can write a chunk within its own batch. The queues are bounded, so submitting blocks while the
+ * workers are behind.
+ * <p>
+ * If a chunk handler fails, the failure is rethrown to the submitting thread and the remaining items are discarded.
+ * <p>
+ * Since workers complete their chunks out of order, the optional progress listener is only called with the last item
+ * of the longest sequence of submitted items that have all been handled. Items after it may have been handled as well,
+ * but the items before it are never left behind.
+ */
+public class PartitionedExecutor<T> implements AutoCloseable {
+
+  protected static final long POLL_INTERVAL_MILLIS = 100;
+
+  protected final int chunkSize;
+  protected final Consumer<List<T>> chunkHandler;
+  protected final List<BlockingQueue<Item<T>>> queues = new ArrayList<>();
+  protected final List<Thread> workers = new ArrayList<>();
+  protected final Consumer<T> progressListener;
+
+  protected final ReentrantLock progressLock = new ReentrantLock();
+  protected final TreeMap<Long, T> handledItems = new TreeMap<>();
+  protected long submittedCount;
+  protected long handledCount;
+
+  protected volatile RuntimeException failure;
+  protected volatile boolean closed;
+
+  public PartitionedExecutor(ThreadFactory threadFactory, int workerCount, int chunkSize,
+                             Consumer<List<T>> chunkHandler) {
+    this(threadFactory, workerCount, chunkSize, chunkHandler, null);
+  }
+
+  public PartitionedExecutor(ThreadFactory threadFactory, int workerCount, int chunkSize,
+                             Consumer<List<T>> chunkHandler, Consumer<T> progressListener) {
+    this.chunkSize = Math.max(1, chunkSize);
+    this.chunkHandler = chunkHandler;
+    this.progressListener = progressListener;
+
+    ThreadContext context = ThreadContext.capture();
+    for (int i = 0; i < workerCount; i++) {
+      BlockingQueue<Item<T>> queue = new ArrayBlockingQueue<>(2 * this.chunkSize);
+      queues.add(queue);
+      Thread worker = threadFactory.newThread(() -> context.run(() -> work(queue)));
+      workers.add(worker);
+      worker.start();
+    }
+  }
+
+  /**
+   * Queues the item for the worker that is responsible for the partition key. A {@code null} key is allowed. Items
+   * have to be submitted by one thread.
+   */
+  public void submit(String partitionKey, T item) {
+    BlockingQueue<Item<T>> queue = queues.get(Math.floorMod(Objects.hashCode(partitionKey), queues.size()));
+    Item<T> queuedItem = new Item<>(submittedCount++, item);
+    try {
+      while (!queue.offer(queuedItem, POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+        rethrowFailure();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new MigratorException(INTERRUPTED_WHILE_SUBMITTING, e);
+    }
+    rethrowFailure();
+  }
+
+  /**
+   * Waits until all submitted items have been handled and stops the workers.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    try {
+      for (Thread worker : workers) {
+        worker.join();
+      }
+    } catch (InterruptedException e) {
+      workers.forEach(Thread::interrupt);
+      Thread.currentThread().interrupt();
+      throw new MigratorException(INTERRUPTED_WHILE_SUBMITTING, e);
+    }
+    rethrowFailure();
+  }
+
+  protected void work(BlockingQueue<Item<T>> queue) {
+    List<Item<T>> items = new ArrayList<>(chunkSize);
+    try {
+      while (failure == null) {
+        Item<T> first = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+          if (closed && queue.isEmpty()) {
+            return;
+          }
+          continue;
+        }
+
+        items.add(first);
+        queue.drainTo(items, chunkSize - 1);
+        List<T> chunk = items.stream().map(Item::value).toList();
+
+        long start = System.currentTimeMillis();
+        chunkHandler.accept(chunk);
+        PartitionedExecutorLogs.handledChunk(chunk.size(), System.currentTimeMillis() - start);
+        reportProgress(items);
+        items.clear();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (RuntimeException e) {
+      failure = e;
+    } finally {
+      queue.clear();
+    }
+  }
+
+  /**
+   * Advances over the handled items that directly follow the items handled so far and passes the last of them to the
+   * progress listener.
+   */
+  protected void reportProgress(List<Item<T>> items) {
+    if (progressListener == null) {
+      return;
+    }
+
+    progressLock.lock();
+    try {
+      items.forEach(item -> handledItems.put(item.sequence(), item.value()));
+      T last = null;
+      boolean advanced = false;
+      while (!handledItems.isEmpty() && handledItems.firstKey() == handledCount) {
+        last = handledItems.pollFirstEntry().getValue();
+        handledCount++;
+        advanced = true;
+      }
+      if (advanced) {
+        progressListener.accept(last);
+      }
+    } finally {
+      progressLock.unlock();
+    }
+  }
+
+  protected void rethrowFailure() {
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
+  /**
+   * Wraps the queued items with their position in the order of submission, since the items themselves may be
+   * {@code null}.
+   */
+  protected record Item<T>(long sequence, T value) {
+  }
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.impl.concurrent;
+
+import io.camunda.migrator.config.property.LeaseProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Lets several migrator nodes share the shards of the runtime migration, with the leases configured under
+ * {@code runtime-sharding}.
+ */
+@Component
+public class RuntimeShardCoordinator extends WorkLeaseCoordinator {
+
+  @Override
+  protected LeaseProperties getProperties() {
+    return migratorProperties.getRuntimeSharding();
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.impl.concurrent;
+
+import static io.camunda.migrator.impl.logging.TenantLaneRunnerLogs.INTERRUPTED_WHILE_WAITING;
+
+import io.camunda.migrator.config.property.MigratorProperties;
+import io.camunda.migrator.exception.MigratorException;
+import io.camunda.migrator.impl.TenantLane;
+import io.camunda.migrator.impl.clients.C7Client;
+import io.camunda.migrator.impl.logging.TenantLaneRunnerLogs;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs a migration once per tenant lane: one lane for each tenant and one for the data without tenant.
+ * Lanes are independent of each other, so a lane that fails doesn't stop the others. The first failure is rethrown
+ * once all lanes have finished.
+ */
+@Component
+public class TenantLaneRunner {
+
+  @Autowired
+  protected MigratorProperties migratorProperties;
+
+  @Autowired
+  protected C7Client c7Client;
+
+  public boolean isEnabled() {
+    return migratorProperties.getTenantLanes().isEnabled();
+  }
+
+  /**
+   * Returns the lane without tenant and one lane for each configured tenant and each tenant found in C7, so data of
+   * tenants missing in the configuration isn't left behind.
+   */
+  public List<TenantLane> getLanes() {
+    Set<String> tenantIds = new TreeSet<>(c7Client.getTenantIds());
+    if (migratorProperties.getTenantIds() != null) {
+      tenantIds.addAll(migratorProperties.getTenantIds());
+    }
+
+    List<TenantLane> lanes = new ArrayList<>();
+    lanes.add(TenantLane.WITHOUT_TENANT);
+    tenantIds.stream().map(TenantLane::new).forEach(lanes::add);
+    return lanes;
+  }
+
+  /**
+   * Returns the maximum number of lanes migrated at the same time.
+   */
+  public int getConcurrency() {
+    return Math.max(1, migratorProperties.getTenantLanes().getConcurrency());
+  }
+
+  public void run(String name, Runnable migration) {
+    List<TenantLane> lanes = getLanes();
+    TenantLaneRunnerLogs.foundLanes(lanes);
+    ExecutorService executor = Executors.newFixedThreadPool(Math.min(getConcurrency(), lanes.size()),
+        ThreadFactories.platform(name));
+    try {
+      ThreadContext context = ThreadContext.capture();
+      List<Future<?>> futures = new ArrayList<>();
+      for (TenantLane lane : lanes) {
+        futures.add(executor.submit(
+            () -> new ThreadContext(context.exceptionContext(), context.retryPolicy(), lane, context.workUnit(),
+                context.mdc())
+                .run(() -> runLane(lane, migration))));
+      }
+
+      RuntimeException failure = null;
+      for (int i = 0; i < futures.size(); i++) {
+        try {
+          futures.get(i).get();
+        } catch (ExecutionException e) {
+          TenantLaneRunnerLogs.laneFailed(lanes.get(i), e.getCause().getMessage());
+          RuntimeException cause = e.getCause() instanceof RuntimeException runtimeException
+              ? runtimeException
+              : new MigratorException(e.getCause().getMessage(), e.getCause());
+          if (failure == null) {
+            failure = cause;
+          } else {
+            failure.addSuppressed(cause);
+          }
+        }
+      }
+      if (failure != null) {
+        throw failure;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new MigratorException(INTERRUPTED_WHILE_WAITING, e);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  protected void runLane(TenantLane lane, Runnable migration) {
+    TenantLaneRunnerLogs.startingLane(lane);
+    long start = System.currentTimeMillis();
+    migration.run();
+    TenantLaneRunnerLogs.completedLane(lane, System.currentTimeMillis() - start);
+  }
+}
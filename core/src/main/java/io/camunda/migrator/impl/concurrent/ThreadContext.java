@@ -0,0 +1,51 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.impl.concurrent;
+
+import io.camunda.migrator.impl.RetryPolicy;
+import io.camunda.migrator.impl.TenantLane;
+import io.camunda.migrator.impl.util.ExceptionUtils;
+import io.camunda.migrator.impl.util.ExceptionUtils.ExceptionContext;
+import java.util.Map;
+import org.slf4j.MDC;
+
+/**
+ * Captures the thread-bound state of the migrator, the exception context and retry policy of {@link ExceptionUtils},
+ * the {@link TenantLane}, the leased work unit of the {@link WorkLeaseCoordinator} and the logging MDC, so that it can be
+ * applied to the threads running work on behalf of the capturing thread.
+ */
+public record ThreadContext(ExceptionContext exceptionContext, RetryPolicy retryPolicy, TenantLane tenantLane,
+                            String workUnit, Map<String, String> mdc) {
+
+  public static ThreadContext capture() {
+    return new ThreadContext(ExceptionUtils.getContext(), ExceptionUtils.getRetryPolicy(), TenantLane.current(),
+        WorkLeaseCoordinator.currentWorkUnit(), MDC.getCopyOfContextMap());
+  }
+
+  /**
+   * Runs the given work with the captured state and clears it afterwards.
+   */
+  public void run(Runnable work) {
+    ExceptionUtils.setContext(exceptionContext);
+    ExceptionUtils.setRetryPolicy(retryPolicy);
+    TenantLane.set(tenantLane);
+    WorkLeaseCoordinator.setCurrentWorkUnit(workUnit);
+    if (mdc != null) {
+      MDC.setContextMap(mdc);
+    }
+    try {
+      work.run();
+    } finally {
+      MDC.clear();
+      WorkLeaseCoordinator.setCurrentWorkUnit(null);
+      TenantLane.clear();
+      ExceptionUtils.setRetryPolicy(null);
+      ExceptionUtils.clearContext();
+    }
+  }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.impl.concurrent;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates the threads the migrator runs its work on. Threads are named {@code <name>-<n>}.
+ */
+public final class ThreadFactories {
+
+  private ThreadFactories() {
+  }
+
+  /**
+   * Creates daemon platform threads, so a failed migration doesn't keep the JVM alive.
+   */
+  public static ThreadFactory platform(String name) {
+    AtomicInteger counter = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  /**
+   * Creates virtual threads, which release their carrier thread while blocked on I/O.
+   */
+  public static ThreadFactory virtual(String name) {
+    return Thread.ofVirtual().name(name + "-", 1).factory();
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.impl.concurrent;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Token bucket refilled at a configurable rate, holding at most one second worth of tokens. Permits can be taken
+ * before their cost is known: taking more permits than available puts the bucket into debt, which the next caller
+ * waits for. A rate of zero or below disables the bucket.
+ */
+public class TokenBucket {
+
+  protected final ReentrantLock lock = new ReentrantLock();
+
+  protected double rate;
+  protected double tokens;
+  protected long lastRefill = System.nanoTime();
+
+  public TokenBucket(double rate) {
+    setRate(rate);
+  }
+
+  public double getRate() {
+    lock.lock();
+    try {
+      return rate;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public void setRate(double rate) {
+    lock.lock();
+    try {
+      refill();
+      this.rate = rate;
+      tokens = Math.min(tokens, getCapacity());
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Waits until the bucket is out of debt and takes the permits.
+   */
+  public void acquire(double permits) throws InterruptedException {
+    long waitNanos;
+    lock.lock();
+    try {
+      if (rate <= 0) {
+        return;
+      }
+      refill();
+      waitNanos = tokens >= 0 ? 0 : (long) (-tokens / rate * TimeUnit.SECONDS.toNanos(1));
+      tokens -= permits;
+    } finally {
+      lock.unlock();
+    }
+    TimeUnit.NANOSECONDS.sleep(waitNanos);
+  }
+
+  /**
+   * Takes the permits without waiting, for costs that are only known after the work is done.
+   */
+  public void take(double permits) {
+    lock.lock();
+    try {
+      if (rate > 0) {
+        refill();
+        tokens -= permits;
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  protected void refill() {
+    long now = System.nanoTime();
+    if (rate > 0) {
+      tokens = Math.min(getCapacity(), tokens + (now - lastRefill) * rate / TimeUnit.SECONDS.toNanos(1));
+    }
+    lastRefill = now;
+  }
+
+  protected double getCapacity() {
+    return Math.max(1, rate);
+  }
+}
@@ -0,0 +1,317 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.impl.concurrent;
+
+import static io.camunda.migrator.impl.logging.WorkLeaseCoordinatorLogs.INTERRUPTED_WHILE_WAITING;
+import static io.camunda.migrator.impl.logging.WorkLeaseCoordinatorLogs.LEASE_LOST_BEFORE_COMMIT;
+
+import io.camunda.migrator.config.property.LeaseProperties;
+import io.camunda.migrator.config.property.MigratorProperties;
+import io.camunda.migrator.exception.LeaseLostException;
+import io.camunda.migrator.exception.MigratorException;
+import io.camunda.migrator.impl.clients.DbClient;
+import io.camunda.migrator.impl.logging.WorkLeaseCoordinatorLogs;
+import io.camunda.migrator.impl.persistence.LeaseDbModel;
+import jakarta.annotation.PostConstruct;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+/**
+ * Lets several migrator nodes pointed at the same databases share work units. A node claims a work unit through a
+ * lease in the migration schema and keeps it alive with heartbeats while working on it. Leases of nodes that stopped
+ * sending heartbeats expire and are taken over by the other nodes.
+ * <p>
+ * Completed work units are never run again, so the coordination is meant for one migration run shared by all nodes.
+ * Work units whose data may still grow are run as open work units, which are released instead of completed.
+ * <p>
+ * Before a batch is committed, {@link #checkLease()} fences off nodes that lost the lease of their work unit in the
+ * meantime, e.g. after a long pause, so they don't write the work unit concurrently with the node that took it over.
+ * <p>
+ * This coordinator shares the slices of the history migration and is configured under {@code history.coordination}.
+ * The {@link RuntimeShardCoordinator} shares the shards of the runtime migration.
+ */
+@Primary
+@Component
+public class WorkLeaseCoordinator {
+
+  private static final ThreadLocal<String> CURRENT_WORK_UNIT = new ThreadLocal<>();
+
+  @Autowired
+  protected DbClient dbClient;
+
+  @Autowired
+  protected MigratorProperties migratorProperties;
+
+  protected String nodeId;
+
+  @PostConstruct
+  public void init() {
+    String configuredNodeId = getProperties().getNodeId();
+    nodeId = StringUtils.isBlank(configuredNodeId) ? UUID.randomUUID().toString() : configuredNodeId;
+  }
+
+  public boolean isEnabled() {
+    return getProperties().isEnabled();
+  }
+
+  /**
+   * Runs all work units that are not completed and not held by another node. Returns once every work unit has been
+   * completed, either by this node or by others. Work units of nodes whose lease expired are taken over.
+   */
+  public void run(Map<String, Runnable> workUnits) {
+    ScheduledExecutorService heartbeat = startHeartbeat();
+
+    try {
+      Map<String, Runnable> pending = new LinkedHashMap<>(workUnits);
+      while (true) {
+        pending.entrySet().removeIf(workUnit -> tryRun(workUnit.getKey(), workUnit.getValue()));
+        if (pending.isEmpty()) {
+          return;
+        }
+
+        WorkLeaseCoordinatorLogs.waitingForWorkUnits(pending.size());
+        Thread.sleep(getProperties().getPollInterval().toMillis());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new MigratorException(INTERRUPTED_WHILE_WAITING, e);
+    } finally {
+      heartbeat.shutdownNow();
+    }
+  }
+
+  /**
+   * Runs a work unit whose data may still grow, like the slice of process instances started until now. If no other
+   * node holds it, the work unit is run and its lease is released afterwards instead of completed, so a later run
+   * migrates it again. A work unit held by another node is skipped without waiting for it.
+   */
+  public void runOpen(String workUnit, Runnable work) {
+    ScheduledExecutorService heartbeat = startHeartbeat();
+
+    try {
+      if (!claim(workUnit)) {
+        WorkLeaseCoordinatorLogs.skippingOpenWorkUnit(workUnit);
+        return;
+      }
+      if (runClaimed(workUnit, work)) {
+        dbClient.releaseLease(workUnit, nodeId);
+        WorkLeaseCoordinatorLogs.releasedOpenWorkUnit(workUnit, nodeId);
+      }
+    } finally {
+      heartbeat.shutdownNow();
+    }
+  }
+
+  /**
+   * Runs the work of this node enclosed by a setup and a teardown that only one node runs for all nodes. The node that
+   * claims the work unit runs the setup while the other nodes wait for it. After its own work, it waits until no other
+   * node holds an active lease of a work unit matching the given pattern, runs the teardown and completes the work
+   * unit. A node that takes over the work unit of a stopped node only runs the setup if it wasn't completed yet.
+   */
+  public void runEnclosed(String workUnit, String peerWorkUnitPattern, Runnable setup, Runnable work,
+                          Runnable teardown) {
+    ScheduledExecutorService heartbeat = startHeartbeat();
+
+    try {
+      if (!awaitSetup(workUnit, setup)) {
+        work.run();
+        return;
+      }
+
+      try {
+        work.run();
+      } finally {
+        long active;
+        while ((active = dbClient.countActiveLeasesOfOthers(peerWorkUnitPattern, nodeId)) > 0) {
+          WorkLeaseCoordinatorLogs.waitingForOtherNodes(active, workUnit);
+          Thread.sleep(getProperties().getPollInterval().toMillis());
+        }
+        teardown.run();
+        if (!dbClient.completeLease(workUnit, nodeId)) {
+          WorkLeaseCoordinatorLogs.lostLease(workUnit, nodeId);
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new MigratorException(INTERRUPTED_WHILE_WAITING, e);
+    } finally {
+      heartbeat.shutdownNow();
+    }
+  }
+
+  /**
+   * Returns {@code true} if this node claimed the work unit and ran its setup, or {@code false} once another node did.
+   */
+  protected boolean awaitSetup(String workUnit, Runnable setup) throws InterruptedException {
+    String setupWorkUnit = workUnit + "/setup";
+    while (true) {
+      if (claim(workUnit)) {
+        LeaseDbModel setupLease = dbClient.findLease(setupWorkUnit);
+        if (setupLease == null || !setupLease.isCompleted()) {
+          setup.run();
+          if (claim(setupWorkUnit)) {
+            dbClient.completeLease(setupWorkUnit, nodeId);
+          }
+        }
+        return true;
+      }
+
+      LeaseDbModel setupLease = dbClient.findLease(setupWorkUnit);
+      if (setupLease != null && setupLease.isCompleted()) {
+        return false;
+      }
+      WorkLeaseCoordinatorLogs.waitingForPreparation(workUnit);
+      Thread.sleep(getProperties().getPollInterval().toMillis());
+    }
+  }
+
+  /**
+   * Returns whether the work unit is completed.
+   */
+  protected boolean tryRun(String workUnit, Runnable work) {
+    LeaseDbModel lease = dbClient.findLease(workUnit);
+    if (lease != null && lease.isCompleted()) {
+      return true;
+    }
+
+    if (!claim(workUnit) || !runClaimed(workUnit, work)) {
+      return false;
+    }
+
+    if (!dbClient.completeLease(workUnit, nodeId)) {
+      WorkLeaseCoordinatorLogs.lostLease(workUnit, nodeId);
+    }
+    return true;
+  }
+
+  /**
+   * Returns whether this node holds the lease of the work unit now.
+   */
+  protected boolean claim(String workUnit) {
+    LeaseDbModel lease = dbClient.findLease(workUnit);
+    if (lease == null) {
+      if (!dbClient.insertLease(workUnit, nodeId, getExpiry())) {
+        return false;
+      }
+      WorkLeaseCoordinatorLogs.claimedWorkUnit(workUnit, nodeId);
+    } else {
+      if (lease.isCompleted() || !dbClient.takeOverLease(workUnit, nodeId, getExpiry())) {
+        return false;
+      }
+      WorkLeaseCoordinatorLogs.tookOverWorkUnit(workUnit, lease.getOwner());
+    }
+    return true;
+  }
+
+  /**
+   * Runs the claimed work unit. Returns {@code false} if it was aborted since this node lost its lease, in which case
+   * the node that took it over completes it.
+   */
+  protected boolean runClaimed(String workUnit, Runnable work) {
+    String outerWorkUnit = CURRENT_WORK_UNIT.get();
+    setCurrentWorkUnit(workUnit);
+    try {
+      work.run();
+      return true;
+    } catch (LeaseLostException e) {
+      WorkLeaseCoordinatorLogs.abortedWorkUnit(workUnit, nodeId);
+      return false;
+    } finally {
+      setCurrentWorkUnit(outerWorkUnit);
+    }
+  }
+
+  /**
+   * Throws a {@link LeaseLostException} if the current thread runs a work unit whose lease this node no longer holds or
+   * that is about to expire, since another node may take it over. Called before a batch is committed, so the batch is
+   * rolled back.
+   * <p>
+   * The lease is locked until the end of the transaction. If the migrator tables are written in the C8 transaction,
+   * this keeps other nodes from taking the lease over until the batch is committed. Otherwise, the check runs on its own
+   * connection, so a lease expiring within a third of the lease duration, i.e. after the next missed heartbeat, counts as
+   * lost to leave time for the commit. Expiry is compared against the time of the migrator database, like the takeover
+   * by other nodes.
+   */
+  public void checkLease() {
+    String workUnit = CURRENT_WORK_UNIT.get();
+    if (workUnit == null) {
+      return;
+    }
+
+    LeaseDbModel lease = dbClient.lockLease(workUnit);
+    if (lease == null || lease.isCompleted() || !nodeId.equals(lease.getOwner())
+        || lease.getExpiresAt().getTime() - lease.getReadAt().getTime() <= getExpiryMargin()) {
+      throw new LeaseLostException(String.format(LEASE_LOST_BEFORE_COMMIT, nodeId, workUnit));
+    }
+  }
+
+  /**
+   * Returns the work unit the current thread runs or {@code null} if it doesn't run a leased work unit.
+   */
+  public static String currentWorkUnit() {
+    return CURRENT_WORK_UNIT.get();
+  }
+
+  static void setCurrentWorkUnit(String workUnit) {
+    if (workUnit == null) {
+      CURRENT_WORK_UNIT.remove();
+    } else {
+      CURRENT_WORK_UNIT.set(workUnit);
+    }
+  }
+
+  /**
+   * Extends the leases of this node three times per lease duration.
+   */
+  protected ScheduledExecutorService startHeartbeat() {
+    ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(
+        ThreadFactories.platform("lease-heartbeat"));
+    long interval = Math.max(1, getProperties().getLeaseDuration().toMillis() / 3);
+    ThreadContext context = ThreadContext.capture();
+    heartbeat.scheduleAtFixedRate(() -> context.run(this::extendLeases), interval, interval, TimeUnit.MILLISECONDS);
+    return heartbeat;
+  }
+
+  protected void extendLeases() {
+    try {
+      dbClient.extendLeases(nodeId, getExpiry());
+    } catch (RuntimeException e) {
+      // a later heartbeat may still succeed before the leases expire
+      WorkLeaseCoordinatorLogs.failedToExtendLeases(nodeId, e.getMessage());
+    }
+  }
+
+  /**
+   * Returns the expiry of a lease claimed or extended now, based on the time of the migrator database, so the clocks of
+   * the nodes don't need to be in sync.
+   */
+  protected Date getExpiry() {
+    return new Date(dbClient.getDatabaseTime().getTime() + getProperties().getLeaseDuration().toMillis());
+  }
+
+  protected long getExpiryMargin() {
+    return getProperties().getLeaseDuration().toMillis() / 3;
+  }
+
+  public String getNodeId() {
+    return nodeId;
+  }
+
+  protected LeaseProperties getProperties() {
+    return migratorProperties.getHistory().getCoordination();
+  }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.impl.concurrent;
+
+import static io.camunda.migrator.config.MigratorAutoConfiguration.POOL_HEADROOM;
+import static io.camunda.migrator.impl.logging.WorkerThreadsLogs.INTERRUPTED_WHILE_WAITING;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.camunda.migrator.config.property.MigratorProperties;
+import io.camunda.migrator.config.property.VirtualThreadProperties;
+import io.camunda.migrator.exception.MigratorException;
+import io.camunda.migrator.impl.logging.WorkerThreadsLogs;
+import jakarta.annotation.PostConstruct;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the threads the history workers, the pipelined runtime validations and the migrator job handlers run on:
+ * virtual threads when enabled, platform threads otherwise.
+ * <p>
+ * Their tasks query C7 and write to C8 through the connection pools, so at most {@link #getConcurrency()} tasks run
+ * at the same time. This is limited to the smallest pool minus the connections left for the main thread and the lease
+ * heartbeats, so tasks never wait for a connection. JDBC drivers and the C7 engine synchronize on monitors, which pins
+ * a virtual thread to its carrier thread while it is blocked on the database. With virtual threads, the concurrency
+ * is therefore also limited to the number of carrier threads: a task holding a connection always finds a carrier,
+ * even if all other tasks are pinned.
+ */
+@Component
+public class WorkerThreads {
+
+  protected static final String CARRIER_PARALLELISM_PROPERTY = "jdk.virtualThreadScheduler.parallelism";
+
+  @Autowired
+  protected MigratorProperties migratorProperties;
+
+  @Autowired
+  @Qualifier("c7DataSource")
+  protected DataSource c7DataSource;
+
+  @Autowired
+  @Qualifier("c8DataSource")
+  protected Optional<DataSource> c8DataSource;
+
+  @Autowired
+  @Qualifier("migratorDataSource")
+  protected Optional<DataSource> migratorDataSource;
+
+  protected boolean virtual;
+  protected int concurrency;
+  protected Semaphore permits;
+
+  @PostConstruct
+  public void init() {
+    virtual = migratorProperties.getVirtualThreads().isEnabled();
+    concurrency = computeConcurrency();
+    permits = new Semaphore(concurrency, true);
+  }
+
+  public boolean isVirtual() {
+    return virtual;
+  }
+
+  public ThreadFactory newThreadFactory(String name) {
+    return isVirtual() ? ThreadFactories.virtual(name) : ThreadFactories.platform(name);
+  }
+
+  /**
+   * Returns the connections of the smallest pool that are left for tasks.
+   */
+  public int getPoolLimit() {
+    int poolSize = Math.min(getMaximumPoolSize(c7DataSource), Math.min(
+        c8DataSource.map(this::getMaximumPoolSize).orElse(Integer.MAX_VALUE),
+        migratorDataSource.map(this::getMaximumPoolSize).orElse(Integer.MAX_VALUE)));
+    return Math.max(1, poolSize - POOL_HEADROOM);
+  }
+
+  /**
+   * Returns the maximum number of tasks run at the same time.
+   */
+  public int getConcurrency() {
+    return concurrency;
+  }
+
+  /**
+   * Runs the task once fewer than {@link #getConcurrency()} tasks are running.
+   */
+  public void run(Runnable task) {
+    try {
+      permits.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new MigratorException(INTERRUPTED_WHILE_WAITING, e);
+    }
+    try {
+      task.run();
+    } finally {
+      permits.release();
+    }
+  }
+
+  protected int computeConcurrency() {
+    VirtualThreadProperties properties = migratorProperties.getVirtualThreads();
+    int poolLimit = getPoolLimit();
+    int concurrency = properties.getConcurrency() > 0 ? Math.min(properties.getConcurrency(), poolLimit) : poolLimit;
+    if (properties.getConcurrency() > poolLimit) {
+      WorkerThreadsLogs.limitingToPools(properties.getConcurrency(), poolLimit);
+    }
+    if (isVirtual()) {
+      int carriers = getCarrierParallelism();
+      if (concurrency > carriers) {
+        WorkerThreadsLogs.limitingToCarriers(concurrency, carriers, CARRIER_PARALLELISM_PROPERTY);
+        concurrency = carriers;
+      }
+      WorkerThreadsLogs.runningOnVirtualThreads(concurrency);
+    }
+    return concurrency;
+  }
+
+  protected int getCarrierParallelism() {
+    return Math.max(1, Integer.getInteger(CARRIER_PARALLELISM_PROPERTY, Runtime.getRuntime().availableProcessors()));
+  }
+
+  protected int getMaximumPoolSize(DataSource dataSource) {
+    return dataSource instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize() : Integer.MAX_VALUE;
+  }
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.impl.logging;
+
+import io.camunda.migrator.impl.ActiveActivityCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Centralized logging utility for ActiveActivityCache.
+ */
+public class ActiveActivityCacheLogs {
+
+  protected static final Logger LOGGER = LoggerFactory.getLogger(ActiveActivityCache.class);
+
+  // Debug Messages
+  public static final String CHANGED_SINCE_VALIDATION = "C7 process instance [{}] changed since its validation, fetching its active activities again";
+
+  public static void changedSinceValidation(String processInstanceId) {
+    LOGGER.debug(CHANGED_SINCE_VALIDATION, processInstanceId);
+  }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.impl.logging;
+
+import io.camunda.migrator.impl.concurrent.AdaptiveConcurrencyLimiter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Centralized logging utility for AdaptiveConcurrencyLimiter.
+ */
+public class AdaptiveConcurrencyLimiterLogs {
+
+  protected static final Logger LOGGER = LoggerFactory.getLogger(AdaptiveConcurrencyLimiter.class);
+
+  // Error Messages
+  public static final String INTERRUPTED_WHILE_WAITING = "Interrupted while waiting for a free slot of the concurrency limit";
+
+  // Info Messages
+  public static final String BACKPRESSURE = "Received backpressure from [{}], retrying with a concurrency limit of {} ({}/{})";
+  public static final String DECREASED_LIMIT = "Decreased concurrency limit of [{}] from {} to {}, smoothed latency {} ms";
+  public static final String INCREASED_LIMIT = "Increased concurrency limit of [{}] to {}";
+
+  public static void backpressure(String name, int limit, int attempt, int maxAttempts) {
+    LOGGER.info(BACKPRESSURE, name, limit, attempt, maxAttempts);
+  }
+
+  public static void decreasedLimit(String name, int previousLimit, int limit, double smoothedLatencyMillis) {
+    LOGGER.debug(DECREASED_LIMIT, name, previousLimit, limit, String.format("%.1f", smoothedLatencyMillis));
+  }
+
+  public static void increasedLimit(String name, int limit) {
+    LOGGER.debug(INCREASED_LIMIT, name, limit);
+  }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.impl.logging;
+
+import io.camunda.migrator.impl.persistence.BulkLoadWriter;
+import java.nio.file.Path;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Centralized logging utility for BulkLoadWriter.
+ */
+public class BulkLoadWriterLogs {
+
+  protected static final Logger LOGGER = LoggerFactory.getLogger(BulkLoadWriter.class);
+
+  // Error Messages
+  public static final String FAILED_TO_WRITE_ROW = "Failed to write bulk load row for table: ";
+  public static final String FAILED_TO_SYNC = "Failed to sync bulk load files in directory: ";
+  public static final String FAILED_TO_CLOSE = "Failed to close bulk load files in directory: ";
+  public static final String FAILED_TO_RESOLVE_TABLE = "No bulk load table for db model: ";
+  public static final String REQUIRES_DETERMINISTIC_KEYS = "Bulk load requires 'camunda.migrator.history.key-strategy' "
+      + "to be set to 'DETERMINISTIC' since migrated entities are not available in the C8 database for lookups.";
+
+  // Info Messages
+  public static final String WRITING_BULK_LOAD_FILES = "Writing history into bulk load files in directory [{}]";
+  public static final String WROTE_BULK_LOAD_FILES = "Wrote {} rows for table [{}] into {} file(s)";
+  public static final String WROTE_LOADER_SCRIPTS = "Wrote loader scripts for PostgreSQL, Oracle and H2 into directory [{}]. "
+      + "Entities of this run are marked as migrated with bulk load run [{}], rollback-mapping.sql resets them if the "
+      + "files are not loaded";
+
+  public static void writingBulkLoadFiles(Path directory) {
+    LOGGER.info(WRITING_BULK_LOAD_FILES, directory.toAbsolutePath());
+  }
+
+  public static void wroteBulkLoadFiles(String tableName, long rowCount, int fileCount) {
+    LOGGER.info(WROTE_BULK_LOAD_FILES, rowCount, tableName, fileCount);
+  }
+
+  public static void wroteLoaderScripts(Path directory) {
+    LOGGER.info(WROTE_LOADER_SCRIPTS, directory.toAbsolutePath(), directory.getFileName());
+  }
+}
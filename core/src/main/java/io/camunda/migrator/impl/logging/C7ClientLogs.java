@@ -19,5 +19,10 @@ public class C7ClientLogs {
   public static final String FAILED_TO_FETCH_DEPLOYMENT_TIME = "Failed to fetch deployment time for definition with C7 ID: ";
   public static final String FAILED_TO_FETCH_BPMN_XML = "Failed to fetch BPMN model instance for process definition Id: ";
   public static final String FAILED_TO_FETCH_PROCESS_INSTANCE = "Process instance fetching failed for C7 ID: ";
+  public static final String FAILED_TO_FETCH_BYTE_ARRAY = "Failed to fetch byte array with C7 ID: ";
+  public static final String FAILED_TO_FETCH_TENANT_IDS = "Failed to fetch tenant IDs";
+  public static final String FAILED_TO_FETCH_EXECUTION_REVISIONS = "Failed to fetch execution revisions for process instance with C7 ID: ";
+  public static final String FAILED_TO_FETCH_ACTIVE_DEFINITIONS = "Failed to fetch process definitions with active instances";
+  public static final String FAILED_TO_FETCH_FIRST_START_TIME = "Failed to fetch start time of first historic process instance";
   public static final String FAILED_TO_FETCH_HISTORIC_ELEMENT = "Failed to fetch %s for C7 ID: %s";
 }
@@ -0,0 +1,30 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.impl.logging;
+
+import io.camunda.migrator.impl.concurrent.C7ReadLimiter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Centralized logging utility for C7ReadLimiter.
+ */
+public class C7ReadLimiterLogs {
+
+  protected static final Logger LOGGER = LoggerFactory.getLogger(C7ReadLimiter.class);
+
+  // Error Messages
+  public static final String INTERRUPTED_WHILE_WAITING = "Interrupted while waiting for the C7 read limit";
+
+  // Info Messages
+  public static final String CHANGED_LIMIT = "Changed C7 read limit of {} to {}";
+
+  public static void changedLimit(String limit, Number value) {
+    LOGGER.info(CHANGED_LIMIT, limit, value);
+  }
+}
@@ -18,8 +18,10 @@ public class C8ClientLogs {
   public static final String FAILED_TO_DEPLOY_C8_RESOURCES = "Failed to deploy C8 resources: ";
   public static final String FAILED_TO_CREATE_PROCESS_INSTANCE = "Creating process instance failed for bpmnProcessId: ";
   public static final String FAILED_TO_ACTIVATE_JOBS = "Failed to activate jobs for type: ";
+  public static final String FAILED_TO_OPEN_JOB_WORKER = "Failed to open job worker for type: ";
   public static final String FAILED_TO_FETCH_PROCESS_DEFINITION_XML = "Failed to fetch process definition XML for key: ";
   public static final String FAILED_TO_FETCH_VARIABLE = "Failed to fetch variable '%s' from job: %s";
   public static final String FAILED_TO_MODIFY_PROCESS_INSTANCE = "Failed to modify process instance with activation for key: ";
+  public static final String FAILED_TO_RELEASE_JOB = "Failed to release job with key: ";
   public static final String FAILED_TO_SEARCH_PROCESS_DEFINITIONS = "Process definition search failed for processDefinitionId: ";
 }
@@ -37,8 +37,23 @@ public class DbClientLogs {
   public static final String FAILED_TO_INSERT_RECORD = "Failed to insert record for C7 ID: ";
   public static final String FAILED_TO_FIND_SKIPPED_COUNT = "Failed to find skipped count";
   public static final String FAILED_TO_FIND_ALL_SKIPPED = "Failed to find skipped C7 IDs";
+  public static final String FAILED_TO_FLUSH_BATCH = "Failed to execute batch of C8 history inserts";
   public static final String FAILED_TO_DELETE = "Failed to delete mapping for C7 ID: ";
   public static final String FAILED_TO_DROP_MIGRATION_TABLE = "Failed to drop migration mapping table";
+  public static final String FAILED_TO_FIND_LEASE = "Failed to find lease of work unit: ";
+  public static final String FAILED_TO_CLAIM_LEASE = "Failed to claim lease of work unit: ";
+  public static final String FAILED_TO_EXTEND_LEASES = "Failed to extend leases of node: ";
+  public static final String FAILED_TO_READ_DATABASE_TIME = "Failed to read the time of the migrator database";
+  public static final String FAILED_TO_COMPLETE_LEASE = "Failed to complete lease of work unit: ";
+  public static final String FAILED_TO_RELEASE_LEASE = "Failed to release lease of work unit: ";
+  public static final String FAILED_TO_DELETE_LEASES = "Failed to delete leases";
+  public static final String FAILED_TO_FIND_WATERMARK = "Failed to find watermark of work unit: ";
+  public static final String FAILED_TO_SAVE_WATERMARK = "Failed to save watermark of work unit: ";
+  public static final String FAILED_TO_DELETE_WATERMARK = "Failed to delete watermark of work unit: ";
+  public static final String FAILED_TO_FIND_SETTING = "Failed to find setting: ";
+  public static final String FAILED_TO_SAVE_SETTING = "Failed to save setting: ";
+  public static final String FAILED_TO_FIND_MIGRATED = "Failed to find migrated entities of type: ";
+  public static final String C8_KEY_COLLISION = "C8 key [%d] of %s with C7 ID [%s] collides with %s with C7 ID [%s]";
 
   public static void updatingC8KeyForC7Id(String c7Id, Long c8Key) {
     LOGGER.debug(UPDATING_KEY_FOR_C7_ID, c7Id, c8Key);
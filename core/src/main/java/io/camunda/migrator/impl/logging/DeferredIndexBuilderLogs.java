@@ -0,0 +1,72 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.impl.logging;
+
+import io.camunda.migrator.impl.persistence.DeferredIndexBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Centralized logging utility for DeferredIndexBuilder.
+ */
+public class DeferredIndexBuilderLogs {
+
+  protected static final Logger LOGGER = LoggerFactory.getLogger(DeferredIndexBuilder.class);
+
+  // Error Messages
+  public static final String FAILED_TO_DROP_INDEXES = "Failed to drop secondary indexes of C8 history tables";
+  public static final String FAILED_TO_REBUILD_INDEXES = "Failed to rebuild secondary indexes of C8 history tables. "
+      + "The remaining statements are kept in: ";
+
+  // Info Messages
+  public static final String DROPPING_INDEXES = "Deferring {} secondary indexes of C8 history tables until the migration has finished";
+  public static final String DROPPING_INDEX = "Dropping index [{}] on table [{}]: {}";
+  public static final String SKIPPING_NON_EMPTY_TABLE = "Not deferring indexes of table [{}] since it already contains data";
+  public static final String SKIPPING_EXPRESSION_INDEX = "Not deferring expression index [{}] on table [{}]";
+  public static final String FAILED_TO_DROP_INDEX = "Could not drop index [{}] on table [{}], keeping it: {}";
+  public static final String REBUILDING_INDEXES = "Rebuilding {} deferred secondary indexes of C8 history tables";
+  public static final String REBUILDING_INDEX = "Rebuilding index {}/{} [{}] on table [{}]: {}";
+  public static final String REBUILT_INDEX = "Rebuilt index [{}] in {} ms";
+  public static final String INDEX_ALREADY_EXISTS = "Index [{}] on table [{}] already exists";
+
+  public static void droppingIndexes(int count) {
+    LOGGER.info(DROPPING_INDEXES, count);
+  }
+
+  public static void droppingIndex(String indexName, String tableName, String ddl) {
+    LOGGER.debug(DROPPING_INDEX, indexName, tableName, ddl);
+  }
+
+  public static void skippingNonEmptyTable(String tableName) {
+    LOGGER.info(SKIPPING_NON_EMPTY_TABLE, tableName);
+  }
+
+  public static void skippingExpressionIndex(String indexName, String tableName) {
+    LOGGER.debug(SKIPPING_EXPRESSION_INDEX, indexName, tableName);
+  }
+
+  public static void failedToDropIndex(String indexName, String tableName, String message) {
+    LOGGER.warn(FAILED_TO_DROP_INDEX, indexName, tableName, message);
+  }
+
+  public static void rebuildingIndexes(int count) {
+    LOGGER.info(REBUILDING_INDEXES, count);
+  }
+
+  public static void rebuildingIndex(int current, int total, String indexName, String tableName, String ddl) {
+    LOGGER.info(REBUILDING_INDEX, current, total, indexName, tableName, ddl);
+  }
+
+  public static void rebuiltIndex(String indexName, long durationMillis) {
+    LOGGER.info(REBUILT_INDEX, indexName, durationMillis);
+  }
+
+  public static void indexAlreadyExists(String indexName, String tableName) {
+    LOGGER.info(INDEX_ALREADY_EXISTS, indexName, tableName);
+  }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.impl.logging;
+
+import io.camunda.migrator.impl.concurrent.DependencyScheduler;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Centralized logging utility for DependencyScheduler.
+ */
+public class DependencySchedulerLogs {
+
+  protected static final Logger LOGGER = LoggerFactory.getLogger(DependencyScheduler.class);
+
+  // Info Messages
+  public static final String STARTING_TASK = "Starting {} after {}";
+  public static final String COMPLETED_TASK = "Completed {} in {} ms";
+
+  public static void startingTask(Object key, List<?> dependencies) {
+    LOGGER.debug(STARTING_TASK, key, dependencies);
+  }
+
+  public static void completedTask(Object key, long durationMillis) {
+    LOGGER.info(COMPLETED_TASK, key, durationMillis);
+  }
+}
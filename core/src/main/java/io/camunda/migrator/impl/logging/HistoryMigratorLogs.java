@@ -31,6 +31,8 @@ public class HistoryMigratorLogs {
   public static final String SKIP_REASON_MISSING_DECISION_REQUIREMENTS = "Missing decision requirements definition";
   public static final String SKIP_REASON_MISSING_DECISION_DEFINITION = "Missing decision definition";
   public static final String SKIP_REASON_MISSING_PARENT_DECISION_INSTANCE = "Missing parent decision instance";
+  public static final String SKIP_REASON_EXCEEDS_MAX_SIZE = "Value exceeds maximum variable size";
+  public static final String SKIP_REASON_VALUE_TRUNCATED = "Value truncated to maximum variable size";
 
   // HistoryMigrator Messages
   public static final String MIGRATING_DEFINITIONS = "Migrating {} definitions";
@@ -40,6 +42,15 @@ public class HistoryMigratorLogs {
   public static final String SKIPPING_DECISION_DEFINITION = "Migration of historic decision definition with C7 ID [{}] skipped. Decision requirements definition not yet available.";
 
   public static final String MIGRATING_INSTANCES = "Migrating historic {} instances";
+  public static final String WORKERS_REQUIRE_DETERMINISTIC_KEYS = "Several history workers require "
+      + "'camunda.migrator.history.key-strategy' to be set to 'DETERMINISTIC' unless the mapping table is stored in the "
+      + "C8 database, since the mapping records can't be written in the same transaction as the C8 rows.";
+  public static final String KEY_STRATEGY_CHANGED = "History was migrated with key strategy [%s] but "
+      + "'camunda.migrator.history.key-strategy' is set to [%s]. The key strategy can't be changed once history has "
+      + "been migrated.";
+  public static final String LIMITING_WORKERS = "Limiting history workers from {} to {} to fit into the connection pools of the C7 and C8 data sources";
+  public static final String MIGRATING_PROCESS_INSTANCE_UNITS = "Migrating historic process instances together with their flow nodes, user tasks, variables, incidents and decision instances";
+  public static final String MIGRATING_PROCESS_INSTANCE_UNIT_COMPLETE = "Migration of historic process instance unit with C7 ID [{}] completed with {} entities";
   public static final String MIGRATING_INSTANCE = "Migrating historic {} instance with C7 ID: [{}]";
   public static final String MIGRATING_INSTANCE_COMPLETE =
       "Migration of historic {} instance with C7 ID " + "[{}] completed";
@@ -63,6 +74,7 @@ public class HistoryMigratorLogs {
   public static final String SKIPPING_VARIABLE_MISSING_FLOW_NODE = "Migration of historic variable with C7 ID [{}] skipped. Flow node instance not yet available.";
   public static final String SKIPPING_VARIABLE_MISSING_PROCESS = "Migration of historic variable with C7 ID [{}] skipped. Process instance not yet available.";
   public static final String SKIPPING_VARIABLE_MISSING_TASK = "Migration of historic variable with C7 ID [{}] skipped. Associated task [{}] was skipped.";
+  public static final String SKIPPING_VARIABLE_CONVERSION_ERROR = "Migration of historic variable with C7 ID [{}] skipped: {}";
   public static final String SKIPPING_VARIABLE_MISSING_SCOPE = "Migration of historic variable with C7 ID [{}] skipped. Scope key is not yet available.";
 
   public static final String MIGRATING_USER_TASKS = "Migrating historic user tasks";
@@ -112,6 +124,14 @@ public class HistoryMigratorLogs {
     LOGGER.info(MIGRATING_INSTANCES, "process");
   }
 
+  public static void migratingProcessInstanceUnits() {
+    LOGGER.info(MIGRATING_PROCESS_INSTANCE_UNITS);
+  }
+
+  public static void migratingProcessInstanceUnitCompleted(String c7ProcessInstanceId, int entityCount) {
+    LOGGER.debug(MIGRATING_PROCESS_INSTANCE_UNIT_COMPLETE, c7ProcessInstanceId, entityCount);
+  }
+
   public static void migratingProcessInstance(String c7ProcessInstanceId) {
     LOGGER.debug(MIGRATING_INSTANCE, "process", c7ProcessInstanceId);
   }
@@ -208,6 +228,10 @@ public class HistoryMigratorLogs {
     LOGGER.debug(SKIPPING_VARIABLE_MISSING_SCOPE, c7VariableId);
   }
 
+  public static void skippingHistoricVariableDueToConversionError(String c7VariableId, String reason) {
+    LOGGER.warn(SKIPPING_VARIABLE_CONVERSION_ERROR, c7VariableId, reason);
+  }
+
   public static void migratingHistoricUserTasks() {
     LOGGER.info(MIGRATING_USER_TASKS);
   }
@@ -255,4 +279,8 @@ public class HistoryMigratorLogs {
   public static void migratingDecisionRequirementsCompleted(String c7DecisionRequirementsId) {
     LOGGER.debug(MIGRATING_DECISION_REQUIREMENT_COMPLETED, c7DecisionRequirementsId);
   }
+
+  public static void limitingWorkers(int requested, int limit) {
+    LOGGER.warn(LIMITING_WORKERS, requested, limit);
+  }
 }
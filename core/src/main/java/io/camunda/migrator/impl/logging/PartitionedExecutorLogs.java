@@ -0,0 +1,30 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.impl.logging;
+
+import io.camunda.migrator.impl.concurrent.PartitionedExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Centralized logging utility for PartitionedExecutor.
+ */
+public class PartitionedExecutorLogs {
+
+  protected static final Logger LOGGER = LoggerFactory.getLogger(PartitionedExecutor.class);
+
+  // Error Messages
+  public static final String INTERRUPTED_WHILE_SUBMITTING = "Interrupted while waiting for the migration workers";
+
+  // Debug Messages
+  public static final String HANDLED_CHUNK = "Handled chunk of {} items in {} ms";
+
+  public static void handledChunk(int size, long durationMillis) {
+    LOGGER.debug(HANDLED_CHUNK, size, durationMillis);
+  }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.impl.logging;
+
+import io.camunda.migrator.impl.RetryPolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Centralized logging utility for RetryPolicy.
+ */
+public class RetryPolicyLogs {
+
+  protected static final Logger LOGGER = LoggerFactory.getLogger(RetryPolicy.class);
+
+  // Info Messages
+  public static final String RETRYING = "Transient failure ({}): {}. Retrying in {} ms (attempt {}/{})";
+  public static final String GIVING_UP = "Transient failure ({}) persists after {} attempts in {} ms, giving up";
+
+  public static void retrying(String reason, String message, long delayMillis, int attempt, int maxAttempts) {
+    LOGGER.warn(RETRYING, reason, message, delayMillis, attempt, maxAttempts);
+  }
+
+  public static void givingUp(String reason, int attempts, long elapsedMillis) {
+    LOGGER.warn(GIVING_UP, reason, attempts, elapsedMillis);
+  }
+}
@@ -8,6 +8,7 @@
 package io.camunda.migrator.impl.logging;
 
 import io.camunda.migrator.RuntimeMigrator;
+import io.camunda.migrator.impl.model.RuntimeShard;
 import java.util.Date;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,6 +34,17 @@ public class RuntimeMigratorLogs {
   public static final String MIGRATOR_JOBS_FOUND = "Migrator jobs found: {}";
   public static final String COLLECTING_ACTIVE_DESCENDANT_ACTIVITIES = "Collecting active descendant activity instances for activityId [{}]";
   public static final String FOUND_ACTIVE_ACTIVITIES_TO_ACTIVATE = "Found {} active activity instances to activate";
+  public static final String MIGRATING_PIPELINED = "Migrating process instances pipelined with {} validations and {} creations in flight";
+  public static final String RETRYING_PROCESS_INSTANCE_CREATION = "Creating C8 process instance for C7 ID [{}] was rejected with backpressure, sending it again: {}";
+  public static final String SKIPPING_PROCESS_INSTANCE_PIPELINE_FAILURE = "Skipping process instance with C7 ID [{}] that was in flight when the migration failed: {}";
+  public static final String CREATION_OUTCOME_UNKNOWN = "Creating the C8 process instance failed and it may exist anyway, check C8 before retrying: %s";
+  public static final String UNSAVED_PROCESS_INSTANCE = "Failed to save the mapping of process instance with C7 ID [{}] to C8 process instance key [{}]; check C8 before migrating it again";
+  public static final String MIGRATING_SHARD = "Migrating process instances of shard {}";
+  public static final String MISSING_SHARDING_RUN_ID = "Runtime sharding requires 'camunda.migrator.runtime-sharding.run-id', set to the same value on all nodes of a migration run";
+  public static final String RELEASED_JOB_OF_OTHER_SHARD = "Released by the migrator node holding shard %s for the node holding the shard of the job";
+  public static final String INTERRUPTED_WHILE_WAITING = "Interrupted while waiting for the runtime migration";
+  public static final String STREAMING_MIGRATOR_JOBS = "Streaming migrator jobs with {} handled at the same time";
+  public static final String STREAMED_MIGRATOR_JOBS = "Handled {} streamed migrator jobs";
   public static final String EXTERNALLY_STARTED_PROCESS_INSTANCE = "Process instance with key [{}] was externally started, skipping migrator job activation.";
 
   public static void startingNewC8ProcessInstance(String c7ProcessInstanceId) {
@@ -55,6 +67,26 @@ public class RuntimeMigratorLogs {
     LOGGER.warn(SKIPPING_PROCESS_INSTANCE_VALIDATION_ERROR, c7ProcessInstanceId, message);
   }
 
+  public static void migratingPipelined(int validationWindow, int creationWindow) {
+    LOGGER.info(MIGRATING_PIPELINED, validationWindow, creationWindow);
+  }
+
+  public static void migratingShard(RuntimeShard shard) {
+    LOGGER.info(MIGRATING_SHARD, shard);
+  }
+
+  public static void retryingProcessInstanceCreation(String c7ProcessInstanceId, String message) {
+    LOGGER.warn(RETRYING_PROCESS_INSTANCE_CREATION, c7ProcessInstanceId, message);
+  }
+
+  public static void skippingProcessInstancePipelineFailure(String c7ProcessInstanceId, String message) {
+    LOGGER.warn(SKIPPING_PROCESS_INSTANCE_PIPELINE_FAILURE, c7ProcessInstanceId, message);
+  }
+
+  public static void unsavedProcessInstance(String c7ProcessInstanceId, Long processInstanceKey) {
+    LOGGER.error(UNSAVED_PROCESS_INSTANCE, c7ProcessInstanceId, processInstanceKey);
+  }
+
   public static void fetchingProcessInstances() {
     LOGGER.info(FETCHING_PROCESS_INSTANCES);
   }
@@ -71,6 +103,14 @@ public class RuntimeMigratorLogs {
     LOGGER.warn(PROCESS_INSTANCE_NOT_EXISTS, c7ProcessInstanceId);
   }
 
+  public static void streamingMigratorJobs(int concurrency) {
+    LOGGER.info(STREAMING_MIGRATOR_JOBS, concurrency);
+  }
+
+  public static void streamedMigratorJobs(long count) {
+    LOGGER.info(STREAMED_MIGRATOR_JOBS, count);
+  }
+
   public static void activatingMigratorJobs() {
     LOGGER.info(ACTIVATING_MIGRATOR_JOBS);
   }
@@ -22,7 +22,11 @@ public class RuntimeValidatorLogs {
   public static final String VALIDATE_C7_PROCESS_INSTANCE = "Validate C7 process instance by ID: {}";
   public static final String COLLECTING_ACTIVE_DESCENDANT_ACTIVITIES_VALIDATION = "Collecting active descendant activity instances for C7 ID [{}]";
   public static final String FOUND_ACTIVE_ACTIVITIES_TO_VALIDATE = "Found {} active activity instances to validate";
+  public static final String VALIDATING_PROCESS_DEFINITIONS = "Validating C7 process definitions with active instances before their instances";
+  public static final String INVALID_PROCESS_DEFINITION = "Instances of C7 process definition [{}] with tenant [{}] can't be migrated and will be skipped";
+  public static final String VALIDATED_PROCESS_DEFINITIONS = "Validated {} C7 process definitions, {} of them can't be migrated";
   public static final String JOB_TYPE_VALIDATION_DISABLED = "Job type validation is disabled, skipping execution listener validation";
+  public static final String LOADING_C8_PROCESS_MODEL = "Fetching and parsing the model of C8 process definition [{}]";
 
   // RuntimeValidator Error Messages
   public static final String MULTI_INSTANCE_LOOP_CHARACTERISTICS_ERROR = "Found multi-instance loop characteristics for flow node with id [%s] in C7 process instance.";
@@ -44,6 +48,18 @@ public class RuntimeValidatorLogs {
     LOGGER.debug(COLLECTING_ACTIVE_DESCENDANT_ACTIVITIES_VALIDATION, processInstanceId);
   }
 
+  public static void validatingProcessDefinitions() {
+    LOGGER.info(VALIDATING_PROCESS_DEFINITIONS);
+  }
+
+  public static void invalidProcessDefinition(String processDefinitionKey, String tenantId) {
+    LOGGER.warn(INVALID_PROCESS_DEFINITION, processDefinitionKey, tenantId);
+  }
+
+  public static void validatedProcessDefinitions(int count, int invalidCount) {
+    LOGGER.info(VALIDATED_PROCESS_DEFINITIONS, count, invalidCount);
+  }
+
   public static void foundActiveActivitiesToValidate(int size) {
     LOGGER.debug(FOUND_ACTIVE_ACTIVITIES_TO_VALIDATE, size);
   }
@@ -51,4 +67,8 @@ public class RuntimeValidatorLogs {
   public static void jobTypeValidationDisabled() {
     LOGGER.debug(JOB_TYPE_VALIDATION_DISABLED);
   }
+
+  public static void loadingC8ProcessModel(long processDefinitionKey) {
+    LOGGER.debug(LOADING_C8_PROCESS_MODEL, processDefinitionKey);
+  }
 }
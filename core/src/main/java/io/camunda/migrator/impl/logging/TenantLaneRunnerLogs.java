@@ -0,0 +1,47 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.impl.logging;
+
+import io.camunda.migrator.impl.TenantLane;
+import io.camunda.migrator.impl.concurrent.TenantLaneRunner;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Centralized logging utility for TenantLaneRunner.
+ */
+public class TenantLaneRunnerLogs {
+
+  protected static final Logger LOGGER = LoggerFactory.getLogger(TenantLaneRunner.class);
+
+  // Error Messages
+  public static final String INTERRUPTED_WHILE_WAITING = "Interrupted while waiting for tenant lanes";
+  public static final String LANE_FAILED = "Migration of tenant lane [{}] failed, continuing with the other lanes: {}";
+
+  // Info Messages
+  public static final String FOUND_LANES = "Migrating {} tenant lanes: {}";
+  public static final String STARTING_LANE = "Starting migration of tenant lane [{}]";
+  public static final String COMPLETED_LANE = "Completed migration of tenant lane [{}] in {} ms";
+
+  public static void foundLanes(List<TenantLane> lanes) {
+    LOGGER.info(FOUND_LANES, lanes.size(), lanes);
+  }
+
+  public static void startingLane(TenantLane lane) {
+    LOGGER.info(STARTING_LANE, lane);
+  }
+
+  public static void completedLane(TenantLane lane, long durationMillis) {
+    LOGGER.info(COMPLETED_LANE, lane, durationMillis);
+  }
+
+  public static void laneFailed(TenantLane lane, String message) {
+    LOGGER.error(LANE_FAILED, lane, message);
+  }
+}
@@ -8,10 +8,13 @@
 
 package io.camunda.migrator.impl.logging;
 
+import io.camunda.migrator.config.property.LargeVariableProperties.Policy;
 import io.camunda.migrator.converter.VariableConverter;
+import java.nio.file.Path;
 import org.camunda.bpm.engine.variable.impl.value.ObjectValueImpl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.util.unit.DataSize;
 
 /**
  * Centralized logging utility for VariableConverter.
@@ -22,10 +25,15 @@ public class VariableConverterLogs {
 
   // VariableConverter Messages
   public static final String CONVERTING_OF_TYPE = "Converting variable with C7 ID [{}] of type: {}";
+  public static final String EXCEEDS_MAX_SIZE = "Value of variable with C7 ID [{}] of type {} exceeds the maximum size of {}, applying policy {}";
+  public static final String EXTERNALIZED_VALUE = "Externalized value of variable with C7 ID [{}] into file: {}";
 
   // VariableConverter Error Messages
   public static final String WARN_NO_HANDLING_AVAILABLE = "No existing handling for variable with id= {}, type: {}, returning null.";
   public static final String ERROR_CONVERTING_JSON = "Error converting typed value to json: {}, exception: {}. Mapped to null";
+  public static final String FAILED_TO_READ_VALUE = "Failed to read value of variable with C7 ID: ";
+  public static final String FAILED_TO_EXTERNALIZE = "Failed to externalize value of variable with C7 ID: ";
+  public static final String ERROR_VALIDATING_JSON = "Serialized JSON value of variable with C7 ID [{}] is not valid: {}. Mapped to null";
 
   public static void convertingOfType(String c7Id, String type) {
     LOGGER.info(CONVERTING_OF_TYPE, c7Id, type);
@@ -38,4 +46,16 @@ public class VariableConverterLogs {
   public static void failedConvertingJson(ObjectValueImpl typedValue, String message) {
     LOGGER.error(ERROR_CONVERTING_JSON, typedValue, message);
   }
+
+  public static void failedValidatingJson(String c7Id, String message) {
+    LOGGER.error(ERROR_VALIDATING_JSON, c7Id, message);
+  }
+
+  public static void exceedsMaxSize(String c7Id, String type, DataSize maxSize, Policy policy) {
+    LOGGER.warn(EXCEEDS_MAX_SIZE, c7Id, type, maxSize, policy);
+  }
+
+  public static void externalizedValue(String c7Id, Path file) {
+    LOGGER.info(EXTERNALIZED_VALUE, c7Id, file.toAbsolutePath());
+  }
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.impl.logging;
+
+import io.camunda.migrator.impl.concurrent.WorkLeaseCoordinator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Centralized logging utility for WorkLeaseCoordinator.
+ */
+public class WorkLeaseCoordinatorLogs {
+
+  protected static final Logger LOGGER = LoggerFactory.getLogger(WorkLeaseCoordinator.class);
+
+  // Error Messages
+  public static final String INTERRUPTED_WHILE_WAITING = "Interrupted while waiting for work units of other nodes";
+  public static final String LEASE_LOST_BEFORE_COMMIT = "Node [%s] no longer holds the lease of work unit [%s], the batch is rolled back";
+
+  // Info Messages
+  public static final String CLAIMED_WORK_UNIT = "Node [{}] claimed work unit [{}]";
+  public static final String TOOK_OVER_WORK_UNIT = "Took over work unit [{}] from node [{}]";
+  public static final String WAITING_FOR_WORK_UNITS = "Waiting for {} work units held by other nodes";
+  public static final String LOST_LEASE = "Node [{}] lost the lease of work unit [{}] before completing it";
+  public static final String ABORTED_WORK_UNIT = "Node [{}] aborted work unit [{}] after losing its lease";
+  public static final String RELEASED_OPEN_WORK_UNIT = "Node [{}] released open work unit [{}] to be migrated again by a later run";
+  public static final String SKIPPING_OPEN_WORK_UNIT = "Skipping open work unit [{}] held by another node";
+  public static final String FAILED_TO_EXTEND_LEASES = "Failed to extend leases of node [{}]: {}";
+  public static final String WAITING_FOR_PREPARATION = "Waiting for the node holding work unit [{}] to prepare it";
+  public static final String WAITING_FOR_OTHER_NODES = "Waiting for {} work units of other nodes before finishing work unit [{}]";
+
+  public static void claimedWorkUnit(String workUnit, String nodeId) {
+    LOGGER.info(CLAIMED_WORK_UNIT, nodeId, workUnit);
+  }
+
+  public static void tookOverWorkUnit(String workUnit, String previousOwner) {
+    LOGGER.info(TOOK_OVER_WORK_UNIT, workUnit, previousOwner);
+  }
+
+  public static void waitingForWorkUnits(int count) {
+    LOGGER.info(WAITING_FOR_WORK_UNITS, count);
+  }
+
+  public static void lostLease(String workUnit, String nodeId) {
+    LOGGER.warn(LOST_LEASE, nodeId, workUnit);
+  }
+
+  public static void abortedWorkUnit(String workUnit, String nodeId) {
+    LOGGER.warn(ABORTED_WORK_UNIT, nodeId, workUnit);
+  }
+
+  public static void releasedOpenWorkUnit(String workUnit, String nodeId) {
+    LOGGER.info(RELEASED_OPEN_WORK_UNIT, nodeId, workUnit);
+  }
+
+  public static void skippingOpenWorkUnit(String workUnit) {
+    LOGGER.info(SKIPPING_OPEN_WORK_UNIT, workUnit);
+  }
+
+  public static void waitingForPreparation(String workUnit) {
+    LOGGER.info(WAITING_FOR_PREPARATION, workUnit);
+  }
+
+  public static void waitingForOtherNodes(long count, String workUnit) {
+    LOGGER.info(WAITING_FOR_OTHER_NODES, count, workUnit);
+  }
+
+  public static void failedToExtendLeases(String nodeId, String message) {
+    LOGGER.warn(FAILED_TO_EXTEND_LEASES, nodeId, message);
+  }
+}
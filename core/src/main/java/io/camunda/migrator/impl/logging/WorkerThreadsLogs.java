@@ -0,0 +1,43 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.impl.logging;
+
+import io.camunda.migrator.impl.concurrent.WorkerThreads;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Centralized logging utility for WorkerThreads.
+ */
+public class WorkerThreadsLogs {
+
+  protected static final Logger LOGGER = LoggerFactory.getLogger(WorkerThreads.class);
+
+  // Error Messages
+  public static final String INTERRUPTED_WHILE_WAITING = "Interrupted while waiting to run a migration task";
+
+  // Warn Messages
+  public static final String LIMITING_TO_POOLS = "Limiting the concurrency from {} to {} to fit into the connection pools";
+  public static final String LIMITING_TO_CARRIERS = "Limiting the concurrency from {} to {} carrier threads, so tasks pinned "
+      + "in JDBC calls can't block the others. Set '-D{}' to allow more";
+
+  // Info Messages
+  public static final String RUNNING_ON_VIRTUAL_THREADS = "Running migration tasks on virtual threads, at most {} at the same time";
+
+  public static void limitingToPools(int requested, int limit) {
+    LOGGER.warn(LIMITING_TO_POOLS, requested, limit);
+  }
+
+  public static void limitingToCarriers(int requested, int carriers, String property) {
+    LOGGER.warn(LIMITING_TO_CARRIERS, requested, carriers, property);
+  }
+
+  public static void runningOnVirtualThreads(int concurrency) {
+    LOGGER.info(RUNNING_ON_VIRTUAL_THREADS, concurrency);
+  }
+}
@@ -0,0 +1,14 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.impl.model;
+
+/**
+ * The key of a C7 process definition together with its tenant, which identifies the versions of a definition.
+ */
+public record C7DefinitionKey(String key, String tenantId) {
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.impl.model;
+
+import java.util.Set;
+
+/**
+ * The elements of a C7 process definition that active instances can't be migrated from, by their IDs.
+ */
+public record C7ProcessModel(Set<String> multiInstanceActivityIds, Set<String> parallelGatewayIds) {
+
+  public boolean isMultiInstanceActivity(String activityId) {
+    return multiInstanceActivityIds.contains(activityId);
+  }
+
+  public boolean isParallelGateway(String activityId) {
+    return parallelGatewayIds.contains(activityId);
+  }
+}
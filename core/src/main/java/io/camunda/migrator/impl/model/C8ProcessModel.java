@@ -0,0 +1,64 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.impl.model;
+
+import io.camunda.zeebe.model.bpmn.BpmnModelInstance;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+
+/**
+ * Parsed model of a deployed C8 process definition together with the results of validating its start events and its
+ * flow nodes, which only depend on the definition.
+ */
+public class C8ProcessModel {
+
+  protected final BpmnModelInstance modelInstance;
+  protected final String startEventError;
+  protected final Map<String, Optional<String>> flowNodeErrors = new ConcurrentHashMap<>();
+  protected final ReentrantLock lock = new ReentrantLock();
+
+  /**
+   * @param startEventError the reason why instances can't be started in the definition, or {@code null}
+   */
+  public C8ProcessModel(BpmnModelInstance modelInstance, String startEventError) {
+    this.modelInstance = modelInstance;
+    this.startEventError = startEventError;
+  }
+
+  public String getStartEventError() {
+    return startEventError;
+  }
+
+  /**
+   * Validates the flow node against the model once and throws an {@link IllegalStateException} with the remembered
+   * reason if it can't be migrated. The DOM behind a model instance is not safe for concurrent use, so validations of
+   * the same model don't run at the same time.
+   *
+   * @param validation throws an {@link IllegalStateException} if the flow node can't be migrated
+   */
+  public void validateFlowNode(String activityId, BiConsumer<BpmnModelInstance, String> validation) {
+    Optional<String> error = flowNodeErrors.computeIfAbsent(activityId, id -> {
+      lock.lock();
+      try {
+        validation.accept(modelInstance, id);
+        return Optional.empty();
+      } catch (IllegalStateException e) {
+        return Optional.of(e.getMessage());
+      } finally {
+        lock.unlock();
+      }
+    });
+
+    if (error.isPresent()) {
+      throw new IllegalStateException(error.get());
+    }
+  }
+}
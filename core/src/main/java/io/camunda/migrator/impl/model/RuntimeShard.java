@@ -0,0 +1,51 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.impl.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A share of the runtime process instances, assigned by the last character of their C7 ID, so the shard can be
+ * selected in SQL with {@code LIKE} on every database. C7 IDs end with a decimal digit when generated by the database
+ * ID generator and with a hex digit when they are UUIDs. Each of these characters belongs to one shard, IDs ending with
+ * any other character belong to the first shard.
+ */
+public record RuntimeShard(int index, int count) {
+
+  public static final String ID_SUFFIXES = "0123456789abcdef";
+  public static final int MAX_COUNT = ID_SUFFIXES.length();
+
+  /**
+   * Returns the characters the C7 IDs of the shard end with.
+   */
+  public List<String> getIdSuffixes() {
+    List<String> idSuffixes = new ArrayList<>();
+    for (int position = index; position < ID_SUFFIXES.length(); position += count) {
+      idSuffixes.add(String.valueOf(ID_SUFFIXES.charAt(position)));
+    }
+    return idSuffixes;
+  }
+
+  /**
+   * Returns whether the shard also holds the IDs that end with none of the {@link #ID_SUFFIXES}.
+   */
+  public boolean hasOtherIdSuffixes() {
+    return index == 0;
+  }
+
+  public boolean contains(String c7ProcessInstanceId) {
+    int position = ID_SUFFIXES.indexOf(c7ProcessInstanceId.charAt(c7ProcessInstanceId.length() - 1));
+    return position < 0 ? hasOtherIdSuffixes() : position % count == index;
+  }
+
+  @Override
+  public String toString() {
+    return index + "-of-" + count;
+  }
+}
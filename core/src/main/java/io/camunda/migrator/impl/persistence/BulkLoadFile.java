@@ -0,0 +1,239 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.impl.persistence;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Writes the rows of one C8 table into delimited files that can be loaded with PostgreSQL {@code COPY},
+ * Oracle SQL*Loader or H2 {@code CSVREAD}.
+ * <p>
+ * The files follow RFC 4180: fields are separated by commas, text is enclosed in double quotes and {@code null} is
+ * written as an empty, unquoted field. A new file is started once the configured maximum file size would be exceeded.
+ * <p>
+ * Access is guarded by a lock instead of {@code synchronized}, so history workers running on virtual threads, see
+ * {@link io.camunda.migrator.impl.concurrent.WorkerThreads}, don't pin their carrier thread during file I/O.
+ * <p>
+ * Files are never overwritten, so data files of an earlier run that was not loaded yet are kept. Rows are buffered;
+ * {@link #sync()} makes them durable before the entities are marked as migrated.
+ */
+public class BulkLoadFile implements Closeable {
+
+  public static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSSxxx");
+
+  protected static final int BUFFER_SIZE = 1024 * 1024;
+
+  protected final Path directory;
+  protected final String name;
+  protected final String tableName;
+  protected final List<String> columns;
+  protected final long maxFileSize;
+
+  protected final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+  protected final List<Path> files = new ArrayList<>();
+  protected final Set<String> timestampColumns = new HashSet<>();
+  protected final int[] maxTextLengths;
+
+  protected final ReentrantLock lock = new ReentrantLock();
+
+  protected FileChannel channel;
+  protected long currentFileSize;
+  protected long rowCount;
+  protected boolean unsynced;
+
+  public BulkLoadFile(Path directory, String name, String tableName, List<String> columns, long maxFileSize) {
+    this.directory = directory;
+    this.name = name;
+    this.tableName = tableName;
+    this.columns = List.copyOf(columns);
+    this.maxFileSize = maxFileSize;
+    this.maxTextLengths = new int[columns.size()];
+  }
+
+  public void writeRow(List<Object> values) throws IOException {
+    if (values.size() != columns.size()) {
+      throw new IllegalArgumentException(
+          String.format("Expected %d values for table %s but got %d", columns.size(), tableName, values.size()));
+    }
+
+    lock.lock();
+    try {
+      byte[] row = toLine(values);
+      if (channel == null || (currentFileSize + row.length > maxFileSize && currentFileSize > 0)) {
+        rotate();
+      }
+      write(row);
+      rowCount++;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  protected byte[] toLine(List<Object> values) {
+    StringBuilder line = new StringBuilder();
+    for (int i = 0; i < values.size(); i++) {
+      if (i > 0) {
+        line.append(',');
+      }
+      Object value = values.get(i);
+      if (value instanceof OffsetDateTime) {
+        timestampColumns.add(columns.get(i));
+      }
+      String field = format(value);
+      if (value instanceof String || value instanceof Character) {
+        maxTextLengths[i] = Math.max(maxTextLengths[i], field.length());
+      }
+      line.append(field);
+    }
+    return line.append('\n').toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  protected String format(Object value) {
+    if (value == null) {
+      return "";
+    } else if (value instanceof OffsetDateTime dateTime) {
+      return dateTime.format(TIMESTAMP_FORMAT);
+    } else if (value instanceof Boolean bool) {
+      return bool ? "1" : "0";
+    } else if (value instanceof Number) {
+      return value.toString();
+    } else if (value instanceof Enum<?> enumValue) {
+      return enumValue.name();
+    } else {
+      return quote(value.toString());
+    }
+  }
+
+  protected String quote(String value) {
+    return '"' + value.replace("\"", "\"\"") + '"';
+  }
+
+  protected void rotate() throws IOException {
+    closeChannel();
+    Path file = directory.resolve(String.format("%s_%05d.csv", name, files.size() + 1));
+    channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+    files.add(file);
+    currentFileSize = 0;
+    write((String.join(",", columns) + "\n").getBytes(StandardCharsets.UTF_8));
+  }
+
+  protected void write(byte[] bytes) throws IOException {
+    int offset = 0;
+    while (offset < bytes.length) {
+      if (!buffer.hasRemaining()) {
+        flushBuffer();
+      }
+      int length = Math.min(buffer.remaining(), bytes.length - offset);
+      buffer.put(bytes, offset, length);
+      offset += length;
+    }
+    currentFileSize += bytes.length;
+    unsynced = true;
+  }
+
+  protected void flushBuffer() throws IOException {
+    buffer.flip();
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+    buffer.clear();
+  }
+
+  protected void closeChannel() throws IOException {
+    if (channel != null) {
+      flushBuffer();
+      channel.force(false);
+      channel.close();
+      channel = null;
+      unsynced = false;
+    }
+  }
+
+  /**
+   * Writes the buffered rows and forces them to the storage device.
+   */
+  public void sync() throws IOException {
+    lock.lock();
+    try {
+      if (channel != null && unsynced) {
+        flushBuffer();
+        channel.force(false);
+        unsynced = false;
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    lock.lock();
+    try {
+      closeChannel();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public String getTableName() {
+    return tableName;
+  }
+
+  public List<String> getColumns() {
+    return columns;
+  }
+
+  public List<Path> getFiles() {
+    lock.lock();
+    try {
+      return List.copyOf(files);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public long getRowCount() {
+    lock.lock();
+    try {
+      return rowCount;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public boolean isTimestampColumn(String column) {
+    lock.lock();
+    try {
+      return timestampColumns.contains(column);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public int getMaxTextLength(String column) {
+    lock.lock();
+    try {
+      return maxTextLengths[columns.indexOf(column)];
+    } finally {
+      lock.unlock();
+    }
+  }
+}
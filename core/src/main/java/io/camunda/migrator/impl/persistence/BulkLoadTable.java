@@ -0,0 +1,208 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.impl.persistence;
+
+import io.camunda.db.rdbms.write.domain.DecisionDefinitionDbModel;
+import io.camunda.db.rdbms.write.domain.DecisionInstanceDbModel;
+import io.camunda.db.rdbms.write.domain.DecisionRequirementsDbModel;
+import io.camunda.db.rdbms.write.domain.FlowNodeInstanceDbModel;
+import io.camunda.db.rdbms.write.domain.IncidentDbModel;
+import io.camunda.db.rdbms.write.domain.ProcessDefinitionDbModel;
+import io.camunda.db.rdbms.write.domain.ProcessInstanceDbModel;
+import io.camunda.db.rdbms.write.domain.UserTaskDbModel;
+import io.camunda.db.rdbms.write.domain.VariableDbModel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A C8 history table written by the {@link BulkLoadWriter}: its name without table prefix, its columns and how the
+ * value of each column is read from the db model.
+ * <p>
+ * Only the columns the history converters fill are listed, all other columns keep their default. Values are written
+ * as they are, so the column types have to match the types the C8 mappers bind, e.g. enums by their name.
+ */
+public class BulkLoadTable<T> {
+
+  public static final BulkLoadTable<ProcessDefinitionDbModel> PROCESS_DEFINITION =
+      new BulkLoadTable<>("PROCESS_DEFINITION", ProcessDefinitionDbModel.class)
+          .column("PROCESS_DEFINITION_KEY", ProcessDefinitionDbModel::processDefinitionKey)
+          .column("PROCESS_DEFINITION_ID", ProcessDefinitionDbModel::processDefinitionId)
+          .column("NAME", ProcessDefinitionDbModel::name)
+          .column("RESOURCE_NAME", ProcessDefinitionDbModel::resourceName)
+          .column("TENANT_ID", ProcessDefinitionDbModel::tenantId)
+          .column("VERSION", ProcessDefinitionDbModel::version)
+          .column("VERSION_TAG", ProcessDefinitionDbModel::versionTag)
+          .column("BPMN_XML", ProcessDefinitionDbModel::bpmnXml)
+          .column("FORM_ID", ProcessDefinitionDbModel::formId);
+
+  public static final BulkLoadTable<ProcessInstanceDbModel> PROCESS_INSTANCE =
+      new BulkLoadTable<>("PROCESS_INSTANCE", ProcessInstanceDbModel.class)
+          .column("PROCESS_INSTANCE_KEY", ProcessInstanceDbModel::processInstanceKey)
+          .column("PROCESS_DEFINITION_ID", ProcessInstanceDbModel::processDefinitionId)
+          .column("PROCESS_DEFINITION_KEY", ProcessInstanceDbModel::processDefinitionKey)
+          .column("STATE", ProcessInstanceDbModel::state)
+          .column("START_DATE", ProcessInstanceDbModel::startDate)
+          .column("END_DATE", ProcessInstanceDbModel::endDate)
+          .column("TENANT_ID", ProcessInstanceDbModel::tenantId)
+          .column("PARENT_PROCESS_INSTANCE_KEY", ProcessInstanceDbModel::parentProcessInstanceKey)
+          .column("VERSION", ProcessInstanceDbModel::version)
+          .column("PARTITION_ID", ProcessInstanceDbModel::partitionId)
+          .column("HISTORY_CLEANUP_DATE", ProcessInstanceDbModel::historyCleanupDate);
+
+  public static final BulkLoadTable<FlowNodeInstanceDbModel> FLOW_NODE_INSTANCE =
+      new BulkLoadTable<>("FLOW_NODE_INSTANCE", FlowNodeInstanceDbModel.class)
+          .column("FLOW_NODE_INSTANCE_KEY", FlowNodeInstanceDbModel::flowNodeInstanceKey)
+          .column("FLOW_NODE_ID", FlowNodeInstanceDbModel::flowNodeId)
+          .column("PROCESS_INSTANCE_KEY", FlowNodeInstanceDbModel::processInstanceKey)
+          .column("PROCESS_DEFINITION_KEY", FlowNodeInstanceDbModel::processDefinitionKey)
+          .column("PROCESS_DEFINITION_ID", FlowNodeInstanceDbModel::processDefinitionId)
+          .column("START_DATE", FlowNodeInstanceDbModel::startDate)
+          .column("END_DATE", FlowNodeInstanceDbModel::endDate)
+          .column("TYPE", FlowNodeInstanceDbModel::type)
+          .column("TENANT_ID", FlowNodeInstanceDbModel::tenantId);
+
+  public static final BulkLoadTable<UserTaskDbModel> USER_TASK =
+      new BulkLoadTable<>("USER_TASK", UserTaskDbModel.class)
+          .column("USER_TASK_KEY", UserTaskDbModel::userTaskKey)
+          .column("ELEMENT_ID", UserTaskDbModel::elementId)
+          .column("NAME", UserTaskDbModel::name)
+          .column("PROCESS_DEFINITION_ID", UserTaskDbModel::processDefinitionId)
+          .column("CREATION_DATE", UserTaskDbModel::creationDate)
+          .column("COMPLETION_DATE", UserTaskDbModel::completionDate)
+          .column("ASSIGNEE", UserTaskDbModel::assignee)
+          .column("STATE", UserTaskDbModel::state)
+          .column("PROCESS_DEFINITION_KEY", UserTaskDbModel::processDefinitionKey)
+          .column("PROCESS_INSTANCE_KEY", UserTaskDbModel::processInstanceKey)
+          .column("ELEMENT_INSTANCE_KEY", UserTaskDbModel::elementInstanceKey)
+          .column("TENANT_ID", UserTaskDbModel::tenantId)
+          .column("DUE_DATE", UserTaskDbModel::dueDate)
+          .column("FOLLOW_UP_DATE", UserTaskDbModel::followUpDate)
+          .column("PROCESS_DEFINITION_VERSION", UserTaskDbModel::processDefinitionVersion)
+          .column("PRIORITY", UserTaskDbModel::priority)
+          .column("PARTITION_ID", UserTaskDbModel::partitionId)
+          .column("HISTORY_CLEANUP_DATE", UserTaskDbModel::historyCleanupDate);
+
+  public static final BulkLoadTable<VariableDbModel> VARIABLE =
+      new BulkLoadTable<>("VARIABLE", VariableDbModel.class)
+          .column("VAR_KEY", VariableDbModel::variableKey)
+          .column("PROCESS_INSTANCE_KEY", VariableDbModel::processInstanceKey)
+          .column("PROCESS_DEFINITION_ID", VariableDbModel::processDefinitionId)
+          .column("SCOPE_KEY", VariableDbModel::scopeKey)
+          .column("TYPE", VariableDbModel::type)
+          .column("VAR_NAME", VariableDbModel::name)
+          .column("DOUBLE_VALUE", VariableDbModel::doubleValue)
+          .column("LONG_VALUE", VariableDbModel::longValue)
+          .column("VAR_VALUE", VariableDbModel::value)
+          .column("VAR_FULL_VALUE", VariableDbModel::fullValue)
+          .column("TENANT_ID", VariableDbModel::tenantId)
+          .column("IS_PREVIEW", VariableDbModel::isPreview)
+          .column("PARTITION_ID", VariableDbModel::partitionId)
+          .column("HISTORY_CLEANUP_DATE", VariableDbModel::historyCleanupDate);
+
+  public static final BulkLoadTable<IncidentDbModel> INCIDENT =
+      new BulkLoadTable<>("INCIDENT", IncidentDbModel.class)
+          .column("INCIDENT_KEY", IncidentDbModel::incidentKey)
+          .column("PROCESS_DEFINITION_KEY", IncidentDbModel::processDefinitionKey)
+          .column("PROCESS_DEFINITION_ID", IncidentDbModel::processDefinitionId)
+          .column("PROCESS_INSTANCE_KEY", IncidentDbModel::processInstanceKey)
+          .column("FLOW_NODE_INSTANCE_KEY", IncidentDbModel::flowNodeInstanceKey)
+          .column("FLOW_NODE_ID", IncidentDbModel::flowNodeId)
+          .column("JOB_KEY", IncidentDbModel::jobKey)
+          .column("ERROR_MESSAGE", IncidentDbModel::errorMessage)
+          .column("CREATION_DATE", IncidentDbModel::creationDate)
+          .column("STATE", IncidentDbModel::state)
+          .column("TENANT_ID", IncidentDbModel::tenantId);
+
+  public static final BulkLoadTable<DecisionRequirementsDbModel> DECISION_REQUIREMENTS =
+      new BulkLoadTable<>("DECISION_REQUIREMENTS", DecisionRequirementsDbModel.class)
+          .column("DECISION_REQUIREMENTS_KEY", DecisionRequirementsDbModel::decisionRequirementsKey)
+          .column("DECISION_REQUIREMENTS_ID", DecisionRequirementsDbModel::decisionRequirementsId)
+          .column("NAME", DecisionRequirementsDbModel::name)
+          .column("RESOURCE_NAME", DecisionRequirementsDbModel::resourceName)
+          .column("VERSION", DecisionRequirementsDbModel::version)
+          .column("XML", DecisionRequirementsDbModel::xml)
+          .column("TENANT_ID", DecisionRequirementsDbModel::tenantId);
+
+  public static final BulkLoadTable<DecisionDefinitionDbModel> DECISION_DEFINITION =
+      new BulkLoadTable<>("DECISION_DEFINITION", DecisionDefinitionDbModel.class)
+          .column("DECISION_DEFINITION_KEY", DecisionDefinitionDbModel::decisionDefinitionKey)
+          .column("DECISION_DEFINITION_ID", DecisionDefinitionDbModel::decisionDefinitionId)
+          .column("NAME", DecisionDefinitionDbModel::name)
+          .column("VERSION", DecisionDefinitionDbModel::version)
+          .column("TENANT_ID", DecisionDefinitionDbModel::tenantId)
+          .column("DECISION_REQUIREMENTS_KEY", DecisionDefinitionDbModel::decisionRequirementsKey)
+          .column("DECISION_REQUIREMENTS_ID", DecisionDefinitionDbModel::decisionRequirementsId);
+
+  public static final BulkLoadTable<DecisionInstanceDbModel> DECISION_INSTANCE =
+      new BulkLoadTable<>("DECISION_INSTANCE", DecisionInstanceDbModel.class)
+          .column("DECISION_INSTANCE_ID", DecisionInstanceDbModel::decisionInstanceId)
+          .column("DECISION_INSTANCE_KEY", DecisionInstanceDbModel::decisionInstanceKey)
+          .column("EVALUATION_DATE", DecisionInstanceDbModel::evaluationDate)
+          .column("RESULT", DecisionInstanceDbModel::result)
+          .column("FLOW_NODE_INSTANCE_KEY", DecisionInstanceDbModel::flowNodeInstanceKey)
+          .column("FLOW_NODE_ID", DecisionInstanceDbModel::flowNodeId)
+          .column("PROCESS_INSTANCE_KEY", DecisionInstanceDbModel::processInstanceKey)
+          .column("PROCESS_DEFINITION_KEY", DecisionInstanceDbModel::processDefinitionKey)
+          .column("PROCESS_DEFINITION_ID", DecisionInstanceDbModel::processDefinitionId)
+          .column("DECISION_DEFINITION_KEY", DecisionInstanceDbModel::decisionDefinitionKey)
+          .column("DECISION_DEFINITION_ID", DecisionInstanceDbModel::decisionDefinitionId)
+          .column("DECISION_REQUIREMENTS_KEY", DecisionInstanceDbModel::decisionRequirementsKey)
+          .column("DECISION_REQUIREMENTS_ID", DecisionInstanceDbModel::decisionRequirementsId)
+          .column("ROOT_DECISION_DEFINITION_KEY", DecisionInstanceDbModel::rootDecisionDefinitionKey)
+          .column("TENANT_ID", DecisionInstanceDbModel::tenantId)
+          .column("PARTITION_ID", DecisionInstanceDbModel::partitionId)
+          .column("HISTORY_CLEANUP_DATE", DecisionInstanceDbModel::historyCleanupDate);
+
+  protected static final List<BulkLoadTable<?>> TABLES = List.of(PROCESS_DEFINITION, PROCESS_INSTANCE,
+      FLOW_NODE_INSTANCE, USER_TASK, VARIABLE, INCIDENT, DECISION_REQUIREMENTS, DECISION_DEFINITION, DECISION_INSTANCE);
+
+  protected final String name;
+  protected final Class<T> modelType;
+  protected final List<String> columns = new ArrayList<>();
+  protected final List<Function<T, Object>> values = new ArrayList<>();
+
+  protected BulkLoadTable(String name, Class<T> modelType) {
+    this.name = name;
+    this.modelType = modelType;
+  }
+
+  protected BulkLoadTable<T> column(String column, Function<T, Object> value) {
+    columns.add(column);
+    values.add(value);
+    return this;
+  }
+
+  /**
+   * Returns the table the given db model is written into, or {@code null} if there is none.
+   */
+  public static BulkLoadTable<?> of(Object dbModel) {
+    return TABLES.stream().filter(table -> table.modelType.isInstance(dbModel)).findFirst().orElse(null);
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public List<String> getColumns() {
+    return Collections.unmodifiableList(columns);
+  }
+
+  /**
+   * Returns the values of the db model in the order of the columns.
+   */
+  public List<Object> toRow(Object dbModel) {
+    T model = modelType.cast(dbModel);
+    List<Object> row = new ArrayList<>(values.size());
+    for (Function<T, Object> value : values) {
+      row.add(value.apply(model));
+    }
+    return row;
+  }
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.impl.persistence;
+
+import static io.camunda.migrator.impl.logging.BulkLoadWriterLogs.FAILED_TO_CLOSE;
+import static io.camunda.migrator.impl.logging.BulkLoadWriterLogs.FAILED_TO_RESOLVE_TABLE;
+import static io.camunda.migrator.impl.logging.BulkLoadWriterLogs.FAILED_TO_SYNC;
+import static io.camunda.migrator.impl.logging.BulkLoadWriterLogs.FAILED_TO_WRITE_ROW;
+import static io.camunda.migrator.impl.logging.BulkLoadWriterLogs.REQUIRES_DETERMINISTIC_KEYS;
+
+import io.camunda.migrator.config.C8DataSourceConfigured;
+import io.camunda.migrator.config.property.BulkLoadProperties;
+import io.camunda.migrator.config.property.MigratorProperties;
+import io.camunda.migrator.exception.MigratorException;
+import io.camunda.migrator.impl.KeyGenerator;
+import io.camunda.migrator.impl.logging.BulkLoadWriterLogs;
+import io.camunda.migrator.impl.util.ExceptionUtils;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.stereotype.Component;
+
+/**
+ * History sink that writes C8 rows into delimited files instead of inserting them one by one.
+ * <p>
+ * The rows are built from the db models with the columns of their {@link BulkLoadTable}. On {@link #close()}, loader
+ * scripts for PostgreSQL ({@code load-postgresql.sql}), H2 ({@code load-h2.sql}) and Oracle SQL*Loader
+ * ({@code *.ctl}) are written next to the data files.
+ * <p>
+ * Every run writes into its own subdirectory of the configured directory, so files of earlier runs that were not
+ * loaded yet are kept. The mapping records of the migrated entities refer to the name of that directory, and
+ * {@code rollback-mapping.sql} deletes them again if the files of the run are lost or never loaded.
+ */
+@Component
+@Conditional(C8DataSourceConfigured.class)
+public class BulkLoadWriter {
+
+  protected static final DateTimeFormatter RUN_DIRECTORY_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+  @Autowired
+  protected MigratorProperties migratorProperties;
+
+  @Autowired
+  protected KeyGenerator keyGenerator;
+
+  protected final Map<String, BulkLoadFile> files = new LinkedHashMap<>();
+
+  protected Path runDirectory;
+
+  // instead of synchronized, see BulkLoadFile
+  protected final ReentrantLock lock = new ReentrantLock();
+
+  @PostConstruct
+  public void validateConfiguration() {
+    if (isEnabled() && !keyGenerator.isDeterministic()) {
+      throw new MigratorException(REQUIRES_DETERMINISTIC_KEYS);
+    }
+  }
+
+  public boolean isEnabled() {
+    return getProperties().isEnabled();
+  }
+
+  /**
+   * Writes the row of the db model into the data files of its table.
+   */
+  public void write(Object dbModel) {
+    BulkLoadTable<?> table = BulkLoadTable.of(dbModel);
+    if (table == null) {
+      throw new MigratorException(FAILED_TO_RESOLVE_TABLE + dbModel.getClass().getName());
+    }
+
+    writeRow(getC8TablePrefix() + table.getName(), table.getColumns(), table.toRow(dbModel));
+  }
+
+  protected void writeRow(String tableName, List<String> columns, List<Object> values) {
+    lock.lock();
+    try {
+      getFile(tableName, columns).writeRow(values);
+    } catch (IOException e) {
+      throw ExceptionUtils.wrapException(FAILED_TO_WRITE_ROW + tableName, e);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  protected BulkLoadFile getFile(String tableName, List<String> columns) throws IOException {
+    BulkLoadFile file = files.get(tableName);
+    if (file == null) {
+      if (runDirectory == null) {
+        runDirectory = createRunDirectory();
+        BulkLoadWriterLogs.writingBulkLoadFiles(runDirectory);
+      }
+      file = new BulkLoadFile(runDirectory, tableName, tableName, columns, getProperties().getMaxFileSize().toBytes());
+      files.put(tableName, file);
+    }
+    return file;
+  }
+
+  protected Path createRunDirectory() throws IOException {
+    Path parent = getDirectory();
+    Files.createDirectories(parent);
+    String timestamp = RUN_DIRECTORY_FORMAT.format(LocalDateTime.now());
+    for (int attempt = 1; ; attempt++) {
+      Path directory = parent.resolve(attempt == 1 ? "run-" + timestamp : "run-" + timestamp + "-" + attempt);
+      try {
+        return Files.createDirectory(directory);
+      } catch (FileAlreadyExistsException e) {
+        // another run started within the same second
+      }
+    }
+  }
+
+  /**
+   * Returns the name of the directory the current run writes into, or {@code null} if nothing was written yet. Stored
+   * with the mapping records of the written entities.
+   */
+  public String getRunName() {
+    lock.lock();
+    try {
+      return runDirectory == null ? null : runDirectory.getFileName().toString();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Writes the buffered rows of all data files and forces them to the storage device. Called before entities are
+   * marked as migrated, so the mapping table never refers to rows that are not in the data files.
+   */
+  public void sync() {
+    lock.lock();
+    try {
+      for (BulkLoadFile file : files.values()) {
+        file.sync();
+      }
+    } catch (IOException e) {
+      throw ExceptionUtils.wrapException(FAILED_TO_SYNC + runDirectory, e);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Flushes and closes all data files and writes the loader scripts. The next run starts a new directory.
+   */
+  @PreDestroy
+  public void close() {
+    lock.lock();
+    try {
+      if (files.isEmpty()) {
+        return;
+      }
+
+      Path directory = runDirectory;
+      try {
+        for (BulkLoadFile file : files.values()) {
+          file.close();
+          BulkLoadWriterLogs.wroteBulkLoadFiles(file.getTableName(), file.getRowCount(), file.getFiles().size());
+        }
+        writeLoaderScripts(directory);
+        BulkLoadWriterLogs.wroteLoaderScripts(directory);
+      } catch (IOException e) {
+        throw ExceptionUtils.wrapException(FAILED_TO_CLOSE + directory, e);
+      } finally {
+        files.clear();
+        runDirectory = null;
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  protected void writeLoaderScripts(Path directory) throws IOException {
+    StringBuilder postgres = new StringBuilder();
+    StringBuilder h2 = new StringBuilder();
+    for (BulkLoadFile file : files.values()) {
+      String columns = String.join(", ", file.getColumns());
+      for (Path dataFile : file.getFiles()) {
+        String path = dataFile.toAbsolutePath().toString().replace("'", "''");
+        postgres.append(String.format("\\copy %s (%s) FROM '%s' WITH (FORMAT csv, HEADER true, ENCODING 'UTF8')%n",
+            file.getTableName(), columns, path));
+        h2.append(String.format("INSERT INTO %s (%s) SELECT * FROM CSVREAD('%s', NULL, 'charset=UTF-8');%n",
+            file.getTableName(), columns, path));
+        writeSqlLoaderControlFile(file, dataFile);
+      }
+    }
+    Files.writeString(directory.resolve("load-postgresql.sql"), postgres, StandardCharsets.UTF_8);
+    Files.writeString(directory.resolve("load-h2.sql"), h2, StandardCharsets.UTF_8);
+
+    // marks the entities of the run as not migrated, to be run against the migrator schema if the files get lost
+    String rollback = String.format("DELETE FROM %sMIGRATION_MAPPING WHERE BULK_LOAD_RUN = '%s';%n",
+        StringUtils.trimToEmpty(migratorProperties.getTablePrefix()), directory.getFileName());
+    Files.writeString(directory.resolve("rollback-mapping.sql"), rollback, StandardCharsets.UTF_8);
+  }
+
+  protected void writeSqlLoaderControlFile(BulkLoadFile file, Path dataFile) throws IOException {
+    StringBuilder control = new StringBuilder()
+        .append("OPTIONS (SKIP=1)\n")
+        .append("LOAD DATA\n")
+        .append("CHARACTERSET UTF8\n")
+        .append("INFILE '").append(dataFile.toAbsolutePath()).append("'\n")
+        .append("APPEND\n")
+        .append("INTO TABLE ").append(file.getTableName()).append('\n')
+        .append("FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '\"'\n")
+        .append("TRAILING NULLCOLS\n")
+        .append("(\n");
+
+    List<String> columns = file.getColumns();
+    for (int i = 0; i < columns.size(); i++) {
+      String column = columns.get(i);
+      control.append("  ").append(column);
+      if (file.isTimestampColumn(column)) {
+        control.append(" TIMESTAMP WITH TIME ZONE \"YYYY-MM-DD HH24:MI:SS.FF3TZH:TZM\"");
+      } else if (file.getMaxTextLength(column) > 255) {
+        // SQL*Loader limits character fields to 255 characters by default
+        control.append(" CHAR(").append(file.getMaxTextLength(column)).append(')');
+      }
+      control.append(i < columns.size() - 1 ? ",\n" : "\n");
+    }
+    control.append(")\n");
+
+    String fileName = dataFile.getFileName().toString().replaceAll("\\.csv$", ".ctl");
+    Files.writeString(dataFile.resolveSibling(fileName), control, StandardCharsets.UTF_8);
+  }
+
+  protected Path getDirectory() {
+    return Paths.get(getProperties().getDirectory());
+  }
+
+  protected String getC8TablePrefix() {
+    return StringUtils.trimToEmpty(migratorProperties.getC8().getDataSource().getTablePrefix());
+  }
+
+  protected BulkLoadProperties getProperties() {
+    return migratorProperties.getHistory().getBulkLoad();
+  }
+}
@@ -0,0 +1,281 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.impl.persistence;
+
+import static io.camunda.migrator.impl.logging.DeferredIndexBuilderLogs.FAILED_TO_DROP_INDEXES;
+import static io.camunda.migrator.impl.logging.DeferredIndexBuilderLogs.FAILED_TO_REBUILD_INDEXES;
+
+import io.camunda.migrator.config.C8DataSourceConfigured;
+import io.camunda.migrator.config.property.MigratorProperties;
+import io.camunda.migrator.impl.logging.DeferredIndexBuilderLogs;
+import io.camunda.migrator.impl.util.ExceptionUtils;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drops the non-unique secondary indexes of the C8 history tables before an initial history load and rebuilds them
+ * afterwards, so inserts don't pay for index maintenance.
+ * <p>
+ * Only indexes of empty tables are deferred. The statements to rebuild the dropped indexes are kept in a file until
+ * they have been executed, so a migration that was interrupted rebuilds them on the next run.
+ */
+@Component
+@Conditional(C8DataSourceConfigured.class)
+public class DeferredIndexBuilder {
+
+  protected static final List<String> HISTORY_TABLES = List.of(
+      "PROCESS_DEFINITION",
+      "PROCESS_INSTANCE",
+      "FLOW_NODE_INSTANCE",
+      "USER_TASK",
+      "VARIABLE",
+      "INCIDENT",
+      "DECISION_REQUIREMENTS",
+      "DECISION_DEFINITION",
+      "DECISION_INSTANCE",
+      "DECISION_INSTANCE_INPUT",
+      "DECISION_INSTANCE_OUTPUT");
+
+  protected static final String SEPARATOR = "\t";
+
+  @Autowired
+  protected MigratorProperties migratorProperties;
+
+  @Autowired
+  @Qualifier("c8DataSource")
+  protected DataSource dataSource;
+
+  public boolean isEnabled() {
+    return migratorProperties.getHistory().isDeferIndexes();
+  }
+
+  /**
+   * Drops the non-unique indexes of all empty C8 history tables and remembers how to rebuild them.
+   */
+  public void dropIndexes() {
+    try (Connection connection = dataSource.getConnection()) {
+      DatabaseMetaData metaData = connection.getMetaData();
+
+      List<DeferredIndex> indexes = new ArrayList<>();
+      for (String table : HISTORY_TABLES) {
+        String tableName = toStoredCase(metaData, getTablePrefix() + table);
+        if (isEmpty(connection, tableName)) {
+          indexes.addAll(findSecondaryIndexes(connection, tableName));
+        } else {
+          DeferredIndexBuilderLogs.skippingNonEmptyTable(tableName);
+        }
+      }
+
+      DeferredIndexBuilderLogs.droppingIndexes(indexes.size());
+      List<DeferredIndex> dropped = new ArrayList<>(readDeferredIndexes());
+      for (DeferredIndex index : indexes) {
+        String ddl = getDropIndexDdl(metaData, index);
+        DeferredIndexBuilderLogs.droppingIndex(index.indexName(), index.tableName(), ddl);
+        try (Statement statement = connection.createStatement()) {
+          statement.execute(ddl);
+          dropped.add(index);
+          writeDeferredIndexes(dropped);
+        } catch (SQLException e) {
+          DeferredIndexBuilderLogs.failedToDropIndex(index.indexName(), index.tableName(), e.getMessage());
+        }
+      }
+    } catch (SQLException | IOException e) {
+      throw ExceptionUtils.wrapException(FAILED_TO_DROP_INDEXES, e);
+    }
+  }
+
+  /**
+   * SQL Server, MySQL and MariaDB scope index names to their table, PostgreSQL, Oracle and H2 to the schema.
+   */
+  protected String getDropIndexDdl(DatabaseMetaData metaData, DeferredIndex index) throws SQLException {
+    String quote = metaData.getIdentifierQuoteString().trim();
+    String ddl = "DROP INDEX " + quote + index.indexName() + quote;
+    String product = metaData.getDatabaseProductName().toLowerCase(Locale.ROOT);
+    if (product.contains("microsoft") || product.contains("mysql") || product.contains("mariadb")) {
+      ddl += " ON " + quote + index.tableName() + quote;
+    }
+    return ddl;
+  }
+
+  /**
+   * Rebuilds all indexes that were dropped by {@link #dropIndexes()}, including the ones of an interrupted run.
+   */
+  public void rebuildIndexes() {
+    try {
+      List<DeferredIndex> remaining = new ArrayList<>(readDeferredIndexes());
+      if (remaining.isEmpty()) {
+        return;
+      }
+
+      int total = remaining.size();
+      DeferredIndexBuilderLogs.rebuildingIndexes(total);
+      try (Connection connection = dataSource.getConnection()) {
+        for (int i = 1; i <= total; i++) {
+          DeferredIndex index = remaining.getFirst();
+          if (indexExists(connection, index)) {
+            DeferredIndexBuilderLogs.indexAlreadyExists(index.indexName(), index.tableName());
+          } else {
+            DeferredIndexBuilderLogs.rebuildingIndex(i, total, index.indexName(), index.tableName(), index.ddl());
+            long start = System.currentTimeMillis();
+            try (Statement statement = connection.createStatement()) {
+              statement.execute(index.ddl());
+            }
+            DeferredIndexBuilderLogs.rebuiltIndex(index.indexName(), System.currentTimeMillis() - start);
+          }
+          remaining.removeFirst();
+          writeDeferredIndexes(remaining);
+        }
+      }
+    } catch (SQLException | IOException e) {
+      throw ExceptionUtils.wrapException(FAILED_TO_REBUILD_INDEXES + getStateFile().toAbsolutePath(), e);
+    }
+  }
+
+  protected List<DeferredIndex> findSecondaryIndexes(Connection connection, String tableName) throws SQLException {
+    DatabaseMetaData metaData = connection.getMetaData();
+    String quote = metaData.getIdentifierQuoteString().trim();
+
+    Map<String, List<String>> columnsByIndex = new LinkedHashMap<>();
+    List<String> expressionIndexes = new ArrayList<>();
+    try (ResultSet resultSet = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(), tableName,
+        false, true)) {
+      while (resultSet.next()) {
+        String indexName = resultSet.getString("INDEX_NAME");
+        if (indexName == null || resultSet.getShort("TYPE") == DatabaseMetaData.tableIndexStatistic
+            || !resultSet.getBoolean("NON_UNIQUE")) {
+          continue;
+        }
+
+        String column = resultSet.getString("COLUMN_NAME");
+        if (column == null || column.contains("(")) {
+          expressionIndexes.add(indexName);
+          continue;
+        }
+
+        String ascOrDesc = resultSet.getString("ASC_OR_DESC");
+        String columnDdl = quote + column + quote + ("D".equals(ascOrDesc) ? " DESC" : "");
+        List<String> columns = columnsByIndex.computeIfAbsent(indexName, name -> new ArrayList<>());
+        int position = resultSet.getShort("ORDINAL_POSITION");
+        while (columns.size() < position) {
+          columns.add(null);
+        }
+        columns.set(position - 1, columnDdl);
+      }
+    }
+
+    List<DeferredIndex> indexes = new ArrayList<>();
+    columnsByIndex.forEach((indexName, columns) -> {
+      if (expressionIndexes.contains(indexName) || columns.contains(null)) {
+        DeferredIndexBuilderLogs.skippingExpressionIndex(indexName, tableName);
+      } else {
+        String ddl = "CREATE INDEX " + quote + indexName + quote + " ON " + quote + tableName + quote + " ("
+            + String.join(", ", columns) + ")";
+        indexes.add(new DeferredIndex(tableName, indexName, ddl));
+      }
+    });
+    return indexes;
+  }
+
+  protected boolean indexExists(Connection connection, DeferredIndex index) throws SQLException {
+    try (ResultSet resultSet = connection.getMetaData()
+        .getIndexInfo(connection.getCatalog(), connection.getSchema(), index.tableName(), false, true)) {
+      while (resultSet.next()) {
+        if (index.indexName().equals(resultSet.getString("INDEX_NAME"))) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  protected boolean isEmpty(Connection connection, String tableName) throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      statement.setMaxRows(1);
+      String quote = connection.getMetaData().getIdentifierQuoteString().trim();
+      try (ResultSet resultSet = statement.executeQuery("SELECT 1 FROM " + quote + tableName + quote)) {
+        return !resultSet.next();
+      }
+    }
+  }
+
+  protected String toStoredCase(DatabaseMetaData metaData, String identifier) throws SQLException {
+    if (metaData.storesLowerCaseIdentifiers()) {
+      return identifier.toLowerCase(Locale.ROOT);
+    } else if (metaData.storesUpperCaseIdentifiers()) {
+      return identifier.toUpperCase(Locale.ROOT);
+    }
+    return identifier;
+  }
+
+  protected List<DeferredIndex> readDeferredIndexes() throws IOException {
+    Path stateFile = getStateFile();
+    if (!Files.exists(stateFile)) {
+      return List.of();
+    }
+
+    List<DeferredIndex> indexes = new ArrayList<>();
+    for (String line : Files.readAllLines(stateFile, StandardCharsets.UTF_8)) {
+      if (line.startsWith("-- ")) {
+        String[] parts = line.substring(3).split(SEPARATOR, 2);
+        indexes.add(new DeferredIndex(parts[0], parts[1], null));
+      } else if (!line.isBlank()) {
+        DeferredIndex last = indexes.removeLast();
+        indexes.add(new DeferredIndex(last.tableName(), last.indexName(), StringUtils.removeEnd(line, ";")));
+      }
+    }
+    return indexes;
+  }
+
+  /**
+   * Writes the indexes as plain SQL, so they can also be rebuilt manually.
+   */
+  protected void writeDeferredIndexes(List<DeferredIndex> indexes) throws IOException {
+    Path stateFile = getStateFile();
+    if (indexes.isEmpty()) {
+      Files.deleteIfExists(stateFile);
+      return;
+    }
+
+    StringBuilder content = new StringBuilder();
+    for (DeferredIndex index : indexes) {
+      content.append("-- ").append(index.tableName()).append(SEPARATOR).append(index.indexName()).append('\n')
+          .append(index.ddl()).append(";\n");
+    }
+    Files.writeString(stateFile, content, StandardCharsets.UTF_8);
+  }
+
+  protected Path getStateFile() {
+    return Paths.get(migratorProperties.getHistory().getDeferredIndexesFile());
+  }
+
+  protected String getTablePrefix() {
+    return StringUtils.trimToEmpty(migratorProperties.getC8().getDataSource().getTablePrefix());
+  }
+
+  protected record DeferredIndex(String tableName, String indexName, String ddl) {
+  }
+}
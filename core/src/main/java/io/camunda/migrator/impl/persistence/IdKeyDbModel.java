@@ -18,6 +18,12 @@ public class IdKeyDbModel {
   protected TYPE type;
   protected Date createTime;
   protected String skipReason;
+  protected String tenantId;
+  // Bulk load run directory that holds the C8 rows of the entity, if they were written into bulk load files
+  protected String bulkLoadRun;
+
+  // Key of the C7 process definition, only known for instances fetched from C7 and not persisted
+  protected String processDefinitionKey;
 
   public IdKeyDbModel() {
   }
@@ -47,6 +53,18 @@ public class IdKeyDbModel {
     return skipReason;
   }
 
+  public String getTenantId() {
+    return tenantId;
+  }
+
+  public String getBulkLoadRun() {
+    return bulkLoadRun;
+  }
+
+  public String getProcessDefinitionKey() {
+    return processDefinitionKey;
+  }
+
   public void setC8Key(Long c8Key) {
     this.c8Key = c8Key;
   }
@@ -67,6 +85,18 @@ public class IdKeyDbModel {
     this.skipReason = skipReason;
   }
 
+  public void setTenantId(String tenantId) {
+    this.tenantId = tenantId;
+  }
+
+  public void setBulkLoadRun(String bulkLoadRun) {
+    this.bulkLoadRun = bulkLoadRun;
+  }
+
+  public void setProcessDefinitionKey(String processDefinitionKey) {
+    this.processDefinitionKey = processDefinitionKey;
+  }
+
   @Override
   public boolean equals(Object obj) {
     if (obj == this)
@@ -67,8 +67,23 @@ public interface IdKeyMapper {
 
   Date findLatestCreateTimeByType(TYPE type);
 
+  Date findLatestCreateTimeByTypeAndTenant(@Param("type") TYPE type, @Param("tenantId") String tenantId);
+
+  /**
+   * @param tenantId the tenant ID of the records, or {@code null} for the records of all tenants
+   * @param idSuffixPatterns the patterns of the C7 IDs of the shard
+   * @param otherIdSuffixPatterns the patterns of all C7 IDs assigned by their suffix, or {@code null} if the shard
+   *                              doesn't hold the remaining IDs
+   */
+  Date findLatestCreateTimeByTypeAndShard(@Param("type") TYPE type,
+                                          @Param("tenantId") String tenantId,
+                                          @Param("idSuffixPatterns") List<String> idSuffixPatterns,
+                                          @Param("otherIdSuffixPatterns") List<String> otherIdSuffixPatterns);
+
   Long findC8KeyByC7IdAndType(@Param("c7Id") String id, @Param("type") TYPE type);
 
+  IdKeyDbModel findByC8Key(@Param("c8Key") Long c8Key);
+
   void insert(IdKeyDbModel idKeyDbModel);
 
   List<IdKeyDbModel> findSkippedByType(@Param("type") TYPE type, @Param("offset") int offset, @Param("limit") int limit);
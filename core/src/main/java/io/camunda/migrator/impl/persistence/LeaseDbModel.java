@@ -0,0 +1,79 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.impl.persistence;
+
+import java.util.Date;
+
+/**
+ * A work unit of the history migration claimed by a migrator node until the lease expires or the work unit is
+ * completed.
+ */
+public class LeaseDbModel {
+
+  protected String workUnit;
+  protected String owner;
+  protected Date expiresAt;
+  protected Date completedAt;
+  protected Date readAt;
+
+  public LeaseDbModel() {
+  }
+
+  public LeaseDbModel(String workUnit, String owner, Date expiresAt) {
+    this.workUnit = workUnit;
+    this.owner = owner;
+    this.expiresAt = expiresAt;
+  }
+
+  public String getWorkUnit() {
+    return workUnit;
+  }
+
+  public void setWorkUnit(String workUnit) {
+    this.workUnit = workUnit;
+  }
+
+  public String getOwner() {
+    return owner;
+  }
+
+  public void setOwner(String owner) {
+    this.owner = owner;
+  }
+
+  public Date getExpiresAt() {
+    return expiresAt;
+  }
+
+  public void setExpiresAt(Date expiresAt) {
+    this.expiresAt = expiresAt;
+  }
+
+  public Date getCompletedAt() {
+    return completedAt;
+  }
+
+  public void setCompletedAt(Date completedAt) {
+    this.completedAt = completedAt;
+  }
+
+  /**
+   * Returns the database time at which the lease was read.
+   */
+  public Date getReadAt() {
+    return readAt;
+  }
+
+  public void setReadAt(Date readAt) {
+    this.readAt = readAt;
+  }
+
+  public boolean isCompleted() {
+    return completedAt != null;
+  }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.impl.persistence;
+
+import java.util.Date;
+import org.apache.ibatis.annotations.Param;
+
+public interface LeaseMapper {
+
+  Date selectCurrentTimestamp();
+
+  LeaseDbModel findByWorkUnit(@Param("workUnit") String workUnit);
+
+  LeaseDbModel lockByWorkUnit(@Param("workUnit") String workUnit);
+
+  long countActiveOfOthers(@Param("workUnitPattern") String workUnitPattern, @Param("owner") String owner);
+
+  void insert(LeaseDbModel leaseDbModel);
+
+  int takeOver(@Param("workUnit") String workUnit,
+               @Param("owner") String owner,
+               @Param("expiresAt") Date expiresAt);
+
+  int extendByOwner(@Param("owner") String owner, @Param("expiresAt") Date expiresAt);
+
+  int complete(@Param("workUnit") String workUnit, @Param("owner") String owner);
+
+  int release(@Param("workUnit") String workUnit, @Param("owner") String owner);
+
+  void deleteAll();
+}
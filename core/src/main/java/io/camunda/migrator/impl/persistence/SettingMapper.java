@@ -0,0 +1,19 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.impl.persistence;
+
+import org.apache.ibatis.annotations.Param;
+
+public interface SettingMapper {
+
+  String findValue(@Param("name") String name);
+
+  void insert(@Param("name") String name, @Param("value") String value);
+
+  int update(@Param("name") String name, @Param("value") String value);
+}
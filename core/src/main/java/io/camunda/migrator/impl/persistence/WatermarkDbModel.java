@@ -0,0 +1,44 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.impl.persistence;
+
+import java.util.Date;
+
+/**
+ * The create time up to which all entities of a work unit have been migrated while its entities are migrated out of
+ * order. A {@code null} create time means that no entity has been migrated yet.
+ */
+public class WatermarkDbModel {
+
+  protected String workUnit;
+  protected Date createTime;
+
+  public WatermarkDbModel() {
+  }
+
+  public WatermarkDbModel(String workUnit, Date createTime) {
+    this.workUnit = workUnit;
+    this.createTime = createTime;
+  }
+
+  public String getWorkUnit() {
+    return workUnit;
+  }
+
+  public void setWorkUnit(String workUnit) {
+    this.workUnit = workUnit;
+  }
+
+  public Date getCreateTime() {
+    return createTime;
+  }
+
+  public void setCreateTime(Date createTime) {
+    this.createTime = createTime;
+  }
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.impl.persistence;
+
+import java.util.Date;
+import org.apache.ibatis.annotations.Param;
+
+public interface WatermarkMapper {
+
+  WatermarkDbModel findByWorkUnit(@Param("workUnit") String workUnit);
+
+  void insert(WatermarkDbModel watermarkDbModel);
+
+  void update(@Param("workUnit") String workUnit, @Param("createTime") Date createTime);
+
+  void delete(@Param("workUnit") String workUnit);
+}
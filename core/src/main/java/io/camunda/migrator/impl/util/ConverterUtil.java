@@ -7,8 +7,13 @@
  */
 package io.camunda.migrator.impl.util;
 
+import io.camunda.migrator.impl.persistence.IdKeyMapper.TYPE;
 import io.camunda.zeebe.protocol.Protocol;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
@@ -26,6 +31,25 @@ public class ConverterUtil {
     return Protocol.encodePartitionId(C7_HISTORY_PARTITION_ID, secureRandom.nextLong(getUpperBound() + 1));
   }
 
+  /**
+   * Derives a stable C8 key from the entity type and the C7 id. The same input always results in the same key, so
+   * dependent entities can compute the key of their parent instead of looking it up. Collisions are detected by the
+   * unique index on the C8 key of the migration mapping table.
+   */
+  public static Long getDeterministicKey(TYPE type, String c7Id) {
+    byte[] hash = sha256(type.name() + ":" + c7Id);
+    long keyInPartition = ByteBuffer.wrap(hash, 0, Long.BYTES).getLong() & getUpperBound();
+    return Protocol.encodePartitionId(C7_HISTORY_PARTITION_ID, keyInPartition);
+  }
+
+  protected static byte[] sha256(String value) {
+    try {
+      return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not supported by this JVM", e);
+    }
+  }
+
   public static long getUpperBound() {
     return (1L << KEY_BITS) - 1;
   }
@@ -11,11 +11,13 @@ import io.camunda.client.api.command.ClientException;
 import io.camunda.migrator.exception.HistoryMigratorException;
 import io.camunda.migrator.exception.MigratorException;
 import io.camunda.migrator.exception.RuntimeMigratorException;
+import io.camunda.migrator.impl.RetryPolicy;
 import java.util.function.Supplier;
 import org.apache.ibatis.exceptions.PersistenceException;
 import org.camunda.bpm.engine.ProcessEngineException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
 
 public class ExceptionUtils {
 
@@ -28,10 +30,33 @@ public class ExceptionUtils {
 
   protected static final Logger LOGGER = LoggerFactory.getLogger(ExceptionUtils.class);
 
+  private static final ThreadLocal<RetryPolicy> RETRY_POLICY = new ThreadLocal<>();
+
+  /**
+   * Binds the retry policy to the current thread. Like the exception context, it is passed on to the threads working on
+   * behalf of this thread, so application contexts sharing the JVM, like cached test contexts, keep their own policy.
+   * Calls on threads without a policy are not retried.
+   */
+  public static void setRetryPolicy(RetryPolicy policy) {
+    if (policy == null) {
+      RETRY_POLICY.remove();
+    } else {
+      RETRY_POLICY.set(policy);
+    }
+  }
+
+  public static RetryPolicy getRetryPolicy() {
+    return RETRY_POLICY.get();
+  }
+
   public static void setContext(ExceptionContext context) {
     EXCEPTION_CONTEXT.set(context);
   }
 
+  public static ExceptionContext getContext() {
+    return EXCEPTION_CONTEXT.get();
+  }
+
   public static void clearContext() {
     EXCEPTION_CONTEXT.remove();
   }
@@ -42,12 +67,34 @@ public class ExceptionUtils {
 
   /**
    * Wraps {@link ClientException}, {@link ProcessEngineException}, and {@link PersistenceException} into {@link RuntimeMigratorException}.
+   * Transient failures are retried according to the {@link RetryPolicy} before.
    */
   public static <T> T callApi(Supplier<T> supplier, String message) {
-    try {
-      return supplier.get();
-    } catch (ClientException | ProcessEngineException | PersistenceException e) {
-      throw wrapException(message, e);
+    return call(supplier, message, true);
+  }
+
+  /**
+   * Like {@link #callApi(Supplier, String)} for commands that must not be applied twice. A command is only retried
+   * if it was rejected with backpressure, since other transient failures leave open whether it was applied.
+   */
+  public static <T> T callCommand(Supplier<T> supplier, String message) {
+    return call(supplier, message, false);
+  }
+
+  protected static <T> T call(Supplier<T> supplier, String message, boolean idempotent) {
+    long start = System.nanoTime();
+    for (int attempt = 1; ; attempt++) {
+      try {
+        return supplier.get();
+      } catch (ClientException | ProcessEngineException | PersistenceException e) {
+        if (!awaitRetry(e, idempotent, attempt, start)) {
+          throw wrapException(message, e);
+        }
+      } catch (DataAccessException e) {
+        if (!awaitRetry(e, idempotent, attempt, start)) {
+          throw e;
+        }
+      }
     }
   }
 
@@ -57,13 +104,37 @@ public class ExceptionUtils {
 
   /**
    * Wraps {@link ClientException}, {@link ProcessEngineException}, and {@link PersistenceException} into {@link RuntimeMigratorException}.
+   * Transient failures are retried according to the {@link RetryPolicy} before.
    */
   public static void callApi(Runnable runnable, String message) {
-    try {
+    callApi(() -> {
       runnable.run();
-    } catch (ClientException | ProcessEngineException | PersistenceException e) {
-      throw wrapException(message, e);
-    }
+      return null;
+    }, message);
+  }
+
+  /**
+   * Like {@link #callApi(Runnable, String)} for commands that must not be applied twice, see
+   * {@link #callCommand(Supplier, String)}.
+   */
+  public static void callCommand(Runnable runnable, String message) {
+    callCommand(() -> {
+      runnable.run();
+      return null;
+    }, message);
+  }
+
+  /**
+   * Returns {@code true} if the failure of a command not made through {@link #callCommand} would have been retried.
+   */
+  public static boolean isTransient(RuntimeException e) {
+    RetryPolicy policy = RETRY_POLICY.get();
+    return policy != null && policy.isTransient(e, false);
+  }
+
+  protected static boolean awaitRetry(RuntimeException e, boolean idempotent, int attempt, long start) {
+    RetryPolicy policy = RETRY_POLICY.get();
+    return policy != null && policy.awaitRetry(e, idempotent, attempt, start);
   }
 
   public static MigratorException wrapException(String message, Exception e) {
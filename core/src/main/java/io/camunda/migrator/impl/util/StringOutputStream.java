@@ -0,0 +1,86 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.impl.util;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Decodes the UTF-8 bytes written into it while they are written, so a value that is read in chunks is only held as
+ * text instead of as bytes and as text. Byte sequences split between two writes are completed by the next write.
+ */
+public class StringOutputStream extends OutputStream {
+
+  protected static final int BUFFER_SIZE = 8192;
+
+  protected final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+      .onMalformedInput(CodingErrorAction.REPLACE)
+      .onUnmappableCharacter(CodingErrorAction.REPLACE);
+  protected final CharBuffer chars = CharBuffer.allocate(BUFFER_SIZE);
+  protected final StringBuilder value = new StringBuilder();
+
+  protected ByteBuffer incomplete = ByteBuffer.allocate(0);
+  protected boolean closed;
+
+  @Override
+  public void write(int b) {
+    write(new byte[] { (byte) b }, 0, 1);
+  }
+
+  @Override
+  public void write(byte[] bytes, int offset, int length) {
+    ByteBuffer input;
+    if (incomplete.hasRemaining()) {
+      input = ByteBuffer.allocate(incomplete.remaining() + length).put(incomplete).put(bytes, offset, length).flip();
+    } else {
+      input = ByteBuffer.wrap(bytes, offset, length);
+    }
+    decode(input, false);
+    incomplete = ByteBuffer.allocate(input.remaining()).put(input).flip();
+  }
+
+  protected void decode(ByteBuffer input, boolean endOfInput) {
+    while (decoder.decode(input, chars, endOfInput).isOverflow()) {
+      drain();
+    }
+    drain();
+  }
+
+  protected void drain() {
+    chars.flip();
+    value.append(chars);
+    chars.clear();
+  }
+
+  /**
+   * Decodes the remaining bytes. An incomplete byte sequence at the end is replaced.
+   */
+  @Override
+  public void close() {
+    if (!closed) {
+      closed = true;
+      decode(incomplete, true);
+      while (decoder.flush(chars).isOverflow()) {
+        drain();
+      }
+      drain();
+    }
+  }
+
+  /**
+   * Returns the text decoded so far.
+   */
+  @Override
+  public String toString() {
+    return value.toString();
+  }
+}
@@ -44,4 +44,24 @@ class DefaultPropertiesTest {
     assertThat(migratorProperties.getSaveSkipReason()).isFalse();
 
   }
+
+  @Test
+  public void shouldNotCapVariableSizeByDefault() {
+    assertThat(migratorProperties.getHistory().getLargeVariables().getMaxSize()).isNull();
+  }
+
+  @Test
+  public void shouldNotLimitConcurrencyByDefault() {
+    assertThat(migratorProperties.getConcurrencyLimit().isEnabled()).isFalse();
+  }
+
+  @Test
+  public void shouldNotRetryByDefault() {
+    assertThat(migratorProperties.getRetry().isEnabled()).isFalse();
+  }
+
+  @Test
+  public void shouldShareConnectionPoolForMappingsByDefault() {
+    assertThat(migratorProperties.getMappingPool().isEnabled()).isFalse();
+  }
 }
\ No newline at end of file
@@ -0,0 +1,96 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.history;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.camunda.migrator.impl.persistence.BulkLoadFile;
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class BulkLoadFileTest {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  public void shouldWriteCsvRows() throws IOException {
+    // given
+    BulkLoadFile file = new BulkLoadFile(directory, "PROCESS_INSTANCE", "PROCESS_INSTANCE",
+        List.of("PROCESS_INSTANCE_KEY", "PROCESS_DEFINITION_ID", "START_DATE", "END_DATE"), 1024);
+
+    // when
+    file.writeRow(Arrays.asList(1L, "say \"hello\"", OffsetDateTime.of(2024, 1, 2, 3, 4, 5, 6_000_000, ZoneOffset.UTC), null));
+    file.close();
+
+    // then
+    List<String> lines = Files.readAllLines(file.getFiles().getFirst());
+    assertEquals("PROCESS_INSTANCE_KEY,PROCESS_DEFINITION_ID,START_DATE,END_DATE", lines.get(0));
+    assertEquals("1,\"say \"\"hello\"\"\",2024-01-02 03:04:05.006+00:00,", lines.get(1));
+    assertTrue(file.isTimestampColumn("START_DATE"));
+  }
+
+  @Test
+  public void shouldRotateFilesBySize() throws IOException {
+    // given
+    BulkLoadFile file = new BulkLoadFile(directory, "VARIABLE", "VARIABLE", List.of("VAR_KEY", "NAME"), 40);
+
+    // when
+    for (int i = 0; i < 5; i++) {
+      file.writeRow(List.of((long) i, "aVariableName"));
+    }
+    file.close();
+
+    // then
+    assertEquals(5, file.getRowCount());
+    assertTrue(file.getFiles().size() > 1);
+    long rows = 0;
+    for (Path dataFile : file.getFiles()) {
+      List<String> lines = Files.readAllLines(dataFile);
+      assertEquals("VAR_KEY,NAME", lines.getFirst());
+      rows += lines.size() - 1;
+    }
+    assertEquals(5, rows);
+  }
+
+  @Test
+  public void shouldWriteBufferedRowsOnSync() throws IOException {
+    // given
+    BulkLoadFile file = new BulkLoadFile(directory, "INCIDENT", "INCIDENT", List.of("INCIDENT_KEY"), 1024);
+    file.writeRow(List.of(1L));
+
+    // when
+    file.sync();
+
+    // then the row is written before the file is closed
+    List<String> lines = Files.readAllLines(file.getFiles().getFirst());
+    assertEquals(List.of("INCIDENT_KEY", "1"), lines);
+    file.close();
+  }
+
+  @Test
+  public void shouldNotOverwriteExistingFiles() throws IOException {
+    // given
+    Files.writeString(directory.resolve("USER_TASK_00001.csv"), "not loaded yet");
+    BulkLoadFile file = new BulkLoadFile(directory, "USER_TASK", "USER_TASK", List.of("USER_TASK_KEY"), 1024);
+
+    // when / then
+    assertThrows(FileAlreadyExistsException.class, () -> file.writeRow(List.of(1L)));
+    assertEquals("not loaded yet", Files.readString(directory.resolve("USER_TASK_00001.csv")));
+  }
+}
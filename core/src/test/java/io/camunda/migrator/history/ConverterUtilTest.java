@@ -7,6 +7,7 @@
  */
 package io.camunda.migrator.history;
 
+import io.camunda.migrator.impl.persistence.IdKeyMapper.TYPE;
 import io.camunda.migrator.impl.util.ConverterUtil;
 import io.camunda.zeebe.protocol.Protocol;
 import org.junit.jupiter.api.Test;
@@ -62,4 +63,30 @@ public class ConverterUtilTest {
       assertNotEquals(C7_HISTORY_PARTITION_ID, decodedPartitionId,
           "Partition ID should not be preserved when key exceeds upper bound");
   }
+
+  @Test
+  public void shouldDeriveSameDeterministicKeyForSameTypeAndId() {
+      // given
+      String c7Id = "aProcessInstanceId";
+
+      // when
+      long key = ConverterUtil.getDeterministicKey(TYPE.HISTORY_PROCESS_INSTANCE, c7Id);
+
+      // then
+      assertEquals(key, ConverterUtil.getDeterministicKey(TYPE.HISTORY_PROCESS_INSTANCE, c7Id));
+      assertEquals(C7_HISTORY_PARTITION_ID, Protocol.decodePartitionId(key));
+  }
+
+  @Test
+  public void shouldDeriveDifferentDeterministicKeysForDifferentTypes() {
+      // given
+      String c7Id = "anId";
+
+      // when
+      long processInstanceKey = ConverterUtil.getDeterministicKey(TYPE.HISTORY_PROCESS_INSTANCE, c7Id);
+      long flowNodeKey = ConverterUtil.getDeterministicKey(TYPE.HISTORY_FLOW_NODE, c7Id);
+
+      // then
+      assertNotEquals(processInstanceKey, flowNodeKey);
+  }
 }
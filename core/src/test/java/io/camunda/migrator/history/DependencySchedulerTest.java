@@ -0,0 +1,111 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.history;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.camunda.migrator.impl.concurrent.DependencyScheduler;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class DependencySchedulerTest {
+
+  @Test
+  public void shouldRunTasksInOrderWithoutParallelism() {
+    // given
+    List<String> executed = new CopyOnWriteArrayList<>();
+    DependencyScheduler<String> scheduler = new DependencyScheduler<String>("test")
+        .add("a", () -> executed.add("a"))
+        .add("b", () -> executed.add("b"), "a")
+        .add("c", () -> executed.add("c"));
+
+    // when
+    scheduler.run(1);
+
+    // then
+    assertEquals(List.of("a", "b", "c"), executed);
+  }
+
+  @Test
+  public void shouldRunDependentTaskAfterItsDependencies() {
+    // given
+    List<String> executed = new CopyOnWriteArrayList<>();
+    DependencyScheduler<String> scheduler = new DependencyScheduler<String>("test")
+        .add("a", () -> executed.add("a"))
+        .add("b", () -> executed.add("b"))
+        .add("c", () -> executed.add("c"), "a", "b");
+
+    // when
+    scheduler.run(4);
+
+    // then
+    assertEquals(3, executed.size());
+    assertEquals("c", executed.getLast());
+  }
+
+  @Test
+  public void shouldRunIndependentTasksConcurrently() {
+    // given two tasks that only finish once both have started
+    CountDownLatch started = new CountDownLatch(2);
+    Runnable awaitOther = () -> {
+      started.countDown();
+      try {
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    };
+    DependencyScheduler<String> scheduler = new DependencyScheduler<String>("test")
+        .add("a", awaitOther)
+        .add("b", awaitOther);
+
+    // when
+    scheduler.run(2);
+
+    // then
+    assertEquals(0, started.getCount());
+  }
+
+  @Test
+  public void shouldNotRunDependentsOfFailedTask() {
+    // given
+    RuntimeException failure = new IllegalStateException("expected");
+    List<String> executed = new CopyOnWriteArrayList<>();
+    DependencyScheduler<String> scheduler = new DependencyScheduler<String>("test")
+        .add("a", () -> {
+          throw failure;
+        })
+        .add("b", () -> executed.add("b"), "a")
+        .add("c", () -> executed.add("c"));
+
+    // when
+    RuntimeException thrown = assertThrows(RuntimeException.class, () -> scheduler.run(2));
+
+    // then
+    assertSame(failure, thrown);
+    assertFalse(executed.contains("b"));
+    assertTrue(executed.contains("c"));
+  }
+
+  @Test
+  public void shouldRejectUnknownDependency() {
+    // given
+    DependencyScheduler<String> scheduler = new DependencyScheduler<>("test");
+
+    // when / then
+    assertThrows(IllegalArgumentException.class, () -> scheduler.add("b", () -> {}, "a"));
+  }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.history;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.camunda.migrator.impl.concurrent.PartitionedExecutor;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class PartitionedExecutorTest {
+
+  @Test
+  public void shouldHandleItemsOfOnePartitionInOrder() {
+    // given
+    List<Integer> handled = new CopyOnWriteArrayList<>();
+
+    // when
+    try (PartitionedExecutor<Integer> executor = new PartitionedExecutor<>(Thread::new, 3, 2, handled::addAll)) {
+      for (int i = 0; i < 10; i++) {
+        executor.submit("same", i);
+      }
+    }
+
+    // then
+    assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), handled);
+  }
+
+  @Test
+  public void shouldOnlyReportProgressOverContiguousItems() throws InterruptedException {
+    // given the worker of partition "a" is blocked while the worker of partition "b" completes its items
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch laterItemsHandled = new CountDownLatch(1);
+    List<String> progress = new CopyOnWriteArrayList<>();
+    PartitionedExecutor<String> executor = new PartitionedExecutor<>(Thread::new, 2, 1, chunk -> {
+      if (chunk.contains("a1")) {
+        await(release);
+      } else if (chunk.contains("b2")) {
+        laterItemsHandled.countDown();
+      }
+    }, progress::add);
+    String partitionA = findKeyOfWorker(0);
+    String partitionB = findKeyOfWorker(1);
+
+    // when
+    executor.submit(partitionA, "a1");
+    executor.submit(partitionB, "b1");
+    executor.submit(partitionB, "b2");
+    assertTrue(laterItemsHandled.await(10, TimeUnit.SECONDS));
+
+    // then the progress doesn't pass the blocked item
+    assertTrue(progress.isEmpty());
+
+    // when
+    release.countDown();
+    executor.close();
+
+    // then
+    assertEquals("b2", progress.getLast());
+  }
+
+  @Test
+  public void shouldRethrowFailureOfChunkHandler() {
+    // given
+    RuntimeException failure = new IllegalStateException("expected");
+    PartitionedExecutor<Integer> executor = new PartitionedExecutor<>(Thread::new, 2, 1, chunk -> {
+      throw failure;
+    });
+
+    // when
+    executor.submit("a", 1);
+
+    // then
+    assertSame(failure, assertThrows(RuntimeException.class, executor::close));
+  }
+
+  protected void await(CountDownLatch latch) {
+    try {
+      assertTrue(latch.await(10, TimeUnit.SECONDS));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Returns a partition key that is assigned to the worker with the given index out of two workers.
+   */
+  protected String findKeyOfWorker(int index) {
+    for (int i = 0; ; i++) {
+      String key = "key" + i;
+      if (Math.floorMod(key.hashCode(), 2) == index) {
+        return key;
+      }
+    }
+  }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.history;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.camunda.migrator.impl.util.StringOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.junit.jupiter.api.Test;
+
+public class StringOutputStreamTest {
+
+  @Test
+  public void shouldDecodeSequencesSplitBetweenWrites() {
+    // given
+    byte[] bytes = "a€b".getBytes(StandardCharsets.UTF_8);
+    StringOutputStream output = new StringOutputStream();
+
+    // when the three bytes of the euro sign are written separately
+    for (byte b : bytes) {
+      output.write(b);
+    }
+    output.close();
+
+    // then
+    assertEquals("a€b", output.toString());
+  }
+
+  @Test
+  public void shouldDecodeValuesLargerThanTheBuffer() {
+    // given
+    String value = "ä".repeat(20_000);
+    StringOutputStream output = new StringOutputStream();
+
+    // when
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    output.write(bytes, 0, 1001);
+    output.write(bytes, 1001, bytes.length - 1001);
+    output.close();
+
+    // then
+    assertEquals(value, output.toString());
+  }
+
+  @Test
+  public void shouldReplaceIncompleteSequenceOnClose() {
+    // given
+    byte[] bytes = "a€".getBytes(StandardCharsets.UTF_8);
+    StringOutputStream output = new StringOutputStream();
+
+    // when
+    output.write(bytes, 0, 2);
+    output.close();
+
+    // then
+    assertEquals("a�", output.toString());
+  }
+
+  @Test
+  public void shouldCollectBase64EncodedBytes() throws IOException {
+    // given
+    byte[] bytes = { 0, 1, 2, (byte) 0xff };
+    StringOutputStream output = new StringOutputStream();
+
+    // when
+    try (OutputStream encoder = Base64.getEncoder().wrap(output)) {
+      encoder.write(bytes);
+    }
+
+    // then
+    assertEquals(Base64.getEncoder().encodeToString(bytes), output.toString());
+  }
+
+}
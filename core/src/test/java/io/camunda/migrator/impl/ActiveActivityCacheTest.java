@@ -0,0 +1,123 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import io.camunda.migrator.config.property.MigratorProperties;
+import io.camunda.migrator.impl.ActiveActivityCache.ActiveActivities;
+import io.camunda.migrator.impl.model.FlowNode;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+public class ActiveActivityCacheTest {
+
+  protected MigratorProperties properties;
+  protected ActiveActivityCache cache;
+
+  @BeforeEach
+  public void setUp() {
+    properties = new MigratorProperties();
+    cache = new ActiveActivityCache();
+    cache.migratorProperties = properties;
+    properties.getJobStreaming().setEnabled(true);
+    properties.getJobStreaming().setInterleaved(true);
+  }
+
+  @Test
+  public void shouldNotKeepActivitiesWithoutInterleavedActivation() {
+    // given
+    properties.getJobStreaming().setInterleaved(false);
+
+    // when
+    cache.put("instance", "process", Map.of("task#1", new FlowNode("task", null)), 7);
+
+    // then
+    assertFalse(cache.isEnabled());
+    assertNull(cache.take("instance", () -> 7));
+  }
+
+  @Test
+  public void shouldKeepActivitiesOfShardedMigration() {
+    // given
+    properties.getJobStreaming().setEnabled(false);
+    properties.getRuntimeSharding().setEnabled(true);
+
+    // when
+    cache.put("instance", "process", Map.of("task#1", new FlowNode("task", null)), 7);
+
+    // then
+    assertNotNull(cache.take("instance", () -> 7));
+  }
+
+  @Test
+  public void shouldReturnActivitiesOfUnchangedInstance() {
+    // given
+    cache.put("instance", "process", Map.of("task#1", new FlowNode("task", null)), 7);
+
+    // when
+    ActiveActivities activities = cache.take("instance", () -> 7);
+
+    // then
+    assertNotNull(activities);
+    assertEquals(Map.of("task#1", new FlowNode("task", null)), activities.flowNodes());
+    assertNull(cache.take("instance", () -> 7));
+  }
+
+  @Test
+  public void shouldNotReturnActivitiesOfChangedInstance() {
+    // given
+    cache.put("instance", "process", Map.of("task#1", new FlowNode("task", null)), 7);
+
+    // when
+    ActiveActivities activities = cache.take("instance", () -> 8);
+
+    // then
+    assertNull(activities);
+  }
+
+  @Test
+  public void shouldEvictEldestEntriesOverMaxMemory() {
+    // given memory for two instances
+    Map<String, FlowNode> flowNodes = Map.of("task#1", new FlowNode("task", null),
+        "task#2", new FlowNode("task", null));
+    long weight = new ActiveActivities("process", flowNodes, 1, 0).getWeight();
+    properties.getValidationCache().setActivityTreeMaxMemory(DataSize.ofBytes(2 * weight + 1));
+
+    // when
+    cache.put("first", "process", flowNodes, 1);
+    cache.put("second", "process", flowNodes, 1);
+    cache.put("third", "process", flowNodes, 1);
+
+    // then
+    assertNull(cache.take("first", () -> 1));
+    assertNotNull(cache.take("second", () -> 1));
+    assertNotNull(cache.take("third", () -> 1));
+    assertEquals(0, cache.weight);
+  }
+
+  @Test
+  public void shouldEvictEldestEntriesOverMaxSize() {
+    // given
+    properties.getValidationCache().setActivityTreeMaxSize(1);
+
+    // when
+    cache.put("first", "process", Map.of(), 1);
+    cache.put("second", "process", Map.of(), 1);
+
+    // then
+    assertNull(cache.take("first", () -> 1));
+    assertNotNull(cache.take("second", () -> 1));
+  }
+
+}
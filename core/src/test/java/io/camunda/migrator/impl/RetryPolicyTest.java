@@ -0,0 +1,223 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.camunda.client.api.command.ClientStatusException;
+import io.camunda.migrator.config.property.MigratorProperties;
+import io.camunda.migrator.exception.MigratorException;
+import io.camunda.migrator.impl.concurrent.ThreadContext;
+import io.camunda.migrator.impl.util.ExceptionUtils;
+import io.grpc.Status;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class RetryPolicyTest {
+
+  protected MigratorProperties properties;
+  protected RetryPolicy retryPolicy;
+
+  @BeforeEach
+  public void setUp() {
+    properties = new MigratorProperties();
+    properties.getRetry().setEnabled(true);
+    properties.getRetry().setMaxAttempts(3);
+    properties.getRetry().setInitialDelay(Duration.ofMillis(1));
+    properties.getRetry().setMaxDelay(Duration.ofMillis(1));
+
+    retryPolicy = new RetryPolicy();
+    retryPolicy.migratorProperties = properties;
+    retryPolicy.register();
+  }
+
+  @AfterEach
+  public void tearDown() {
+    retryPolicy.unregister();
+  }
+
+  @Test
+  public void shouldNotRetryWhenDisabled() {
+    // given
+    properties.getRetry().setEnabled(false);
+    AtomicInteger attempts = new AtomicInteger();
+
+    // when
+    assertThrows(MigratorException.class, () -> ExceptionUtils.callApi(() -> {
+      attempts.incrementAndGet();
+      throw new ClientStatusException(Status.UNAVAILABLE, null);
+    }, "failed"));
+
+    // then
+    assertEquals(1, attempts.get());
+  }
+
+  @Test
+  public void shouldRetryReadAfterTransientFailure() {
+    // given
+    AtomicInteger attempts = new AtomicInteger();
+
+    // when
+    String result = ExceptionUtils.callApi(() -> {
+      if (attempts.incrementAndGet() == 1) {
+        throw new ClientStatusException(Status.UNAVAILABLE, null);
+      }
+      return "found";
+    }, "failed");
+
+    // then
+    assertEquals("found", result);
+    assertEquals(2, attempts.get());
+  }
+
+  @Test
+  public void shouldRetryDatabaseCallWithTransientSqlState() {
+    // given
+    AtomicInteger attempts = new AtomicInteger();
+
+    // when
+    String result = ExceptionUtils.callApi(() -> {
+      if (attempts.incrementAndGet() == 1) {
+        throw new PersistenceException(new SQLException("connection lost", "08006"));
+      }
+      return "found";
+    }, "failed");
+
+    // then
+    assertEquals("found", result);
+    assertEquals(2, attempts.get());
+  }
+
+  @Test
+  public void shouldOnlyRetryOnThreadsOfTheRegisteringThread() throws Exception {
+    // given
+    AtomicInteger attempts = new AtomicInteger();
+    Runnable failingOnce = () -> ExceptionUtils.callApi(() -> {
+      if (attempts.incrementAndGet() % 2 == 1) {
+        throw new ClientStatusException(Status.UNAVAILABLE, null);
+      }
+    }, "failed");
+    ThreadContext context = ThreadContext.capture();
+
+    // when a worker runs with the context of this thread
+    Thread worker = new Thread(() -> context.run(failingOnce));
+    worker.start();
+    worker.join();
+
+    // then it retries
+    assertEquals(2, attempts.get());
+
+    // when a thread of another application context runs without it
+    AtomicReference<Throwable> failure = new AtomicReference<>();
+    Thread other = new Thread(() -> {
+      try {
+        failingOnce.run();
+      } catch (MigratorException e) {
+        failure.set(e);
+      }
+    });
+    other.start();
+    other.join();
+
+    // then it doesn't retry
+    assertEquals(3, attempts.get());
+    assertNotNull(failure.get());
+  }
+
+  @Test
+  public void shouldGiveUpAfterMaxAttempts() {
+    // given
+    AtomicInteger attempts = new AtomicInteger();
+
+    // when
+    assertThrows(MigratorException.class, () -> ExceptionUtils.callApi(() -> {
+      attempts.incrementAndGet();
+      throw new ClientStatusException(Status.UNAVAILABLE, null);
+    }, "failed"));
+
+    // then
+    assertEquals(3, attempts.get());
+  }
+
+  @Test
+  public void shouldNotRetryPermanentFailure() {
+    // given
+    AtomicInteger attempts = new AtomicInteger();
+
+    // when
+    assertThrows(MigratorException.class, () -> ExceptionUtils.callApi(() -> {
+      attempts.incrementAndGet();
+      throw new ClientStatusException(Status.INVALID_ARGUMENT, null);
+    }, "failed"));
+
+    // then
+    assertEquals(1, attempts.get());
+  }
+
+  @Test
+  public void shouldNotRetryCommandWithUnknownOutcome() {
+    // given
+    AtomicInteger attempts = new AtomicInteger();
+
+    // when
+    assertThrows(MigratorException.class, () -> ExceptionUtils.callCommand(() -> {
+      attempts.incrementAndGet();
+      throw new ClientStatusException(Status.UNAVAILABLE, null);
+    }, "failed"));
+
+    // then
+    assertEquals(1, attempts.get());
+    assertFalse(ExceptionUtils.isTransient(new ClientStatusException(Status.UNAVAILABLE, null)));
+  }
+
+  @Test
+  public void shouldRetryCommandRejectedWithBackpressure() {
+    // given
+    AtomicInteger attempts = new AtomicInteger();
+
+    // when
+    String result = ExceptionUtils.callCommand(() -> {
+      if (attempts.incrementAndGet() == 1) {
+        throw new ClientStatusException(Status.RESOURCE_EXHAUSTED, null);
+      }
+      return "created";
+    }, "failed");
+
+    // then
+    assertEquals("created", result);
+    assertEquals(2, attempts.get());
+    assertTrue(ExceptionUtils.isTransient(new ClientStatusException(Status.RESOURCE_EXHAUSTED, null)));
+  }
+
+  @Test
+  public void shouldLeaveBackpressureToConcurrencyLimiter() {
+    // given
+    properties.getConcurrencyLimit().setEnabled(true);
+    AtomicInteger attempts = new AtomicInteger();
+
+    // when
+    assertThrows(MigratorException.class, () -> ExceptionUtils.callCommand(() -> {
+      attempts.incrementAndGet();
+      throw new ClientStatusException(Status.RESOURCE_EXHAUSTED, null);
+    }, "failed"));
+
+    // then
+    assertEquals(1, attempts.get());
+  }
+
+}
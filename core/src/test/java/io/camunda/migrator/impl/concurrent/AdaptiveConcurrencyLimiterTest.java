@@ -0,0 +1,218 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.impl.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.camunda.client.api.command.ClientStatusException;
+import io.camunda.migrator.config.property.ConcurrencyLimitProperties;
+import io.grpc.Status;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class AdaptiveConcurrencyLimiterTest {
+
+  protected ConcurrencyLimitProperties properties;
+
+  @BeforeEach
+  public void setUp() {
+    properties = new ConcurrencyLimitProperties();
+    properties.setEnabled(true);
+    properties.setInitialLimit(16);
+    properties.setBackpressureRetries(2);
+    properties.setBackpressureDelay(Duration.ofMillis(1));
+  }
+
+  @Test
+  public void shouldNotLimitWhenDisabled() {
+    // given
+    properties.setEnabled(false);
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("target", "operation", properties, null);
+
+    // when
+    int inFlight = limiter.call(limiter::getInFlight);
+
+    // then
+    assertEquals(0, inFlight);
+    assertEquals(16, limiter.getLimit());
+  }
+
+  @Test
+  public void shouldIncreaseLimitWhileItIsUsedUp() {
+    // given
+    properties.setInitialLimit(1);
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("target", "operation", properties, null);
+
+    // when
+    limiter.call(() -> null);
+
+    // then
+    assertEquals(2, limiter.getLimit());
+  }
+
+  @Test
+  public void shouldIncreaseLimitWhileItIsUsedUpByAsyncCalls() {
+    // given
+    properties.setInitialLimit(1);
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("target", "operation", properties, null);
+    CompletableFuture<String> response = new CompletableFuture<>();
+
+    // when
+    CompletableFuture<String> result = limiter.callAsync(() -> response);
+    response.complete("created");
+
+    // then
+    assertEquals("created", result.join());
+    assertEquals(2, limiter.getLimit());
+    assertEquals(0, limiter.getInFlight());
+  }
+
+  @Test
+  public void shouldNotIncreaseLimitBeyondMaximum() {
+    // given
+    properties.setInitialLimit(1);
+    properties.setMaxLimit(1);
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("target", "operation", properties, null);
+
+    // when
+    limiter.call(() -> null);
+
+    // then
+    assertEquals(1, limiter.getLimit());
+  }
+
+  @Test
+  public void shouldDecreaseLimitOnBackpressure() {
+    // given
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("target", "operation", properties, null);
+
+    // when
+    limiter.onBackpressure(1);
+
+    // then
+    assertEquals(8, limiter.getLimit());
+  }
+
+  @Test
+  public void shouldDecreaseLimitOnlyOncePerRoundTrip() {
+    // given a round trip of ten seconds
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("target", "operation", properties, null);
+    limiter.onSuccess(Duration.ofSeconds(10).toNanos());
+
+    // when
+    limiter.onBackpressure(1);
+    limiter.onBackpressure(1);
+
+    // then
+    assertEquals(8, limiter.getLimit());
+  }
+
+  @Test
+  public void shouldNotDecreaseLimitBelowMinimum() {
+    // given
+    properties.setInitialLimit(2);
+    properties.setMinLimit(2);
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("target", "operation", properties, null);
+
+    // when
+    limiter.onBackpressure(1);
+
+    // then
+    assertEquals(2, limiter.getLimit());
+  }
+
+  @Test
+  public void shouldDecreaseLimitOnRisingLatency() {
+    // given a baseline latency of one millisecond
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("target", "operation", properties, null);
+    limiter.onSuccess(Duration.ofMillis(1).toNanos());
+
+    // when
+    limiter.onSuccess(Duration.ofMillis(100).toNanos());
+
+    // then
+    assertEquals(8, limiter.getLimit());
+  }
+
+  @Test
+  public void shouldRetryCallRejectedWithBackpressure() {
+    // given
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("target", "operation", properties, null);
+    AtomicInteger attempts = new AtomicInteger();
+
+    // when
+    String result = limiter.call(() -> {
+      if (attempts.incrementAndGet() == 1) {
+        throw new ClientStatusException(Status.RESOURCE_EXHAUSTED, null);
+      }
+      return "created";
+    });
+
+    // then
+    assertEquals("created", result);
+    assertEquals(2, attempts.get());
+    assertEquals(8, limiter.getLimit());
+    assertEquals(0, limiter.getInFlight());
+  }
+
+  @Test
+  public void shouldFailOnceBackpressureRetriesAreUsedUp() {
+    // given
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("target", "operation", properties, null);
+    AtomicInteger attempts = new AtomicInteger();
+    ClientStatusException backpressure = new ClientStatusException(Status.RESOURCE_EXHAUSTED, null);
+
+    // when
+    ClientStatusException exception = assertThrows(ClientStatusException.class, () -> limiter.call(() -> {
+      attempts.incrementAndGet();
+      throw backpressure;
+    }));
+
+    // then
+    assertSame(backpressure, exception);
+    assertEquals(3, attempts.get());
+    assertEquals(0, limiter.getInFlight());
+  }
+
+  @Test
+  public void shouldNotRetryOtherFailures() {
+    // given
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("target", "operation", properties, null);
+    AtomicInteger attempts = new AtomicInteger();
+
+    // when
+    assertThrows(IllegalStateException.class, () -> limiter.call(() -> {
+      attempts.incrementAndGet();
+      throw new IllegalStateException("failed");
+    }));
+
+    // then
+    assertEquals(1, attempts.get());
+    assertEquals(16, limiter.getLimit());
+  }
+
+  @Test
+  public void shouldKeepOneLimiterPerOperation() {
+    // given
+    ConcurrencyLimiters limiters = new ConcurrencyLimiters("target", properties, null);
+
+    // when
+    limiters.get("createProcessInstance").onBackpressure(1);
+
+    // then
+    assertSame(limiters.get("createProcessInstance"), limiters.get("createProcessInstance"));
+    assertEquals(8, limiters.get("createProcessInstance").getLimit());
+    assertEquals(16, limiters.get("deployResources").getLimit());
+  }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.impl.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class TokenBucketTest {
+
+  @Test
+  public void shouldNotWaitWhenDisabled() throws InterruptedException {
+    // given
+    TokenBucket bucket = new TokenBucket(0);
+    bucket.take(1_000);
+
+    // when
+    long waitedMillis = measure(() -> bucket.acquire(1));
+
+    // then
+    assertTrue(waitedMillis < 50, "waited " + waitedMillis + " ms");
+  }
+
+  @Test
+  public void shouldWaitForDebt() throws InterruptedException {
+    // given a debt of 20 rows at 100 rows per second
+    TokenBucket bucket = new TokenBucket(100);
+    bucket.take(20);
+
+    // when
+    long waitedMillis = measure(() -> bucket.acquire(0));
+
+    // then
+    assertTrue(waitedMillis >= 100, "waited " + waitedMillis + " ms");
+  }
+
+  @Test
+  public void shouldStopWaitingWhenDisabledAtRuntime() throws InterruptedException {
+    // given
+    TokenBucket bucket = new TokenBucket(1);
+    bucket.take(100);
+
+    // when
+    bucket.setRate(0);
+    long waitedMillis = measure(() -> bucket.acquire(1));
+
+    // then
+    assertTrue(waitedMillis < 50, "waited " + waitedMillis + " ms");
+    assertEquals(0.0, bucket.getRate());
+  }
+
+  protected long measure(Acquisition acquisition) throws InterruptedException {
+    long start = System.nanoTime();
+    acquisition.run();
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+  }
+
+  protected interface Acquisition {
+    void run() throws InterruptedException;
+  }
+
+}
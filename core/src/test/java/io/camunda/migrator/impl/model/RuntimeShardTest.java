@@ -0,0 +1,69 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.impl.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class RuntimeShardTest {
+
+  @Test
+  public void shouldAssignEachIdToOneShard() {
+    for (int count = 1; count <= RuntimeShard.MAX_COUNT; count++) {
+      for (char idSuffix : RuntimeShard.ID_SUFFIXES.toCharArray()) {
+        // given
+        String c7Id = "a1b2c3" + idSuffix;
+        int shards = 0;
+
+        for (int index = 0; index < count; index++) {
+          // when
+          RuntimeShard shard = new RuntimeShard(index, count);
+
+          // then the query and the activation select the same shard
+          if (shard.contains(c7Id)) {
+            assertTrue(shard.getIdSuffixes().contains(String.valueOf(idSuffix)));
+            shards++;
+          } else {
+            assertFalse(shard.getIdSuffixes().contains(String.valueOf(idSuffix)));
+          }
+        }
+        assertEquals(1, shards);
+      }
+    }
+  }
+
+  @Test
+  public void shouldAssignOtherIdsToFirstShard() {
+    // given
+    String c7Id = "custom-ID";
+
+    // when
+    RuntimeShard first = new RuntimeShard(0, 2);
+    RuntimeShard second = new RuntimeShard(1, 2);
+
+    // then
+    assertTrue(first.contains(c7Id));
+    assertTrue(first.hasOtherIdSuffixes());
+    assertFalse(second.contains(c7Id));
+    assertFalse(second.hasOtherIdSuffixes());
+  }
+
+  @Test
+  public void shouldSpreadIdSuffixesOverShards() {
+    // when
+    RuntimeShard shard = new RuntimeShard(1, 4);
+
+    // then
+    assertEquals(List.of("1", "5", "9", "d"), shard.getIdSuffixes());
+  }
+
+}
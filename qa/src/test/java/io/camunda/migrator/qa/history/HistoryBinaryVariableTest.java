@@ -0,0 +1,74 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.qa.history;
+
+import static io.camunda.migrator.impl.persistence.IdKeyMapper.TYPE.HISTORY_VARIABLE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.search.entities.VariableEntity;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collections;
+import org.camunda.bpm.engine.variable.Variables;
+import org.camunda.bpm.engine.variable.value.FileValue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Byte array and file variables are migrated Base64 encoded and are not capped by default.
+ */
+public class HistoryBinaryVariableTest extends HistoryMigrationAbstractTest {
+
+  @Test
+  public void shouldMigrateBytesVariableBase64Encoded() {
+    // given
+    deployer.deployCamunda7Process("simpleProcess.bpmn");
+    byte[] bytes = "foo".getBytes(StandardCharsets.UTF_8);
+    runtimeService.startProcessInstanceByKey("simpleProcess", Collections.singletonMap("bytesVar", bytes));
+
+    // when
+    historyMigrator.migrate();
+
+    // then
+    assertThat(searchHistoricVariables("bytesVar")).extracting(VariableEntity::value)
+        .containsExactly(Base64.getEncoder().encodeToString(bytes));
+  }
+
+  @Test
+  public void shouldMigrateFileVariableContentBase64Encoded() {
+    // given
+    deployer.deployCamunda7Process("simpleProcess.bpmn");
+    byte[] content = "ABC".getBytes(StandardCharsets.UTF_8);
+    FileValue fileValue = Variables.fileValue("text.txt").file(content).mimeType("text/plain").create();
+    runtimeService.startProcessInstanceByKey("simpleProcess",
+        Variables.createVariables().putValueTyped("fileVar", fileValue));
+
+    // when
+    historyMigrator.migrate();
+
+    // then
+    assertThat(searchHistoricVariables("fileVar")).extracting(VariableEntity::value)
+        .containsExactly(Base64.getEncoder().encodeToString(content));
+  }
+
+  @Test
+  public void shouldNotCapLargeValuesByDefault() {
+    // given
+    deployer.deployCamunda7Process("simpleProcess.bpmn");
+    byte[] bytes = new byte[64 * 1024];
+    runtimeService.startProcessInstanceByKey("simpleProcess", Collections.singletonMap("largeVar", bytes));
+    String variableId = historyService.createHistoricVariableInstanceQuery().variableName("largeVar").singleResult().getId();
+
+    // when
+    historyMigrator.migrate();
+
+    // then
+    assertThat(dbClient.checkHasC8KeyByC7IdAndType(variableId, HISTORY_VARIABLE)).isTrue();
+    assertThat(searchHistoricVariables("largeVar")).hasSize(1);
+  }
+
+}
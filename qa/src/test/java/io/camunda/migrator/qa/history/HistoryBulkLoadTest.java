@@ -0,0 +1,174 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.qa.history;
+
+import static io.camunda.migrator.impl.persistence.IdKeyMapper.TYPE.HISTORY_INCIDENT;
+import static io.camunda.migrator.impl.persistence.IdKeyMapper.TYPE.HISTORY_PROCESS_INSTANCE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.migrator.impl.persistence.IdKeyDbModel;
+import io.camunda.migrator.impl.persistence.IdKeyMapper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import org.camunda.bpm.engine.history.HistoricIncident;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {
+    "camunda.migrator.history.key-strategy=DETERMINISTIC",
+    "camunda.migrator.history.bulk-load.enabled=true",
+    "camunda.migrator.history.bulk-load.directory=" + HistoryBulkLoadTest.DIRECTORY
+})
+public class HistoryBulkLoadTest extends HistoryMigrationAbstractTest {
+
+  protected static final String DIRECTORY = "target/bulk-load-test";
+
+  @Autowired
+  protected IdKeyMapper idKeyMapper;
+
+  @BeforeEach
+  @AfterEach
+  public void deleteBulkLoadFiles() throws IOException {
+    Path directory = Paths.get(DIRECTORY);
+    if (Files.exists(directory)) {
+      try (Stream<Path> paths = Files.walk(directory)) {
+        for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+          Files.delete(path);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void shouldWriteRowsIntoFilesInsteadOfC8() throws IOException {
+    // given
+    deployer.deployCamunda7Process("userTaskProcess.bpmn");
+    for (int i = 0; i < 3; i++) {
+      runtimeService.startProcessInstanceByKey("userTaskProcessId");
+    }
+    completeAllUserTasksWithDefaultUserTaskId();
+
+    // when
+    historyMigrator.migrate();
+
+    // then nothing was inserted into C8
+    assertThat(searchHistoricProcessInstances("userTaskProcessId")).isEmpty();
+
+    // and the process instances were written into the files of the run
+    List<Path> runDirectories = listRunDirectories();
+    assertThat(runDirectories).hasSize(1);
+    Path processInstanceFile = findDataFile(runDirectories.getFirst(), "PROCESS_INSTANCE_00001.csv");
+    assertThat(Files.readAllLines(processInstanceFile)).hasSize(4);
+    assertThat(runDirectories.getFirst().resolve("load-postgresql.sql")).exists();
+    assertThat(runDirectories.getFirst().resolve("load-h2.sql")).exists();
+
+    // and marked as migrated
+    historyService.createHistoricProcessInstanceQuery().list().forEach(processInstance ->
+        assertThat(dbClient.checkHasC8KeyByC7IdAndType(processInstance.getId(), HISTORY_PROCESS_INSTANCE)).isTrue());
+  }
+
+  @Test
+  public void shouldWriteRowsWithTheColumnsOfTheirTable() throws IOException {
+    // given
+    deployer.deployCamunda7Process("userTaskProcess.bpmn");
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("userTaskProcessId");
+
+    // when
+    historyMigrator.migrate();
+
+    // then
+    Path processInstanceFile = findDataFile(listRunDirectories().getFirst(), "PROCESS_INSTANCE_00001.csv");
+    List<String> lines = Files.readAllLines(processInstanceFile);
+    assertThat(lines.getFirst()).startsWith("PROCESS_INSTANCE_KEY,PROCESS_DEFINITION_ID,PROCESS_DEFINITION_KEY,STATE");
+    assertThat(lines.get(1))
+        .startsWith(dbClient.findC8KeyByC7IdAndType(processInstance.getId(), HISTORY_PROCESS_INSTANCE) + ","
+            + "\"userTaskProcessId\",")
+        .contains(",ACTIVE,");
+  }
+
+  @Test
+  public void shouldRecordTheRunOfMigratedEntities() throws IOException {
+    // given
+    deployer.deployCamunda7Process("userTaskProcess.bpmn");
+    runtimeService.startProcessInstanceByKey("userTaskProcessId");
+
+    // when
+    historyMigrator.migrate();
+
+    // then the mapping records refer to the run directory
+    Path runDirectory = listRunDirectories().getFirst();
+    List<IdKeyDbModel> migrated = idKeyMapper.findMigratedByType(HISTORY_PROCESS_INSTANCE, 0, Integer.MAX_VALUE);
+    assertThat(migrated).extracting(IdKeyDbModel::getBulkLoadRun)
+        .containsExactly(runDirectory.getFileName().toString());
+
+    // and the run can be rolled back
+    assertThat(Files.readString(runDirectory.resolve("rollback-mapping.sql")))
+        .contains("MIGRATION_MAPPING WHERE BULK_LOAD_RUN = '" + runDirectory.getFileName() + "'");
+  }
+
+  @Test
+  public void shouldKeepFilesOfEarlierRuns() throws IOException {
+    // given
+    deployer.deployCamunda7Process("userTaskProcess.bpmn");
+    runtimeService.startProcessInstanceByKey("userTaskProcessId");
+    historyMigrator.migrate();
+
+    // when
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("userTaskProcessId");
+    historyMigrator.migrate();
+
+    // then every run wrote its own files
+    List<Path> runDirectories = listRunDirectories();
+    assertThat(runDirectories).hasSize(2);
+    for (Path runDirectory : runDirectories) {
+      assertThat(Files.readAllLines(findDataFile(runDirectory, "PROCESS_INSTANCE_00001.csv"))).hasSize(2);
+    }
+    assertThat(dbClient.checkHasC8KeyByC7IdAndType(processInstance.getId(), HISTORY_PROCESS_INSTANCE)).isTrue();
+  }
+
+  @Test
+  public void shouldMigrateIncidentWithoutC8Lookup() {
+    // given
+    deployer.deployCamunda7Process("incidentProcess.bpmn");
+    String processInstanceId = runtimeService.startProcessInstanceByKey("incidentProcessId").getId();
+    triggerIncident(processInstanceId);
+    HistoricIncident incident = historyService.createHistoricIncidentQuery().singleResult();
+
+    // when
+    historyMigrator.migrate();
+
+    // then
+    assertThat(dbClient.checkHasC8KeyByC7IdAndType(incident.getId(), HISTORY_INCIDENT)).isTrue();
+    assertThat(searchHistoricIncidents("incidentProcessId")).isEmpty();
+  }
+
+  protected List<Path> listRunDirectories() throws IOException {
+    try (Stream<Path> paths = Files.list(Paths.get(DIRECTORY))) {
+      return paths.filter(Files::isDirectory).sorted().toList();
+    }
+  }
+
+  protected Path findDataFile(Path runDirectory, String suffix) throws IOException {
+    try (Stream<Path> paths = Files.list(runDirectory)) {
+      return paths.filter(path -> path.getFileName().toString().endsWith(suffix))
+          .filter(path -> !path.getFileName().toString().contains("FLOW_NODE"))
+          .findFirst()
+          .orElseThrow();
+    }
+  }
+
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.qa.history;
+
+import static io.camunda.migrator.impl.persistence.IdKeyMapper.TYPE.HISTORY_PROCESS_INSTANCE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.migrator.impl.concurrent.WorkLeaseCoordinator;
+import io.camunda.migrator.impl.persistence.LeaseDbModel;
+import io.github.netmikey.logunit.api.LogCapturer;
+import java.time.Duration;
+import java.util.Date;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.camunda.bpm.engine.impl.util.ClockUtil;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.slf4j.event.Level;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {
+    "camunda.migrator.history.coordination.enabled=true",
+    "camunda.migrator.history.coordination.node-id=" + HistoryCoordinationTest.NODE_ID,
+    "camunda.migrator.history.coordination.poll-interval=100ms"
+})
+public class HistoryCoordinationTest extends HistoryMigrationAbstractTest {
+
+  protected static final String NODE_ID = "test-node";
+  protected static final String OTHER_NODE_ID = "other-node";
+  protected static final long SLICE_MILLIS = Duration.ofDays(1).toMillis();
+
+  @RegisterExtension
+  protected LogCapturer logs = LogCapturer.create().captureForType(WorkLeaseCoordinator.class, Level.INFO);
+
+  @Autowired
+  protected WorkLeaseCoordinator workLeaseCoordinator;
+
+  @Test
+  public void shouldCompletePastSlicesAndKeepOpenSliceOpen() {
+    // given
+    deployer.deployCamunda7Process("userTaskProcess.bpmn");
+    Date twoDaysAgo = new Date(System.currentTimeMillis() - 2 * SLICE_MILLIS);
+    ClockUtil.setCurrentTime(twoDaysAgo);
+    runtimeService.startProcessInstanceByKey("userTaskProcessId");
+    ClockUtil.reset();
+    runtimeService.startProcessInstanceByKey("userTaskProcessId");
+
+    // when
+    historyMigrator.migrate();
+
+    // then
+    assertThat(searchHistoricProcessInstances("userTaskProcessId")).hasSize(2);
+    assertThat(dbClient.findLease(getSliceName(twoDaysAgo)).isCompleted()).isTrue();
+    assertThat(dbClient.findLease(getSliceName(new Date()))).isNull();
+  }
+
+  @Test
+  public void shouldMigrateOpenSliceAgainInLaterRun() {
+    // given
+    deployer.deployCamunda7Process("userTaskProcess.bpmn");
+    runtimeService.startProcessInstanceByKey("userTaskProcessId");
+    historyMigrator.migrate();
+
+    // when
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("userTaskProcessId");
+    historyMigrator.migrate();
+
+    // then
+    assertThat(searchHistoricProcessInstances("userTaskProcessId")).hasSize(2);
+    assertThat(dbClient.checkHasC8KeyByC7IdAndType(processInstance.getId(), HISTORY_PROCESS_INSTANCE)).isTrue();
+  }
+
+  @Test
+  public void shouldSkipOpenSliceHeldByAnotherNode() {
+    // given
+    deployer.deployCamunda7Process("userTaskProcess.bpmn");
+    runtimeService.startProcessInstanceByKey("userTaskProcessId");
+    String openSlice = getSliceName(new Date());
+    dbClient.insertLease(openSlice, OTHER_NODE_ID, new Date(System.currentTimeMillis() + 60_000));
+
+    // when
+    historyMigrator.migrate();
+
+    // then
+    assertThat(searchHistoricProcessInstances("userTaskProcessId")).isEmpty();
+    assertThat(dbClient.findLease(openSlice).getOwner()).isEqualTo(OTHER_NODE_ID);
+    logs.assertContains("Skipping open work unit [" + openSlice + "] held by another node");
+  }
+
+  @Test
+  public void shouldAbortWorkUnitAfterLosingLease() {
+    // given
+    String workUnit = "test-work-unit";
+    AtomicBoolean committed = new AtomicBoolean();
+
+    // when
+    workLeaseCoordinator.run(Map.of(workUnit, () -> {
+      // another node takes the work unit over and completes it
+      dbClient.releaseLease(workUnit, NODE_ID);
+      dbClient.insertLease(workUnit, OTHER_NODE_ID, new Date(System.currentTimeMillis() + 60_000));
+      dbClient.completeLease(workUnit, OTHER_NODE_ID);
+
+      workLeaseCoordinator.checkLease();
+      committed.set(true);
+    }));
+
+    // then
+    assertThat(committed).isFalse();
+    LeaseDbModel lease = dbClient.findLease(workUnit);
+    assertThat(lease.getOwner()).isEqualTo(OTHER_NODE_ID);
+    assertThat(lease.isCompleted()).isTrue();
+    logs.assertContains("Node [" + NODE_ID + "] aborted work unit [" + workUnit + "] after losing its lease");
+  }
+
+  @Test
+  public void shouldAbortWorkUnitWhoseLeaseIsAboutToExpire() {
+    // given
+    String workUnit = "test-work-unit";
+    AtomicInteger attempts = new AtomicInteger();
+
+    // when
+    workLeaseCoordinator.run(Map.of(workUnit, () -> {
+      if (attempts.incrementAndGet() == 1) {
+        // heartbeats were missed, the lease of 5 minutes has less than a third left
+        dbClient.extendLeases(NODE_ID, new Date(dbClient.getDatabaseTime().getTime() + 60_000));
+      }
+      workLeaseCoordinator.checkLease();
+    }));
+
+    // then the work unit is claimed again with a new lease
+    assertThat(attempts).hasValue(2);
+    assertThat(dbClient.findLease(workUnit).isCompleted()).isTrue();
+    logs.assertContains("Node [" + NODE_ID + "] aborted work unit [" + workUnit + "] after losing its lease");
+  }
+
+  @Test
+  public void shouldRunTeardownOnceOtherNodesAreDone() {
+    // given
+    String workUnit = "HISTORY_ENCLOSED";
+    String otherWorkUnit = "HISTORY_PROCESS_INSTANCE/other";
+    long otherExpiry = System.currentTimeMillis() + 1_000;
+    dbClient.insertLease(otherWorkUnit, OTHER_NODE_ID, new Date(otherExpiry));
+    List<String> steps = new ArrayList<>();
+
+    // when
+    workLeaseCoordinator.runEnclosed(workUnit, "HISTORY_%", () -> steps.add("setup"), () -> steps.add("work"), () -> {
+      steps.add("teardown");
+      assertThat(System.currentTimeMillis()).isGreaterThanOrEqualTo(otherExpiry);
+    });
+
+    // then
+    assertThat(steps).containsExactly("setup", "work", "teardown");
+    assertThat(dbClient.findLease(workUnit).isCompleted()).isTrue();
+    logs.assertContains("Waiting for 1 work units of other nodes before finishing work unit [" + workUnit + "]");
+  }
+
+  @Test
+  public void shouldLeaveSetupAndTeardownToTheNodeHoldingTheWorkUnit() {
+    // given
+    String workUnit = "HISTORY_ENCLOSED";
+    dbClient.insertLease(workUnit, OTHER_NODE_ID, new Date(System.currentTimeMillis() + 60_000));
+    dbClient.insertLease(workUnit + "/setup", OTHER_NODE_ID, new Date(System.currentTimeMillis() + 60_000));
+    dbClient.completeLease(workUnit + "/setup", OTHER_NODE_ID);
+    List<String> steps = new ArrayList<>();
+
+    // when
+    workLeaseCoordinator.runEnclosed(workUnit, "HISTORY_%", () -> steps.add("setup"), () -> steps.add("work"),
+        () -> steps.add("teardown"));
+
+    // then
+    assertThat(steps).containsExactly("work");
+    assertThat(dbClient.findLease(workUnit).getOwner()).isEqualTo(OTHER_NODE_ID);
+    assertThat(dbClient.findLease(workUnit).isCompleted()).isFalse();
+  }
+
+  protected String getSliceName(Date startTime) {
+    long sliceStart = Math.floorDiv(startTime.getTime(), SLICE_MILLIS) * SLICE_MILLIS;
+    return HISTORY_PROCESS_INSTANCE.name() + "/" + new Date(sliceStart).toInstant();
+  }
+
+}
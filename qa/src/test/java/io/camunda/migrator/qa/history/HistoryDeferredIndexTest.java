@@ -0,0 +1,90 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.qa.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.migrator.impl.persistence.DeferredIndexBuilder;
+import io.github.netmikey.logunit.api.LogCapturer;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.slf4j.event.Level;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {
+    "camunda.migrator.history.defer-indexes=true",
+    "camunda.migrator.history.deferred-indexes-file=" + HistoryDeferredIndexTest.STATE_FILE
+})
+public class HistoryDeferredIndexTest extends HistoryMigrationAbstractTest {
+
+  protected static final String STATE_FILE = "target/deferred-indexes-test.sql";
+
+  @RegisterExtension
+  protected LogCapturer logs = LogCapturer.create().captureForType(DeferredIndexBuilder.class, Level.INFO);
+
+  @Autowired
+  @Qualifier("c8DataSource")
+  protected DataSource c8DataSource;
+
+  @Test
+  public void shouldRebuildDeferredIndexesAfterMigration() throws SQLException {
+    // given
+    Set<String> indexesBefore = findIndexes("PROCESS_INSTANCE");
+    deployer.deployCamunda7Process("userTaskProcess.bpmn");
+    runtimeService.startProcessInstanceByKey("userTaskProcessId");
+
+    // when
+    historyMigrator.migrate();
+
+    // then
+    logs.assertContains("Rebuilding");
+    assertThat(findIndexes("PROCESS_INSTANCE")).isEqualTo(indexesBefore);
+    assertThat(Paths.get(STATE_FILE)).doesNotExist();
+    assertThat(searchHistoricProcessInstances("userTaskProcessId")).hasSize(1);
+  }
+
+  @Test
+  public void shouldNotDeferIndexesOfNonEmptyTables() {
+    // given
+    deployer.deployCamunda7Process("userTaskProcess.bpmn");
+    runtimeService.startProcessInstanceByKey("userTaskProcessId");
+    historyMigrator.migrate();
+
+    // when
+    runtimeService.startProcessInstanceByKey("userTaskProcessId");
+    historyMigrator.migrate();
+
+    // then
+    logs.assertContains("Not deferring indexes of table [PROCESS_INSTANCE] since it already contains data");
+    assertThat(searchHistoricProcessInstances("userTaskProcessId")).hasSize(2);
+  }
+
+  protected Set<String> findIndexes(String tableName) throws SQLException {
+    Set<String> indexes = new TreeSet<>();
+    try (Connection connection = c8DataSource.getConnection();
+        ResultSet resultSet = connection.getMetaData()
+            .getIndexInfo(connection.getCatalog(), connection.getSchema(), tableName, false, true)) {
+      while (resultSet.next()) {
+        if (resultSet.getString("INDEX_NAME") != null) {
+          indexes.add(resultSet.getString("INDEX_NAME"));
+        }
+      }
+    }
+    return indexes;
+  }
+
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.qa.history;
+
+import static io.camunda.migrator.impl.persistence.IdKeyMapper.TYPE.HISTORY_FLOW_NODE;
+import static io.camunda.migrator.impl.persistence.IdKeyMapper.TYPE.HISTORY_PROCESS_DEFINITION;
+import static io.camunda.migrator.impl.persistence.IdKeyMapper.TYPE.HISTORY_PROCESS_INSTANCE;
+import static io.camunda.migrator.impl.persistence.IdKeyMapper.TYPE.HISTORY_USER_TASK;
+import static io.camunda.migrator.config.property.HistoryProperties.KeyStrategy.DETERMINISTIC;
+import static io.camunda.migrator.config.property.HistoryProperties.KeyStrategy.RANDOM;
+import static io.camunda.migrator.impl.logging.HistoryMigratorLogs.KEY_STRATEGY_CHANGED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.migrator.HistoryMigrator;
+import io.camunda.migrator.config.property.MigratorProperties;
+import io.camunda.migrator.exception.MigratorException;
+import io.camunda.migrator.impl.KeyGenerator;
+import io.camunda.search.entities.FlowNodeInstanceEntity;
+import io.camunda.search.entities.ProcessInstanceEntity;
+import io.camunda.search.entities.UserTaskEntity;
+import java.util.List;
+import org.camunda.bpm.engine.history.HistoricActivityInstance;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.camunda.bpm.engine.task.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {
+    "camunda.migrator.history.key-strategy=DETERMINISTIC"
+})
+public class HistoryDeterministicKeyTest extends HistoryMigrationAbstractTest {
+
+  @Autowired
+  protected KeyGenerator keyGenerator;
+
+  @Autowired
+  protected MigratorProperties migratorProperties;
+
+  @AfterEach
+  public void resetKeyStrategy() {
+    migratorProperties.getHistory().setKeyStrategy(DETERMINISTIC);
+  }
+
+  @Test
+  public void shouldDeriveC8KeysFromC7Ids() {
+    // given
+    deployer.deployCamunda7Process("userTaskProcess.bpmn");
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("userTaskProcessId");
+    Task task = taskService.createTaskQuery().singleResult();
+    taskService.complete(task.getId());
+
+    // when
+    historyMigrator.migrate();
+
+    // then
+    List<ProcessInstanceEntity> processInstances = searchHistoricProcessInstances("userTaskProcessId");
+    assertThat(processInstances).hasSize(1);
+    ProcessInstanceEntity c8ProcessInstance = processInstances.getFirst();
+    long processInstanceKey = keyGenerator.keyOf(HISTORY_PROCESS_INSTANCE, processInstance.getId());
+    assertThat(c8ProcessInstance.processInstanceKey()).isEqualTo(processInstanceKey);
+    assertThat(c8ProcessInstance.processDefinitionKey())
+        .isEqualTo(keyGenerator.keyOf(HISTORY_PROCESS_DEFINITION, processInstance.getProcessDefinitionId()));
+    assertThat(dbClient.findC8KeyByC7IdAndType(processInstance.getId(), HISTORY_PROCESS_INSTANCE))
+        .isEqualTo(processInstanceKey);
+
+    List<UserTaskEntity> userTasks = searchHistoricUserTasks(processInstanceKey);
+    assertThat(userTasks).hasSize(1);
+    assertThat(userTasks.getFirst().userTaskKey()).isEqualTo(keyGenerator.keyOf(HISTORY_USER_TASK, task.getId()));
+
+    HistoricActivityInstance userTaskActivity = historyService.createHistoricActivityInstanceQuery()
+        .activityType("userTask")
+        .singleResult();
+    assertThat(userTasks.getFirst().elementInstanceKey())
+        .isEqualTo(keyGenerator.keyOf(HISTORY_FLOW_NODE, userTaskActivity.getId()));
+    assertThat(searchHistoricFlowNodesForType(processInstanceKey, FlowNodeInstanceEntity.FlowNodeType.USER_TASK))
+        .extracting(FlowNodeInstanceEntity::flowNodeInstanceKey)
+        .containsExactly(keyGenerator.keyOf(HISTORY_FLOW_NODE, userTaskActivity.getId()));
+  }
+
+  @Test
+  public void shouldMigrateToTheSameKeysAfterMappingsAreLost() {
+    // given
+    deployer.deployCamunda7Process("userTaskProcess.bpmn");
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("userTaskProcessId");
+    historyMigrator.migrate();
+    Long firstKey = dbClient.findC8KeyByC7IdAndType(processInstance.getId(), HISTORY_PROCESS_INSTANCE);
+
+    // when
+    dbClient.deleteAllMappings();
+    rdbmsPurger.purgeRdbms();
+    historyMigrator.migrate();
+
+    // then
+    assertThat(dbClient.findC8KeyByC7IdAndType(processInstance.getId(), HISTORY_PROCESS_INSTANCE))
+        .isEqualTo(firstKey);
+    assertThat(searchHistoricProcessInstances("userTaskProcessId"))
+        .extracting(ProcessInstanceEntity::processInstanceKey)
+        .containsExactly(firstKey);
+  }
+
+  @Test
+  public void shouldStoreSeveralSkippedEntitiesWithoutC8Key() {
+    // given
+    deployer.deployCamunda7Process("userTaskProcess.bpmn");
+    for (int i = 0; i < 3; i++) {
+      runtimeService.startProcessInstanceByKey("userTaskProcessId");
+    }
+    String processDefinitionId = repositoryService.createProcessDefinitionQuery().singleResult().getId();
+    dbClient.insert(processDefinitionId, null, HISTORY_PROCESS_DEFINITION);
+
+    // when
+    historyMigrator.migrate();
+
+    // then the skipped entities share a NULL C8 key without violating the unique index
+    assertThat(dbClient.countSkippedByType(HISTORY_PROCESS_INSTANCE)).isEqualTo(3);
+    assertThat(dbClient.countSkippedByType(HISTORY_FLOW_NODE)).isGreaterThanOrEqualTo(3);
+    assertThat(searchHistoricProcessInstances("userTaskProcessId")).isEmpty();
+  }
+
+  @Test
+  public void shouldFailWhenKeyStrategyChangesAfterMigration() {
+    // given
+    deployer.deployCamunda7Process("userTaskProcess.bpmn");
+    runtimeService.startProcessInstanceByKey("userTaskProcessId");
+    historyMigrator.migrate();
+
+    // when
+    migratorProperties.getHistory().setKeyStrategy(RANDOM);
+
+    // then
+    assertThatThrownBy(historyMigrator::migrate)
+        .isInstanceOf(MigratorException.class)
+        .hasMessage(String.format(KEY_STRATEGY_CHANGED, DETERMINISTIC, RANDOM));
+    assertThat(dbClient.findSetting(HistoryMigrator.KEY_STRATEGY_SETTING)).isEqualTo(DETERMINISTIC.name());
+  }
+
+  @Test
+  public void shouldAllowKeyStrategyChangeBeforeMigration() {
+    // given
+    historyMigrator.migrate();
+
+    // when
+    migratorProperties.getHistory().setKeyStrategy(RANDOM);
+    historyMigrator.migrate();
+
+    // then
+    assertThat(dbClient.findSetting(HistoryMigrator.KEY_STRATEGY_SETTING)).isEqualTo(RANDOM.name());
+  }
+
+  @Test
+  public void shouldNameCollidingC7Ids() {
+    // given
+    deployer.deployCamunda7Process("userTaskProcess.bpmn");
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("userTaskProcessId");
+    long processInstanceKey = keyGenerator.keyOf(HISTORY_PROCESS_INSTANCE, processInstance.getId());
+    dbClient.insert("otherProcessInstanceId", processInstanceKey, HISTORY_PROCESS_INSTANCE);
+
+    // when/then
+    assertThatThrownBy(historyMigrator::migrate)
+        .isInstanceOf(MigratorException.class)
+        .hasMessageContaining(String.valueOf(processInstanceKey))
+        .hasMessageContaining(processInstance.getId())
+        .hasMessageContaining("otherProcessInstanceId");
+  }
+
+}
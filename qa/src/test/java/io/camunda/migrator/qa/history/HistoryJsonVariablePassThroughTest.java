@@ -0,0 +1,65 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.qa.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.camunda.bpm.engine.variable.Variables.SerializationDataFormats.JSON;
+
+import io.camunda.search.entities.VariableEntity;
+import java.util.List;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.camunda.bpm.engine.variable.Variables;
+import org.camunda.bpm.engine.variable.value.ObjectValue;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {
+    "camunda.migrator.history.validate-json=true"
+})
+public class HistoryJsonVariablePassThroughTest extends HistoryMigrationAbstractTest {
+
+  @Test
+  public void shouldPassThroughSerializedJsonValue() {
+    // given a value whose formatting would be lost by deserializing and serializing it again
+    deployer.deployCamunda7Process("simpleProcess.bpmn");
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("simpleProcess");
+    String json = "{ \"stringProperty\" : \"a String\", \"intProperty\" : 42 }";
+    runtimeService.setVariable(processInstance.getId(), "jsonVar", serializedJson(json));
+
+    // when
+    historyMigrator.migrate();
+
+    // then
+    List<VariableEntity> variables = searchHistoricVariables("jsonVar");
+    assertThat(variables).extracting(VariableEntity::value).containsExactly(json);
+  }
+
+  @Test
+  public void shouldMapInvalidJsonValueToNull() {
+    // given
+    deployer.deployCamunda7Process("simpleProcess.bpmn");
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("simpleProcess");
+    runtimeService.setVariable(processInstance.getId(), "invalidJsonVar", serializedJson("{\"unterminated\": "));
+
+    // when
+    historyMigrator.migrate();
+
+    // then the variable is migrated without its value
+    List<VariableEntity> variables = searchHistoricVariables("invalidJsonVar");
+    assertThat(variables).hasSize(1);
+    assertThat(variables.getFirst().value()).isNull();
+  }
+
+  protected ObjectValue serializedJson(String json) {
+    return Variables.serializedObjectValue(json)
+        .serializationDataFormat(JSON)
+        .objectTypeName("io.camunda.migrator.qa.runtime.variables.JsonSerializable")
+        .create();
+  }
+
+}
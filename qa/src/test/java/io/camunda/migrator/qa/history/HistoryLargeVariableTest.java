@@ -0,0 +1,102 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.qa.history;
+
+import static io.camunda.migrator.config.property.LargeVariableProperties.TRUNCATION_MARKER;
+import static io.camunda.migrator.impl.logging.HistoryMigratorLogs.SKIP_REASON_EXCEEDS_MAX_SIZE;
+import static io.camunda.migrator.impl.logging.HistoryMigratorLogs.SKIP_REASON_VALUE_TRUNCATED;
+import static io.camunda.migrator.impl.persistence.IdKeyMapper.TYPE.HISTORY_VARIABLE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.camunda.bpm.engine.variable.Variables.SerializationDataFormats.JSON;
+
+import io.camunda.migrator.impl.persistence.IdKeyDbModel;
+import io.camunda.migrator.impl.persistence.IdKeyMapper;
+import io.camunda.search.entities.VariableEntity;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import org.camunda.bpm.engine.history.HistoricVariableInstance;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.camunda.bpm.engine.variable.Variables;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {
+    "camunda.migrator.history.large-variables.max-size=8B",
+    "camunda.migrator.history.large-variables.policy=TRUNCATE",
+    "camunda.migrator.save-skip-reason=true"
+})
+public class HistoryLargeVariableTest extends HistoryMigrationAbstractTest {
+
+  @Autowired
+  protected IdKeyMapper idKeyMapper;
+
+  @Test
+  public void shouldTruncateBytesVariableAndRecordReason() {
+    // given
+    deployer.deployCamunda7Process("simpleProcess.bpmn");
+    byte[] bytes = "0123456789abcdef".getBytes(StandardCharsets.UTF_8);
+    runtimeService.startProcessInstanceByKey("simpleProcess", Collections.singletonMap("bytesVar", bytes));
+
+    // when
+    historyMigrator.migrate();
+
+    // then the first 8 bytes are migrated with a marker
+    assertThat(searchHistoricVariables("bytesVar")).extracting(VariableEntity::value)
+        .containsExactly(Base64.getEncoder().encodeToString(Arrays.copyOf(bytes, 8)) + TRUNCATION_MARKER);
+
+    // and the truncation is recorded
+    IdKeyDbModel mapping = idKeyMapper.findMigratedByType(HISTORY_VARIABLE, 0, Integer.MAX_VALUE).getFirst();
+    assertThat(mapping.getC8Key()).isNotNull();
+    assertThat(mapping.getSkipReason()).isEqualTo(SKIP_REASON_VALUE_TRUNCATED);
+  }
+
+  @Test
+  public void shouldMigrateSmallBytesVariableWithoutMarker() {
+    // given
+    deployer.deployCamunda7Process("simpleProcess.bpmn");
+    byte[] bytes = "foo".getBytes(StandardCharsets.UTF_8);
+    runtimeService.startProcessInstanceByKey("simpleProcess", Collections.singletonMap("bytesVar", bytes));
+
+    // when
+    historyMigrator.migrate();
+
+    // then
+    assertThat(searchHistoricVariables("bytesVar")).extracting(VariableEntity::value)
+        .containsExactly(Base64.getEncoder().encodeToString(bytes));
+    assertThat(idKeyMapper.findMigratedByType(HISTORY_VARIABLE, 0, Integer.MAX_VALUE).getFirst().getSkipReason())
+        .isNull();
+  }
+
+  @Test
+  public void shouldSkipLargeSerializedObject() {
+    // given serialized objects can't be truncated
+    deployer.deployCamunda7Process("simpleProcess.bpmn");
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("simpleProcess");
+    runtimeService.setVariable(processInstance.getId(), "jsonVar", Variables.serializedObjectValue(
+            "{\"stringProperty\":\"a String\"}")
+        .serializationDataFormat(JSON)
+        .objectTypeName("io.camunda.migrator.qa.runtime.variables.JsonSerializable")
+        .create());
+    HistoricVariableInstance c7Variable = historyService.createHistoricVariableInstanceQuery()
+        .variableName("jsonVar")
+        .singleResult();
+
+    // when
+    historyMigrator.migrate();
+
+    // then
+    assertThat(searchHistoricVariables("jsonVar")).isEmpty();
+    IdKeyDbModel skipped = idKeyMapper.findSkippedByType(HISTORY_VARIABLE, 0, Integer.MAX_VALUE).getFirst();
+    assertThat(skipped.getC7Id()).isEqualTo(c7Variable.getId());
+    assertThat(skipped.getSkipReason()).isEqualTo(SKIP_REASON_EXCEEDS_MAX_SIZE);
+  }
+
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.qa.history;
+
+import static io.camunda.migrator.impl.persistence.IdKeyMapper.TYPE.HISTORY_PROCESS_INSTANCE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.zaxxer.hikari.HikariDataSource;
+import javax.sql.DataSource;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {
+    "camunda.migrator.mapping-pool.enabled=true",
+    "camunda.migrator.mapping-pool.maximum-pool-size=3"
+})
+public class HistoryMappingPoolTest extends HistoryMigrationAbstractTest {
+
+  @Autowired
+  @Qualifier("c7DataSource")
+  protected DataSource c7DataSource;
+
+  @Autowired
+  @Qualifier("migratorDataSource")
+  protected DataSource migratorDataSource;
+
+  @Test
+  public void shouldUseSeparatePoolForMappings() {
+    // given
+    deployer.deployCamunda7Process("userTaskProcess.bpmn");
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("userTaskProcessId");
+
+    // when
+    historyMigrator.migrate();
+
+    // then
+    assertThat(migratorDataSource).isNotSameAs(c7DataSource);
+    HikariDataSource mappingPool = (HikariDataSource) migratorDataSource;
+    assertThat(mappingPool.getPoolName()).endsWith("migrator");
+    assertThat(mappingPool.getMaximumPoolSize()).isEqualTo(3);
+    assertThat(dbClient.checkHasC8KeyByC7IdAndType(processInstance.getId(), HISTORY_PROCESS_INSTANCE)).isTrue();
+    assertThat(searchHistoricProcessInstances("userTaskProcessId")).hasSize(1);
+  }
+
+}
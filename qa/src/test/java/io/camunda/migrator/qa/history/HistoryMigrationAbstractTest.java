@@ -84,6 +84,7 @@ public abstract class HistoryMigrationAbstractTest extends AbstractMigratorTest
 
     // Migrator
     dbClient.deleteAllMappings();
+    dbClient.deleteAllLeases();
     historyMigrator.setMode(MigratorMode.MIGRATE);
     historyMigrator.setRequestedEntityTypes(null);
 
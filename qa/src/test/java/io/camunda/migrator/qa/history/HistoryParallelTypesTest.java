@@ -0,0 +1,73 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.qa.history;
+
+import static io.camunda.migrator.impl.persistence.IdKeyMapper.TYPE.HISTORY_PROCESS_DEFINITION;
+import static io.camunda.migrator.impl.persistence.IdKeyMapper.TYPE.HISTORY_USER_TASK;
+import static io.camunda.search.entities.FlowNodeInstanceEntity.FlowNodeType.USER_TASK;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.camunda.bpm.engine.variable.Variables.stringValue;
+
+import io.camunda.search.entities.ProcessInstanceEntity;
+import java.util.List;
+import org.camunda.bpm.engine.variable.Variables;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {
+    "camunda.migrator.history.parallelism=4"
+})
+public class HistoryParallelTypesTest extends HistoryMigrationAbstractTest {
+
+  @Test
+  public void shouldMigrateAllTypesConcurrently() {
+    // given
+    deployer.deployCamunda7Process("userTaskProcess.bpmn");
+    deployer.deployCamunda7Decision("simpleDmnWithReqs.dmn");
+    deployer.deployCamunda7Process("businessRuleForDmnWithReqs.bpmn");
+    for (int i = 0; i < 3; i++) {
+      runtimeService.startProcessInstanceByKey("userTaskProcessId",
+          Variables.createVariables().putValue("myVar", stringValue("foo")));
+    }
+    runtimeService.startProcessInstanceByKey("businessRuleForDmnWithReqsId",
+        Variables.createVariables().putValue("inputA", stringValue("A")));
+
+    // when
+    historyMigrator.migrate();
+
+    // then every type is migrated after the types it depends on
+    List<ProcessInstanceEntity> processInstances = searchHistoricProcessInstances("userTaskProcessId");
+    assertThat(processInstances).hasSize(3);
+    processInstances.forEach(processInstance -> {
+      assertThat(searchHistoricFlowNodesForType(processInstance.processInstanceKey(), USER_TASK)).hasSize(1);
+      assertThat(searchHistoricUserTasks(processInstance.processInstanceKey())).hasSize(1);
+    });
+    assertThat(searchHistoricVariables("myVar")).hasSize(3);
+    assertThat(searchHistoricDecisionDefinitions("simpleDmnWithReqs1Id")).hasSize(1);
+    assertThat(searchHistoricDecisionInstances("simpleDmnWithReqs1Id")).hasSize(1);
+    assertThat(searchHistoricDecisionInstances("simpleDmnWithReqs2Id")).hasSize(1);
+  }
+
+  @Test
+  public void shouldSkipDependentEntitiesAfterTheirParentWasSkipped() {
+    // given
+    deployer.deployCamunda7Process("userTaskProcess.bpmn");
+    runtimeService.startProcessInstanceByKey("userTaskProcessId");
+    String processDefinitionId = repositoryService.createProcessDefinitionQuery().singleResult().getId();
+    dbClient.insert(processDefinitionId, null, PROCESS_DEFINITION);
+
+    // when
+    historyMigrator.migrate();
+
+    // then
+    assertThat(searchHistoricProcessInstances("userTaskProcessId")).isEmpty();
+    assertThat(dbClient.countSkippedByType(USER_TASK))
+        .isEqualTo(1);
+  }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.qa.history;
+
+import static io.camunda.search.entities.FlowNodeInstanceEntity.FlowNodeType.USER_TASK;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.camunda.bpm.engine.variable.Variables.stringValue;
+
+import io.camunda.search.entities.DecisionInstanceEntity;
+import io.camunda.search.entities.FlowNodeInstanceEntity;
+import io.camunda.search.entities.IncidentEntity;
+import io.camunda.search.entities.ProcessInstanceEntity;
+import io.camunda.search.entities.UserTaskEntity;
+import java.util.List;
+import org.camunda.bpm.engine.runtime.Execution;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.camunda.bpm.engine.variable.Variables;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {
+    "camunda.migrator.history.unit=PROCESS_INSTANCE"
+})
+public class HistoryProcessInstanceUnitTest extends HistoryMigrationAbstractTest {
+
+  @Test
+  public void shouldMigrateProcessInstanceWithItsChildren() {
+    // given
+    deployer.deployCamunda7Process("userTaskProcess.bpmn");
+    runtimeService.startProcessInstanceByKey("userTaskProcessId",
+        Variables.createVariables().putValue("myVar", stringValue("foo")));
+
+    // when
+    historyMigrator.migrate();
+
+    // then
+    List<ProcessInstanceEntity> processInstances = searchHistoricProcessInstances("userTaskProcessId");
+    assertThat(processInstances).hasSize(1);
+    long processInstanceKey = processInstances.getFirst().processInstanceKey();
+    List<FlowNodeInstanceEntity> userTaskFlowNodes = searchHistoricFlowNodesForType(processInstanceKey, USER_TASK);
+    assertThat(userTaskFlowNodes).hasSize(1);
+    assertThat(searchHistoricUserTasks(processInstanceKey)).extracting(UserTaskEntity::elementInstanceKey)
+        .containsExactly(userTaskFlowNodes.getFirst().flowNodeInstanceKey());
+    assertThat(searchHistoricVariables("myVar")).hasSize(1);
+  }
+
+  @Test
+  public void shouldResolveFlowNodeOfIncidentWithinUnit() {
+    // given
+    deployer.deployCamunda7Process("userTaskProcess.bpmn");
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("userTaskProcessId");
+    Execution execution = runtimeService.createExecutionQuery()
+        .processInstanceId(processInstance.getId())
+        .activityId("userTaskId")
+        .singleResult();
+    runtimeService.createIncident("custom", execution.getId(), "config");
+
+    // when
+    historyMigrator.migrate();
+
+    // then the incident refers to the flow node migrated in the same unit
+    long processInstanceKey = searchHistoricProcessInstances("userTaskProcessId").getFirst().processInstanceKey();
+    List<FlowNodeInstanceEntity> userTaskFlowNodes = searchHistoricFlowNodesForType(processInstanceKey, USER_TASK);
+    assertThat(searchHistoricIncidents("userTaskProcessId")).extracting(IncidentEntity::flowNodeInstanceKey)
+        .containsExactly(userTaskFlowNodes.getFirst().flowNodeInstanceKey());
+  }
+
+  @Test
+  public void shouldMigrateRequiredDecisionInstancesAfterTheirRoot() {
+    // given
+    deployer.deployCamunda7Decision("simpleDmnWithReqs.dmn");
+    deployer.deployCamunda7Process("businessRuleForDmnWithReqs.bpmn");
+    runtimeService.startProcessInstanceByKey("businessRuleForDmnWithReqsId",
+        Variables.createVariables().putValue("inputA", stringValue("A")));
+
+    // when
+    historyMigrator.migrate();
+
+    // then
+    List<DecisionInstanceEntity> rootInstances = searchHistoricDecisionInstances("simpleDmnWithReqs2Id");
+    List<DecisionInstanceEntity> requiredInstances = searchHistoricDecisionInstances("simpleDmnWithReqs1Id");
+    assertThat(rootInstances).hasSize(1);
+    assertThat(requiredInstances).hasSize(1);
+  }
+
+}
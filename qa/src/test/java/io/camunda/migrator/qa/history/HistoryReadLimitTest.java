@@ -0,0 +1,76 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.qa.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.migrator.impl.concurrent.C7ReadLimiter;
+import io.github.netmikey.logunit.api.LogCapturer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.slf4j.event.Level;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {
+    "camunda.migrator.c7.read-limit.queries-per-second=50",
+    "camunda.migrator.c7.read-limit.rows-per-second=100",
+    "camunda.migrator.c7.read-limit.max-concurrent-queries=1",
+    "camunda.migrator.page-size=2"
+})
+public class HistoryReadLimitTest extends HistoryMigrationAbstractTest {
+
+  @RegisterExtension
+  protected LogCapturer logs = LogCapturer.create().captureForType(C7ReadLimiter.class, Level.INFO);
+
+  @Autowired
+  protected C7ReadLimiter c7ReadLimiter;
+
+  @AfterEach
+  public void resetLimits() {
+    c7ReadLimiter.init();
+  }
+
+  @Test
+  public void shouldMigrateWithinReadLimit() {
+    // given
+    deployer.deployCamunda7Process("userTaskProcess.bpmn");
+    for (int i = 0; i < 5; i++) {
+      runtimeService.startProcessInstanceByKey("userTaskProcessId");
+    }
+
+    // when
+    historyMigrator.migrate();
+
+    // then
+    assertThat(searchHistoricProcessInstances("userTaskProcessId")).hasSize(5);
+    assertThat(c7ReadLimiter.getQueriesPerSecond()).isEqualTo(50);
+    assertThat(c7ReadLimiter.getRowsPerSecond()).isEqualTo(100);
+    assertThat(c7ReadLimiter.getMaxConcurrentQueries()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldChangeLimitsAtRuntime() {
+    // given
+    deployer.deployCamunda7Process("userTaskProcess.bpmn");
+    runtimeService.startProcessInstanceByKey("userTaskProcessId");
+
+    // when
+    c7ReadLimiter.setRowsPerSecond(0);
+    c7ReadLimiter.setMaxConcurrentQueries(2);
+    historyMigrator.migrate();
+
+    // then
+    assertThat(searchHistoricProcessInstances("userTaskProcessId")).hasSize(1);
+    assertThat(c7ReadLimiter.getRowsPerSecond()).isZero();
+    logs.assertContains("Changed C7 read limit of rows per second to 0.0");
+    logs.assertContains("Changed C7 read limit of concurrent queries to 2");
+  }
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.qa.history;
+
+import static io.camunda.migrator.constants.MigratorConstants.C8_DEFAULT_TENANT;
+import static io.camunda.migrator.impl.persistence.IdKeyMapper.TYPE.HISTORY_PROCESS_INSTANCE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.migrator.impl.concurrent.TenantLaneRunner;
+import io.camunda.search.entities.ProcessInstanceEntity;
+import io.github.netmikey.logunit.api.LogCapturer;
+import java.util.Date;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.slf4j.event.Level;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {
+    "camunda.migrator.tenant-lanes.enabled=true",
+    "camunda.migrator.tenant-lanes.concurrency=2"
+})
+public class HistoryTenantLaneTest extends HistoryMigrationAbstractTest {
+
+  @RegisterExtension
+  protected LogCapturer logs = LogCapturer.create().captureForType(TenantLaneRunner.class, Level.INFO);
+
+  @Test
+  public void shouldMigrateTenantsFoundInC7() {
+    // given tenants that are not configured in tenant-ids
+    deployer.deployCamunda7Process("userTaskProcess.bpmn");
+    deployer.deployCamunda7Process("userTaskProcess.bpmn", "my-tenant1");
+    runtimeService.createProcessInstanceByKey("userTaskProcessId").processDefinitionWithoutTenantId().execute();
+    runtimeService.createProcessInstanceByKey("userTaskProcessId").processDefinitionTenantId("my-tenant1").execute();
+
+    // when
+    historyMigrator.migrate();
+
+    // then
+    logs.assertContains("Migrating 2 tenant lanes");
+    assertThat(searchHistoricProcessInstances("userTaskProcessId"))
+        .extracting(ProcessInstanceEntity::tenantId)
+        .containsExactlyInAnyOrder(C8_DEFAULT_TENANT, "my-tenant1");
+  }
+
+  @Test
+  public void shouldIgnoreMappingsWrittenWithoutLanes() {
+    // given a later mapping record of a run without tenant lanes
+    deployer.deployCamunda7Process("userTaskProcess.bpmn");
+    dbClient.insert("legacyProcessInstanceId", 1L, new Date(System.currentTimeMillis() + 60_000),
+        HISTORY_PROCESS_INSTANCE, null);
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("userTaskProcessId");
+
+    // when
+    historyMigrator.migrate();
+
+    // then the lane without tenant doesn't continue after the record
+    assertThat(dbClient.checkHasC8KeyByC7IdAndType(processInstance.getId(), HISTORY_PROCESS_INSTANCE)).isTrue();
+    assertThat(searchHistoricProcessInstances("userTaskProcessId")).hasSize(1);
+  }
+
+}
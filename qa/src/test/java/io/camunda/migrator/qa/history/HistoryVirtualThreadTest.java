@@ -0,0 +1,57 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.qa.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.migrator.impl.concurrent.WorkerThreads;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {
+    "camunda.migrator.history.key-strategy=DETERMINISTIC",
+    "camunda.migrator.history.workers=2",
+    "camunda.migrator.virtual-threads.enabled=true",
+    "camunda.migrator.virtual-threads.concurrency=8",
+    "camunda.migrator.c7.data-source.maximum-pool-size=4",
+    "camunda.migrator.c8.data-source.maximum-pool-size=4",
+    "camunda.migrator.page-size=2"
+})
+public class HistoryVirtualThreadTest extends HistoryMigrationAbstractTest {
+
+  @Autowired
+  protected WorkerThreads workerThreads;
+
+  @Test
+  public void shouldLimitConcurrencyToConnectionPoolsAndCarriers() {
+    // then the pools leave two connections each for the main thread and heartbeats
+    assertThat(workerThreads.isVirtual()).isTrue();
+    assertThat(workerThreads.getPoolLimit()).isEqualTo(2);
+    assertThat(workerThreads.getConcurrency()).isEqualTo(Math.min(2, Runtime.getRuntime().availableProcessors()));
+    assertThat(workerThreads.newThreadFactory("test").newThread(() -> { }).isVirtual()).isTrue();
+  }
+
+  @Test
+  public void shouldMigrateOnVirtualThreads() {
+    // given
+    deployer.deployCamunda7Process("userTaskProcess.bpmn");
+    for (int i = 0; i < 5; i++) {
+      runtimeService.startProcessInstanceByKey("userTaskProcessId");
+    }
+
+    // when
+    historyMigrator.migrate();
+
+    // then
+    assertThat(searchHistoricProcessInstances("userTaskProcessId")).hasSize(5);
+    assertThat(searchHistoricUserTasks(searchHistoricProcessInstances("userTaskProcessId").getFirst().processInstanceKey()))
+        .hasSize(1);
+  }
+
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.qa.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.migrator.HistoryMigrator;
+import io.github.netmikey.logunit.api.LogCapturer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.slf4j.event.Level;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {
+    "camunda.migrator.history.key-strategy=DETERMINISTIC",
+    "camunda.migrator.history.workers=8",
+    "camunda.migrator.c7.data-source.maximum-pool-size=4",
+    "camunda.migrator.c8.data-source.maximum-pool-size=4",
+    "camunda.migrator.page-size=2"
+})
+public class HistoryWorkerLimitTest extends HistoryMigrationAbstractTest {
+
+  @RegisterExtension
+  protected LogCapturer logs = LogCapturer.create().captureForType(HistoryMigrator.class, Level.WARN);
+
+  @Test
+  public void shouldLimitWorkersToConnectionPools() {
+    // given
+    deployer.deployCamunda7Process("userTaskProcess.bpmn");
+    for (int i = 0; i < 5; i++) {
+      runtimeService.startProcessInstanceByKey("userTaskProcessId");
+    }
+
+    // when
+    historyMigrator.migrate();
+
+    // then
+    logs.assertContains("Limiting history workers from 8 to 2 to fit into the connection pools of the C7 and C8 data sources");
+    assertThat(searchHistoricProcessInstances("userTaskProcessId")).hasSize(5);
+  }
+
+}
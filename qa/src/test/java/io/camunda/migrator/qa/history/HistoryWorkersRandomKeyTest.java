@@ -0,0 +1,34 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.qa.history;
+
+import static io.camunda.migrator.impl.logging.HistoryMigratorLogs.WORKERS_REQUIRE_DETERMINISTIC_KEYS;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.migrator.exception.MigratorException;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {
+    "camunda.migrator.history.workers=2"
+})
+public class HistoryWorkersRandomKeyTest extends HistoryMigrationAbstractTest {
+
+  @Test
+  public void shouldRequireDeterministicKeysWhenMappingsAreStoredInC7() {
+    // given the mapping table is stored in the C7 database by default
+    deployer.deployCamunda7Process("userTaskProcess.bpmn");
+    runtimeService.startProcessInstanceByKey("userTaskProcessId");
+
+    // when / then
+    assertThatThrownBy(() -> historyMigrator.migrate())
+        .isInstanceOf(MigratorException.class)
+        .hasMessage(WORKERS_REQUIRE_DETERMINISTIC_KEYS);
+  }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.qa.history;
+
+import static io.camunda.migrator.impl.persistence.IdKeyMapper.TYPE.HISTORY_PROCESS_INSTANCE;
+import static io.camunda.search.entities.FlowNodeInstanceEntity.FlowNodeType.USER_TASK;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.search.entities.ProcessInstanceEntity;
+import java.util.Date;
+import java.util.List;
+import org.camunda.bpm.engine.impl.util.ClockUtil;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {
+    "camunda.migrator.history.key-strategy=DETERMINISTIC",
+    "camunda.migrator.history.workers=2",
+    "camunda.migrator.page-size=2"
+})
+public class HistoryWorkersTest extends HistoryMigrationAbstractTest {
+
+  @Test
+  public void shouldMigrateEntitiesWithSeveralWorkers() {
+    // given
+    deployer.deployCamunda7Process("userTaskProcess.bpmn");
+    for (int i = 0; i < 7; i++) {
+      runtimeService.startProcessInstanceByKey("userTaskProcessId");
+    }
+
+    // when
+    historyMigrator.migrate();
+
+    // then
+    List<ProcessInstanceEntity> processInstances = searchHistoricProcessInstances("userTaskProcessId");
+    assertThat(processInstances).hasSize(7);
+    processInstances.forEach(processInstance -> {
+      assertThat(searchHistoricFlowNodesForType(processInstance.processInstanceKey(), USER_TASK)).hasSize(1);
+      assertThat(searchHistoricUserTasks(processInstance.processInstanceKey())).hasSize(1);
+    });
+
+    // and the watermark is removed once all entities are migrated
+    assertThat(dbClient.findWatermark(HISTORY_PROCESS_INSTANCE.name())).isNull();
+  }
+
+  @Test
+  public void shouldContinueFromWatermarkOfInterruptedRun() {
+    // given an earlier process instance that was left behind by an interrupted run
+    deployer.deployCamunda7Process("userTaskProcess.bpmn");
+    Date now = new Date();
+    ClockUtil.setCurrentTime(now);
+    ProcessInstance leftBehind = runtimeService.startProcessInstanceByKey("userTaskProcessId");
+    ClockUtil.setCurrentTime(new Date(now.getTime() + 60_000));
+    ProcessInstance migrated = runtimeService.startProcessInstanceByKey("userTaskProcessId");
+    dbClient.insert(migrated.getId(), 1L, new Date(now.getTime() + 60_000), HISTORY_PROCESS_INSTANCE);
+    dbClient.insertWatermark(HISTORY_PROCESS_INSTANCE.name(), null);
+
+    // when
+    historyMigrator.migrate();
+
+    // then
+    assertThat(dbClient.checkHasC8KeyByC7IdAndType(leftBehind.getId(), HISTORY_PROCESS_INSTANCE)).isTrue();
+    assertThat(searchHistoricProcessInstances("userTaskProcessId")).hasSize(1);
+    assertThat(dbClient.findWatermark(HISTORY_PROCESS_INSTANCE.name())).isNull();
+  }
+
+}
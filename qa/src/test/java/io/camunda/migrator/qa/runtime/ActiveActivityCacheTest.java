@@ -0,0 +1,79 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.qa.runtime;
+
+import static io.camunda.migrator.impl.persistence.IdKeyMapper.TYPE.RUNTIME_PROCESS_INSTANCE;
+import static io.camunda.process.test.api.CamundaAssert.assertThat;
+import static io.camunda.process.test.api.assertions.ProcessInstanceSelectors.byKey;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.migrator.impl.ActiveActivityCache;
+import io.camunda.migrator.impl.clients.C7Client;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {
+    "camunda.migrator.validation-cache.enabled=true",
+    "camunda.migrator.validation-cache.activity-tree-max-memory=1KB",
+    "camunda.migrator.job-streaming.enabled=true",
+    "camunda.migrator.job-streaming.interleaved=true"
+})
+class ActiveActivityCacheTest extends RuntimeMigrationAbstractTest {
+
+  @Autowired
+  protected ActiveActivityCache activeActivityCache;
+
+  @Autowired
+  protected C7Client c7Client;
+
+  @Test
+  public void shouldActivateInstancesEvictedFromCache() {
+    // given more instances than the cache can keep
+    deployer.deployProcessInC7AndC8("simpleProcess.bpmn");
+    List<ProcessInstance> processInstances = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      processInstances.add(runtimeService.startProcessInstanceByKey("simpleProcess"));
+    }
+
+    // when
+    runtimeMigrator.start();
+
+    // then
+    assertThatProcessInstanceCountIsEqualTo(4);
+    for (ProcessInstance processInstance : processInstances) {
+      assertThat(byKey(getC8Key(processInstance))).isActive().hasActiveElements("userTask1");
+    }
+  }
+
+  @Test
+  public void shouldNotReuseActivitiesOfInstanceThatMovedOn() {
+    // given the active activities of an instance collected at its current revision
+    deployer.deployCamunda7Process("simpleProcess.bpmn");
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("simpleProcess");
+    String processInstanceId = processInstance.getId();
+    long revision = c7Client.getExecutionRevision(processInstanceId);
+    activeActivityCache.put(processInstanceId, "simpleProcess", Map.of(), revision);
+
+    // when it moves on
+    taskService.complete(taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult().getId());
+
+    // then
+    assertThat(activeActivityCache.take(processInstanceId, () -> c7Client.getExecutionRevision(processInstanceId)))
+        .isNull();
+  }
+
+  protected long getC8Key(ProcessInstance processInstance) {
+    return dbClient.findC8KeyByC7IdAndType(processInstance.getId(), RUNTIME_PROCESS_INSTANCE);
+  }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.qa.runtime;
+
+import static io.camunda.migrator.constants.MigratorConstants.LEGACY_ID_VAR_NAME;
+import static io.camunda.migrator.impl.persistence.IdKeyMapper.TYPE.RUNTIME_PROCESS_INSTANCE;
+import static io.camunda.process.test.api.CamundaAssert.assertThat;
+import static io.camunda.process.test.api.assertions.ProcessInstanceSelectors.byKey;
+
+import io.camunda.migrator.RuntimeMigrator;
+import io.github.netmikey.logunit.api.LogCapturer;
+import java.util.ArrayList;
+import java.util.List;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {
+    "camunda.migrator.job-streaming.enabled=true",
+    "camunda.migrator.job-streaming.interleaved=true",
+    "camunda.migrator.page-size=2",
+    "camunda.migrator.job-streaming.concurrency=2",
+    "camunda.migrator.job-streaming.idle-timeout=1s"
+})
+class JobStreamingInterleavedTest extends RuntimeMigrationAbstractTest {
+
+  @RegisterExtension
+  protected LogCapturer logs = LogCapturer.create().captureForType(RuntimeMigrator.class);
+
+  @Test
+  public void shouldActivateInstancesWhileFurtherOnesAreCreated() {
+    // given instances waiting in different user tasks
+    deployer.deployProcessInC7AndC8("simpleProcess.bpmn");
+    List<ProcessInstance> atFirstTask = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      atFirstTask.add(runtimeService.startProcessInstanceByKey("simpleProcess"));
+    }
+    ProcessInstance atSecondTask = runtimeService.startProcessInstanceByKey("simpleProcess");
+    taskService.complete(taskService.createTaskQuery().processInstanceId(atSecondTask.getId()).singleResult().getId());
+
+    // when
+    runtimeMigrator.start();
+
+    // then
+    logs.assertContains("Streaming migrator jobs with 2 handled at the same time");
+    logs.assertContains("streamed migrator jobs");
+    for (ProcessInstance processInstance : atFirstTask) {
+      assertThat(byKey(getC8Key(processInstance))).isActive()
+          .hasActiveElements("userTask1")
+          .hasVariable(LEGACY_ID_VAR_NAME, processInstance.getId());
+    }
+    assertThat(byKey(getC8Key(atSecondTask))).isActive()
+        .hasActiveElements("userTask2")
+        .hasVariable(LEGACY_ID_VAR_NAME, atSecondTask.getId());
+  }
+
+  @Test
+  public void shouldKeepActivatedInstancesInNextRun() {
+    // given
+    deployer.deployProcessInC7AndC8("simpleProcess.bpmn");
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("simpleProcess");
+
+    // when
+    runtimeMigrator.start();
+    runtimeMigrator.start();
+
+    // then
+    assertThatProcessInstanceCountIsEqualTo(1);
+    assertThat(byKey(getC8Key(processInstance))).isActive().hasActiveElements("userTask1");
+  }
+
+  protected long getC8Key(ProcessInstance processInstance) {
+    return dbClient.findC8KeyByC7IdAndType(processInstance.getId(), RUNTIME_PROCESS_INSTANCE);
+  }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.qa.runtime;
+
+import static io.camunda.migrator.constants.MigratorConstants.LEGACY_ID_VAR_NAME;
+import static io.camunda.migrator.impl.persistence.IdKeyMapper.TYPE.RUNTIME_PROCESS_INSTANCE;
+import static io.camunda.process.test.api.CamundaAssert.assertThat;
+import static io.camunda.process.test.api.assertions.ProcessInstanceSelectors.byKey;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.client.api.response.ActivatedJob;
+import io.camunda.client.api.worker.JobWorker;
+import io.camunda.migrator.config.property.JobStreamingProperties;
+import io.camunda.migrator.config.property.MigratorProperties;
+import io.camunda.migrator.impl.clients.C8Client;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.awaitility.Awaitility;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Migrator jobs only carry the legacyId variable, whether they are activated by polling or streamed to a worker.
+ */
+class MigratorJobVariablesTest extends RuntimeMigrationAbstractTest {
+
+  @Autowired
+  protected MigratorProperties migratorProperties;
+
+  @Autowired
+  protected C8Client c8Client;
+
+  @AfterEach
+  public void resetProperties() {
+    migratorProperties.getJobStreaming().setEnabled(false);
+    migratorProperties.getJobStreaming().setIdleTimeout(JobStreamingProperties.DEFAULT_IDLE_TIMEOUT);
+  }
+
+  @Test
+  public void shouldActivateJobsWithLegacyIdOnly() {
+    // given
+    deployer.deployCamunda8Process("simpleProcess.bpmn");
+    createInstanceInC8(Map.of(LEGACY_ID_VAR_NAME, "c7-id", "other", "value"));
+
+    // when
+    List<ActivatedJob> jobs = c8Client.activateJobs(migratorProperties.getJobActivationType());
+
+    // then
+    assertThat(jobs).extracting(ActivatedJob::getVariablesAsMap)
+        .containsExactly(Map.of(LEGACY_ID_VAR_NAME, "c7-id"));
+  }
+
+  @Test
+  public void shouldStreamJobsWithLegacyIdOnly() {
+    // given
+    deployer.deployCamunda8Process("simpleProcess.bpmn");
+    List<ActivatedJob> jobs = new CopyOnWriteArrayList<>();
+
+    // when
+    try (JobWorker ignored = c8Client.openJobWorker(migratorProperties.getJobActivationType(), 1,
+        (client, job) -> jobs.add(job))) {
+      createInstanceInC8(Map.of(LEGACY_ID_VAR_NAME, "c7-id", "other", "value"));
+      Awaitility.await().untilAsserted(() -> assertThat(jobs).isNotEmpty());
+    }
+
+    // then
+    assertThat(jobs).extracting(ActivatedJob::getVariablesAsMap)
+        .containsExactly(Map.of(LEGACY_ID_VAR_NAME, "c7-id"));
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {false, true})
+  public void shouldActivateMigratedInstanceWithVariables(boolean streamingEnabled) {
+    // given
+    migratorProperties.getJobStreaming().setEnabled(streamingEnabled);
+    migratorProperties.getJobStreaming().setIdleTimeout(Duration.ofSeconds(1));
+    deployer.deployProcessInC7AndC8("simpleProcess.bpmn");
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("simpleProcess",
+        Map.of("other", "value"));
+
+    // when
+    runtimeMigrator.start();
+
+    // then
+    long processInstanceKey = dbClient.findC8KeyByC7IdAndType(processInstance.getId(), RUNTIME_PROCESS_INSTANCE);
+    assertThat(byKey(processInstanceKey)).isActive()
+        .hasActiveElements("userTask1")
+        .hasVariable(LEGACY_ID_VAR_NAME, processInstance.getId())
+        .hasVariable("other", "value");
+  }
+
+  protected void createInstanceInC8(Map<String, Object> variables) {
+    camundaClient.newCreateInstanceCommand()
+        .bpmnProcessId("simpleProcess")
+        .latestVersion()
+        .variables(variables)
+        .execute();
+  }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.qa.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.migrator.impl.RuntimeValidator;
+import io.camunda.migrator.impl.persistence.IdKeyDbModel;
+import io.github.netmikey.logunit.api.LogCapturer;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.slf4j.event.Level;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {
+    "camunda.migrator.validation-cache.enabled=true"
+})
+class ProcessDefinitionVerdictTest extends RuntimeMigrationAbstractTest {
+
+  @RegisterExtension
+  protected LogCapturer logs = LogCapturer.create().captureForType(RuntimeValidator.class, Level.INFO);
+
+  @Test
+  public void shouldValidateOnlyDefinitionsWithActiveInstances() {
+    // given a definition without instances
+    deployer.deployCamunda7Process("simpleProcess.bpmn");
+    deployer.deployProcessInC7AndC8("userTaskProcess.bpmn");
+    runtimeService.startProcessInstanceByKey("userTaskProcessId");
+
+    // when
+    runtimeMigrator.start();
+
+    // then
+    logs.assertContains("Validated 1 C7 process definitions, 0 of them can't be migrated");
+    assertThatProcessInstanceCountIsEqualTo(1);
+  }
+
+  @Test
+  public void shouldSkipInstancesOfInvalidDefinition() {
+    // given
+    deployer.deployCamunda7Process("simpleProcess.bpmn");
+    deployer.deployProcessInC7AndC8("userTaskProcess.bpmn");
+    ProcessInstance invalidInstance = runtimeService.startProcessInstanceByKey("simpleProcess");
+    runtimeService.startProcessInstanceByKey("userTaskProcessId");
+
+    // when
+    runtimeMigrator.start();
+
+    // then
+    logs.assertContains("Instances of C7 process definition [simpleProcess] with tenant [null] can't be migrated");
+    logs.assertContains("Validated 2 C7 process definitions, 1 of them can't be migrated");
+    assertThatProcessInstanceCountIsEqualTo(1);
+    assertThat(findSkippedRuntimeProcessInstances()).extracting(IdKeyDbModel::getC7Id)
+        .containsExactly(invalidInstance.getId());
+  }
+
+  @Test
+  public void shouldValidateDefinitionsAgainInNextRun() {
+    // given a run that found the definition invalid
+    deployer.deployCamunda7Process("simpleProcess.bpmn");
+    runtimeService.startProcessInstanceByKey("simpleProcess");
+    runtimeMigrator.start();
+
+    // when the definition is deployed to C8 before the next run
+    deployer.deployCamunda8Process("simpleProcess.bpmn");
+    runtimeService.startProcessInstanceByKey("simpleProcess");
+    runtimeMigrator.start();
+
+    // then
+    assertThatProcessInstanceCountIsEqualTo(1);
+  }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.qa.runtime;
+
+import static io.camunda.migrator.impl.persistence.IdKeyMapper.TYPE.RUNTIME_PROCESS_INSTANCE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.migrator.RuntimeMigrator;
+import io.camunda.migrator.impl.persistence.IdKeyDbModel;
+import io.github.netmikey.logunit.api.LogCapturer;
+import java.util.ArrayList;
+import java.util.List;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {
+    "camunda.migrator.runtime-pipeline.enabled=true",
+    "camunda.migrator.runtime-pipeline.validation-window=2",
+    "camunda.migrator.runtime-pipeline.creation-window=3",
+    "camunda.migrator.page-size=2"
+})
+class RuntimePipelineTest extends RuntimeMigrationAbstractTest {
+
+  @RegisterExtension
+  protected LogCapturer logs = LogCapturer.create().captureForType(RuntimeMigrator.class);
+
+  @Test
+  public void shouldMigrateProcessInstancesPipelined() {
+    // given
+    deployer.deployProcessInC7AndC8("simpleProcess.bpmn");
+    List<String> c7ProcessInstanceIds = new ArrayList<>();
+    for (int i = 0; i < 7; i++) {
+      c7ProcessInstanceIds.add(runtimeService.startProcessInstanceByKey("simpleProcess").getId());
+    }
+
+    // when
+    runtimeMigrator.start();
+
+    // then
+    logs.assertContains("Migrating process instances pipelined with 2 validations and 3 creations in flight");
+    assertThatProcessInstanceCountIsEqualTo(7);
+    assertThat(c7ProcessInstanceIds)
+        .allMatch(c7Id -> dbClient.checkHasC8KeyByC7IdAndType(c7Id, RUNTIME_PROCESS_INSTANCE));
+  }
+
+  @Test
+  public void shouldSaveSkippedProcessInstancesInOrder() {
+    // given
+    deployer.deployProcessInC7AndC8("simpleProcess.bpmn");
+    deployer.deployProcessInC7AndC8("multiInstanceProcess.bpmn");
+    runtimeService.startProcessInstanceByKey("simpleProcess");
+    ProcessInstance invalidInstance = runtimeService.startProcessInstanceByKey("multiInstanceProcess");
+    runtimeService.startProcessInstanceByKey("simpleProcess");
+
+    // when
+    runtimeMigrator.start();
+
+    // then
+    assertThatProcessInstanceCountIsEqualTo(2);
+    List<IdKeyDbModel> skipped = findSkippedRuntimeProcessInstances();
+    assertThat(skipped).extracting(IdKeyDbModel::getC7Id).containsExactly(invalidInstance.getId());
+  }
+
+  @Test
+  public void shouldContinueAfterPreviousRun() {
+    // given
+    deployer.deployProcessInC7AndC8("simpleProcess.bpmn");
+    runtimeService.startProcessInstanceByKey("simpleProcess");
+    runtimeService.startProcessInstanceByKey("simpleProcess");
+    runtimeMigrator.start();
+    assertThatProcessInstanceCountIsEqualTo(2);
+
+    // when
+    runtimeService.startProcessInstanceByKey("simpleProcess");
+    runtimeMigrator.start();
+
+    // then
+    assertThatProcessInstanceCountIsEqualTo(3);
+  }
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.qa.runtime;
+
+import static io.camunda.migrator.impl.logging.RuntimeMigratorLogs.MISSING_SHARDING_RUN_ID;
+import static io.camunda.migrator.impl.persistence.IdKeyMapper.TYPE.RUNTIME_PROCESS_INSTANCE;
+import static io.camunda.process.test.api.CamundaAssert.assertThat;
+import static io.camunda.process.test.api.assertions.ProcessInstanceSelectors.byKey;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.migrator.RuntimeMigrator;
+import io.camunda.migrator.config.property.MigratorProperties;
+import io.camunda.migrator.impl.persistence.LeaseDbModel;
+import io.github.netmikey.logunit.api.LogCapturer;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {
+    "camunda.migrator.runtime-sharding.enabled=true",
+    "camunda.migrator.runtime-sharding.shard-count=2",
+    "camunda.migrator.runtime-sharding.run-id=" + RuntimeShardingTest.RUN_ID,
+    "camunda.migrator.runtime-sharding.node-id=" + RuntimeShardingTest.NODE_ID,
+    "camunda.migrator.runtime-sharding.poll-interval=100ms"
+})
+class RuntimeShardingTest extends RuntimeMigrationAbstractTest {
+
+  protected static final String RUN_ID = "run-1";
+  protected static final String NODE_ID = "test-node";
+  protected static final String OTHER_NODE_ID = "other-node";
+
+  @RegisterExtension
+  protected LogCapturer logs = LogCapturer.create().captureForType(RuntimeMigrator.class);
+
+  @Autowired
+  protected MigratorProperties migratorProperties;
+
+  @AfterEach
+  public void resetShards() {
+    dbClient.deleteAllLeases();
+    migratorProperties.getRuntimeSharding().setRunId(RUN_ID);
+  }
+
+  @Test
+  public void shouldMigrateAndActivateInstancesOfAllShards() {
+    // given
+    deployer.deployProcessInC7AndC8("simpleProcess.bpmn");
+    List<ProcessInstance> processInstances = startProcessInstances(6);
+
+    // when
+    runtimeMigrator.start();
+
+    // then
+    logs.assertContains("Migrating process instances of shard 0-of-2");
+    logs.assertContains("Migrating process instances of shard 1-of-2");
+    for (ProcessInstance processInstance : processInstances) {
+      assertThat(byKey(getC8Key(processInstance))).isActive().hasActiveElements("userTask1");
+    }
+    assertThat(dbClient.findLease(getShardName(RUN_ID, 0)).isCompleted()).isTrue();
+    assertThat(dbClient.findLease(getShardName(RUN_ID, 1)).isCompleted()).isTrue();
+  }
+
+  @Test
+  public void shouldMigrateNewInstancesOnlyInRunWithNewRunId() {
+    // given a completed run
+    deployer.deployProcessInC7AndC8("simpleProcess.bpmn");
+    runtimeService.startProcessInstanceByKey("simpleProcess");
+    runtimeMigrator.start();
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("simpleProcess");
+
+    // when the completed run is started again
+    runtimeMigrator.start();
+
+    // then
+    assertThat(dbClient.checkExistsByC7IdAndType(processInstance.getId(), RUNTIME_PROCESS_INSTANCE)).isFalse();
+
+    // when a new run is started
+    migratorProperties.getRuntimeSharding().setRunId("run-2");
+    runtimeMigrator.start();
+
+    // then
+    assertThat(byKey(getC8Key(processInstance))).isActive().hasActiveElements("userTask1");
+  }
+
+  @Test
+  public void shouldTakeOverShardOfNodeWhoseLeaseExpired() {
+    // given
+    deployer.deployProcessInC7AndC8("simpleProcess.bpmn");
+    List<ProcessInstance> processInstances = startProcessInstances(4);
+    dbClient.insertLease(getShardName(RUN_ID, 1), OTHER_NODE_ID, new Date(System.currentTimeMillis() + 1_000));
+
+    // when
+    runtimeMigrator.start();
+
+    // then
+    for (ProcessInstance processInstance : processInstances) {
+      assertThat(byKey(getC8Key(processInstance))).isActive().hasActiveElements("userTask1");
+    }
+    LeaseDbModel lease = dbClient.findLease(getShardName(RUN_ID, 1));
+    assertThat(lease.getOwner()).isEqualTo(NODE_ID);
+    assertThat(lease.isCompleted()).isTrue();
+  }
+
+  @Test
+  public void shouldRequireRunId() {
+    // given
+    migratorProperties.getRuntimeSharding().setRunId(null);
+
+    // when/then
+    assertThatThrownBy(runtimeMigrator::start)
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage(MISSING_SHARDING_RUN_ID);
+  }
+
+  protected List<ProcessInstance> startProcessInstances(int count) {
+    List<ProcessInstance> processInstances = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      processInstances.add(runtimeService.startProcessInstanceByKey("simpleProcess"));
+    }
+    return processInstances;
+  }
+
+  protected long getC8Key(ProcessInstance processInstance) {
+    return dbClient.findC8KeyByC7IdAndType(processInstance.getId(), RUNTIME_PROCESS_INSTANCE);
+  }
+
+  protected String getShardName(String runId, int index) {
+    return RUNTIME_PROCESS_INSTANCE.name() + "/" + runId + "/" + index + "-of-2";
+  }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.qa.runtime;
+
+import static io.camunda.migrator.impl.logging.RuntimeValidatorLogs.LOADING_C8_PROCESS_MODEL;
+import static io.camunda.migrator.impl.persistence.IdKeyMapper.TYPE.RUNTIME_PROCESS_INSTANCE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.migrator.impl.RuntimeValidator;
+import io.camunda.migrator.impl.persistence.IdKeyDbModel;
+import io.github.netmikey.logunit.api.LogCapturer;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.slf4j.event.Level;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {
+    "camunda.migrator.validation-cache.enabled=true",
+    "camunda.migrator.validation-cache.definition-ttl=1h"
+})
+class RuntimeValidationCacheTest extends RuntimeMigrationAbstractTest {
+
+  @RegisterExtension
+  protected LogCapturer logs = LogCapturer.create().captureForType(RuntimeValidator.class, Level.DEBUG);
+
+  @Test
+  public void shouldMigrateInstancesOfSameDefinition() {
+    // given instances validated against the same cached definition
+    deployer.deployProcessInC7AndC8("userTaskProcess.bpmn");
+    for (int i = 0; i < 3; i++) {
+      runtimeService.startProcessInstanceByKey("userTaskProcessId");
+    }
+
+    // when
+    runtimeMigrator.start();
+
+    // then
+    assertThatProcessInstanceCountIsEqualTo(3);
+    assertThat(findSkippedRuntimeProcessInstances()).isEmpty();
+    String loadingModel = LOADING_C8_PROCESS_MODEL.replace("[{}]", "");
+    assertThat(logs.getEvents()).filteredOn(event -> event.getMessage().contains(loadingModel)).hasSize(1);
+  }
+
+  @Test
+  public void shouldLookUpDefinitionsAgainInNextRun() {
+    // given a run that found no C8 deployment
+    deployer.deployCamunda7Process("simpleProcess.bpmn");
+    ProcessInstance skippedInstance = runtimeService.startProcessInstanceByKey("simpleProcess");
+    runtimeMigrator.start();
+    assertThat(findSkippedRuntimeProcessInstances()).extracting(IdKeyDbModel::getC7Id)
+        .containsExactly(skippedInstance.getId());
+
+    // when the definition is deployed to C8 before the next run within the TTL
+    deployer.deployCamunda8Process("simpleProcess.bpmn");
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("simpleProcess");
+    runtimeMigrator.start();
+
+    // then
+    assertThat(dbClient.checkHasC8KeyByC7IdAndType(processInstance.getId(), RUNTIME_PROCESS_INSTANCE)).isTrue();
+  }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.qa.runtime.element;
+
+import static io.camunda.migrator.impl.logging.RuntimeValidatorLogs.ACTIVE_JOINING_PARALLEL_GATEWAY_ERROR;
+import static io.camunda.migrator.impl.logging.RuntimeValidatorLogs.MULTI_INSTANCE_LOOP_CHARACTERISTICS_ERROR;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.migrator.config.property.MigratorProperties;
+import io.camunda.migrator.impl.persistence.IdKeyDbModel;
+import io.camunda.migrator.qa.runtime.RuntimeMigrationAbstractTest;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * The C7 elements that block the migration are looked up in the elements collected per definition when the validation
+ * cache is enabled, and in the model of each active activity otherwise. Both have to come to the same verdict.
+ */
+class C7ElementValidationTest extends RuntimeMigrationAbstractTest {
+
+  @Autowired
+  protected MigratorProperties migratorProperties;
+
+  @AfterEach
+  public void resetProperties() {
+    migratorProperties.setSaveSkipReason(false);
+    migratorProperties.getValidationCache().setEnabled(true);
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  public void shouldSkipActiveJoiningParallelGateway(boolean cacheEnabled) {
+    // given
+    migratorProperties.setSaveSkipReason(true);
+    migratorProperties.getValidationCache().setEnabled(cacheEnabled);
+    deployer.deployProcessInC7AndC8("parallelGateway.bpmn");
+    ProcessInstance instance = runtimeService.startProcessInstanceByKey("ParallelGatewayProcess");
+
+    // when
+    runtimeMigrator.start();
+
+    // then
+    assertThat(findSkippedRuntimeProcessInstances()).extracting(IdKeyDbModel::getSkipReason)
+        .containsExactly(String.format(ACTIVE_JOINING_PARALLEL_GATEWAY_ERROR, "mergingGatewayActivity", instance.getId()));
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  public void shouldSkipActiveMultiInstanceActivity(boolean cacheEnabled) {
+    // given
+    migratorProperties.setSaveSkipReason(true);
+    migratorProperties.getValidationCache().setEnabled(cacheEnabled);
+    deployer.deployProcessInC7AndC8("multiInstanceProcess.bpmn");
+    runtimeService.startProcessInstanceByKey("multiInstanceProcess");
+
+    // when
+    runtimeMigrator.start();
+
+    // then
+    assertThat(findSkippedRuntimeProcessInstances()).extracting(IdKeyDbModel::getSkipReason)
+        .containsExactly(String.format(MULTI_INSTANCE_LOOP_CHARACTERISTICS_ERROR, "multiUserTask"));
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  public void shouldMigrateSupportedActivities(boolean cacheEnabled) {
+    // given
+    migratorProperties.getValidationCache().setEnabled(cacheEnabled);
+    deployer.deployProcessInC7AndC8("userTaskProcess.bpmn");
+    runtimeService.startProcessInstanceByKey("userTaskProcessId");
+
+    // when
+    runtimeMigrator.start();
+
+    // then
+    assertThatProcessInstanceCountIsEqualTo(1);
+    assertThat(findSkippedRuntimeProcessInstances()).isEmpty();
+  }
+
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.migrator.qa.runtime.variables;
+
+import static io.camunda.migrator.impl.persistence.IdKeyMapper.TYPE.RUNTIME_PROCESS_INSTANCE;
+import static io.camunda.process.test.api.assertions.ElementSelectors.byId;
+import static io.camunda.process.test.api.assertions.ProcessInstanceSelectors.byKey;
+
+import io.camunda.migrator.config.property.MigratorProperties;
+import io.camunda.migrator.qa.runtime.RuntimeMigrationAbstractTest;
+import io.camunda.process.test.api.CamundaAssert;
+import java.util.Map;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.camunda.bpm.engine.task.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * The variables of an instance are fetched once before its creation. Its activation takes the local variables from
+ * there when the validation cache is enabled, and fetches all variables of the instance at once otherwise. Both have
+ * to set the local variables on the activity instance they belong to.
+ */
+class ActivityVariablesTest extends RuntimeMigrationAbstractTest {
+
+  protected static final String PROCESS = "parallelLocalVariables";
+
+  @Autowired
+  protected MigratorProperties migratorProperties;
+
+  @AfterEach
+  public void resetProperties() {
+    migratorProperties.getValidationCache().setEnabled(true);
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  public void shouldSetLocalVariablesOfEachActivity(boolean cacheEnabled) {
+    // given
+    migratorProperties.getValidationCache().setEnabled(cacheEnabled);
+    deployParallelModels();
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey(PROCESS, Map.of("global", "value"));
+    setLocalVariable(processInstance, "userTask_1", "first");
+    setLocalVariable(processInstance, "userTask_2", "second");
+
+    // when
+    runtimeMigrator.start();
+
+    // then
+    long processInstanceKey = dbClient.findC8KeyByC7IdAndType(processInstance.getId(), RUNTIME_PROCESS_INSTANCE);
+    CamundaAssert.assertThat(byKey(processInstanceKey)).isActive()
+        .hasActiveElements("userTask_1", "userTask_2")
+        .hasVariable("global", "value")
+        .hasLocalVariable(byId("userTask_1"), "local", "first")
+        .hasLocalVariable(byId("userTask_2"), "local", "second");
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  public void shouldKeepLocalVariablesOfInstancesApart(boolean cacheEnabled) {
+    // given
+    migratorProperties.getValidationCache().setEnabled(cacheEnabled);
+    deployParallelModels();
+    ProcessInstance first = runtimeService.startProcessInstanceByKey(PROCESS);
+    ProcessInstance second = runtimeService.startProcessInstanceByKey(PROCESS);
+    setLocalVariable(first, "userTask_1", "first");
+    setLocalVariable(second, "userTask_1", "second");
+
+    // when
+    runtimeMigrator.start();
+
+    // then
+    CamundaAssert.assertThat(byKey(dbClient.findC8KeyByC7IdAndType(first.getId(), RUNTIME_PROCESS_INSTANCE)))
+        .hasLocalVariable(byId("userTask_1"), "local", "first");
+    CamundaAssert.assertThat(byKey(dbClient.findC8KeyByC7IdAndType(second.getId(), RUNTIME_PROCESS_INSTANCE)))
+        .hasLocalVariable(byId("userTask_1"), "local", "second");
+  }
+
+  protected void setLocalVariable(ProcessInstance processInstance, String taskDefinitionKey, String value) {
+    Task task = taskService.createTaskQuery()
+        .processInstanceId(processInstance.getId())
+        .taskDefinitionKey(taskDefinitionKey)
+        .singleResult();
+    runtimeService.setVariableLocal(task.getExecutionId(), "local", value);
+  }
+
+  protected void deployParallelModels() {
+    // C7
+    var c7Model = org.camunda.bpm.model.bpmn.Bpmn.createExecutableProcess(PROCESS)
+        .startEvent("start_1")
+        .parallelGateway("fork")
+        .userTask("userTask_1")
+        .parallelGateway("join")
+        .endEvent("end_1")
+        .moveToNode("fork")
+        .userTask("userTask_2")
+        .connectTo("join")
+        .done();
+
+    // C8
+    var c8Model = io.camunda.zeebe.model.bpmn.Bpmn.createExecutableProcess(PROCESS)
+        .startEvent("start_1")
+        .zeebeEndExecutionListener("migrator")
+        .parallelGateway("fork")
+        .userTask("userTask_1")
+        .parallelGateway("join")
+        .endEvent("end_1")
+        .moveToNode("fork")
+        .userTask("userTask_2")
+        .connectTo("join")
+        .done();
+
+    deployer.deployModelInstance(PROCESS, c7Model, c8Model);
+  }
+
+}